@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.attributes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Timestamps parsed by {@link ContractModel#parse}, shared by all contracts parsed
+ * <p>
+ * The contracts of a portfolio mostly repeat the same few timestamps (status date, anchor dates,
+ * maturities), so each distinct text is parsed once. A {@link LocalDateTime} is immutable and
+ * can be shared. Texts that do not parse are not cached and fail as {@link LocalDateTime#parse} does.
+ * The cache is cleared once it holds {@code CAPACITY} timestamps.
+ */
+final class TimestampCache {
+
+    private static final int CAPACITY = 1 << 16;
+
+    private static final Map<String, LocalDateTime> parsed = new ConcurrentHashMap<>();
+
+    private TimestampCache() {
+    }
+
+    /**
+     * Parses a timestamp as {@link LocalDateTime#parse(CharSequence)}
+     *
+     * @param text the text to parse
+     * @return the parsed timestamp
+     */
+    static LocalDateTime parse(String text) {
+        if (text == null)
+            return LocalDateTime.parse(text);
+        LocalDateTime time = parsed.get(text);
+        if (time == null) {
+            time = LocalDateTime.parse(text);
+            if (parsed.size() >= CAPACITY)
+                parsed.clear();
+            parsed.put(text, time);
+        }
+        return time;
+    }
+}
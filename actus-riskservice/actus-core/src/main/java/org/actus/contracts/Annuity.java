@@ -451,7 +451,7 @@ public final class Annuity {
     }
 
     // initialize the contract states
-    private static StateSpace initStateSpace(ContractModelProvider model) throws AttributeConversionException {
+    static StateSpace initStateSpace(ContractModelProvider model) throws AttributeConversionException {
         StateSpace states = new StateSpace();
 
         states.notionalScalingMultiplier = model.getAs("notionalScalingMultiplier");
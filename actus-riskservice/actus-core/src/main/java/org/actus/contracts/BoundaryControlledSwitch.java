@@ -5,13 +5,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.actus.AttributeConversionException;
 import org.actus.attributes.ContractModel;
 import org.actus.attributes.ContractModelProvider;
 import org.actus.events.ContractEvent;
 import org.actus.events.EventFactory;
+import org.actus.externals.FirstPassageProvider;
 import org.actus.externals.RiskFactorModelProvider;
 import org.actus.functions.bcs.POF_PRD_BCS;
 import org.actus.functions.bcs.POF_TD_BCS;
@@ -33,6 +33,10 @@ import org.actus.util.CommonUtils;
 public final class BoundaryControlledSwitch {
 
 	// Forward projection of the entire lifecycle of the contract
+	// Note, the schedule holds no monitoring (ME) events: apply adds those it needs, i.e. only the one
+	// at which the boundary is crossed if the observer is a FirstPassageProvider, else one per
+	// monitoring time. A caller wanting the monitoring events scheduled adds monitoringEvents(model),
+	// which apply then evaluates tick by tick.
 	public static ArrayList<ContractEvent> schedule(LocalDateTime to, ContractModelProvider model)
 			throws AttributeConversionException {
 
@@ -44,15 +48,7 @@ public final class BoundaryControlledSwitch {
 					new POF_PRD_OPTNS(), new STF_PRD_STK(), model.getAs("contractID")));
 		}
 
-		// Raw monitoring events
-		Set<ContractEvent> monitoringEvents = EventFactory.createEvents(
-				ScheduleFactory.createSchedule(model.getAs("boundaryMonitoringAnchorDate"),
-						model.getAs("boundaryMonitoringEndDate"), model.getAs("boundaryMonitoringCycle"),
-						model.getAs("endOfMonthConvention"), true),
-				EventType.ME, model.getAs("currency"), new POF_AD_PAM(), new STF_ME_BCS(),
-				model.getAs("businessDayConvention"), model.getAs("contractID"));
-
-		events.addAll(monitoringEvents);
+		// Monitoring events are added in apply, as far as the observer needs them
 
 		return events;
 	}
@@ -61,6 +57,11 @@ public final class BoundaryControlledSwitch {
 	public static ArrayList<ContractEvent> apply(ArrayList<ContractEvent> events, ContractModelProvider model,
 			RiskFactorModelProvider observer) throws AttributeConversionException {
 
+		// Monitoring events, unless the caller scheduled them already
+		if (events.stream().noneMatch(e -> e.eventType().equals(EventType.ME))) {
+			events.addAll(monitoringEvents(model, observer));
+		}
+
 		// Initialize state space per status date
 		StateSpace states = initStateSpace(model);
 
@@ -95,15 +96,13 @@ public final class BoundaryControlledSwitch {
 		}
 
 		// First leg model
-		ContractModel firstLegModel = (ContractModel) model.<List<ContractReference>>getAs("contractStructure").stream()
-				.filter(c -> ReferenceRole.FIL.equals(c.referenceRole)).collect(Collectors.toList()).get(0).getObject();
+		CompositeLegs legs = CompositeLegs.of(model);
+		ContractModel firstLegModel = legs.firstLegModel();
 		ArrayList<ContractEvent> firstLegSchedule = new ArrayList<>();
 		
 		// Second leg model
-		List<ContractReference> secondLeg = model.<List<ContractReference>>getAs("contractStructure").stream()
-				.filter(c -> ReferenceRole.SEL.equals(c.referenceRole)).collect(Collectors.toList());
 		ArrayList<ContractEvent> secondLegSchedule = new ArrayList<>();
-		ContractModel secondLegModel = secondLeg.isEmpty() ? null : (ContractModel) secondLeg.get(0).getObject();
+		ContractModel secondLegModel = legs.hasSecondLeg() ? legs.secondLegModel() : null;
 
 		// Create children event schedule based on boundary conditions
 		if (states.boundaryLeg1ActiveFlag) {
@@ -122,7 +121,7 @@ public final class BoundaryControlledSwitch {
 			firstLegSchedule.removeIf(e -> e.eventTime().isBefore(states.statusDate));
 
 			// Apply schedule of children
-			List<ContractEvent> firstLegEvents = ContractType.apply(firstLegSchedule, firstLegModel, observer);
+			List<ContractEvent> firstLegEvents = legs.applyFirstLeg(firstLegSchedule, observer);
 			events.addAll(firstLegEvents);
 
 		} else if (!states.boundaryLeg1ActiveFlag
@@ -143,7 +142,7 @@ public final class BoundaryControlledSwitch {
 			firstLegSchedule.add(tdEvent);
 
 			// Apply schedule of children
-			List<ContractEvent> firstLegEvents = ContractType.apply(firstLegSchedule, firstLegModel, observer);
+			List<ContractEvent> firstLegEvents = legs.applyFirstLeg(firstLegSchedule, observer);
 			events.addAll(firstLegEvents);
 		}
 
@@ -163,7 +162,7 @@ public final class BoundaryControlledSwitch {
 			firstLegSchedule.removeIf(e -> e.eventTime().isBefore(states.statusDate));
 			
 			// Apply schedule of children
-			List<ContractEvent> secondLegEvents = ContractType.apply(secondLegSchedule, secondLegModel, observer);
+			List<ContractEvent> secondLegEvents = legs.applySecondLeg(secondLegSchedule, observer);
 			events.addAll(secondLegEvents);
 
 		} else if (!states.boundaryLeg2ActiveFlag
@@ -185,7 +184,7 @@ public final class BoundaryControlledSwitch {
 			secondLegSchedule = ContractType.schedule(secondLegModel.getAs("maturityDate"), secondLegModel);
 
 			// Apply schedule of children
-			List<ContractEvent> secondLegEvents = ContractType.apply(secondLegSchedule, secondLegModel, observer);
+			List<ContractEvent> secondLegEvents = legs.applySecondLeg(secondLegSchedule, observer);
 			events.addAll(secondLegEvents);
 		}
 
@@ -205,6 +204,32 @@ public final class BoundaryControlledSwitch {
 		return events;
 	}
 
+	// One monitoring event per monitoring time, as evaluated tick by tick
+	public static Set<ContractEvent> monitoringEvents(ContractModelProvider model) {
+		return monitoringEvents(model, null);
+	}
+
+	// Only the first monitoring event at which the boundary is reached can change the states, so
+	// where the observer locates it at once that is the only one created; else one per monitoring time
+	private static Set<ContractEvent> monitoringEvents(ContractModelProvider model, RiskFactorModelProvider observer) {
+		Set<LocalDateTime> monitoringTimes = ScheduleFactory.createSchedule(model.getAs("boundaryMonitoringAnchorDate"),
+				model.getAs("boundaryMonitoringEndDate"), model.getAs("boundaryMonitoringCycle"),
+				model.getAs("endOfMonthConvention"), true);
+
+		if (observer instanceof FirstPassageProvider) {
+			ContractReference contractReference = model.<List<ContractReference>>getAs("contractStructure").stream()
+					.filter(e -> e.referenceRole.equals(ReferenceRole.externalReferenceIndex)).findFirst().get();
+			List<LocalDateTime> times = new ArrayList<>(monitoringTimes);
+			Collections.sort(times);
+			int crossing = ((FirstPassageProvider) observer).firstPassage((String) contractReference.getObject(), times,
+					model.<Double>getAs("boundaryValue"), model.getAs("boundaryDirection").equals("INCR"));
+			monitoringTimes = (crossing < 0) ? Collections.emptySet() : Collections.singleton(times.get(crossing));
+		}
+
+		return EventFactory.createEvents(monitoringTimes, EventType.ME, model.getAs("currency"), new POF_AD_PAM(),
+				new STF_ME_BCS(), model.getAs("businessDayConvention"), model.getAs("contractID"));
+	}
+
 	private static StateSpace initStateSpace(ContractModelProvider model) {
 		StateSpace states = new StateSpace();
 
@@ -149,7 +149,7 @@ public final class CallMoney {
         return maturity;
     }
 
-    private static StateSpace initStateSpace(ContractModelProvider model) throws AttributeConversionException {
+    static StateSpace initStateSpace(ContractModelProvider model) throws AttributeConversionException {
         StateSpace states = new StateSpace();
         states.notionalScalingMultiplier = 1;
         states.interestScalingMultiplier = 1;
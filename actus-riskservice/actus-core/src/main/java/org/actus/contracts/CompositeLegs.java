@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.contracts;
+
+import org.actus.attributes.ContractModel;
+import org.actus.attributes.ContractModelProvider;
+import org.actus.events.ContractEvent;
+import org.actus.externals.RiskFactorModelProvider;
+import org.actus.states.StateSpace;
+import org.actus.types.ContractReference;
+import org.actus.types.ReferenceRole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * The first (FIL) and second (SEL) leg of a composite contract, e.g. a {@link Swap}
+ * <p>
+ *     The legs of a contract are resolved from its {@code contractStructure} once and kept for as long
+ *     as its model is in use. Legs are applied
+ *     <ul>
+ *         <li>concurrently, if the {@link EvaluationScope} they are applied in was opened with a pool - the
+ *         two legs of a swap are independent until they are netted. Note, the observer must then allow
+ *         concurrent queries;</li>
+ *         <li>once per {@link EvaluationScope}, if the same leg with the same schedule is part of several
+ *         contracts, the other contracts getting copies of its evaluated events. Only legs whose evaluation
+ *         queried market risk factors alone are reused: the answer of a behavior model may depend on the
+ *         contract asking and on the model's state, which the scope cannot see.</li>
+ *     </ul>
+ * </p>
+ */
+public final class CompositeLegs {
+
+    private static final Map<ContractModelProvider, CompositeLegs> resolved =
+            Collections.synchronizedMap(new WeakHashMap<ContractModelProvider, CompositeLegs>());
+
+    private final ContractReference firstLeg;
+    private final ContractReference secondLeg;
+
+    private CompositeLegs(ContractModelProvider model) {
+        ContractReference first = null;
+        ContractReference second = null;
+        for (ContractReference reference : model.<List<ContractReference>>getAs("contractStructure")) {
+            if (first == null && ReferenceRole.FIL.equals(reference.referenceRole))
+                first = reference;
+            else if (second == null && ReferenceRole.SEL.equals(reference.referenceRole))
+                second = reference;
+        }
+        this.firstLeg = first;
+        this.secondLeg = second;
+    }
+
+    /**
+     * Returns the legs of a composite contract
+     *
+     * @param model the model carrying the contract attributes
+     * @return the legs
+     */
+    static CompositeLegs of(ContractModelProvider model) {
+        return resolved.computeIfAbsent(model, CompositeLegs::new);
+    }
+
+    /**
+     * @return the model of the first leg
+     * @throws IndexOutOfBoundsException if the contract has no first leg
+     */
+    ContractModel firstLegModel() {
+        if (this.firstLeg == null)
+            throw new IndexOutOfBoundsException("no first leg (FIL) in contractStructure");
+        return (ContractModel) this.firstLeg.getObject();
+    }
+
+    /**
+     * @return true if the contract has a second leg
+     */
+    boolean hasSecondLeg() {
+        return this.secondLeg != null;
+    }
+
+    /**
+     * @return the model of the second leg
+     * @throws IndexOutOfBoundsException if the contract has no second leg
+     */
+    ContractModel secondLegModel() {
+        if (this.secondLeg == null)
+            throw new IndexOutOfBoundsException("no second leg (SEL) in contractStructure");
+        return (ContractModel) this.secondLeg.getObject();
+    }
+
+    /**
+     * Applies a schedule to the first leg
+     *
+     * @param schedule the leg's events
+     * @param observer the observer for external events and data
+     * @return the evaluated events, as {@link ContractType#apply} returns them
+     */
+    List<ContractEvent> applyFirstLeg(ArrayList<ContractEvent> schedule, RiskFactorModelProvider observer) {
+        return applyLeg(this.firstLeg, schedule, observer);
+    }
+
+    /**
+     * Applies a schedule to the second leg
+     *
+     * @param schedule the leg's events
+     * @param observer the observer for external events and data
+     * @return the evaluated events, as {@link ContractType#apply} returns them
+     */
+    List<ContractEvent> applySecondLeg(ArrayList<ContractEvent> schedule, RiskFactorModelProvider observer) {
+        return applyLeg(this.secondLeg, schedule, observer);
+    }
+
+    /**
+     * Applies their schedules to both legs, concurrently if the current scope has a pool
+     *
+     * @param firstLegSchedule the first leg's events
+     * @param secondLegSchedule the second leg's events
+     * @param observer the observer for external events and data
+     * @return the evaluated events of the first and of the second leg
+     */
+    List<List<ContractEvent>> applyLegs(ArrayList<ContractEvent> firstLegSchedule, ArrayList<ContractEvent> secondLegSchedule,
+                                        RiskFactorModelProvider observer) {
+        EvaluationScope scope = EvaluationScope.current();
+        ContractModel firstLegModel = firstLegModel();
+        ContractModel secondLegModel = secondLegModel();
+        List<Object> firstKey = key(this.firstLeg, firstLegSchedule);
+        List<Object> secondKey = key(this.secondLeg, secondLegSchedule);
+        List<ContractEvent> firstLegEvents = reuse(scope, firstKey, observer);
+        List<ContractEvent> secondLegEvents = reuse(scope, secondKey, observer);
+        ForkJoinPool pool = (scope == null) ? null : scope.legPool;
+
+        if (firstLegEvents == null && secondLegEvents == null && pool != null) {
+            MarketQueries firstObserver = new MarketQueries(observer);
+            ForkJoinTask<ArrayList<ContractEvent>> first =
+                    ForkJoinTask.adapt(() -> ContractType.apply(firstLegSchedule, firstLegModel, firstObserver));
+            if (ForkJoinTask.inForkJoinPool())
+                first.fork();
+            else
+                pool.execute(first);
+            MarketQueries secondObserver = new MarketQueries(observer);
+            secondLegEvents = ContractType.apply(secondLegSchedule, secondLegModel, secondObserver);
+            firstLegEvents = first.join();
+            keep(scope, firstKey, firstObserver, firstLegEvents);
+            keep(scope, secondKey, secondObserver, secondLegEvents);
+        } else {
+            if (firstLegEvents == null)
+                firstLegEvents = apply(scope, firstKey, firstLegSchedule, firstLegModel, observer);
+            if (secondLegEvents == null)
+                secondLegEvents = apply(scope, secondKey, secondLegSchedule, secondLegModel, observer);
+        }
+        return Arrays.asList(firstLegEvents, secondLegEvents);
+    }
+
+    private static List<ContractEvent> applyLeg(ContractReference leg, ArrayList<ContractEvent> schedule, RiskFactorModelProvider observer) {
+        EvaluationScope scope = EvaluationScope.current();
+        List<Object> key = key(leg, schedule);
+        List<ContractEvent> events = reuse(scope, key, observer);
+        return (events != null) ? events : apply(scope, key, schedule, (ContractModel) leg.getObject(), observer);
+    }
+
+    private static List<ContractEvent> apply(EvaluationScope scope, List<Object> key, ArrayList<ContractEvent> schedule,
+                                             ContractModel legModel, RiskFactorModelProvider observer) {
+        if (key == null)
+            return ContractType.apply(schedule, legModel, observer);
+        MarketQueries recorded = new MarketQueries(observer);
+        List<ContractEvent> events = ContractType.apply(schedule, legModel, recorded);
+        keep(scope, key, recorded, events);
+        return events;
+    }
+
+    // identifies a leg and its schedule within a scope, null if not to be shared
+    private static List<Object> key(ContractReference leg, List<ContractEvent> schedule) {
+        if (EvaluationScope.current() == null || leg.getTerms() == null)
+            return null;
+        StringBuilder events = new StringBuilder();
+        for (ContractEvent event : schedule)
+            events.append(event.eventType()).append('@').append(event.scheduleTime()).append('/').append(event.eventTime()).append(';');
+        return Arrays.asList(leg.getTerms(), events.toString());
+    }
+
+    private static List<ContractEvent> reuse(EvaluationScope scope, List<Object> key, RiskFactorModelProvider observer) {
+        Evaluated evaluated = (key == null) ? null : scope.legs.get(key);
+        return (evaluated == null || evaluated.observer != observer) ? null : evaluated.copy();
+    }
+
+    // keeps a leg for reuse unless its evaluation asked a behavior model
+    private static void keep(EvaluationScope scope, List<Object> key, MarketQueries observer, List<ContractEvent> events) {
+        if (key != null && !observer.behavioral)
+            scope.legs.put(Arrays.asList(new HashMap<>((Map<?, ?>) key.get(0)), key.get(1)), new Evaluated(observer.observer, events));
+    }
+
+    // the observer a leg is applied with, recording whether the leg queried a behavior model (isMarket false)
+    private static final class MarketQueries implements RiskFactorModelProvider {
+        private final RiskFactorModelProvider observer;
+        private volatile boolean behavioral;
+
+        MarketQueries(RiskFactorModelProvider observer) {
+            this.observer = observer;
+        }
+
+        @Override
+        public Set<String> keys() {
+            return this.observer.keys();
+        }
+
+        @Override
+        public Set<ContractEvent> events(ContractModelProvider attributes) {
+            return this.observer.events(attributes);
+        }
+
+        @Override
+        public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider attributes, boolean isMarket) {
+            if (!isMarket)
+                this.behavioral = true;
+            return this.observer.stateAt(id, time, states, attributes, isMarket);
+        }
+    }
+
+    // the evaluated events of a leg, copied in and out so that contracts sharing them may modify theirs
+    static final class Evaluated {
+        private final RiskFactorModelProvider observer;
+        private final List<ContractEvent> events;
+
+        Evaluated(RiskFactorModelProvider observer, List<ContractEvent> events) {
+            this.observer = observer;
+            this.events = copy(events);
+        }
+
+        ArrayList<ContractEvent> copy() {
+            return copy(this.events);
+        }
+
+        private static ArrayList<ContractEvent> copy(List<ContractEvent> events) {
+            ArrayList<ContractEvent> copy = new ArrayList<>(events.size());
+            for (ContractEvent event : events)
+                copy.add(event.copyEvaluated());
+            return copy;
+        }
+    }
+}
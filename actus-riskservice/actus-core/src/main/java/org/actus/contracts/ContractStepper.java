@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.contracts;
+
+import org.actus.AttributeConversionException;
+import org.actus.ContractTypeUnknownException;
+import org.actus.attributes.ContractModelProvider;
+import org.actus.events.ContractEvent;
+import org.actus.events.EventFactory;
+import org.actus.externals.RiskFactorModelProvider;
+import org.actus.states.StateSpace;
+import org.actus.types.ContractTypeEnum;
+import org.actus.types.EventType;
+import org.actus.util.CommonUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Evaluates the events of a contract one at a time
+ * <p>
+ *     {@link ContractType#apply} evaluates all events of a contract in one go. A stepper evaluates
+ *     the same events, in the same sequence and starting from the same state as per {@code StatusDate},
+ *     but leaves it to the caller when to evaluate the next one. This allows to interleave the events
+ *     of several contracts, e.g. to advance a portfolio of contracts through a common timeline.
+ *     Once all events are evaluated, {@link #events()} returns what {@code apply} would have returned.
+ * </p>
+ * <p>
+ *     Steppers are available for the Contract Types whose {@code apply} is a plain sequence of
+ *     event evaluations, i.e. PAM, LAM, NAM, ANN, LAX, CLM and UMP (cf. {@link #supports}).
+ * </p>
+ * <p>
+ *     A stepper can be checkpointed, i.e. the events evaluated so far ({@link #evaluated()}) and the
+ *     contract state after them kept, and a later evaluation of the same contract {@link #resume}d
+ *     from the checkpoint instead of evaluating these events again.
+ * </p>
+ */
+public final class ContractStepper {
+
+    private static final Set<ContractTypeEnum> STEPPABLE = EnumSet.of(ContractTypeEnum.PAM, ContractTypeEnum.LAM,
+            ContractTypeEnum.NAM, ContractTypeEnum.ANN, ContractTypeEnum.LAX, ContractTypeEnum.CLM, ContractTypeEnum.UMP);
+
+    // types whose apply drops the events before purchaseDate
+    private static final Set<ContractTypeEnum> PURCHASABLE = EnumSet.of(ContractTypeEnum.PAM, ContractTypeEnum.LAM,
+            ContractTypeEnum.NAM, ContractTypeEnum.ANN, ContractTypeEnum.LAX);
+
+    private final ContractModelProvider model;
+    private final ArrayList<ContractEvent> events;
+    private final StateSpace states;
+    private int next;
+
+    private ContractStepper(ArrayList<ContractEvent> events, ContractModelProvider model, StateSpace states) {
+        this.model = model;
+        this.events = events;
+        this.states = states;
+        Collections.sort(this.events);
+    }
+
+    /**
+     * Indicates whether the contract can be evaluated with a stepper
+     *
+     * @param model the model carrying the contract attributes
+     * @return true if {@link #of} is available for the contract's type
+     */
+    public static boolean supports(ContractModelProvider model) {
+        return STEPPABLE.contains(model.<ContractTypeEnum>getAs("contractType"));
+    }
+
+    /**
+     * Creates a stepper positioned before the first of the events
+     *
+     * @param events the contract events, as for {@link ContractType#apply}; the list is sorted in place
+     * @param model the model carrying the contract attributes
+     * @return the stepper
+     * @throws ContractTypeUnknownException if the contract's type is not supported (cf. {@link #supports})
+     * @throws AttributeConversionException if and attribute in {@link ContractModelProvider} cannot be converted to its target data type
+     */
+    public static ContractStepper of(ArrayList<ContractEvent> events, ContractModelProvider model)
+            throws ContractTypeUnknownException, AttributeConversionException {
+        switch ((ContractTypeEnum) model.getAs("contractType")) {
+            case PAM:
+                return new ContractStepper(events, model, PrincipalAtMaturity.initStateSpace(model));
+            case LAM:
+                return new ContractStepper(events, model, LinearAmortizer.initStateSpace(model, LinearAmortizer.maturity(model)));
+            case NAM:
+                return new ContractStepper(events, model, NegativeAmortizer.initStateSpace(model));
+            case ANN:
+                return new ContractStepper(events, model, Annuity.initStateSpace(model));
+            case LAX:
+                return new ContractStepper(events, model, ExoticLinearAmortizer.initStateSpace(model, ExoticLinearAmortizer.maturity(model)));
+            case CLM:
+                return new ContractStepper(events, model, CallMoney.initStateSpace(model));
+            case UMP:
+                return new ContractStepper(events, model, UndefinedMaturityProfile.initStateSpace(model));
+            default:
+                throw new ContractTypeUnknownException();
+        }
+    }
+
+    /**
+     * Creates a stepper positioned after the events evaluated up to a checkpoint
+     * <p>
+     *     The events must start with the same events, i.e. of the same types and at the same times, as
+     *     the checkpoint's; they are replaced with the checkpoint's evaluated events. The remaining events
+     *     are evaluated starting from the checkpoint's state. It is for the caller to ensure the terms and
+     *     the risk factors observed up to the checkpoint did not change either.
+     * </p>
+     *
+     * @param events the contract events, as for {@link #of}; the list is sorted in place
+     * @param model the model carrying the contract attributes
+     * @param states the contract state after the evaluated events, not modified
+     * @param evaluated the events evaluated up to the checkpoint, in sequence
+     * @return the stepper
+     * @throws ContractTypeUnknownException if the contract's type is not supported (cf. {@link #supports})
+     * @throws IllegalArgumentException if the events do not start with the evaluated events
+     */
+    public static ContractStepper resume(ArrayList<ContractEvent> events, ContractModelProvider model,
+                                         StateSpace states, List<ContractEvent> evaluated) {
+        if (!supports(model))
+            throw new ContractTypeUnknownException();
+        ContractStepper stepper = new ContractStepper(events, model, StateSpace.copyStateSpace(states));
+        if (evaluated.size() > stepper.events.size())
+            throw new IllegalArgumentException("schedule has " + stepper.events.size() + " events, checkpoint " + evaluated.size());
+        for (int i = 0; i < evaluated.size(); i++) {
+            ContractEvent scheduled = stepper.events.get(i);
+            ContractEvent checkpointed = evaluated.get(i);
+            if (!scheduled.eventType().equals(checkpointed.eventType()) || !scheduled.eventTime().equals(checkpointed.eventTime())
+                    || !scheduled.scheduleTime().equals(checkpointed.scheduleTime()))
+                throw new IllegalArgumentException("schedule differs from checkpoint at event " + i + ": " + scheduled.eventType()
+                        + "@" + scheduled.eventTime() + " vs " + checkpointed.eventType() + "@" + checkpointed.eventTime());
+        }
+        for (int i = 0; i < evaluated.size(); i++)
+            stepper.events.set(i, evaluated.get(i));
+        stepper.next = evaluated.size();
+        return stepper;
+    }
+
+    /**
+     * @return true if there are events left to evaluate
+     */
+    public boolean hasNext() {
+        return this.next < this.events.size();
+    }
+
+    /**
+     * @return the next event to be evaluated, or null if all events are evaluated
+     */
+    public ContractEvent peek() {
+        return hasNext() ? this.events.get(this.next) : null;
+    }
+
+    /**
+     * @return the time of the next event to be evaluated, or null if all events are evaluated
+     */
+    public LocalDateTime nextEventTime() {
+        return hasNext() ? this.events.get(this.next).eventTime() : null;
+    }
+
+    /**
+     * Evaluates the next event against the current contract state
+     *
+     * @param observer the observer for external events and data
+     * @return the evaluated event
+     */
+    public ContractEvent evalNext(RiskFactorModelProvider observer) {
+        ContractEvent event = this.events.get(this.next++);
+        event.eval(this.states, this.model, observer, this.model.getAs("dayCountConvention"),
+                this.model.getAs("businessDayConvention"));
+        return event;
+    }
+
+    /**
+     * @return the events evaluated so far, in sequence (a view, to be copied to be kept)
+     */
+    public List<ContractEvent> evaluated() {
+        return this.events.subList(0, this.next);
+    }
+
+    /**
+     * @return the contract state after the events evaluated so far
+     */
+    public StateSpace states() {
+        return this.states;
+    }
+
+    /**
+     * Returns the evaluated events, as {@link ContractType#apply} would
+     *
+     * @return the evaluated events and post-event contract states
+     * @throws IllegalStateException if not all events are evaluated yet
+     */
+    public ArrayList<ContractEvent> events() {
+        if (hasNext())
+            throw new IllegalStateException((this.events.size() - this.next) + " events not evaluated yet");
+        // remove pre-purchase events if purchase date set
+        if (PURCHASABLE.contains(this.model.<ContractTypeEnum>getAs("contractType"))
+                && !CommonUtils.isNull(this.model.getAs("purchaseDate"))) {
+            this.events.removeIf(e -> !e.eventType().equals(EventType.AD) && e.compareTo(EventFactory.createEvent(this.model.getAs("purchaseDate"), EventType.PRD, this.model.getAs("currency"), null, null, this.model.getAs("contractID"))) == -1);
+        }
+        return this.events;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.contracts;
+
+import org.actus.attributes.ContractModelProvider;
+import org.actus.events.ContractEvent;
+import org.actus.events.EventFactory;
+import org.actus.externals.RiskFactorModelProvider;
+import org.actus.functions.pam.POF_AD_PAM;
+import org.actus.functions.pam.STF_AD_PAM;
+import org.actus.states.StateSpace;
+import org.actus.types.EventType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The state trajectory of a contract, simulated once and queried at any time up to its horizon
+ * <p>
+ *     {@link #statesAt} returns the states an analysis event (AD) at the given time would have if it
+ *     were added to the contract's schedule and the schedule applied, i.e. the states after the
+ *     events sequenced before the analysis event, with interest and fees accrued to the time.
+ *     The events preceding a time are found by binary search in the evaluated events, so a query
+ *     costs one accrual instead of a simulation of the contract.
+ * </p>
+ * <p>
+ *     Trajectories are available for the Contract Types that can be stepped (cf. {@link ContractStepper#supports}).
+ *     Within an {@link EvaluationScope}, trajectories are shared between the contracts referencing the
+ *     same underlying, e.g. several guarantees covering the same loan.
+ * </p>
+ */
+public final class ContractTrajectory {
+
+    private final ContractModelProvider model;
+    private final LocalDateTime horizon;
+    private final RiskFactorModelProvider observer;
+    private final StateSpace initialStates;
+    private final List<ContractEvent> events = new ArrayList<>();
+    private final List<StateSpace> states = new ArrayList<>();
+
+    private ContractTrajectory(ContractModelProvider model, LocalDateTime horizon, RiskFactorModelProvider observer) {
+        this.model = model;
+        this.horizon = horizon;
+        this.observer = observer;
+        ContractStepper stepper = ContractStepper.of(ContractType.schedule(horizon, model), model);
+        this.initialStates = StateSpace.copyStateSpace(stepper.states());
+        while (stepper.hasNext()) {
+            this.events.add(stepper.evalNext(observer));
+            this.states.add(StateSpace.copyStateSpace(stepper.states()));
+        }
+    }
+
+    /**
+     * Simulates a contract up to a horizon, or returns the trajectory already simulated in the
+     * current {@link EvaluationScope} for the same terms, observer and a horizon at least as late
+     *
+     * @param terms the attributes the model was parsed from, identifying the contract within a scope
+     * @param model the model carrying the contract attributes
+     * @param horizon the latest time the trajectory is to be queried at
+     * @param observer the observer for external events and data
+     * @return the trajectory, or null if the contract's type cannot be stepped
+     */
+    public static ContractTrajectory of(Map<String, Object> terms, ContractModelProvider model,
+                                        LocalDateTime horizon, RiskFactorModelProvider observer) {
+        if (!ContractStepper.supports(model))
+            return null;
+        EvaluationScope current = EvaluationScope.current();
+        if (current == null)
+            return new ContractTrajectory(model, horizon, observer);
+        ContractTrajectory shared = current.trajectories.get(terms);
+        if (shared == null || !shared.covers(horizon, observer)) {
+            shared = new ContractTrajectory(model, horizon, observer);
+            current.trajectories.put(new HashMap<>(terms), shared);
+        }
+        return shared;
+    }
+
+    /**
+     * @param time the time to be queried
+     * @param observer the observer to be queried with
+     * @return true if the trajectory was simulated with the observer and up to at least the time
+     */
+    public boolean covers(LocalDateTime time, RiskFactorModelProvider observer) {
+        return this.observer == observer && !time.isAfter(this.horizon);
+    }
+
+    /**
+     * Returns the contract states at a time
+     *
+     * @param time the analysis time
+     * @return the states of an analysis event at the time
+     */
+    public StateSpace statesAt(LocalDateTime time) {
+        ContractEvent analysisEvent = EventFactory.createEvent(time,
+                EventType.AD,
+                this.model.getAs("currency"),
+                new POF_AD_PAM(),
+                new STF_AD_PAM(),
+                this.model.getAs("contractID"));
+        // number of events sequenced before the analysis event (equal ones first, as in a stable sort)
+        int lo = 0;
+        int hi = this.events.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (this.events.get(mid).compareTo(analysisEvent) <= 0)
+                lo = mid + 1;
+            else
+                hi = mid;
+        }
+        StateSpace states = StateSpace.copyStateSpace(lo == 0 ? this.initialStates : this.states.get(lo - 1));
+        analysisEvent.eval(states, this.model, this.observer, this.model.getAs("dayCountConvention"),
+                this.model.getAs("businessDayConvention"));
+        return analysisEvent.states();
+    }
+}
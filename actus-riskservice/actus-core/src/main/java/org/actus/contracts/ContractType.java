@@ -48,6 +48,10 @@ public final class ContractType {
      *     the same.
      * </p>
      * <p>
+     *     The schedule of a {@link BoundaryControlledSwitch} holds no monitoring ({@code ME}) events;
+     *     {@code apply} adds those it needs (cf. {@link BoundaryControlledSwitch#monitoringEvents}).
+     * </p>
+     * <p>
      *     If the {@code ContractType} attribute cannot be resolved to an ACTUS Contract Type the method
      *     throws a {@link ContractTypeUnknownException}.
      * </p>
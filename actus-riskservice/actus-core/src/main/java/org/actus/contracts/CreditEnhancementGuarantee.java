@@ -98,6 +98,19 @@ public class CreditEnhancementGuarantee {
         // determine maturity date
         LocalDateTime maturity = maturity(model);
         events = addExternalXDEvent(model, events, observer, maturity);
+        // simulate the covered contracts once for all the times their states are needed
+        List<ContractReference> coveredContractRefs = simulateCoveredContracts(model, events, observer);
+        try {
+            return apply(events, model, observer, maturity);
+        } finally {
+            coveredContractRefs.forEach(ContractReference::release);
+        }
+    }
+
+    private static ArrayList<ContractEvent> apply(ArrayList<ContractEvent> events,
+                                                  ContractModelProvider model,
+                                                  RiskFactorModelProvider observer,
+                                                  LocalDateTime maturity) {
         // initialize state space per status date
         StateSpace states = initStateSpace(model, observer, maturity);
         // sort the events according to their time sequence
@@ -112,6 +125,20 @@ public class CreditEnhancementGuarantee {
         return events;
     }
 
+    // simulate the covered contracts up to the last time the events may query their states
+    private static List<ContractReference> simulateCoveredContracts(ContractModelProvider model, ArrayList<ContractEvent> events, RiskFactorModelProvider observer) {
+        List<ContractReference> coveredContractRefs = model.<List<ContractReference>>getAs("contractStructure").stream().filter(ref -> ref.referenceRole.equals(ReferenceRole.COVE)).collect(Collectors.toList());
+        LocalDateTime horizon = model.getAs("statusDate");
+        for (ContractEvent e : events) {
+            if (e.eventTime().isAfter(horizon)) horizon = e.eventTime();
+            if (e.scheduleTime().isAfter(horizon)) horizon = e.scheduleTime();
+        }
+        for (ContractReference c : coveredContractRefs) {
+            c.simulate(horizon, observer);
+        }
+        return coveredContractRefs;
+    }
+
     // determine maturity of the contract
     private static LocalDateTime maturity(ContractModelProvider model) {
         LocalDateTime maturityDate = null;
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.contracts;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A scope within which the contracts evaluated on a thread share the evaluation of their underlyings
+ * <p>
+ *     Contracts referencing other contracts evaluate them as part of their own evaluation: a guarantee
+ *     simulates the contracts it covers (cf. {@link ContractTrajectory}), a swap applies its legs
+ *     (cf. {@link CompositeLegs}). Where several contracts of a portfolio reference the same underlying,
+ *     within a scope it is evaluated once and the result reused by all of them.
+ * </p>
+ * <p>
+ *     Results are reused for the same terms and the same {@code RiskFactorModelProvider} only, and legs
+ *     only if their evaluation did not query a behavior model. A scope must nevertheless not outlive the
+ *     market data it was opened for, e.g. it is to be closed before an observer is evaluated for the next
+ *     scenario.
+ * </p>
+ * <p>
+ *     A scope may carry a pool the legs of swaps evaluated within it are applied on concurrently. Scopes
+ *     opened within it use the same pool.
+ * </p>
+ */
+public final class EvaluationScope implements AutoCloseable {
+
+    private static final ThreadLocal<EvaluationScope> current = new ThreadLocal<EvaluationScope>();
+
+    private final EvaluationScope outer;
+
+    // pool the legs of composite contracts are applied on concurrently, null to apply them in sequence
+    final ForkJoinPool legPool;
+
+    // trajectories of covered contracts, by the attributes of the contract
+    final Map<Map<String, Object>, ContractTrajectory> trajectories = new HashMap<>();
+
+    // evaluated legs of composite contracts, by the attributes and schedule of the leg
+    final Map<List<Object>, CompositeLegs.Evaluated> legs = new HashMap<>();
+
+    private EvaluationScope(EvaluationScope outer, ForkJoinPool legPool) {
+        this.outer = outer;
+        this.legPool = legPool;
+    }
+
+    /**
+     * Opens a scope on the current thread, applying legs as the enclosing scope does
+     *
+     * @return the scope, to be closed once the contracts sharing the evaluations are evaluated
+     */
+    public static EvaluationScope open() {
+        EvaluationScope outer = current.get();
+        return open((outer == null) ? null : outer.legPool);
+    }
+
+    /**
+     * Opens a scope on the current thread
+     *
+     * @param legPool the pool the legs of composite contracts are applied on concurrently, null to apply them in sequence
+     * @return the scope, to be closed once the contracts sharing the evaluations are evaluated
+     */
+    public static EvaluationScope open(ForkJoinPool legPool) {
+        EvaluationScope opened = new EvaluationScope(current.get(), legPool);
+        current.set(opened);
+        return opened;
+    }
+
+    /**
+     * @return the innermost scope open on the current thread, or null if none
+     */
+    static EvaluationScope current() {
+        return current.get();
+    }
+
+    @Override
+    public void close() {
+        current.set(this.outer);
+    }
+}
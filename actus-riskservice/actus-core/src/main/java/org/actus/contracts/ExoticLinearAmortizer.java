@@ -423,7 +423,7 @@ public final class ExoticLinearAmortizer {
         return events;
 	}
 
-	private static LocalDateTime maturity(ContractModelProvider model) {
+	static LocalDateTime maturity(ContractModelProvider model) {
 
 		// determine maturity of the contract
 		LocalDateTime maturity = model.getAs("maturityDate");
@@ -491,7 +491,7 @@ public final class ExoticLinearAmortizer {
 		return maturity;
 	}
 
-	private static StateSpace initStateSpace(ContractModelProvider model, LocalDateTime maturity)
+	static StateSpace initStateSpace(ContractModelProvider model, LocalDateTime maturity)
 			throws AttributeConversionException {
 		StateSpace states = new StateSpace();
 
@@ -333,7 +333,7 @@ public final class LinearAmortizer {
         return events;
     }
 
-    private static LocalDateTime maturity(ContractModelProvider model) {
+    static LocalDateTime maturity(ContractModelProvider model) {
     	EndOfMonthAdjuster adjuster = null;
         // determine maturity of the contract
         LocalDateTime maturity = model.getAs("maturityDate");
@@ -365,7 +365,7 @@ public final class LinearAmortizer {
         return maturity;
     }
 
-    private static StateSpace initStateSpace(ContractModelProvider model, LocalDateTime maturity) throws AttributeConversionException {
+    static StateSpace initStateSpace(ContractModelProvider model, LocalDateTime maturity) throws AttributeConversionException {
         StateSpace states = new StateSpace();
 
         // general states to be initialized
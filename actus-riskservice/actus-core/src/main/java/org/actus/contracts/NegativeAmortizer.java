@@ -406,7 +406,7 @@ public final class NegativeAmortizer {
         return maturity;
     }
 
-    private static StateSpace initStateSpace(ContractModelProvider model) throws AttributeConversionException {
+    static StateSpace initStateSpace(ContractModelProvider model) throws AttributeConversionException {
         StateSpace states = new StateSpace();
 
         states.notionalScalingMultiplier = model.getAs("notionalScalingMultiplier");
@@ -237,7 +237,7 @@ public final class PrincipalAtMaturity {
         return events;
     }
 
-    private static StateSpace initStateSpace(ContractModelProvider model) throws AttributeConversionException {
+    static StateSpace initStateSpace(ContractModelProvider model) throws AttributeConversionException {
         StateSpace states = new StateSpace();
         states.notionalScalingMultiplier = model.getAs("notionalScalingMultiplier");
         states.interestScalingMultiplier = model.getAs("interestScalingMultiplier");
@@ -20,9 +20,7 @@ import org.actus.functions.swaps.*;
 import org.actus.states.StateSpace;
 import org.actus.types.DeliverySettlement;
 import org.actus.types.EventType;
-import org.actus.types.ReferenceRole;
 import org.actus.util.CommonUtils;
-import org.actus.types.ContractReference;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -40,8 +38,9 @@ public final class Swap {
                                                     ContractModelProvider model) throws AttributeConversionException {
         ArrayList<ContractEvent> events = new ArrayList<ContractEvent>();
         //create children event schedule
-        ContractModel firstLegModel = (ContractModel)model.<List<ContractReference>>getAs("contractStructure").stream().filter(c-> ReferenceRole.FIL.equals(c.referenceRole)).collect(Collectors.toList()).get(0).getObject();
-        ContractModel secondLegModel = (ContractModel)model.<List<ContractReference>>getAs("contractStructure").stream().filter(c-> ReferenceRole.SEL.equals(c.referenceRole)).collect(Collectors.toList()).get(0).getObject();
+        CompositeLegs legs = CompositeLegs.of(model);
+        ContractModel firstLegModel = legs.firstLegModel();
+        ContractModel secondLegModel = legs.secondLegModel();
         ArrayList<ContractEvent> firstLegSchedule = new ArrayList<>();
         ArrayList<ContractEvent> secondLegSchedule = new ArrayList<>();
         firstLegSchedule = ContractType.schedule(firstLegModel.getAs("maturityDate"),firstLegModel);
@@ -83,16 +82,18 @@ public final class Swap {
                                                  RiskFactorModelProvider observer) throws AttributeConversionException {
 
         //sort first and second leg events and remove from parent schedule
-        ContractModel firstLegModel = (ContractModel)model.<List<ContractReference>>getAs("contractStructure").stream().filter(c-> ReferenceRole.FIL.equals(c.referenceRole)).collect(Collectors.toList()).get(0).getObject();
-        ContractModel secondLegModel = (ContractModel)model.<List<ContractReference>>getAs("contractStructure").stream().filter(c-> ReferenceRole.SEL.equals(c.referenceRole)).collect(Collectors.toList()).get(0).getObject();
+        CompositeLegs legs = CompositeLegs.of(model);
+        ContractModel firstLegModel = legs.firstLegModel();
+        ContractModel secondLegModel = legs.secondLegModel();
         ArrayList<ContractEvent> firstLegSchedule = events.stream().filter(event -> firstLegModel.getAs("contractID").equals(event.getContractID())).collect(Collectors.toCollection(ArrayList::new));
         ArrayList<ContractEvent> secondLegSchedule = events.stream().filter(event -> secondLegModel.getAs("contractID").equals(event.getContractID())).collect(Collectors.toCollection(ArrayList::new));
         events.removeAll(firstLegSchedule);
         events.removeAll(secondLegSchedule);
 
-        // apply shedule of children
-        List<ContractEvent> firstLegEvents = ContractType.apply(firstLegSchedule,firstLegModel,observer);
-        List<ContractEvent> secondLegEvents = ContractType.apply(secondLegSchedule,secondLegModel,observer);
+        // apply shedule of children, concurrently and reusing identical legs as far as possible
+        List<List<ContractEvent>> legEvents = legs.applyLegs(firstLegSchedule,secondLegSchedule,observer);
+        List<ContractEvent> firstLegEvents = legEvents.get(0);
+        List<ContractEvent> secondLegEvents = legEvents.get(1);
 
         //add netted and unnetted events back to collection
         if(DeliverySettlement.S.equals(model.getAs("deliverySettlement"))){
@@ -146,8 +147,9 @@ public final class Swap {
     }
 
     private static StateSpace initStateSpace(ContractModelProvider model, ContractEvent eventAtT0) throws AttributeConversionException {
-        ContractModel firstLegModel = (ContractModel)model.<List<ContractReference>>getAs("contractStructure").stream().filter(c-> ReferenceRole.FIL.equals(c.referenceRole)).collect(Collectors.toList()).get(0).getObject();
-        ContractModel secondLegModel = (ContractModel)model.<List<ContractReference>>getAs("contractStructure").stream().filter(c-> ReferenceRole.SEL.equals(c.referenceRole)).collect(Collectors.toList()).get(0).getObject();
+        CompositeLegs legs = CompositeLegs.of(model);
+        ContractModel firstLegModel = legs.firstLegModel();
+        ContractModel secondLegModel = legs.secondLegModel();
 
         StateSpace states = CommonUtils.isNull(eventAtT0.states().statusDate) ? new StateSpace() : eventAtT0.states();
         states.statusDate = model.getAs("statusDate");
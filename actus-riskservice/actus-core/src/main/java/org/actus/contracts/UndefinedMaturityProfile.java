@@ -147,7 +147,7 @@ public final class UndefinedMaturityProfile {
         return events;
     }
 
-    private static StateSpace initStateSpace(ContractModelProvider model) throws AttributeConversionException {
+    static StateSpace initStateSpace(ContractModelProvider model) throws AttributeConversionException {
         StateSpace states = new StateSpace();
         states.notionalScalingMultiplier = 1;
         states.interestScalingMultiplier = 1;
@@ -40,11 +40,7 @@ public final class Following implements BusinessDayConvention {
 	 */
 	@Override
 	public LocalDateTime shift(LocalDateTime date) {
-		LocalDateTime shiftedDate = LocalDateTime.from(date);
-		while (!calendar.isBusinessDay(shiftedDate)) {
-			shiftedDate = shiftedDate.plusDays(1);
-		}
-		return shiftedDate;
+		return calendar.nextBusinessDay(date);
 	}
 
 }
\ No newline at end of file
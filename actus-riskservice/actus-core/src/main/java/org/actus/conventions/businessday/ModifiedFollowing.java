@@ -42,15 +42,9 @@ public class ModifiedFollowing implements BusinessDayConvention {
 	 */
 	@Override
 	public LocalDateTime shift(LocalDateTime date) {
-		LocalDateTime shiftedDate = LocalDateTime.from(date);
-		while (!calendar.isBusinessDay(shiftedDate)) {
-			shiftedDate = shiftedDate.plusDays(1);
-		}
+		LocalDateTime shiftedDate = calendar.nextBusinessDay(date);
 		if (!shiftedDate.getMonth().equals(date.getMonth())) {
-			shiftedDate = LocalDateTime.from(date);
-			while (!calendar.isBusinessDay(shiftedDate)) {
-				shiftedDate = shiftedDate.minusDays(1);
-			}
+			shiftedDate = calendar.previousBusinessDay(date);
 		}
 		return shiftedDate;
 	}
@@ -42,15 +42,9 @@ public class ModifiedPreceeding implements BusinessDayConvention {
 	 */
 	@Override
 	public LocalDateTime shift(LocalDateTime date) {
-		LocalDateTime shiftedDate = LocalDateTime.from(date);
-		while (!calendar.isBusinessDay(shiftedDate)) {
-			shiftedDate = shiftedDate.minusDays(1);
-		}
+		LocalDateTime shiftedDate = calendar.previousBusinessDay(date);
 		if (!shiftedDate.getMonth().equals(date.getMonth())) {
-			shiftedDate = LocalDateTime.from(date);
-			while (!calendar.isBusinessDay(shiftedDate)) {
-				shiftedDate = shiftedDate.plusDays(1);
-			}
+			shiftedDate = calendar.nextBusinessDay(date);
 		}
 		return shiftedDate;
 	}
@@ -40,11 +40,7 @@ public final class Preceeding implements BusinessDayConvention {
 	 */
 	@Override
 	public LocalDateTime shift(LocalDateTime date) {
-		LocalDateTime shiftedDate = LocalDateTime.from(date);
-		while (!calendar.isBusinessDay(shiftedDate)) {
-			shiftedDate = shiftedDate.minusDays(1);
-		}
-		return shiftedDate;
+		return calendar.previousBusinessDay(date);
 	}
 
 }
\ No newline at end of file
@@ -38,4 +38,21 @@ public final class ActualActualISDA implements DayCountConventionProvider {
 				+ (ChronoUnit.DAYS.between(LocalDateTime.of(y2, 1, 1, 0, 0, 0, 0), endTime)) / secondBasis
 				+ y2 - y1 - 1);
 	}
+
+	@Override
+	public double dayCountFraction(long startSecond, long endSecond) {
+		int y1 = EpochDays.year(EpochDays.ofSecond(startSecond));
+		int y2 = EpochDays.year(EpochDays.ofSecond(endSecond));
+
+		if (y1 == y2) {
+			double basis = (Year.isLeap(y1)) ? 366.0 : 365.0;
+			return (((endSecond - startSecond) / EpochDays.SECONDS_PER_DAY) / basis);
+		}
+
+		double firstBasis = (Year.isLeap(y1)) ? 366.0 : 365.0;
+		double secondBasis = (Year.isLeap(y2)) ? 366.0 : 365.0;
+		return (((EpochDays.yearStart(y1 + 1) * EpochDays.SECONDS_PER_DAY - startSecond) / EpochDays.SECONDS_PER_DAY) / firstBasis
+				+ ((endSecond - EpochDays.yearStart(y2) * EpochDays.SECONDS_PER_DAY) / EpochDays.SECONDS_PER_DAY) / secondBasis
+				+ y2 - y1 - 1);
+	}
 }
@@ -26,4 +26,8 @@ public final class ActualThreeSixty implements DayCountConventionProvider {
 		return dayCount(startTime, endTime) / 360.0;
 	}
 
+	@Override
+	public double dayCountFraction(long startSecond, long endSecond) {
+		return (double) ((endSecond - startSecond) / EpochDays.SECONDS_PER_DAY) / 360.0;
+	}
 }
@@ -26,5 +26,8 @@ public class ActualThreeSixtyFiveFixed implements DayCountConventionProvider {
 		return this.dayCount(startTime, endTime) / 365.0;
 	}
 
+	@Override
+	public double dayCountFraction(long startSecond, long endSecond) {
+		return (double) ((endSecond - startSecond) / EpochDays.SECONDS_PER_DAY) / 365.0;
+	}
 }
-
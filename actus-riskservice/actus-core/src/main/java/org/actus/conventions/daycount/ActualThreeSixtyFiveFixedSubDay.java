@@ -40,4 +40,10 @@ public class ActualThreeSixtyFiveFixedSubDay implements DayCountConventionProvid
         long seconds = ChronoUnit.SECONDS.between(startTime, endTime);
         return seconds / SECONDS_PER_YEAR;
     }
+
+    @Override
+    public double dayCountFraction(long startSecond, long endSecond) {
+        long seconds = endSecond - startSecond;
+        return seconds / SECONDS_PER_YEAR;
+    }
 }
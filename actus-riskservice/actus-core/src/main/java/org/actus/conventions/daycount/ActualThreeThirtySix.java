@@ -21,4 +21,8 @@ public class ActualThreeThirtySix implements DayCountConventionProvider {
 		return dayCount(startTime, endTime) / 336.0;
 	}
 
+	@Override
+	public double dayCountFraction(long startSecond, long endSecond) {
+		return (double) ((endSecond - startSecond) / EpochDays.SECONDS_PER_DAY) / 336.0;
+	}
 }
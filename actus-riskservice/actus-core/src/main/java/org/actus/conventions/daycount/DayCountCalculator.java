@@ -8,11 +8,11 @@
  */
 package org.actus.conventions.daycount;
 
-import org.actus.time.TimeAdjuster;
 import org.actus.time.calendar.BusinessDayCalendarProvider;
 import org.actus.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 public class DayCountCalculator {
     private DayCountConventionProvider convention;
@@ -71,11 +71,32 @@ public class DayCountCalculator {
      */
     public double dayCountFraction(LocalDateTime startTime, LocalDateTime endTime) {
         // NEW: Bypass toFullHours() for sub-day conventions
+        if (convention instanceof ActualThreeSixtyFiveFixedNano
+                || (convention instanceof ActualThreeSixtyFiveFixedSubDay && (startTime.getNano() != 0 || endTime.getNano() != 0))) {
+            return convention.dayCountFraction(startTime, endTime);
+        }
+        // otherwise on the times in seconds, rounded to full hours unless sub-day (cf. dayCountFraction(long, long))
+        return dayCountFraction(startTime.toEpochSecond(ZoneOffset.UTC), endTime.toEpochSecond(ZoneOffset.UTC));
+    }
+
+    /**
+     * Compute day count fraction between two times given in seconds since 1970-01-01T00:00:00.
+     * <p>
+     * The result is the one of {@link #dayCountFraction(LocalDateTime, LocalDateTime)} for the times
+     * {@code LocalDateTime.ofEpochSecond(second, 0, ZoneOffset.UTC)}, computed without converting
+     * the times to {@code LocalDateTime} for the conventions providing a primitive overload.
+     */
+    public double dayCountFraction(long startSecond, long endSecond) {
         if (convention instanceof ActualThreeSixtyFiveFixedSubDay
                 || convention instanceof ActualThreeSixtyFiveFixedNano) {
-            return convention.dayCountFraction(startTime, endTime);
+            return convention.dayCountFraction(startSecond, endSecond);
         }
-        // Existing behavior: round to full hours first
-        return convention.dayCountFraction(TimeAdjuster.toFullHours(startTime), TimeAdjuster.toFullHours(endTime));
+        return convention.dayCountFraction(toFullHours(startSecond), toFullHours(endSecond));
+    }
+
+    // as TimeAdjuster.toFullHours, on seconds since the epoch
+    private static long toFullHours(long epochSecond) {
+        long hour = Math.floorDiv(epochSecond, 3600L) * 3600L;
+        return hour + 3600L * Math.floorDiv(Math.floorMod(epochSecond, 3600L) / 60, 30);
     }
 }
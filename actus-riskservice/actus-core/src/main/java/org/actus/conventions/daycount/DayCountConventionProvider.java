@@ -6,6 +6,7 @@
 package org.actus.conventions.daycount;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 /**
  * Component that represents a certain day count convention
@@ -38,5 +39,20 @@ public interface DayCountConventionProvider {
 	 */
 	public double dayCountFraction(LocalDateTime startTime,
 			LocalDateTime endTime);
-}
 
+	/**
+	 * Compute the day count fraction between two times given in seconds since 1970-01-01T00:00:00
+	 * <p>
+	 * The result is the one of {@link #dayCountFraction(LocalDateTime, LocalDateTime)} for the times
+	 * {@code LocalDateTime.ofEpochSecond(second, 0, ZoneOffset.UTC)}. Conventions override this method
+	 * with a computation on the primitive times, saving the conversion on each call.
+	 * 
+	 * @param startSecond the start of the time period, in seconds since the epoch
+	 * @param endSecond the end of the time period, in seconds since the epoch
+	 * @return the day count fraction between startSecond and endSecond
+	 */
+	public default double dayCountFraction(long startSecond, long endSecond) {
+		return dayCountFraction(LocalDateTime.ofEpochSecond(startSecond, 0, ZoneOffset.UTC),
+				LocalDateTime.ofEpochSecond(endSecond, 0, ZoneOffset.UTC));
+	}
+}
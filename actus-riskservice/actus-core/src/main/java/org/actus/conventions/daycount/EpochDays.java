@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.conventions.daycount;
+
+import java.time.LocalDate;
+import java.time.Year;
+
+/**
+ * Calendar arithmetic on epoch days (days since 1970-01-01), for the day count conventions' primitive overloads
+ * <p>
+ * Years are located in a precomputed table of the epoch days of 1 January of the years
+ * {@code FIRST_YEAR} to {@code LAST_YEAR}, days outside of it are converted to a {@link LocalDate}.
+ * Dates are packed into an {@code int} as {@code year << 9 | month << 5 | dayOfMonth}.
+ */
+final class EpochDays {
+
+    static final long SECONDS_PER_DAY = 86400;
+
+    private static final int FIRST_YEAR = 1900;
+    private static final int LAST_YEAR = 2200;
+
+    // epoch day of 1 January of the years FIRST_YEAR to LAST_YEAR + 1
+    private static final long[] YEAR_STARTS = new long[LAST_YEAR - FIRST_YEAR + 2];
+
+    // days in the year before the first of each month (non-leap year), and in the year
+    private static final int[] MONTH_STARTS = {0, 0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334, 365};
+
+    static {
+        for (int i = 0; i < YEAR_STARTS.length; i++)
+            YEAR_STARTS[i] = LocalDate.of(FIRST_YEAR + i, 1, 1).toEpochDay();
+    }
+
+    private EpochDays() {
+    }
+
+    /**
+     * @param epochSecond seconds since 1970-01-01T00:00:00
+     * @return the epoch day of the second
+     */
+    static long ofSecond(long epochSecond) {
+        return Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+    }
+
+    /**
+     * @param epochDay days since 1970-01-01
+     * @return the year of the day
+     */
+    static int year(long epochDay) {
+        if (epochDay < YEAR_STARTS[0] || epochDay >= YEAR_STARTS[YEAR_STARTS.length - 1])
+            return LocalDate.ofEpochDay(epochDay).getYear();
+        // no year is longer than 366 days, so the estimate is at or before the year
+        int index = (int) ((epochDay - YEAR_STARTS[0]) / 366);
+        while (YEAR_STARTS[index + 1] <= epochDay)
+            index++;
+        return FIRST_YEAR + index;
+    }
+
+    /**
+     * @param year the year
+     * @return the epoch day of 1 January of the year
+     */
+    static long yearStart(int year) {
+        return (year >= FIRST_YEAR && year <= LAST_YEAR + 1)
+                ? YEAR_STARTS[year - FIRST_YEAR]
+                : LocalDate.of(year, 1, 1).toEpochDay();
+    }
+
+    /**
+     * @param epochDay days since 1970-01-01
+     * @return the date of the day, packed
+     */
+    static int date(long epochDay) {
+        int year = year(epochDay);
+        int dayOfYear = (int) (epochDay - yearStart(year));
+        int leapDay = Year.isLeap(year) ? 1 : 0;
+        int month = 1;
+        while (dayOfYear >= MONTH_STARTS[month + 1] + (month + 1 > 2 ? leapDay : 0))
+            month++;
+        int dayOfMonth = dayOfYear - MONTH_STARTS[month] - (month > 2 ? leapDay : 0) + 1;
+        return year << 9 | month << 5 | dayOfMonth;
+    }
+
+    static int year(int date) {
+        return date >> 9;
+    }
+
+    static int month(int date) {
+        return (date >> 5) & 15;
+    }
+
+    static int dayOfMonth(int date) {
+        return date & 31;
+    }
+
+    /**
+     * @param date a packed date
+     * @return the number of days in the month of the date
+     */
+    static int lengthOfMonth(int date) {
+        int month = month(date);
+        if (month == 2)
+            return Year.isLeap(year(date)) ? 29 : 28;
+        return MONTH_STARTS[month + 1] - MONTH_STARTS[month];
+    }
+}
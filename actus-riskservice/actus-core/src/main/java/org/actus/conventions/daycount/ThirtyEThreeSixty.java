@@ -33,5 +33,18 @@ public class ThirtyEThreeSixty implements DayCountConventionProvider {
 	public double dayCountFraction(LocalDateTime startTime, LocalDateTime endTime) {
 		return (this.dayCount(startTime, endTime) / 360.0);
 	}
-}
 
+	@Override
+	public double dayCountFraction(long startSecond, long endSecond) {
+		int start = EpochDays.date(EpochDays.ofSecond(startSecond));
+		int end = EpochDays.date(EpochDays.ofSecond(endSecond));
+		double d1 = (EpochDays.dayOfMonth(start) == 31.0) ? 30.0 : EpochDays.dayOfMonth(start);
+		double d2 = (EpochDays.dayOfMonth(end) == 31.0) ? 30.0 : EpochDays.dayOfMonth(end);
+
+		double delD = d2 - d1;
+		double delM = EpochDays.month(end) - EpochDays.month(start);
+		double delY = EpochDays.year(end) - EpochDays.year(start);
+
+		return (360.0 * delY + 30.0 * delM + delD) / 360.0;
+	}
+}
@@ -6,6 +6,7 @@
 package org.actus.conventions.daycount;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
 
 /**
@@ -53,5 +54,25 @@ public class ThirtyEThreeSixtyISDA implements DayCountConventionProvider {
 			LocalDateTime endTime) {
 		return (this.dayCount(startTime, endTime) / 360.0);
 	}
-}
 
+	@Override
+	public double dayCountFraction(long startSecond, long endSecond) {
+		int start = EpochDays.date(EpochDays.ofSecond(startSecond));
+		int end = EpochDays.date(EpochDays.ofSecond(endSecond));
+		int d1 = EpochDays.dayOfMonth(start);
+		d1 = (d1 == EpochDays.lengthOfMonth(start)) ? 30 : d1;
+		int d2 = EpochDays.dayOfMonth(end);
+		d2 = (!(isMaturityDate(endSecond) && EpochDays.month(end) == 2)
+				&& d2 == EpochDays.lengthOfMonth(end)) ? 30 : d2;
+		double delD = d2 - d1;
+		double delM = EpochDays.month(end) - EpochDays.month(start);
+		double delY = EpochDays.year(end) - EpochDays.year(start);
+
+		return ((360.0 * delY + 30.0 * delM + delD)) / 360.0;
+	}
+
+	private boolean isMaturityDate(long epochSecond) {
+		return maturityDate != null && maturityDate.getNano() == 0
+				&& maturityDate.toEpochSecond(ZoneOffset.UTC) == epochSecond;
+	}
+}
@@ -1,6 +1,7 @@
 package org.actus.conventions.daycount;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
 
 /*
@@ -39,4 +40,23 @@ public class TwentyEightThreeThirtySix implements DayCountConventionProvider {
 		return (this.dayCount(startTime, endTime) / 336);
 	}
 
-}
\ No newline at end of file
+	@Override
+	public double dayCountFraction(long startSecond, long endSecond) {
+		int start = EpochDays.date(EpochDays.ofSecond(startSecond));
+		int end = EpochDays.date(EpochDays.ofSecond(endSecond));
+		int d1 = EpochDays.dayOfMonth(start);
+		d1 = (d1 == EpochDays.lengthOfMonth(start)) ? 28 : d1;
+		int d2 = EpochDays.dayOfMonth(end);
+		d2 = (!(isMaturityDate(endSecond) || EpochDays.month(end) == 2)
+				&& d2 == EpochDays.lengthOfMonth(start)) ? 28 : d2 >= 28 ? 28 : d2;
+		double delD = d2 - d1;
+		double delM = EpochDays.month(end) - EpochDays.month(start);
+		double delY = EpochDays.year(end) - EpochDays.year(start);
+		return ((336.0 * delY + 28.0 * delM + delD)) / 336;
+	}
+
+	private boolean isMaturityDate(long epochSecond) {
+		return maturityDate != null && maturityDate.getNano() == 0
+				&& maturityDate.toEpochSecond(ZoneOffset.UTC) == epochSecond;
+	}
+}
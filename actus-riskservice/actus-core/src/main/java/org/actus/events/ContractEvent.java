@@ -84,6 +84,13 @@ public final class ContractEvent implements Comparable<ContractEvent> {
     public LocalDateTime eventTime() {
         return eventTime;    
     }
+
+    /**
+     * Returns the unadjusted time of this event, as passed to its payoff and state-transition functions
+     */
+    public LocalDateTime scheduleTime() {
+        return scheduleTime;
+    }
     
     /**
      * Returns the type of this event
@@ -205,6 +212,21 @@ public final class ContractEvent implements Comparable<ContractEvent> {
         return new ContractEvent(this.scheduleTime, this.eventTime, this.eventType, this.currency, this.fPayOff, this.fStateTrans, this.contractID);
     }
 
+    /**
+     * Creates a copy of an evaluated event
+     * <p>
+     * Other than {@link #copy()}, the copy carries the payoff and (a copy of) the post-event states
+     * of the original event.
+     *
+     * @return a ContractEvent that represents a copy of the original event and its evaluation
+     */
+    public ContractEvent copyEvaluated() {
+        ContractEvent copy = copy();
+        copy.payoff = this.payoff;
+        copy.states = (this.states == null) ? null : StateSpace.copyStateSpace(this.states);
+        return copy;
+    }
+
     /**
      * Returns a String-representation of all analytical elements
      * <p>
@@ -0,0 +1,36 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.externals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A {@link RiskFactorModelProvider} that can locate the first time a market risk factor reaches a boundary
+ * <p>
+ * Contracts monitoring a boundary, such as the {@code BoundaryControlledSwitch}, would otherwise query
+ * the state of the risk factor at every monitoring time until it is reached. An observer implementing
+ * this interface answers the query at once, e.g. by searching the observations of an indexed series.
+ * <p>
+ * The answer must be the one the monitoring would give, i.e. the index of the first time at which
+ * {@code stateAt(id, time, states, attributes, true)} is at or above (increasing boundary) or at or
+ * below (decreasing boundary) the boundary value. Note, this requires the market risk factor's state
+ * not to depend on the contract's states.
+ */
+public interface FirstPassageProvider {
+
+  /**
+   * Returns the first of a sequence of times at which a market risk factor reaches a boundary
+   *
+   * @param id identifier of the risk factor
+   * @param times the monitoring times, in ascending order
+   * @param boundary the boundary value
+   * @param increasing true if the boundary is reached from below, false if from above
+   * @return index of the first time at which the boundary is reached, or -1 if it is not reached
+   */
+  public int firstPassage(String id, List<LocalDateTime> times, double boundary, boolean increasing);
+
+}
@@ -31,4 +31,36 @@ public interface BusinessDayCalendarProvider {
      * @return {@code true} if {@code date} is a business day or {@code false} otherwise
      */
 	public boolean isBusinessDay(LocalDateTime date);
+
+    /**
+     * Returns the first business day on or after a date
+     * <p>
+     * Calendars that can locate it at once, e.g. from a precompiled table, override this method.
+     *
+     * @param date the date to start from
+     * @return {@code date} if it is a business day, the next following business day otherwise
+     */
+	public default LocalDateTime nextBusinessDay(LocalDateTime date) {
+		LocalDateTime shiftedDate = LocalDateTime.from(date);
+		while (!isBusinessDay(shiftedDate)) {
+			shiftedDate = shiftedDate.plusDays(1);
+		}
+		return shiftedDate;
+	}
+
+    /**
+     * Returns the last business day on or before a date
+     * <p>
+     * Calendars that can locate it at once, e.g. from a precompiled table, override this method.
+     *
+     * @param date the date to start from
+     * @return {@code date} if it is a business day, the next preceeding business day otherwise
+     */
+	public default LocalDateTime previousBusinessDay(LocalDateTime date) {
+		LocalDateTime shiftedDate = LocalDateTime.from(date);
+		while (!isBusinessDay(shiftedDate)) {
+			shiftedDate = shiftedDate.minusDays(1);
+		}
+		return shiftedDate;
+	}
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.time.calendar;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the business day calendars shared by the contracts parsed
+ * <p>
+ * The contracts of a portfolio mostly share one or a few holiday calendars, each of them repeated in
+ * the {@code holidays} attribute of thousands of contracts. The registry interns holiday lists and
+ * calendars by their content, so that a calendar is parsed and precompiled once and shared by all
+ * contracts with the same holidays. Each cache is cleared once it holds {@code CAPACITY} entries.
+ */
+public final class BusinessDayCalendars {
+
+    private static final int CAPACITY = 1 << 10;
+
+    private static final Map<List<String>, Set<LocalDate>> holidays = new ConcurrentHashMap<>();
+    private static final Map<Set<LocalDate>, MondayToFridayWithHolidaysCalendar> calendars = new ConcurrentHashMap<>();
+
+    private BusinessDayCalendars() {
+    }
+
+    /**
+     * Parses a list of holidays
+     *
+     * @param dates the holidays as ISO dates, elements other than {@code String}s are ignored
+     * @return the (unmodifiable) set of holidays, shared with all lists of the same dates
+     * @throws java.time.format.DateTimeParseException if a date cannot be parsed
+     */
+    public static Set<LocalDate> holidays(List<?> dates) {
+        List<String> key = new ArrayList<>(dates.size());
+        for (Object date : dates) {
+            if (date instanceof String s)
+                key.add(s);
+        }
+        if (key.isEmpty())
+            return Collections.emptySet();
+        Set<LocalDate> parsed = holidays.get(key);
+        if (parsed == null) {
+            Set<LocalDate> set = new HashSet<>();
+            for (String date : key)
+                set.add(LocalDate.parse(date));
+            parsed = Collections.unmodifiableSet(set);
+            if (holidays.size() >= CAPACITY)
+                holidays.clear();
+            holidays.put(key, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * Returns the precompiled Monday to Friday calendar with a set of holidays
+     *
+     * @param holidays the holidays
+     * @return the calendar, shared with all sets of the same holidays
+     */
+    public static MondayToFridayWithHolidaysCalendar mondayToFridayWithHolidays(Set<LocalDate> holidays) {
+        MondayToFridayWithHolidaysCalendar calendar = calendars.get(holidays);
+        if (calendar == null) {
+            Set<LocalDate> copy = Collections.unmodifiableSet(new HashSet<>(holidays));
+            calendar = new MondayToFridayWithHolidaysCalendar(copy);
+            if (calendars.size() >= CAPACITY)
+                calendars.clear();
+            calendars.put(copy, calendar);
+        }
+        return calendar;
+    }
+}
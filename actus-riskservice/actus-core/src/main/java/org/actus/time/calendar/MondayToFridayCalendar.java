@@ -24,5 +24,17 @@ public class MondayToFridayCalendar implements BusinessDayCalendarProvider {
 			return true;
 		}
 	}
+
+	@Override
+	public LocalDateTime nextBusinessDay(LocalDateTime date) {
+		int dayOfWeek = date.getDayOfWeek().getValue();
+		return (dayOfWeek < 6) ? date : date.plusDays(8 - dayOfWeek);
+	}
+
+	@Override
+	public LocalDateTime previousBusinessDay(LocalDateTime date) {
+		int dayOfWeek = date.getDayOfWeek().getValue();
+		return (dayOfWeek < 6) ? date : date.minusDays(dayOfWeek - 5);
+	}
 }
 
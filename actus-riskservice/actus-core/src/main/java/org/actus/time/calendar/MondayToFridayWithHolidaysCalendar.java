@@ -1,21 +1,126 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
 package org.actus.time.calendar;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Set;
 
+/**
+ * {@link BusinessDayCalendarProvider} with Monday through Friday being business days, except for a set of holidays
+ * <p>
+ * The holidays are precompiled into a bitset over the epoch days from the first to the last holiday,
+ * and the next and previous business day of each of these days into tables. Outside of this range
+ * every weekday is a business day. Hence, {@code isBusinessDay}, {@code nextBusinessDay} and
+ * {@code previousBusinessDay} take constant time, unless the holidays span several centuries.
+ * The holidays must not change once the calendar is created. Calendars with the same holidays
+ * are best shared, cf. {@link BusinessDayCalendars#mondayToFridayWithHolidays}.
+ */
 public class MondayToFridayWithHolidaysCalendar implements BusinessDayCalendarProvider {
+
+	// longest range of holidays precompiled, calendars spanning more are looked up in the set
+	private static final int MAX_TABLE_DAYS = 1 << 17;
+
 	private final Set<LocalDate> holidays;
+	private final long firstDay;
+	private final long lastDay;
+	private final long[] holidayBits;
+	private final int[] nextBusinessDays;
+	private final int[] previousBusinessDays;
 
 	public MondayToFridayWithHolidaysCalendar(Set<LocalDate> holidays) {
 		this.holidays = holidays;
+		long first = Long.MAX_VALUE;
+		long last = Long.MIN_VALUE;
+		for (LocalDate holiday : holidays) {
+			first = Math.min(first, holiday.toEpochDay());
+			last = Math.max(last, holiday.toEpochDay());
+		}
+		this.firstDay = first;
+		this.lastDay = last;
+		if (holidays.isEmpty() || lastDay - firstDay >= MAX_TABLE_DAYS) {
+			this.holidayBits = null;
+			this.nextBusinessDays = null;
+			this.previousBusinessDays = null;
+			return;
+		}
+		int days = (int) (lastDay - firstDay + 1);
+		this.holidayBits = new long[(days + 63) >>> 6];
+		for (LocalDate holiday : holidays) {
+			int index = (int) (holiday.toEpochDay() - firstDay);
+			holidayBits[index >>> 6] |= 1L << index;
+		}
+		this.nextBusinessDays = new int[days];
+		this.previousBusinessDays = new int[days];
+		long next = weekdayOnOrAfter(lastDay + 1);
+		for (int index = days - 1; index >= 0; index--) {
+			if (isBusinessDay(firstDay + index))
+				next = firstDay + index;
+			nextBusinessDays[index] = (int) (next - firstDay);
+		}
+		long previous = weekdayOnOrBefore(firstDay - 1);
+		for (int index = 0; index < days; index++) {
+			if (isBusinessDay(firstDay + index))
+				previous = firstDay + index;
+			previousBusinessDays[index] = (int) (previous - firstDay);
+		}
 	}
 
 	@Override
 	public boolean isBusinessDay(LocalDateTime dateTime) {
-		LocalDate date = dateTime.toLocalDate();
-		int dayOfWeek = date.getDayOfWeek().getValue(); // 1 = Monday, ..., 7 = Sunday
-		return dayOfWeek < 6 && !holidays.contains(date);
+		return isBusinessDay(dateTime.toLocalDate().toEpochDay());
+	}
+
+	@Override
+	public LocalDateTime nextBusinessDay(LocalDateTime date) {
+		long day = date.toLocalDate().toEpochDay();
+		long shifted = weekdayOnOrAfter(day);
+		if (shifted >= firstDay && shifted <= lastDay) {
+			if (nextBusinessDays == null)
+				return BusinessDayCalendarProvider.super.nextBusinessDay(date);
+			shifted = firstDay + nextBusinessDays[(int) (shifted - firstDay)];
+		}
+		return date.plusDays(shifted - day);
+	}
+
+	@Override
+	public LocalDateTime previousBusinessDay(LocalDateTime date) {
+		long day = date.toLocalDate().toEpochDay();
+		long shifted = weekdayOnOrBefore(day);
+		if (shifted >= firstDay && shifted <= lastDay) {
+			if (previousBusinessDays == null)
+				return BusinessDayCalendarProvider.super.previousBusinessDay(date);
+			shifted = firstDay + previousBusinessDays[(int) (shifted - firstDay)];
+		}
+		return date.plusDays(shifted - day);
 	}
 
+	private boolean isBusinessDay(long epochDay) {
+		if (dayOfWeek(epochDay) > 5)
+			return false;
+		if (epochDay < firstDay || epochDay > lastDay)
+			return true;
+		if (holidayBits == null)
+			return !holidays.contains(LocalDate.ofEpochDay(epochDay));
+		int index = (int) (epochDay - firstDay);
+		return (holidayBits[index >>> 6] & (1L << index)) == 0;
+	}
+
+	// 1 = Monday, ..., 7 = Sunday; the epoch day 0 (1970-01-01) is a Thursday
+	private static int dayOfWeek(long epochDay) {
+		return (int) Math.floorMod(epochDay + 3, 7L) + 1;
+	}
+
+	private static long weekdayOnOrAfter(long epochDay) {
+		int dayOfWeek = dayOfWeek(epochDay);
+		return (dayOfWeek < 6) ? epochDay : epochDay + 8 - dayOfWeek;
+	}
+
+	private static long weekdayOnOrBefore(long epochDay) {
+		int dayOfWeek = dayOfWeek(epochDay);
+		return (dayOfWeek < 6) ? epochDay : epochDay - (dayOfWeek - 5);
+	}
 }
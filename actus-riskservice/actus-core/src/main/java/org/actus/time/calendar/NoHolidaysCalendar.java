@@ -21,5 +21,15 @@ public class NoHolidaysCalendar implements BusinessDayCalendarProvider {
 		return true;
 	}
 
+	@Override
+	public LocalDateTime nextBusinessDay(LocalDateTime date) {
+		return date;
+	}
+
+	@Override
+	public LocalDateTime previousBusinessDay(LocalDateTime date) {
+		return date;
+	}
+
 }
 
@@ -1,6 +1,7 @@
 package org.actus.types;
 
 import org.actus.attributes.ContractModel;
+import org.actus.contracts.ContractTrajectory;
 import org.actus.contracts.ContractType;
 import org.actus.events.ContractEvent;
 import org.actus.events.EventFactory;
@@ -20,6 +21,10 @@ public class ContractReference {
     public ReferenceRole referenceRole;
     public ReferenceType referenceType;
     public Object object;
+    // attributes of a CNT reference, identifying the referenced contract between contract structures
+    private Map<String, Object> terms;
+    // trajectory of a CNT reference, simulated for the evaluation of the referencing contract
+    private ContractTrajectory trajectory;
     public ContractReference(Map<String, Object> attributes, ContractRole contractRole) {
         this.referenceRole = ReferenceRole.valueOf((String)attributes.get("referenceRole"));
         this.referenceType = ReferenceType.valueOf((String)attributes.get("referenceType"));
@@ -40,6 +45,7 @@ public class ContractReference {
                     }
                 }
                 this.object = ContractModel.parse(childModel);
+                this.terms = childModel;
                 break;
             case CID:
                 this.object = ((Map<String,String>)attributes.get("object")).get("contractIdentifier");
@@ -62,6 +68,13 @@ public class ContractReference {
         return object;
     }
 
+    /**
+     * @return the attributes a CNT reference was parsed from, null for other reference types
+     */
+    public Map<String, Object> getTerms() {
+        return terms;
+    }
+
     public String getContractAttribute(String contractAttribute){
         String attributeVal = null;
         if("marketObjectCode".equals(contractAttribute)) {
@@ -78,8 +91,37 @@ public class ContractReference {
         return attributeVal;
     }
 
+    /**
+     * Simulates the referenced contract once up to a horizon, so that {@link #getStateSpaceAtTimepoint}
+     * looks its states up in the trajectory instead of simulating the contract for every time queried
+     *
+     * @param horizon the latest time to be queried
+     * @param observer the observer for external events and data
+     */
+    public void simulate(LocalDateTime horizon, RiskFactorModelProvider observer) {
+        this.trajectory = null;
+        if(ReferenceType.CNT.equals(this.referenceType)){
+            try {
+                this.trajectory = ContractTrajectory.of(this.terms, (ContractModel) this.object, horizon.plusDays(1), observer);
+            } catch (RuntimeException e) {
+                // left to getStateSpaceAtTimepoint, which simulates up to each time queried
+                this.trajectory = null;
+            }
+        }
+    }
+
+    /**
+     * Drops the trajectory simulated by {@link #simulate}
+     */
+    public void release() {
+        this.trajectory = null;
+    }
+
     public StateSpace getStateSpaceAtTimepoint(LocalDateTime time, RiskFactorModelProvider observer) {
         ContractModel model = (ContractModel) this.object;
+        if(this.trajectory != null && this.trajectory.covers(time.plusDays(1), observer)){
+            return this.trajectory.statesAt(time);
+        }
         if(ReferenceType.CNT.equals(this.referenceType)){
             ArrayList<ContractEvent> events = ContractType.schedule(time.plusDays(1),(ContractModel)this.object);
             ContractEvent analysisEvent = EventFactory.createEvent(time, 
@@ -30,12 +30,29 @@ public final class CommonUtils {
      * @return the fx-rate
      */
     public static double settlementCurrencyFxRate(RiskFactorModelProvider riskFactorModel, ContractModelProvider model, LocalDateTime time, StateSpace state){
+        String pair = settlementCurrencyPair(model);
+        if(pair == null){
+            return 1.0;
+        }else {
+            return riskFactorModel.stateAt(pair, time, state, model,true);
+        }
+    }
+
+    /**
+     * Returns the currency pair whose fx-rate converts the payoffs of a contract to its settlement currency
+     * <p>
+     * The pair is the market object code {@link #settlementCurrencyFxRate} observes, so that a simulation
+     * can determine once per contract whether, and which, fx-rates its payoffs will observe.
+     *
+     * @param model the model carrying the contract attributes
+     * @return the pair as {@code currency/settlementCurrency}, or null if the payoffs are not converted
+     */
+    public static String settlementCurrencyPair(ContractModelProvider model){
         String settlementCurrency = model.getAs("SettlementCurrency");
         String currency = model.getAs("currency");
         if(isNull(settlementCurrency)  || currency.equals(settlementCurrency)){
-            return 1.0;
-        }else {
-            return riskFactorModel.stateAt(currency + "/" + settlementCurrency, time, state, model,true);
+            return null;
         }
+        return currency + "/" + settlementCurrency;
     }
 }
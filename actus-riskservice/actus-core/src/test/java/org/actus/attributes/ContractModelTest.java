@@ -7,6 +7,7 @@ package org.actus.attributes;
 
 import org.actus.AttributeConversionException;
 
+import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -14,6 +15,7 @@ import org.actus.types.EndOfMonthConventionEnum;
 import org.actus.types.ContractTypeEnum;
 
 import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -93,4 +95,27 @@ public class ContractModelTest {
         assertTrue(model.getAs("contractType").equals(ContractTypeEnum.PAM));
     }
 
+    @Test
+    public void test_AttributeParser_repeated_timestamps() {
+        Map<String, Object> map = new HashMap<String, Object>();
+        map.put("contractType", "PAM");
+        map.put("calendar", "NoHolidayCalendar");
+        map.put("statusDate", "2016-01-01T00:00:00");
+        map.put("contractRole", "RPA");
+        map.put("dayCountConvention", "AA");
+        map.put("currency", "USD");
+        map.put("initialExchangeDate", "2016-01-02T00:00:00");
+        map.put("maturityDate", "2017-01-01T00:00:00");
+        map.put("notionalPrincipal", "1000.0");
+        ContractModel first = ContractModel.parse(map);
+        ContractModel second = ContractModel.parse(new HashMap<String, Object>(map));
+        assertEquals(LocalDateTime.parse("2016-01-02T00:00:00"), first.getAs("initialExchangeDate"));
+        assertEquals(first.<LocalDateTime>getAs("maturityDate"), second.getAs("maturityDate"));
+
+        // a timestamp that does not parse fails every time
+        map.put("maturityDate", "2017-13-01T00:00:00");
+        assertThrows(AttributeConversionException.class, () -> ContractModel.parse(map));
+        assertThrows(AttributeConversionException.class, () -> ContractModel.parse(map));
+    }
+
 }
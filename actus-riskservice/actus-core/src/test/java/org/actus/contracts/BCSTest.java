@@ -8,12 +8,17 @@ import java.util.Set;
 import java.util.stream.Stream;
 
 import org.actus.attributes.ContractModel;
+import org.actus.attributes.ContractModelProvider;
 import org.actus.events.ContractEvent;
+import org.actus.externals.FirstPassageProvider;
+import org.actus.externals.RiskFactorModelProvider;
+import org.actus.states.StateSpace;
 import org.actus.testutils.ContractTestUtils;
 import org.actus.testutils.DataObserver;
 import org.actus.testutils.ObservedDataSet;
 import org.actus.testutils.ResultSet;
 import org.actus.testutils.TestData;
+import org.actus.types.EventType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.TestFactory;
@@ -94,6 +99,65 @@ public class BCSTest {
         });
     }
 
-	
+    // answers first-passage queries by monitoring the observed series time by time
+    class FirstPassageObserver implements RiskFactorModelProvider, FirstPassageProvider {
+        DataObserver observer;
+
+        FirstPassageObserver(DataObserver observer) {
+            this.observer = observer;
+        }
+
+        public Set<String> keys() {
+            return observer.keys();
+        }
+
+        public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider attributes, boolean isMarket) {
+            return observer.stateAt(id, time, states, attributes, isMarket);
+        }
+
+        public int firstPassage(String id, List<LocalDateTime> times, double boundary, boolean increasing) {
+            for (int i = 0; i < times.size(); i++) {
+                double value = observer.stateAt(id, times.get(i), null, null, true);
+                if (increasing ? value >= boundary : value <= boundary)
+                    return i;
+            }
+            return -1;
+        }
+    }
 
+    private static List<String> evaluate(ArrayList<ContractEvent> schedule, ContractModel terms, RiskFactorModelProvider observer) {
+        List<String> events = new ArrayList<>();
+        try {
+            for (ContractEvent event : BoundaryControlledSwitch.apply(schedule, terms, observer))
+                events.add(event.eventTime() + " " + event.eventType() + " " + event.getContractID() + " "
+                        + event.payoff() + " " + event.getAllStates());
+        } catch (Exception e) {
+            events.add(e.getClass().getName());
+        }
+        return events;
+    }
+
+    @TestFactory
+    public Stream<DynamicTest> test_monitoring_as_scheduled_tick_by_tick() {
+        Map<String, TestData> tests = ContractTestUtils.readTests("./src/test/resources/actus/actus-tests-bcs.json");
+        return tests.keySet().stream().map(testId -> {
+            TestData test = tests.get(testId);
+            DataObserver observer = ContractTestUtils.createObserver(new ArrayList<ObservedDataSet>(test.getDataObserved().values()));
+            ContractModel terms = ContractTestUtils.createModel(test.getTerms());
+            LocalDateTime to = LocalDateTime.parse(test.getto());
+
+            // the schedule as it was, with one monitoring event per monitoring time
+            ArrayList<ContractEvent> ticks = BoundaryControlledSwitch.schedule(to, terms);
+            ticks.addAll(BoundaryControlledSwitch.monitoringEvents(terms));
+            List<String> expected = evaluate(ticks, terms, observer);
+            List<String> added = evaluate(BoundaryControlledSwitch.schedule(to, terms), terms, observer);
+            List<String> firstPassage = evaluate(BoundaryControlledSwitch.schedule(to, terms), terms, new FirstPassageObserver(observer));
+
+            return DynamicTest.dynamicTest("Test: " + testId, () -> {
+                Assertions.assertTrue(BoundaryControlledSwitch.schedule(to, terms).stream().noneMatch(e -> e.eventType().equals(EventType.ME)));
+                Assertions.assertEquals(expected, added);
+                Assertions.assertEquals(expected, firstPassage);
+            });
+        });
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.contracts;
+
+import org.actus.attributes.ContractModel;
+import org.actus.attributes.ContractModelProvider;
+import org.actus.events.ContractEvent;
+import org.actus.events.EventFactory;
+import org.actus.externals.RiskFactorModelProvider;
+import org.actus.functions.pam.POF_PP_PAM;
+import org.actus.functions.pam.STF_PP_PAM;
+import org.actus.states.StateSpace;
+import org.actus.types.EventType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CompositeLegsTest {
+
+    // answers behavior queries with a prepayment rate the test may change between evaluations
+    class BehaviorModel implements RiskFactorModelProvider {
+        double prepaymentRate;
+
+        public Set<String> keys() {
+            return new HashSet<String>();
+        }
+
+        @Override
+        public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider contractAttributes, boolean isMarket) {
+            return isMarket ? 0.0 : this.prepaymentRate;
+        }
+    }
+
+    private static Map<String, Object> leg(String contractID, String notional, String role) {
+        Map<String, Object> map = new HashMap<String, Object>();
+        map.put("contractType", "PAM");
+        map.put("contractID", contractID);
+        map.put("contractDealDate", "2012-12-28T00:00:00");
+        map.put("initialExchangeDate", "2013-01-01T00:00:00");
+        map.put("currency", "USD");
+        map.put("statusDate", "2012-12-30T00:00:00");
+        map.put("notionalPrincipal", notional);
+        map.put("dayCountConvention", "A365");
+        map.put("nominalInterestRate", "0.1");
+        map.put("maturityDate", "2014-01-01T00:00:00");
+        map.put("cycleAnchorDateOfInterestPayment", "2013-01-01T00:00:00");
+        map.put("cycleOfInterestPayment", "P3ML1");
+        map.put("premiumDiscountAtIED", "0");
+        Map<String, Object> reference = new HashMap<String, Object>();
+        reference.put("object", map);
+        reference.put("referenceType", "CNT");
+        reference.put("referenceRole", role);
+        return reference;
+    }
+
+    private static ContractModel swap(boolean secondLeg) {
+        List<Map<String, Object>> structure = new ArrayList<Map<String, Object>>();
+        structure.add(leg("swap-leg1", "1000", "FIL"));
+        if (secondLeg)
+            structure.add(leg("swap-leg2", "1200", "SEL"));
+        Map<String, Object> map = new HashMap<String, Object>();
+        map.put("contractType", "SWAPS");
+        map.put("contractID", "swap");
+        map.put("contractRole", "RFL");
+        map.put("contractStructure", structure);
+        map.put("currency", "USD");
+        map.put("contractDealDate", "2012-12-28T00:00:00");
+        map.put("statusDate", "2012-12-30T00:00:00");
+        map.put("deliverySettlement", "D");
+        return ContractModel.parse(map);
+    }
+
+    // the swap's events, the first leg prepaying at the rate the behavior model gives in June
+    private static List<ContractEvent> events(ContractModel swap, RiskFactorModelProvider observer) {
+        ArrayList<ContractEvent> schedule = Swap.schedule(LocalDateTime.parse("2014-01-01T00:00:00"), swap);
+        schedule.add(EventFactory.createEvent(LocalDateTime.parse("2013-06-15T00:00:00"), EventType.PP, "USD",
+                new POF_PP_PAM(), new STF_PP_PAM(), "swap-leg1"));
+        return Swap.apply(schedule, swap, observer);
+    }
+
+    private static double payoff(List<ContractEvent> events, EventType type, String contractID) {
+        double payoff = 0.0;
+        for (ContractEvent event : events)
+            if (type.equals(event.eventType()) && contractID.equals(event.getContractID()))
+                payoff += event.payoff();
+        return payoff;
+    }
+
+    @Test
+    public void test_legs_querying_behavior_are_not_reused() {
+        BehaviorModel observer = new BehaviorModel();
+        try (EvaluationScope scope = EvaluationScope.open()) {
+            observer.prepaymentRate = 0.1;
+            List<ContractEvent> first = events(swap(true), observer);
+            observer.prepaymentRate = 0.5;
+            List<ContractEvent> second = events(swap(true), observer);
+            assertNotEquals(0.0, payoff(first, EventType.PP, "swap-leg1"));
+            assertEquals(0.1 * payoff(second, EventType.PP, "swap-leg1"), 0.5 * payoff(first, EventType.PP, "swap-leg1"), 1e-10);
+            assertEquals(payoff(first, EventType.IP, "swap-leg2"), payoff(second, EventType.IP, "swap-leg2"), 1e-10);
+        }
+    }
+
+    @Test
+    public void test_legs_applied_on_scope_pool_as_in_sequence() {
+        BehaviorModel observer = new BehaviorModel();
+        observer.prepaymentRate = 0.2;
+        List<ContractEvent> sequential = events(swap(true), observer);
+        List<ContractEvent> concurrent;
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try (EvaluationScope scope = EvaluationScope.open(pool)) {
+            concurrent = events(swap(true), observer);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(sequential.size(), concurrent.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(sequential.get(i).eventTime(), concurrent.get(i).eventTime());
+            assertEquals(sequential.get(i).eventType(), concurrent.get(i).eventType());
+            assertEquals(sequential.get(i).payoff(), concurrent.get(i).payoff(), 1e-10);
+            assertEquals(sequential.get(i).states().notionalPrincipal, concurrent.get(i).states().notionalPrincipal, 1e-10);
+        }
+    }
+
+    @Test
+    public void test_missing_second_leg() {
+        ContractModel swap = swap(false);
+        assertThrows(IndexOutOfBoundsException.class, () -> CompositeLegs.of(swap).secondLegModel());
+        assertThrows(IndexOutOfBoundsException.class, () -> Swap.schedule(LocalDateTime.parse("2014-01-01T00:00:00"), swap));
+    }
+}
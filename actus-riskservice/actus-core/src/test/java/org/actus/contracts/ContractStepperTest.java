@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.contracts;
+
+import org.actus.ContractTypeUnknownException;
+import org.actus.attributes.ContractModel;
+import org.actus.attributes.ContractModelProvider;
+import org.actus.events.ContractEvent;
+import org.actus.externals.RiskFactorModelProvider;
+import org.actus.states.StateSpace;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class ContractStepperTest {
+
+    class MarketModel implements RiskFactorModelProvider {
+        public Set<String> keys() {
+            return new HashSet<String>();
+        }
+
+        @Override
+        public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider contractAttributes, boolean isMarket) {
+            return 0.0;
+        }
+    }
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static Map<String, Object> terms(String contractType) {
+        Map<String, Object> map = new HashMap<String, Object>();
+        map.put("contractType", contractType);
+        map.put("contractID", "stepper-test");
+        map.put("calendar", "NoHolidayCalendar");
+        map.put("statusDate", "2016-01-01T00:00:00");
+        map.put("contractRole", "RPA");
+        map.put("legalEntityIDCounterparty", "CORP-XY");
+        map.put("dayCountConvention", "30E360");
+        map.put("currency", "USD");
+        map.put("initialExchangeDate", "2016-01-02T00:00:00");
+        map.put("maturityDate", "2019-01-02T00:00:00");
+        map.put("notionalPrincipal", "1000.0");
+        map.put("nominalInterestRate", "0.05");
+        map.put("cycleAnchorDateOfInterestPayment", "2016-07-02T00:00:00");
+        map.put("cycleOfInterestPayment", "P6ML0");
+        return map;
+    }
+
+    private void assertSameAsApply(Map<String, Object> map) {
+        MarketModel riskFactors = new MarketModel();
+        ContractModel model = ContractModel.parse(map);
+        ArrayList<ContractEvent> expected = ContractType.apply(ContractType.schedule(model.getAs("maturityDate"), model), model, riskFactors);
+
+        ContractStepper stepper = ContractStepper.of(ContractType.schedule(model.getAs("maturityDate"), model), model);
+        while (stepper.hasNext())
+            stepper.evalNext(riskFactors);
+        ArrayList<ContractEvent> stepped = stepper.events();
+
+        assertEquals(expected.size(), stepped.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).eventTime(), stepped.get(i).eventTime());
+            assertEquals(expected.get(i).eventType(), stepped.get(i).eventType());
+            assertEquals(expected.get(i).payoff(), stepped.get(i).payoff(), 1e-10);
+            assertEquals(expected.get(i).states().notionalPrincipal, stepped.get(i).states().notionalPrincipal, 1e-10);
+        }
+    }
+
+    @Test
+    public void test_PAM_stepped_as_applied() {
+        assertSameAsApply(terms("PAM"));
+    }
+
+    @Test
+    public void test_ANN_stepped_as_applied() {
+        Map<String, Object> map = terms("ANN");
+        map.put("cycleAnchorDateOfPrincipalRedemption", "2016-07-02T00:00:00");
+        map.put("cycleOfPrincipalRedemption", "P6ML0");
+        assertSameAsApply(map);
+    }
+
+    @Test
+    public void test_ANN_resumed_as_applied() {
+        MarketModel riskFactors = new MarketModel();
+        Map<String, Object> map = terms("ANN");
+        map.put("cycleAnchorDateOfPrincipalRedemption", "2016-07-02T00:00:00");
+        map.put("cycleOfPrincipalRedemption", "P6ML0");
+        ContractModel model = ContractModel.parse(map);
+        ArrayList<ContractEvent> expected = ContractType.apply(ContractType.schedule(model.getAs("maturityDate"), model), model, riskFactors);
+
+        // checkpoint after the events up to a time
+        ContractStepper stepper = ContractStepper.of(ContractType.schedule(model.getAs("maturityDate"), model), model);
+        while (!stepper.nextEventTime().isAfter(LocalDateTime.parse("2017-08-01T00:00:00")))
+            stepper.evalNext(riskFactors);
+        List<ContractEvent> evaluated = new ArrayList<ContractEvent>();
+        for (ContractEvent event : stepper.evaluated())
+            evaluated.add(event.copyEvaluated());
+        StateSpace states = StateSpace.copyStateSpace(stepper.states());
+
+        ContractStepper resumed = ContractStepper.resume(ContractType.schedule(model.getAs("maturityDate"), model), model, states, evaluated);
+        while (resumed.hasNext())
+            resumed.evalNext(riskFactors);
+        ArrayList<ContractEvent> stepped = resumed.events();
+
+        assertEquals(expected.size(), stepped.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).eventType(), stepped.get(i).eventType());
+            assertEquals(expected.get(i).payoff(), stepped.get(i).payoff(), 1e-10);
+            assertEquals(expected.get(i).states().notionalPrincipal, stepped.get(i).states().notionalPrincipal, 1e-10);
+        }
+    }
+
+    @Test
+    public void test_resume_changed_schedule_exception() {
+        thrown.expect(IllegalArgumentException.class);
+        MarketModel riskFactors = new MarketModel();
+        ContractModel model = ContractModel.parse(terms("PAM"));
+        ContractStepper stepper = ContractStepper.of(ContractType.schedule(model.getAs("maturityDate"), model), model);
+        stepper.evalNext(riskFactors);
+        stepper.evalNext(riskFactors);
+        List<ContractEvent> evaluated = new ArrayList<ContractEvent>(stepper.evaluated());
+        ArrayList<ContractEvent> changed = ContractType.schedule(model.getAs("maturityDate"), model);
+        // e.g. the terms changed the initial exchange
+        changed.removeIf(event -> event.eventTime().equals(evaluated.get(0).eventTime()));
+        ContractStepper.resume(changed, model, stepper.states(), evaluated);
+    }
+
+    @Test
+    public void test_events_before_last_step_exception() {
+        thrown.expect(IllegalStateException.class);
+        ContractModel model = ContractModel.parse(terms("PAM"));
+        ContractStepper stepper = ContractStepper.of(ContractType.schedule(model.getAs("maturityDate"), model), model);
+        stepper.evalNext(new MarketModel());
+        stepper.events();
+    }
+
+    @Test
+    public void test_unsupported_type_exception() {
+        thrown.expect(ContractTypeUnknownException.class);
+        Map<String, Object> map = terms("STK");
+        ContractModel model = ContractModel.parse(map);
+        assertFalse(ContractStepper.supports(model));
+        ContractStepper.of(new ArrayList<ContractEvent>(), model);
+    }
+}
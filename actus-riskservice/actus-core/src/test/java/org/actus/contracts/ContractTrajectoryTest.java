@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2016 - present by ACTUS Financial Research Foundation
+ *
+ * Please see distribution for license.
+ */
+package org.actus.contracts;
+
+import org.actus.attributes.ContractModelProvider;
+import org.actus.externals.RiskFactorModelProvider;
+import org.actus.states.StateSpace;
+import org.actus.types.ContractReference;
+import org.actus.types.ContractRole;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ContractTrajectoryTest {
+
+    class MarketModel implements RiskFactorModelProvider {
+        public Set<String> keys() {
+            return new HashSet<String>();
+        }
+
+        @Override
+        public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider contractAttributes, boolean isMarket) {
+            return 0.0;
+        }
+    }
+
+    private static Map<String, Object> reference() {
+        Map<String, Object> map = new HashMap<String, Object>();
+        map.put("contractType", "ANN");
+        map.put("contractID", "trajectory-test");
+        map.put("calendar", "NoHolidayCalendar");
+        map.put("statusDate", "2016-01-01T00:00:00");
+        map.put("legalEntityIDCounterparty", "CORP-XY");
+        map.put("dayCountConvention", "30E360");
+        map.put("currency", "USD");
+        map.put("initialExchangeDate", "2016-01-02T00:00:00");
+        map.put("maturityDate", "2019-01-02T00:00:00");
+        map.put("notionalPrincipal", "1000.0");
+        map.put("nominalInterestRate", "0.05");
+        map.put("cycleAnchorDateOfInterestPayment", "2016-07-02T00:00:00");
+        map.put("cycleOfInterestPayment", "P6ML0");
+        map.put("cycleAnchorDateOfPrincipalRedemption", "2016-07-02T00:00:00");
+        map.put("cycleOfPrincipalRedemption", "P6ML0");
+        Map<String, Object> reference = new HashMap<String, Object>();
+        reference.put("referenceRole", "COVE");
+        reference.put("referenceType", "CNT");
+        reference.put("object", map);
+        return reference;
+    }
+
+    @Test
+    public void test_trajectory_states_as_simulated_to_time() {
+        MarketModel riskFactors = new MarketModel();
+        ContractReference simulated = new ContractReference(reference(), ContractRole.BUY);
+        ContractReference trajectory = new ContractReference(reference(), ContractRole.BUY);
+        trajectory.simulate(LocalDateTime.parse("2019-06-01T00:00:00"), riskFactors);
+
+        // before inception, on and between events, and on maturity
+        for (LocalDateTime time = LocalDateTime.parse("2015-12-15T00:00:00");
+             time.isBefore(LocalDateTime.parse("2019-06-01T00:00:00")); time = time.plusDays(13)) {
+            StateSpace expected = simulated.getStateSpaceAtTimepoint(time, riskFactors);
+            StateSpace actual = trajectory.getStateSpaceAtTimepoint(time, riskFactors);
+            assertEquals(expected.notionalPrincipal, actual.notionalPrincipal, 1e-10);
+            assertEquals(expected.accruedInterest, actual.accruedInterest, 1e-10);
+        }
+        StateSpace expected = simulated.getStateSpaceAtTimepoint(LocalDateTime.parse("2017-07-02T00:00:00"), riskFactors);
+        StateSpace actual = trajectory.getStateSpaceAtTimepoint(LocalDateTime.parse("2017-07-02T00:00:00"), riskFactors);
+        assertEquals(expected.notionalPrincipal, actual.notionalPrincipal, 1e-10);
+        assertEquals(expected.accruedInterest, actual.accruedInterest, 1e-10);
+    }
+}
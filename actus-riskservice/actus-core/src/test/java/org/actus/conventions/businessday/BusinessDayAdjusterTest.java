@@ -6,16 +6,22 @@
 package org.actus.conventions.businessday;
 
 import org.actus.conventions.businessday.BusinessDayAdjuster;
+import org.actus.time.calendar.BusinessDayCalendarProvider;
+import org.actus.time.calendar.BusinessDayCalendars;
 import org.actus.time.calendar.NoHolidaysCalendar;
 import org.actus.time.calendar.MondayToFridayCalendar;
 import org.actus.types.BusinessDayConventionEnum;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class BusinessDayAdjusterTest {
 
@@ -739,4 +745,29 @@ public class BusinessDayAdjusterTest {
         assertEquals(expectedCalcTimes, shiftedCalcTimes);
     }
 
+    @Test
+    public void test_all_MondayToFridayWithHolidaysCalendar_precompiled() {
+        List<String> dates = Arrays.asList("2016-04-29", "2016-05-02", "2016-05-03", "2016-12-26", "2017-01-02", "2017-12-29");
+        Set<LocalDate> holidays = BusinessDayCalendars.holidays(dates);
+        BusinessDayCalendarProvider precompiled = BusinessDayCalendars.mondayToFridayWithHolidays(holidays);
+        // the same calendar, shifting day by day
+        BusinessDayCalendarProvider stepwise = date -> date.getDayOfWeek().getValue() < 6 && !holidays.contains(date.toLocalDate());
+
+        // calendars are shared for the same holidays
+        assertEquals(holidays, BusinessDayCalendars.holidays(new ArrayList<Object>(dates)));
+        assertSame(precompiled, BusinessDayCalendars.mondayToFridayWithHolidays(holidays));
+
+        // before, within and after the holidays, keeping the time of day
+        for (BusinessDayConventionEnum convention : BusinessDayConventionEnum.values()) {
+            BusinessDayAdjuster expected = new BusinessDayAdjuster(convention, stepwise);
+            BusinessDayAdjuster actual = new BusinessDayAdjuster(convention, precompiled);
+            for (LocalDateTime time = LocalDateTime.of(2016, 3, 1, 12, 30);
+                 time.isBefore(LocalDateTime.of(2018, 3, 1, 0, 0)); time = time.plusDays(1)) {
+                assertEquals(stepwise.isBusinessDay(time), precompiled.isBusinessDay(time));
+                assertEquals(expected.shiftEventTime(time), actual.shiftEventTime(time));
+                assertEquals(expected.shiftCalcTime(time), actual.shiftCalcTime(time));
+            }
+        }
+    }
+
 }
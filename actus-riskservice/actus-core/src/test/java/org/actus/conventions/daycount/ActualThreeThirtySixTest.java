@@ -6,6 +6,7 @@
 package org.actus.conventions.daycount;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -45,4 +46,16 @@ public class ActualThreeThirtySixTest {
         double result =0.44345238095238093; // 149 divided by 336
         assertEquals(result, convention.dayCountFraction(localDate1,localDate3),0.0);
     }
+
+    @Test
+    public void test_dayCountFraction_ActualThreeThirtySix_epochSeconds() {
+        // at and between full hours, also backwards
+        for (LocalDateTime start = LocalDateTime.parse("2019-01-28T00:00:00");
+             start.isBefore(LocalDateTime.parse("2019-03-05T00:00:00")); start = start.plusHours(23)) {
+            for (LocalDateTime end = start.minusMonths(14); end.isBefore(start.plusMonths(26)); end = end.plusDays(1)) {
+                assertEquals(convention.dayCountFraction(start, end),
+                        convention.dayCountFraction(start.toEpochSecond(ZoneOffset.UTC), end.toEpochSecond(ZoneOffset.UTC)), 0);
+            }
+        }
+    }
 }
@@ -7,6 +7,7 @@
 package org.actus.conventions.daycount;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -59,4 +60,17 @@ public class TwentyEightThreeThirtySixTest {
 		double result = 0.24702380952380953; // 83 divided by 336 (not leap year basis)
 		assertEquals(result, convention.dayCountFraction(localDate1, localDate4), 0);
 	}
+
+    @Test
+    public void test_dayCountFraction_TwentyEightThreeThirtySix_epochSeconds() {
+        convention.maturityDate(LocalDateTime.parse("2021-02-28T00:00:00"));
+        // month ends and leap days, ending on the maturity or not
+        for (LocalDateTime start = LocalDateTime.parse("2019-12-28T00:00:00");
+             start.isBefore(LocalDateTime.parse("2020-03-05T00:00:00")); start = start.plusHours(23)) {
+            for (LocalDateTime end = start.minusMonths(14); end.isBefore(start.plusMonths(26)); end = end.plusDays(1)) {
+                assertEquals(convention.dayCountFraction(start, end),
+                        convention.dayCountFraction(start.toEpochSecond(ZoneOffset.UTC), end.toEpochSecond(ZoneOffset.UTC)), 0);
+            }
+        }
+    }
 }
@@ -0,0 +1,24 @@
+package org.actus.risksrv3.controllers;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * BulkLoadValidationException
+ *
+ * Thrown when a /bulkLoad bundle has unresolved cross-references (unknown model
+ * types, missing risk factor IDs, market object codes not provided by the
+ * scenario's reference indexes). Nothing of the bundle is persisted.
+ * Maps to HTTP 400.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class BulkLoadValidationException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    BulkLoadValidationException(List<String> errors) {
+        super("Bulk load rejected, " + errors.size() + " error(s): " + String.join("; ", errors));
+    }
+}
@@ -1,6 +1,7 @@
 package org.actus.risksrv3.controllers;
 import  org.actus.risksrv3.models.ReferenceIndex;
 import  org.actus.risksrv3.models.Scenario;
+import  org.actus.risksrv3.models.StochasticScenarioData;
 import  org.actus.risksrv3.models.TwoDimensionalPrepaymentModelData;
 import  org.actus.risksrv3.models.TwoDimensionalDepositTrxModelData;
 import  org.actus.risksrv3.models.CollateralLTVModelData;
@@ -53,6 +54,7 @@ import  org.actus.risksrv3.models.dynamicdiscounting1.CashPoolOptimizationModelD
 // ====== END DYNAMIC DISCOUNTING MODEL IMPORTS ======
 import  org.actus.risksrv3.repository.ReferenceIndexStore;
 import  org.actus.risksrv3.repository.ScenarioStore;
+import  org.actus.risksrv3.repository.StochasticScenarioStore;
 import  org.actus.risksrv3.repository.TwoDimensionalPrepaymentModelStore;
 import  org.actus.risksrv3.repository.TwoDimensionalDepositTrxModelStore;
 import  org.actus.risksrv3.repository.CollateralLTVModelStore;
@@ -103,12 +105,44 @@ import  org.actus.risksrv3.repository.dynamicdiscounting1.SupplierUrgencyModelSt
 import  org.actus.risksrv3.repository.dynamicdiscounting1.FactoringDecisionModelStore;
 import  org.actus.risksrv3.repository.dynamicdiscounting1.CashPoolOptimizationModelStore;
 // ====== END DYNAMIC DISCOUNTING STORE IMPORTS ======
+import  org.actus.risksrv3.models.BulkLoadBundle;
+import  org.actus.risksrv3.models.RiskFactorDescriptor;
+import  org.actus.risksrv3.models.TimeValuePair;
+import  org.actus.risksrv3.utils.ModelReferences;
+import  org.actus.risksrv3.utils.ObservationStreamReader;
+import  org.bson.Document;
 import  org.springframework.beans.factory.annotation.Autowired;
 import  org.springframework.beans.factory.annotation.Value;
+import  org.springframework.data.domain.Sort;
+import  org.springframework.data.mongodb.core.BulkOperations;
+import  org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import  org.springframework.data.mongodb.core.MongoTemplate;
+import  org.springframework.data.mongodb.core.query.Criteria;
+import  org.springframework.data.mongodb.core.query.Query;
+import  org.springframework.data.mongodb.core.query.Update;
+import  org.springframework.data.mongodb.repository.MongoRepository;
 import  org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
 
 //Annotation 
 @RestController
@@ -118,6 +152,19 @@ public class RiskDataManager {
 	@Autowired
 	private ScenarioStore scenarioStore;
 	@Autowired
+	private StochasticScenarioStore stochasticScenarioStore;
+	// absent under the "inmemory" profile
+	@Autowired(required = false)
+	private MongoTemplate mongoTemplate;
+	@Autowired
+	private RiskObservationHandler riskObservationHandler;
+	// ReferenceIndex id -> lock held while observations are appended to it, so that concurrent appends 
+	// to one index neither lose a read-merge-save nor interleave the pull and push of a bulk write. 
+	// Appends through other risk service instances sharing the database are not serialized
+	private final ConcurrentHashMap<String,Object> appendLocks = new ConcurrentHashMap<String,Object>();
+	@Autowired
+	private ObjectMapper objectMapper;
+	@Autowired
 	private TwoDimensionalPrepaymentModelStore twoDimensionalPrepaymentModelStore;
 	@Autowired
 	private TwoDimensionalDepositTrxModelStore twoDimensionalDepositTrxModelStore;
@@ -217,6 +264,70 @@ public class RiskDataManager {
 	@Value("${spring.data.mongodb.port}")
 	Integer mongodbPort;
 	
+	// when true ReferenceIndex observations are stored in the compact binary form (see ObservationCodec)
+	private
+	@Value("${risksrv3.referenceIndex.packed:false}")
+	boolean packReferenceIndexes;
+	
+	// time bucket of the blocks packed observations are chunked in, 0 for a single block
+	private
+	@Value("${risksrv3.referenceIndex.bucketSeconds:86400}")
+	int referenceIndexBucketSeconds;
+	
+	// riskFactorType (as in scenario descriptors) -> store and document class, used by /bulkLoad
+	private final Map<String, MongoRepository<?,String>> modelStores = new LinkedHashMap<String, MongoRepository<?,String>>();
+	private final Map<String, Class<?>> modelClasses = new HashMap<String, Class<?>>();
+	
+	@PostConstruct
+	void registerModelTypes() {
+		registerModelType("TwoDimensionalPrepaymentModel", twoDimensionalPrepaymentModelStore, TwoDimensionalPrepaymentModelData.class);
+		registerModelType("TwoDimensionalDepositTrxModel", twoDimensionalDepositTrxModelStore, TwoDimensionalDepositTrxModelData.class);
+		registerModelType("CollateralLTVModel", collateralLTVModelStore, CollateralLTVModelData.class);
+		registerModelType("BufferLTVModel", bufferLTVModelStore, BufferLTVModelData.class);
+		registerModelType("BackingRatioModel", backingRatioModelStore, BackingRatioModelData.class);
+		registerModelType("RedemptionPressureModel", redemptionPressureModelStore, RedemptionPressureModelData.class);
+		registerModelType("MaturityLadderModel", maturityLadderModelStore, MaturityLadderModelData.class);
+		registerModelType("AssetQualityModel", assetQualityModelStore, AssetQualityModelData.class);
+		registerModelType("ConcentrationDriftModel", concentrationDriftModelStore, ConcentrationDriftModelData.class);
+		registerModelType("ComplianceDriftModel", complianceDriftModelStore, ComplianceDriftModelData.class);
+		registerModelType("EarlyWarningModel", earlyWarningModelStore, EarlyWarningModelData.class);
+		registerModelType("ContinuousAttestationModel", continuousAttestationModelStore, ContinuousAttestationModelData.class);
+		registerModelType("AllocationDriftModel", allocationDriftModelStore, AllocationDriftModelData.class);
+		registerModelType("LiquidityBufferModel", liquidityBufferModelStore, LiquidityBufferModelData.class);
+		registerModelType("PegStressModel", pegStressModelStore, PegStressModelData.class);
+		registerModelType("RegulatoryDeRiskModel", regulatoryDeRiskModelStore, RegulatoryDeRiskModelData.class);
+		registerModelType("YieldArbitrageModel", yieldArbitrageModelStore, YieldArbitrageModelData.class);
+		registerModelType("CashConversionCycleModel", cashConversionCycleModelStore, CashConversionCycleModelData.class);
+		registerModelType("FairValueComplianceModel", fairValueComplianceModelStore, FairValueComplianceModelData.class);
+		registerModelType("IntegratedStressModel", integratedStressModelStore, IntegratedStressModelData.class);
+		registerModelType("ScheduledCashFlowModel", scheduledCashFlowModelStore, ScheduledCashFlowModelData.class);
+		registerModelType("TariffSpreadModel", tariffSpreadModelStore, TariffSpreadModelData.class);
+		registerModelType("WorkingCapitalStressModel", workingCapitalStressModelStore, WorkingCapitalStressModelData.class);
+		registerModelType("HedgeEffectivenessModel", hedgeEffectivenessModelStore, HedgeEffectivenessModelData.class);
+		registerModelType("RevenueElasticityModel", revenueElasticityModelStore, RevenueElasticityModelData.class);
+		registerModelType("FXTariffCorrelationModel", fxTariffCorrelationModelStore, FXTariffCorrelationModelData.class);
+		registerModelType("PortCongestionModel", portCongestionModelStore, PortCongestionModelData.class);
+		registerModelType("HealthFactorModel", healthFactorModelStore, HealthFactorModelData.class);
+		registerModelType("CollateralVelocityModel", collateralVelocityModelStore, CollateralVelocityModelData.class);
+		registerModelType("CollateralRebalancingModel", collateralRebalancingModelStore, CollateralRebalancingModelData.class);
+		registerModelType("CorrelationRiskModel", correlationRiskModelStore, CorrelationRiskModelData.class);
+		registerModelType("CascadeProbabilityModel", cascadeProbabilityModelStore, CascadeProbabilityModelData.class);
+		registerModelType("GasOptimizationModel", gasOptimizationModelStore, GasOptimizationModelData.class);
+		registerModelType("InvoiceMaturityModel", invoiceMaturityModelStore, InvoiceMaturityModelData.class);
+		registerModelType("EarlySettlement", earlySettlementModelStore, EarlySettlementModelData.class);
+		registerModelType("PenaltyAccrual", penaltyAccrualModelStore, PenaltyAccrualModelData.class);
+		registerModelType("OptimalPaymentTiming", optimalPaymentTimingModelStore, OptimalPaymentTimingModelData.class);
+		registerModelType("SupplierUrgency", supplierUrgencyModelStore, SupplierUrgencyModelData.class);
+		registerModelType("FactoringDecision", factoringDecisionModelStore, FactoringDecisionModelData.class);
+		registerModelType("CashPoolOptimization", cashPoolOptimizationModelStore, CashPoolOptimizationModelData.class);
+		registerModelType("StochasticScenario", stochasticScenarioStore, StochasticScenarioData.class);
+	}
+	
+	private void registerModelType(String riskFactorType, MongoRepository<?,String> store, Class<?> dataClass) {
+		modelStores.put(riskFactorType, store);
+		modelClasses.put(riskFactorType, dataClass);
+	}
+	
 	// demonstrate access to application properties 
 	@GetMapping("/propertiesMongoHost")
 	public String doPropertiesMongoHost ( ) {
@@ -228,11 +339,78 @@ public class RiskDataManager {
 		return ( "Value of mongodbPort = " + mongodbPort + "\n");
 	}
 	
+	// observations are stored sorted, one per time and with times in the form appended ones take 
+	// (see ObservationStreamReader), so that appends deduplicate against them on the time string
 	@PostMapping("/addReferenceIndex")
     public String saveReferenceIndex(@RequestBody ReferenceIndex referenceIndex){
+		if (referenceIndex.getData() != null)
+			referenceIndex.setData(ObservationStreamReader.normalize(referenceIndex.getData()));
+		if (packReferenceIndexes)
+			referenceIndex.pack(referenceIndexBucketSeconds);
         referenceIndexStore.save(referenceIndex);      
         return "ReferenceIndex added Successfully\n";
     }	
+	// Append observations to a stored ReferenceIndex without re-posting its history. The body is streamed 
+	// line by line: NDJSON {"time": .., "value": ..} objects or CSV time,value records (optional header).
+	// Observations are deduplicated on time, the appended value replacing any stored one, and kept sorted.
+	// If the index belongs to the active scenario its compiled series is updated in place.
+	// Appends to one index are serialized, as each reads what the one before wrote (see appendLocks).
+	@PostMapping(value = "/appendReferenceIndex/{id}", 
+			consumes = {"application/x-ndjson", "text/csv", "text/plain"})
+    public String appendReferenceIndex(@PathVariable String id, Reader body) throws IOException {
+		List<TimeValuePair> observations = ObservationStreamReader.read(body);
+		if (observations.isEmpty())
+			return "No observations to append to ReferenceIndex " + id + "\n";
+		synchronized (appendLocks.computeIfAbsent(id, key -> new Object())) {
+			appendObservations(id, observations);
+			riskObservationHandler.appendMarketObservations(id, observations);
+		}
+        return observations.size() + " observations appended to ReferenceIndex " + id + "\n";
+    }
+	
+	private void appendObservations(String id, List<TimeValuePair> observations) {
+		// read only the storage header, not the observations
+		ReferenceIndex header;
+		if (mongoTemplate != null) {
+			Query byId = Query.query(Criteria.where("_id").is(id));
+			byId.fields().include("encoding");
+			header = mongoTemplate.findOne(byId, ReferenceIndex.class);
+		}
+		else 
+			header = referenceIndexStore.findById(id).orElse(null);
+		if (header == null)
+			throw new ReferenceIndexNotFoundException(id);
+		
+		if (mongoTemplate == null || header.getEncoding() != null) {
+			// packed observations live in one binary field (and in-memory stores hold whole 
+			// documents) - merge and rewrite it
+			ReferenceIndex rfx = (mongoTemplate == null) ? header : referenceIndexStore.findById(id).get();
+			if (!rfx.appendPacked(observations)) {
+				TreeMap<LocalDateTime,Double> merged = new TreeMap<LocalDateTime,Double>();
+				for (TimeValuePair tv : rfx.getData())
+					merged.put(LocalDateTime.parse(tv.getTime()), tv.getValue());
+				for (TimeValuePair tv : observations)
+					merged.put(LocalDateTime.parse(tv.getTime()), tv.getValue());
+				rfx.setData(ObservationStreamReader.toList(merged));
+				rfx.pack(referenceIndexBucketSeconds);
+			}
+			referenceIndexStore.save(rfx);
+		}
+		else {
+			// one ordered bulk write: drop stored observations at the appended times, then push 
+			// the new ones keeping the data array sorted on time. Stored and appended times are in 
+			// the same form, so equal times have equal strings and the strings sort in time order
+			List<String> times = new ArrayList<String>();
+			for (TimeValuePair tv : observations)
+				times.add(tv.getTime());
+			BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, ReferenceIndex.class);
+			bulk.updateOne(Query.query(Criteria.where("_id").is(id)),
+					new Update().pull("data", new Document("time", new Document("$in", times))));
+			bulk.updateOne(Query.query(Criteria.where("_id").is(id)),
+					new Update().push("data").sort(Sort.by("time")).each(observations.toArray()));
+			bulk.execute();
+		}
+	}
 	// Path parameter id is ReferenceIndexID  i.e. riskFactorType == "ReferenceIndex" in any descriptor 
     @DeleteMapping("/deleteReferenceIndex/{id}")
     public String deleteReferenceIndex(@PathVariable String id){
@@ -271,6 +449,180 @@ public class RiskDataManager {
     public List<Scenario> getScenarios() {
         return scenarioStore.findAll();
     }
+
+    // Upload reference indexes, models of any registered riskFactorType and scenarios in one request.
+    // The bundle is validated first: every scenario descriptor must resolve to a reference index or
+    // model in the bundle or already stored, and every market object code a scenario's models read
+    // must be provided by one of its reference indexes. Nothing is saved if validation fails.
+    // Each collection is then written with a single unordered bulk upsert (saveAll when in memory).
+	@PostMapping("/bulkLoad")
+    public String bulkLoad(@RequestBody BulkLoadBundle bundle) {
+		List<String> errors = new ArrayList<String>();
+
+		Map<String,ReferenceIndex> referenceIndexes = new LinkedHashMap<String,ReferenceIndex>();
+		for (ReferenceIndex rfx : bundle.getReferenceIndexes()) {
+			if (rfx.getRiskFactorID() == null) {
+				errors.add("ReferenceIndex without riskFactorID");
+				continue;
+			}
+			// stored as by /addReferenceIndex
+			try {
+				if (rfx.getData() != null)
+					rfx.setData(ObservationStreamReader.normalize(rfx.getData()));
+			} catch (DateTimeParseException e) {
+				errors.add("ReferenceIndex " + rfx.getRiskFactorID() + ": invalid time " + e.getParsedString());
+			}
+			referenceIndexes.put(rfx.getRiskFactorID(), rfx);
+		}
+		// models: riskFactorType -> id -> document
+		Map<String, Map<String,Object>> models = new LinkedHashMap<String, Map<String,Object>>();
+		for (Map.Entry<String, List<Map<String,Object>>> entry : bundle.getModels().entrySet()) {
+			String riskFactorType = entry.getKey();
+			Class<?> dataClass = modelClasses.get(riskFactorType);
+			if (dataClass == null) {
+				errors.add("unknown model type " + riskFactorType);
+				continue;
+			}
+			Map<String,Object> documents = new LinkedHashMap<String,Object>();
+			for (Map<String,Object> json : entry.getValue()) {
+				Object document;
+				try {
+					document = objectMapper.convertValue(json, dataClass);
+				} catch (IllegalArgumentException e) {
+					errors.add("invalid " + riskFactorType + " " + json.get("riskFactorId") + ": " + e.getMessage());
+					continue;
+				}
+				String id = ModelReferences.idOf(document);
+				if (id == null)
+					errors.add(riskFactorType + " without riskFactorId");
+				else
+					documents.put(id, document);
+			}
+			models.put(riskFactorType, documents);
+		}
+		for (Scenario scenario : bundle.getScenarios()) {
+			validateScenario(scenario, referenceIndexes, models, errors);
+		}
+		if (!errors.isEmpty()) {
+			System.out.println("**** fnp040 bulkLoad rejected: " + errors);
+			throw new BulkLoadValidationException(errors);
+		}
+
+		if (packReferenceIndexes) {
+			for (ReferenceIndex rfx : referenceIndexes.values())
+				rfx.pack(referenceIndexBucketSeconds);
+		}
+		int count = bulkSave(referenceIndexStore, ReferenceIndex.class, referenceIndexes.values());
+		for (Map.Entry<String, Map<String,Object>> entry : models.entrySet()) {
+			count += bulkSave(modelStores.get(entry.getKey()), modelClasses.get(entry.getKey()), entry.getValue().values());
+		}
+		count += bulkSave(scenarioStore, Scenario.class, bundle.getScenarios());
+		System.out.println("**** fnp041 bulkLoad saved " + referenceIndexes.size() + " reference indexes, "
+				+ (count - referenceIndexes.size() - bundle.getScenarios().size()) + " models, "
+				+ bundle.getScenarios().size() + " scenarios");
+        return "Bulk load of " + count + " documents completed successfully\n";
+    }
+
+	// checks one scenario of a bulk load bundle; stored documents are looked up only for ids not in the bundle
+	private void validateScenario(Scenario scenario, Map<String,ReferenceIndex> referenceIndexes,
+			Map<String, Map<String,Object>> models, List<String> errors) {
+		String sid = scenario.getScenarioID();
+		if (sid == null) {
+			errors.add("Scenario without scenarioID");
+			return;
+		}
+		if (scenario.getRiskFactorDescriptors() == null)
+			return;
+		Set<String> mocs = new HashSet<String>();
+		Set<String> modelIds = new HashSet<String>();
+		List<Object> scenarioModels = new ArrayList<Object>();
+		for (RiskFactorDescriptor rfd : scenario.getRiskFactorDescriptors()) {
+			String rfid = rfd.getRiskFactorID();
+			String riskFactorType = rfd.getRiskFactorType();
+			if (riskFactorType.equals("ReferenceIndex")) {
+				ReferenceIndex rfx = referenceIndexes.get(rfid);
+				if (rfx == null)
+					rfx = referenceIndexStore.findById(rfid).orElse(null);
+				if (rfx == null)
+					errors.add("scenario " + sid + ": ReferenceIndex " + rfid + " not found");
+				else if (!mocs.add(rfx.getMarketObjectCode()))
+					errors.add("scenario " + sid + ": " + rfx.getMarketObjectCode() + " is provided more than once");
+				continue;
+			}
+			MongoRepository<?,String> store = modelStores.get(riskFactorType);
+			if (store == null) {
+				errors.add("scenario " + sid + ": unknown riskFactorType " + riskFactorType + " for " + rfid);
+				continue;
+			}
+			Object model = models.getOrDefault(riskFactorType, Collections.emptyMap()).get(rfid);
+			if (model == null)
+				model = store.findById(rfid).orElse(null);
+			if (model == null) {
+				errors.add("scenario " + sid + ": " + riskFactorType + " " + rfid + " not found");
+				continue;
+			}
+			if (model instanceof StochasticScenarioData) {
+				// provides market object codes like a ReferenceIndex
+				for (String moc : ((StochasticScenarioData) model).marketObjectCodes()) {
+					if (!mocs.add(moc))
+						errors.add("scenario " + sid + ": " + moc + " is provided more than once");
+				}
+				continue;
+			}
+			modelIds.add(rfid);
+			scenarioModels.add(model);
+		}
+		for (Object model : scenarioModels) {
+			String rfid = ModelReferences.idOf(model);
+			for (String moc : ModelReferences.marketObjectCodes(model)) {
+				if (!mocs.contains(moc))
+					errors.add("scenario " + sid + ": model " + rfid + " reads " + moc
+							+ " which no ReferenceIndex of the scenario provides");
+			}
+			for (String mid : ModelReferences.modelIds(model)) {
+				if (!modelIds.contains(mid))
+					errors.add("scenario " + sid + ": model " + rfid + " refers to model " + mid
+							+ " which is not in the scenario");
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private int bulkSave(MongoRepository<?,String> store, Class<?> documentClass, Collection<?> documents) {
+		if (documents.isEmpty())
+			return 0;
+		if (mongoTemplate == null) {
+			((MongoRepository<Object,String>) store).saveAll((Collection<Object>) documents);
+			return documents.size();
+		}
+		BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, documentClass);
+		for (Object document : documents) {
+			bulk.replaceOne(Query.query(Criteria.where("_id").is(ModelReferences.idOf(document))),
+					document, FindAndReplaceOptions.options().upsert());
+		}
+		bulk.execute();
+		return documents.size();
+	}
+    
+    // Path parameter id is a StochasticScenarioID i.e. riskFactorType == "StochasticScenario" in any descriptor
+	@PostMapping("/addStochasticScenario")
+    public String saveStochasticScenario(@RequestBody StochasticScenarioData stochasticScenarioData){
+        stochasticScenarioStore.save(stochasticScenarioData);      
+        return "StochasticScenario added successfully\n";
+    }	
+    @DeleteMapping("/deleteStochasticScenario/{id}")
+    public String deleteStochasticScenario(@PathVariable String id){
+        stochasticScenarioStore.deleteById(id);      
+        return "StochasticScenario deleted successfully\n";
+    }
+    @GetMapping("/findStochasticScenario/{id}")
+    public Optional<StochasticScenarioData> findStochasticScenario(@PathVariable String id) {
+    	 return  stochasticScenarioStore.findById(id);
+    }
+    @GetMapping("/findAllStochasticScenarios")
+    public List<StochasticScenarioData> getStochasticScenarios() {
+        return stochasticScenarioStore.findAll();
+    }
     
     // Path Parameter id is here a TwoParameterPrepaymentModelID 
     //i.e.  a String riskFactorID  with associated riskFactorType == "TwoDimensionalPrepaymentModel" 
@@ -0,0 +1,63 @@
+package org.actus.risksrv3.controllers;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Version of the risk data held by risksrv3, for clients caching simulation results (actus-service).
+// Every request changing stored data - the non GET endpoints of RiskDataManager and SnapshotController - 
+// moves the version on, both when it starts and when it completes, so that a result computed while data 
+// was changing is never filed under the version that follows. The version starts from the startup time, 
+// so that versions reported before a restart are never reported again. Changes of the active scenario 
+// that alter market lookups without changing stored data - selecting another stochastic path - move the 
+// version on through changed( ). Data written to the store by other means than these endpoints is not tracked.
+@RestController
+@Configuration
+public class RiskDataVersion implements WebMvcConfigurer {
+	
+	private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+	private final AtomicLong changes = new AtomicLong();
+	
+	@GetMapping("/dataVersion")
+	String doDataVersion() {
+		return epoch + "-" + changes.get();
+	}
+	
+	// called before and after a change of the active scenario's market lookups
+	void changed() {
+		changes.incrementAndGet();
+	}
+	
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new HandlerInterceptor() {
+			@Override
+			public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+				if (changesData(request, handler))
+					changes.incrementAndGet();
+				return true;
+			}
+			@Override
+			public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+				if (changesData(request, handler))
+					changes.incrementAndGet();
+			}
+		});
+	}
+	
+	private static boolean changesData(HttpServletRequest request, Object handler) {
+		if (!(handler instanceof HandlerMethod) || "GET".equals(request.getMethod()))
+			return false;
+		Class<?> controller = ((HandlerMethod) handler).getBeanType();
+		return controller == RiskDataManager.class || controller == SnapshotController.class;
+	}
+}
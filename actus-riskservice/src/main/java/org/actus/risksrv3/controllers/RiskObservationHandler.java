@@ -1,19 +1,35 @@
 package org.actus.risksrv3.controllers;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.TreeSet;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.actus.risksrv3.core.attributes.ContractModel;
 import org.actus.risksrv3.core.states.StateSpace;
 import org.actus.risksrv3.models.BatchStartInput;
 import org.actus.risksrv3.models.BehaviorStateAtInput;
+import org.actus.risksrv3.models.BehaviorStepInput;
 import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.MarketData;
+import org.actus.risksrv3.models.MarketStatesAtInput;
 import org.actus.risksrv3.models.OldScenario;
 import org.actus.risksrv3.models.Scenario;
 import org.actus.risksrv3.models.TwoDimensionalPrepaymentModelData;
@@ -24,6 +40,8 @@ import org.actus.risksrv3.models.ReferenceIndex;
 import org.actus.risksrv3.models.RiskFactorDescriptor;
 import org.actus.risksrv3.models.ScenarioDescriptor;
 import org.actus.risksrv3.models.StateAtInput;
+import org.actus.risksrv3.models.StochasticScenarioData;
+import org.actus.risksrv3.models.TimeValuePair;
 // ====== STABLECOIN MODEL DATA IMPORTS ======
 import org.actus.risksrv3.models.stablecoin.BackingRatioModelData;
 import org.actus.risksrv3.models.stablecoin.RedemptionPressureModelData;
@@ -72,6 +90,7 @@ import org.actus.risksrv3.models.dynamicdiscounting1.CashPoolOptimizationModelDa
 // ====== END DYNAMIC DISCOUNTING MODEL DATA IMPORTS ======
 import org.actus.risksrv3.repository.ReferenceIndexStore;
 import org.actus.risksrv3.repository.ScenarioStore;
+import org.actus.risksrv3.repository.StochasticScenarioStore;
 import org.actus.risksrv3.repository.TwoDimensionalPrepaymentModelStore;
 import org.actus.risksrv3.repository.TwoDimensionalDepositTrxModelStore;
 import org.actus.risksrv3.repository.CollateralLTVModelStore;
@@ -123,7 +142,16 @@ import org.actus.risksrv3.repository.dynamicdiscounting1.FactoringDecisionModelS
 import org.actus.risksrv3.repository.dynamicdiscounting1.CashPoolOptimizationModelStore;
 // ====== END DYNAMIC DISCOUNTING STORE IMPORTS ======
 import org.actus.risksrv3.utils.MultiBehaviorRiskModel;
+import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
+import org.actus.risksrv3.utils.CalloutPruner;
+import org.actus.risksrv3.utils.ModelReferences;
+import org.actus.risksrv3.utils.ResolvedMarket;
+import org.actus.risksrv3.utils.PrunableBehaviorModel;
+import org.actus.risksrv3.utils.MarketShockOverlay;
+import org.actus.risksrv3.utils.MarketRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.StochasticPathGenerator;
+import org.actus.risksrv3.utils.StochasticPaths;
 import org.actus.risksrv3.utils.TimeSeriesModel;
 import org.actus.risksrv3.utils.TwoDimensionalPrepaymentModel;
 import org.actus.risksrv3.utils.TwoDimensionalDepositTrxModel;
@@ -176,12 +204,16 @@ import org.actus.risksrv3.utils.dynamicdiscounting1.FactoringDecisionModel;
 import org.actus.risksrv3.utils.dynamicdiscounting1.CashPoolOptimizationModel;
 // ====== END DYNAMIC DISCOUNTING MODEL UTIL IMPORTS ======
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import jakarta.annotation.PreDestroy;
+
 //actus-riskservice version of the RiskObservation processing 
 
 //Annotation 
@@ -192,6 +224,10 @@ public class RiskObservationHandler {
 	@Autowired
 	private ScenarioStore scenarioStore;
 	@Autowired
+	private StochasticScenarioStore stochasticScenarioStore;
+	@Autowired
+	private RiskDataVersion riskDataVersion;
+	@Autowired
 	private TwoDimensionalPrepaymentModelStore twoDimensionalPrepaymentModelStore;
 	@Autowired
 	private TwoDimensionalDepositTrxModelStore twoDimensionalDepositTrxModelStore;
@@ -282,6 +318,23 @@ public class RiskObservationHandler {
 	@Autowired
 	private CashPoolOptimizationModelStore cashPoolOptimizationModelStore;
 	// ====== END DYNAMIC DISCOUNTING MODEL STORES ======
+	
+	// default for the prune parameter of /contractSimulationStart
+	private
+	@Value("${risksrv3.callouts.prune:false}")
+	boolean pruneCallouts;
+	
+	// when true the market inputs of activated models are resolved at their callout times at contract start
+	private
+	@Value("${risksrv3.market.preresolve:true}")
+	boolean preResolveMarket;
+	
+	// runs the blocking ReferenceIndex query of a scenario start, kept off the common ForkJoinPool
+	private final ExecutorService referenceIndexLoader = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "risksrv3-reference-index-loader");
+		thread.setDaemon(true);
+		return thread;
+	});
 
 // local state attributes and objects 
 // these are the state variables used for processing simulation requests 
@@ -289,6 +342,11 @@ public class RiskObservationHandler {
 	private MultiMarketRiskModel    currentMarketModel;
 	private MultiBehaviorRiskModel 	currentBehaviorModel;
 	private HashSet<String>	        currentActivatedModels = new HashSet<String>();
+	// riskFactorID -> marketObjectCode of each ReferenceIndex loaded into currentMarketModel
+	private HashMap<String,String>  currentReferenceIndexes = new HashMap<String,String>();
+	// generated Monte Carlo paths of each StochasticScenario descriptor, and the path selected for lookups without one
+	private LinkedHashMap<String,StochasticPaths> currentStochasticPaths = new LinkedHashMap<String,StochasticPaths>();
+	private volatile int            currentStochasticPath = 0;
 	
 // handler for /rf2/eventsBatch callout processing 	
 	@GetMapping("/marketData/{scid}")
@@ -304,15 +362,13 @@ public class RiskObservationHandler {
 		else
 			{ throw new ScenarioNotFoundException(scid);}
 		List<RiskFactorDescriptor> rfdl = scn.getRiskFactorDescriptors();
+		Map<String,ReferenceIndex> rfxm = findReferenceIndexes(rfdl);
 		Set<String>  mocl  = new HashSet<> ();
 		for (RiskFactorDescriptor rfd : rfdl ) {
 			if (rfd.getRiskFactorType().equals("ReferenceIndex") ) {
-				Optional<ReferenceIndex> orfx =  this.referenceIndexStore.findById(rfd.getRiskFactorID());
-				ReferenceIndex rfx;
-				if (orfx.isPresent()) 
-					{ rfx = orfx.get(); 
-					System.out.println("**** fnp202 found rfx ; rfxid = " + rfx.getRiskFactorID());
-					}
+				ReferenceIndex rfx = rfxm.get(rfd.getRiskFactorID());
+				if (rfx != null) 
+					{ System.out.println("**** fnp202 found rfx ; rfxid = " + rfx.getRiskFactorID()); }
 				else
 					{ throw new ReferenceIndexNotFoundException(rfd.getRiskFactorID());}
 				rfxl.add(rfx);
@@ -347,24 +403,112 @@ public class RiskObservationHandler {
 		  // Process the scenario to create MultiMarketRiskModel and multiBehaviorRiskModel
 		  this.currentMarketModel = new MultiMarketRiskModel();
 		  this.currentBehaviorModel = new MultiBehaviorRiskModel();
+		  // a restart falls back to path 0; results computed on a selected path must not be reused
+		  if (this.currentStochasticPath != 0)
+			  this.riskDataVersion.changed();
+		  this.currentStochasticPaths.clear();
+		  this.currentStochasticPath = 0;
 		  
-		  // a scenario has a list of RiskFactorDescriptors
-		  for (RiskFactorDescriptor rfd : scn.getRiskFactorDescriptors()) {
-			  String rfxid = rfd.getRiskFactorID();
-			  System.out.println("**** fnp2041 found rfid= " + rfxid + " rfd: " + rfd.toString() ); 
+		  // all ReferenceIndexes of the scenario are fetched with a single findAllById query,
+		  // run on referenceIndexLoader while the behavior models are constructed. Their
+		  // constructors only bind the marketObjectCodes they read (handle()); the market model
+		  // is populated once the query completes and checkBound() then verifies every binding
+		  List<RiskFactorDescriptor> rfdl = scn.getRiskFactorDescriptors();
+		  CompletableFuture<Map<String,ReferenceIndex>> rfxFuture = 
+				  CompletableFuture.supplyAsync(() -> findReferenceIndexes(rfdl), this.referenceIndexLoader);
+		  try {
+			  addBehaviorModels(rfdl);
+		  } catch (RuntimeException | Error e) {
+			  // the scenario is abandoned, its query result with it
+			  rfxFuture.cancel(true);
+			  throw e;
+		  }
+		  // populate the market model from the bulk loaded ReferenceIndexes, in descriptor order
+		  Map<String,ReferenceIndex> rfxm;
+		  try {
+			  rfxm = rfxFuture.join();
+		  } catch (CompletionException e) {
+			  // rethrow what the query threw, as a query on this thread would
+			  if (e.getCause() instanceof RuntimeException)
+				  throw (RuntimeException) e.getCause();
+			  throw e;
+		  }
+		  this.currentReferenceIndexes.clear();
+		  for (RiskFactorDescriptor rfd : rfdl) {
 			  if (rfd.getRiskFactorType().equals("ReferenceIndex")) {
-				  Optional<ReferenceIndex> orfx = referenceIndexStore.findById(rfxid);
-				  ReferenceIndex rfx;
-				  if (orfx.isPresent()) {
-					  rfx = orfx.get();
+				  String rfxid = rfd.getRiskFactorID();
+				  ReferenceIndex rfx = rfxm.get(rfxid);
+				  if (rfx != null) {
 					  System.out.println("**** fnp205 found rfx ; rfxid = " + rfxid);
 					  this.currentMarketModel.add(rfx.getMarketObjectCode(), new TimeSeriesModel(rfx));	
+					  this.currentReferenceIndexes.put(rfxid, rfx.getMarketObjectCode());
 				  }
 				  else {
 					  throw new ReferenceIndexNotFoundException(rfxid); 
+				  }
+			  }
+		  }
+		  for (StochasticPaths paths : this.currentStochasticPaths.values()) {
+			  for (String moc : paths.getMarketObjectCodes()) {
+				  if (this.currentMarketModel.containsKey(moc))
+					  throw new DuplicateMOCTimeSeriesException(moc);
+			  }
+		  }
+		  // stochastic factors follow the path of each request, path 0 unless one is given or selected
+		  for (StochasticPaths paths : this.currentStochasticPaths.values()) {
+			  for (int f = 0; f < paths.getMarketObjectCodes().length; f++)
+				  this.currentMarketModel.add(paths.getMarketObjectCodes()[f], paths.model(f));
+		  }
+		  this.currentBehaviorModel.setMemoize(this.currentStochasticPaths.isEmpty());
+		  // every marketObjectCode a behavior model bound in its constructor must now have a model
+		  this.currentMarketModel.checkBound();
+
+		  // ================================================================
+		  // MIRROR WIRING: After all models are created, wire any
+		  // AllocationDriftModel mirrors to their source models.
+		  // The mirror model reads cached dollar payoffs from the source,
+		  // guaranteeing dollar-for-dollar matching across contracts.
+		  // E.g. ad_btc01 (source on CLM) sells $148K BTC →
+		  //      ad_cash_mirror01 (mirror on PAM cash) receives $148K
+		  // ================================================================
+		  for (String key : this.currentBehaviorModel.keys()) {
+			  Object mdlObj = this.currentBehaviorModel.getModel(key);
+			  if (mdlObj instanceof AllocationDriftModel) {
+				  AllocationDriftModel adm = (AllocationDriftModel) mdlObj;
+				  String mirrorSrcId = adm.getMirrorSourceModelId();
+				  if (mirrorSrcId != null && !mirrorSrcId.isEmpty()) {
+					  Object srcObj = this.currentBehaviorModel.getModel(mirrorSrcId);
+					  if (srcObj instanceof AllocationDriftModel) {
+						  adm.setMirrorSource((AllocationDriftModel) srcObj);
+						  System.out.println("**** fnp238 MIRROR WIRED: " + key + " → source=" + mirrorSrcId);
+					  } else {
+						  System.out.println("**** fnp238 WARNING: mirror source " + mirrorSrcId 
+								  + " not found or not AllocationDriftModel for mirror " + key);
 					  }
+				  }
 			  }
-			  else if (rfd.getRiskFactorType().equals("TwoDimensionalPrepaymentModel")) {
+		  }
+
+		  this.currentActivatedModels.clear();
+		  String outstr = "** CurrentMarketModel initialized for scenario "+ currentScenarioID + "\n";
+		  outstr += "keys are: " + this.currentMarketModel.keys().toString();
+		  outstr += "** CurrentBehaviorModel also initialized with keys: " + 
+		  this.currentBehaviorModel.keys().toString() + "\n";
+		  return outstr;
+	  }	
+
+	  // constructs the behavior model of every descriptor other than a ReferenceIndex into
+	  // currentBehaviorModel, and generates the paths of StochasticScenarios
+	  private void addBehaviorModels(List<RiskFactorDescriptor> rfdl) {
+		  // a scenario has a list of RiskFactorDescriptors
+		  for (RiskFactorDescriptor rfd : rfdl) {
+			  String rfxid = rfd.getRiskFactorID();
+			  System.out.println("**** fnp2041 found rfid= " + rfxid + " rfd: " + rfd.toString() ); 
+			  if (rfd.getRiskFactorType().equals("ReferenceIndex")) {
+				  // added to currentMarketModel once the bulk ReferenceIndex query completes
+				  continue;
+			  }
+			  if (rfd.getRiskFactorType().equals("TwoDimensionalPrepaymentModel")) {
 				  Optional<TwoDimensionalPrepaymentModelData> oppmd =
 						  this.twoDimensionalPrepaymentModelStore.findById(rfxid);
 				  TwoDimensionalPrepaymentModelData ppmd;
@@ -402,8 +546,8 @@ public class RiskObservationHandler {
 						  this.collateralLTVModelStore.findById(rfxid);
 				  if (ocltv.isPresent()) {
 					  System.out.println("**** fnp210 found cltv ; rfxid = " + rfxid);
-					  // currentMarketModel must already contain ETH_USD by this point
-					  // (ReferenceIndex entries are processed first in the descriptor list)
+					  // binds its marketObjectCode (e.g. ETH_USD); the ReferenceIndex itself is added
+					  // to currentMarketModel after this loop, and checkBound() verifies it is there
 					  CollateralLTVModel cltv =
 							  new CollateralLTVModel(rfxid, ocltv.get(), this.currentMarketModel);
 					  currentBehaviorModel.add(rfxid, cltv);
@@ -890,47 +1034,35 @@ public class RiskObservationHandler {
 				  } else { throw new org.actus.risksrv3.controllers.dynamicdiscounting1.CashPoolOptimizationModelNotFoundException(rfxid); }
 			  }
 			  // ====== END DYNAMIC DISCOUNTING ======
+			  // ================================================================
+			  // StochasticScenario: Monte Carlo market paths generated in memory,
+			  // path 0 is placed in currentMarketModel after the ReferenceIndexes
+			  // ================================================================
+			  else if (rfd.getRiskFactorType().equals("StochasticScenario")) {
+				  Optional<StochasticScenarioData> odata = this.stochasticScenarioStore.findById(rfxid);
+				  if (odata.isPresent()) {
+					  long t0 = System.nanoTime();
+					  StochasticPaths paths = StochasticPathGenerator.generate(odata.get());
+					  System.out.println("**** fnp2044 generated " + paths.getNumPaths() + " paths x " 
+							  + paths.getNumSteps() + " steps of " + String.join(",", paths.getMarketObjectCodes())
+							  + " for rfxid = " + rfxid + " in " + (System.nanoTime() - t0) / 1000000 + " ms");
+					  this.currentStochasticPaths.put(rfxid, paths);
+				  } else { throw new StochasticScenarioNotFoundException(rfxid); }
+			  }
 			  else {
 				  System.out.println("**** fnp208 unrecognized rfType= " + rfd.getRiskFactorType() );
 			  }
-		  }	
-		  // ================================================================
-		  // MIRROR WIRING: After all models are created, wire any
-		  // AllocationDriftModel mirrors to their source models.
-		  // The mirror model reads cached dollar payoffs from the source,
-		  // guaranteeing dollar-for-dollar matching across contracts.
-		  // E.g. ad_btc01 (source on CLM) sells $148K BTC →
-		  //      ad_cash_mirror01 (mirror on PAM cash) receives $148K
-		  // ================================================================
-		  for (String key : this.currentBehaviorModel.keys()) {
-			  Object mdlObj = this.currentBehaviorModel.getModel(key);
-			  if (mdlObj instanceof AllocationDriftModel) {
-				  AllocationDriftModel adm = (AllocationDriftModel) mdlObj;
-				  String mirrorSrcId = adm.getMirrorSourceModelId();
-				  if (mirrorSrcId != null && !mirrorSrcId.isEmpty()) {
-					  Object srcObj = this.currentBehaviorModel.getModel(mirrorSrcId);
-					  if (srcObj instanceof AllocationDriftModel) {
-						  adm.setMirrorSource((AllocationDriftModel) srcObj);
-						  System.out.println("**** fnp238 MIRROR WIRED: " + key + " → source=" + mirrorSrcId);
-					  } else {
-						  System.out.println("**** fnp238 WARNING: mirror source " + mirrorSrcId 
-								  + " not found or not AllocationDriftModel for mirror " + key);
-					  }
-				  }
-			  }
 		  }
-
-		  this.currentActivatedModels.clear();
-		  String outstr = "** CurrentMarketModel initialized for scenario "+ currentScenarioID + "\n";
-		  outstr += "keys are: " + this.currentMarketModel.keys().toString();
-		  outstr += "** CurrentBehaviorModel also initialized with keys: " + 
-		  this.currentBehaviorModel.keys().toString() + "\n";
-		  return outstr;
-	  }	
+	  }
 	  
+	  // with prune, callouts of PrunableBehaviorModels at which the market cannot reach the
+	  // model's threshold are returned with value 0.0, so the client applies them without a
+	  // /behaviorStateAt round trip; the events are the same as without pruning
 	  @PostMapping("/contractSimulationStart")
-	  List<CalloutData> doContractSimulationStart(@RequestBody Map<String,Object> contract){	  		  
+	  List<CalloutData> doContractSimulationStart(@RequestBody Map<String,Object> contract,
+			  @RequestParam(name = "prune", required = false) Boolean prune){	  		  
 		  ContractModel contractModel = ContractModel.parse(contract);
+		  boolean pruning = (prune == null) ? this.pruneCallouts : prune;
 		  
 		  // the MultiBehaviorRiskModel will get list of models to activate from contractModel
 		  // BUT we need to check here that all models referred to by the contract are in the scenario
@@ -967,14 +1099,44 @@ public class RiskObservationHandler {
 		  for (String mdl : mdls) {
 			  if ( currentBehaviorModel.keys().contains(mdl))  {
 					  currentActivatedModels.add(mdl);
-					  observations.addAll(currentBehaviorModel.modelContractStart(contractModel, mdl));
+					  List<CalloutData> callouts = currentBehaviorModel.modelContractStart(contractModel, mdl);
+					  BehaviorRiskModelProvider behaviorModel = currentBehaviorModel.getModel(mdl);
+					  if (pruning && behaviorModel instanceof PrunableBehaviorModel) {
+						  callouts = CalloutPruner.prune((PrunableBehaviorModel) behaviorModel, contractModel, 
+								  this.currentMarketModel, callouts);
+						  int pruned = 0;
+						  for (CalloutData callout : callouts)
+							  pruned += (callout.getValue() == null) ? 0 : 1;
+						  System.out.println("**** fnp2045: model " + mdl + " callouts " + callouts.size() 
+								  + " of which pruned (answered 0.0) " + pruned);
+					  }
+					  observations.addAll(callouts);
 			  }
 			  else
 					  throw new RiskModelNotFoundException("*** modelID: " + mdl + " in scenario: " + currentScenarioID);
 		  }
+		  if (this.preResolveMarket && !observations.isEmpty())
+			  preResolveMarket(observations);
 	      return observations;
 	  }  	  
 
+	  // resolve every market input of the activated models at every callout time into the market 
+	  // model's table, so the behaviorStateAt calls of this contract read their inputs from arrays; 
+	  // the table is this contract's alone and replaces that of the previous contract start
+	  private void preResolveMarket(List<CalloutData> observations) {
+		  Set<String> mocs = new LinkedHashSet<String>();
+		  for (String mdl : this.currentActivatedModels)
+			  mocs.addAll(ModelReferences.marketObjectCodes(this.currentBehaviorModel.getModel(mdl)));
+		  Set<LocalDateTime> times = new LinkedHashSet<LocalDateTime>();
+		  for (CalloutData observation : observations) {
+			  if (observation.getValue() == null)
+				  times.add(LocalDateTime.parse(observation.getTime()));
+		  }
+		  ResolvedMarket table = this.currentMarketModel.preResolve(mocs, times);
+		  System.out.println("**** fnp2046: market pre-resolved for " + mocs.size() + " mocs x " + times.size() 
+				  + " callout times; table " + table.mocCount() + " x " + table.timeCount());
+	  }
+
 	  @PostMapping("/marketStateAt")
 	  Double doMarketStateAt(@RequestBody StateAtInput stateAtInput) {
 		  String id = stateAtInput.getId();
@@ -992,26 +1154,93 @@ public class RiskObservationHandler {
 				  + currentMarketModel.keys()
 				  + ". Add a ReferenceIndex with this marketObjectCode to the scenario.");
 		  }
-		  Double dval = this.currentMarketModel.stateAt(id, time);
+		  // shocks in the request are applied on the fly for this lookup only
+		  Double dval = withRequestPath(stateAtInput.getStochasticPath(), () -> 
+				  MultiMarketRiskModel.withShocks(MarketShockOverlay.of(stateAtInput.getShocks()), 
+						  () -> this.currentMarketModel.stateAt(id, time)));
 		  System.out.println("**** fnp207: /marketStateAt id = "+id+" time= "
 		     + time.toString() + " scenario= " + this.currentScenarioID +
 		     " value= " + dval.toString()); 
 		  return dval;
 	  }
 	  
+	  // The states of one market risk factor at several times, e.g. the fx rates at the events of a 
+	  // contract's schedule, in one call. Values are returned in request order, each as /marketStateAt.
+	  @PostMapping("/marketStatesAt")
+	  List<Double> doMarketStatesAt(@RequestBody MarketStatesAtInput statesAtInput) {
+		  String id = statesAtInput.getId();
+		  List<LocalDateTime> times = (statesAtInput.getTimes() == null) 
+				  ? new ArrayList<LocalDateTime>() : statesAtInput.getTimes();
+		  if (!this.currentMarketModel.containsKey(id))
+			  throw new IllegalArgumentException(
+				  "MarketObjectCode '" + id + "' not found in scenario '"
+				  + this.currentScenarioID + "'. Available MOCs: "
+				  + currentMarketModel.keys()
+				  + ". Add a ReferenceIndex with this marketObjectCode to the scenario.");
+		  List<Double> values = withRequestPath(statesAtInput.getStochasticPath(), () -> 
+				  MultiMarketRiskModel.withShocks(MarketShockOverlay.of(statesAtInput.getShocks()), () -> {
+			  int handle = this.currentMarketModel.handle(id);
+			  List<Double> states = new ArrayList<Double>(times.size());
+			  for (LocalDateTime time : times)
+				  states.add(this.currentMarketModel.stateAt(handle, time));
+			  return states;
+		  }));
+		  System.out.println("**** fnp2049: /marketStatesAt id= " + id + " times= " + times.size() 
+				  + " scenario= " + this.currentScenarioID);
+		  return values;
+	  }
+	  
 	  @PostMapping("/behaviorStateAt")
 	  double doBehaviorStateAt(@RequestBody BehaviorStateAtInput behaviorStateAtInput) {
 		  String mdlid = behaviorStateAtInput.getRiskFactorId();
 		  System.out.println("**** fnp208: in  /behaviorStateAt id = "+ mdlid );
 		  LocalDateTime time = behaviorStateAtInput.getTime();
 		  StateSpace state = behaviorStateAtInput.getStates();
-		  double dval = this.currentBehaviorModel.stateAt(mdlid, time, state);
+		  double dval = withRequestPath(behaviorStateAtInput.getStochasticPath(), () -> 
+				  MultiMarketRiskModel.withShocks(MarketShockOverlay.of(behaviorStateAtInput.getShocks()), 
+						  () -> this.currentBehaviorModel.stateAt(mdlid, time, state)));
 		  System.out.println("**** fnp209: /behavior id = " + mdlid + " time= "
 				     + time.toString() + " nominalInterest= " 
 				     + state.nominalInterestRate +   " value= " + dval );
 		  return dval;
 	  }
 
+	  // All behavior callouts of a portfolio at one time of a lock-step simulation, in one call. 
+	  // The portfolio state is published to PortfolioAwareBehaviorModels first; then callouts are 
+	  // evaluated with the AllocationDriftModel mirrors after the other models, so that a mirror 
+	  // reads the payoff its source cached for this time. Values are returned in request order.
+	  @PostMapping("/behaviorStepBatch")
+	  List<Double> doBehaviorStepBatch(@RequestBody BehaviorStepInput stepInput) {
+		  LocalDateTime time = stepInput.getTime();
+		  List<BehaviorStateAtInput> callouts = (stepInput.getCallouts() == null) 
+				  ? new ArrayList<BehaviorStateAtInput>() : stepInput.getCallouts();
+		  System.out.println("**** fnp2047: /behaviorStepBatch time= " + time + " callouts= " + callouts.size());
+		  if (stepInput.getPortfolio() != null)
+			  this.currentBehaviorModel.publishPortfolio(time, stepInput.getPortfolio());
+		  Double[] values = new Double[callouts.size()];
+		  MultiMarketRiskModel.withShocks(MarketShockOverlay.of(stepInput.getShocks()), () -> {
+			  for (int pass = 0; pass < 2; pass++) {
+				  for (int i = 0; i < callouts.size(); i++) {
+					  BehaviorStateAtInput callout = callouts.get(i);
+					  if (isMirror(callout.getRiskFactorId()) != (pass == 1))
+						  continue;
+					  values[i] = this.currentBehaviorModel.stateAt(callout.getRiskFactorId(), 
+							  (callout.getTime() == null) ? time : callout.getTime(), callout.getStates());
+				  }
+			  }
+			  return null;
+		  });
+		  return Arrays.asList(values);
+	  }
+	  
+	  private boolean isMirror(String modelId) {
+		  Object mdl = this.currentBehaviorModel.getModel(modelId);
+		  if (!(mdl instanceof AllocationDriftModel))
+			  return false;
+		  String source = ((AllocationDriftModel) mdl).getMirrorSourceModelId();
+		  return source != null && !source.isEmpty();
+	  }
+
 	  @GetMapping("/marketKeys") 
 	  HashSet<String> doMarketKeys() {	
 		  Set<String> kset = this.currentMarketModel.keys();
@@ -1030,6 +1259,8 @@ public class RiskObservationHandler {
 		  }
 		  else { 
 			  out = "Currently activeScenario: " + currentScenarioID + "\n" ;	
+			  if (!currentStochasticPaths.isEmpty())
+				  out += "Stochastic path: " + currentStochasticPath + "\n" ;
 		  }
 		  return out;	  
 	  }
@@ -1050,4 +1281,118 @@ public class RiskObservationHandler {
 	      return this.currentActivatedModels;
 	  }
 	  
+	  // Switch every StochasticScenario of the active scenario to Monte Carlo path {path}: 
+	  // its market object codes in currentMarketModel then follow that path. Behavior models 
+	  // read the market through currentMarketModel, so contract simulations started after 
+	  // this call see the new path without restarting the scenario.
+	  // The selection is shared by all clients; a client running paths while others may select 
+	  // theirs sends the path with each lookup instead (stochasticPath, see withRequestPath).
+	  @PostMapping("/selectStochasticPath/{path}")
+	  String doSelectStochasticPath(@PathVariable int path) {
+		  if (this.currentStochasticPaths.isEmpty())
+			  throw new IllegalArgumentException("Active scenario " + this.currentScenarioID 
+					  + " has no StochasticScenario risk factor");
+		  selectStochasticPath(path);
+		  return "Stochastic path " + path + " selected for scenario " + this.currentScenarioID + "\n";
+	  }
+	  
+	  // SHA-256 of the active scenario's market data up to and including a time, so that actus-service 
+	  // can tell whether a simulation checkpointed at that time still holds; empty if the scenario has 
+	  // market models other than ReferenceIndex series (e.g. stochastic paths), which are not digested
+	  @GetMapping("/marketDigest")
+	  String doMarketDigest(@RequestParam String until) throws NoSuchAlgorithmException {
+		  LocalDateTime time = LocalDateTime.parse(until);
+		  MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		  digest.update(this.currentScenarioID.getBytes(StandardCharsets.UTF_8));
+		  for (String moc : new TreeSet<String>(this.currentMarketModel.keys())) {
+			  MarketRiskModelProvider model = this.currentMarketModel.getModel(moc);
+			  if (!(model instanceof TimeSeriesModel))
+				  return "";
+			  digest.update(moc.getBytes(StandardCharsets.UTF_8));
+			  ((TimeSeriesModel) model).digest(digest, time);
+		  }
+		  String hash = HexFormat.of().formatHex(digest.digest());
+		  System.out.println("**** fnp2048: /marketDigest until= " + time + " scenario= " + this.currentScenarioID + " digest= " + hash);
+		  return hash;
+	  }
+	  
+	  // hit rates of the cross contract memo of market only behavior models in the active scenario
+	  @GetMapping("/behaviorMemoStats")
+	  Map<String,Map<String,Number>> doBehaviorMemoStats() {
+		  if (this.currentBehaviorModel == null)
+			  return new LinkedHashMap<String,Map<String,Number>>();
+		  return this.currentBehaviorModel.memoStats();
+	  }
+	  
+	  @GetMapping("/stochasticPathCount")
+	  int doStochasticPathCount() {
+		  int count = 0;
+		  for (StochasticPaths paths : this.currentStochasticPaths.values())
+			  count = (count == 0) ? paths.getNumPaths() : Math.min(count, paths.getNumPaths());
+		  return count;
+	  }
+	  
+	  // the path is checked against every StochasticScenario before any is switched, so an 
+	  // invalid path leaves the selection as it was. The data version moves on around the switch, 
+	  // as for a change of stored data, so results cached under the old path are not served again
+	  private synchronized void selectStochasticPath(int path) {
+		  checkStochasticPath(path);
+		  if (path == this.currentStochasticPath)
+			  return;
+		  this.riskDataVersion.changed();
+		  for (StochasticPaths paths : this.currentStochasticPaths.values())
+			  paths.select(path);
+		  this.currentStochasticPath = path;
+		  this.riskDataVersion.changed();
+	  }
+
+	  private void checkStochasticPath(int path) {
+		  for (StochasticPaths paths : this.currentStochasticPaths.values())
+			  paths.checkPath(path);
+	  }
+
+	  // runs a lookup on the stochastic path given with the request, null for the selected one
+	  private <T> T withRequestPath(Integer path, Supplier<T> lookup) {
+		  if (path != null)
+			  checkStochasticPath(path);
+		  return StochasticPaths.withPath(path, lookup);
+	  }
+	  
+	  // called by RiskDataManager after observations are appended to a stored ReferenceIndex; 
+	  // if that index is part of the active scenario its compiled series is updated in place
+	  void appendMarketObservations(String rfxid, List<TimeValuePair> data) {
+		  String moc = this.currentReferenceIndexes.get(rfxid);
+		  if (moc == null || this.currentMarketModel == null)
+			  return;
+		  if (this.currentMarketModel.getModel(moc) instanceof TimeSeriesModel) {
+			  ((TimeSeriesModel) this.currentMarketModel.getModel(moc)).append(data);
+			  this.currentMarketModel.clearResolved();
+			  this.currentBehaviorModel.clearMemos();
+			  System.out.println("**** fnp2043 appended " + data.size() + " observations to active moc= " + moc);
+		  }
+	  }
+	  
+	  // fetch every ReferenceIndex named by a ReferenceIndex descriptor with one findAllById ($in) query 
+	  // rather than one findById round trip per descriptor; ids with no stored document are absent from the map
+	  private Map<String,ReferenceIndex> findReferenceIndexes(List<RiskFactorDescriptor> rfdl) {
+		  Set<String> rfxids = new LinkedHashSet<String>();
+		  for (RiskFactorDescriptor rfd : rfdl) {
+			  if (rfd.getRiskFactorType().equals("ReferenceIndex"))
+				  rfxids.add(rfd.getRiskFactorID());
+		  }
+		  Map<String,ReferenceIndex> rfxm = new HashMap<String,ReferenceIndex>();
+		  if (rfxids.isEmpty())
+			  return rfxm;
+		  for (ReferenceIndex rfx : this.referenceIndexStore.findAllById(rfxids)) {
+			  rfxm.put(rfx.getRiskFactorID(), rfx);
+		  }
+		  System.out.println("**** fnp2042 bulk loaded " + rfxm.size() + " of " + rfxids.size() + " reference indexes");
+		  return rfxm;
+	  }
+
+	  @PreDestroy
+	  void shutdownReferenceIndexLoader() {
+		  this.referenceIndexLoader.shutdownNow();
+	  }
+	  
 }
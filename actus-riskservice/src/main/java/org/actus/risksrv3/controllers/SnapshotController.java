@@ -0,0 +1,36 @@
+package org.actus.risksrv3.controllers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.actus.risksrv3.repository.inmemory.SnapshotLoader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// snapshot endpoints of the "inmemory" repository profile 
+@RestController
+@Profile("inmemory")
+public class SnapshotController {
+	@Autowired
+	private SnapshotLoader snapshotLoader;
+
+	// write every in-memory store to <dump>/<directory>/<Name>.json ; reload with risksrv3.inmemory.snapshot=<that directory>
+	// directory is relative to risksrv3.inmemory.dump, omit it to write to the dump directory itself 
+	@PostMapping("/dumpSnapshot")
+	public String dumpSnapshot(@RequestParam(required = false) String directory) throws IOException {
+		Path dir = snapshotLoader.snapshotPath(directory);
+		int documents = snapshotLoader.dump(dir);
+		return "Snapshot of " + documents + " documents written to " + dir + "\n";
+	}
+	
+	// load a store dump or Postman collection file, relative to risksrv3.inmemory.dump, into the in-memory stores
+	@PostMapping("/loadSnapshot")
+	public String loadSnapshot(@RequestParam String file) throws IOException {
+		Path path = snapshotLoader.snapshotPath(file);
+		int documents = snapshotLoader.load(path);
+		return "Snapshot of " + documents + " documents loaded from " + path + "\n";
+	}
+}
@@ -0,0 +1,7 @@
+package org.actus.risksrv3.controllers;
+
+public class StochasticScenarioNotFoundException extends RuntimeException{
+	       StochasticScenarioNotFoundException(String id) {
+	          super("Could not find stochastic scenario with id= " + id);
+	  }
+}
@@ -110,6 +110,36 @@ public class ContractModel implements ContractModelProvider{
             	}
             	// ================================================================
 
+            	// ================================================================
+            	// Parse the attributes bounding the contract's debt (null-safe) —
+            	// used by models pruning callouts (see PrunableBehaviorModel)
+            	// ================================================================
+            	if (attributes.get("notionalPrincipal") != null) {
+            	    map.put("notionalPrincipal", Double.parseDouble(attributes.get("notionalPrincipal").toString()));
+            	}
+            	if (attributes.get("nominalInterestRate") != null) {
+            	    map.put("nominalInterestRate", Double.parseDouble(attributes.get("nominalInterestRate").toString()));
+            	}
+            	if (attributes.get("accruedInterest") != null) {
+            	    map.put("accruedInterest", Double.parseDouble(attributes.get("accruedInterest").toString()));
+            	}
+            	if (attributes.get("cycleOfRateReset") != null) {
+            	    map.put("cycleOfRateReset", attributes.get("cycleOfRateReset").toString());
+            	}
+            	if (attributes.get("capitalizationEndDate") != null) {
+            	    map.put("capitalizationEndDate", attributes.get("capitalizationEndDate").toString());
+            	}
+            	// ================================================================
+
+            	// ================================================================
+            	// Parse currency (null-safe) — used by PortfolioAwareBehaviorModels
+            	// to read the portfolio aggregates of the contract's currency
+            	// ================================================================
+            	if (attributes.get("currency") != null) {
+            	    map.put("currency", attributes.get("currency").toString());
+            	}
+            	// ================================================================
+
             	List<String> ppmdls = (List<String>)attributes.get("prepaymentModels");
             	System.out.println("**** fnp031: mdls = <" + ppmdls + ">");
             	map.put("prepaymentModels", ppmdls);
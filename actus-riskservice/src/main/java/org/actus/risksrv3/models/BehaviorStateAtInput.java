@@ -1,12 +1,15 @@
 package org.actus.risksrv3.models;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.actus.risksrv3.core.states.StateSpace;
 public class BehaviorStateAtInput {
 	private String riskFactorId ;
 	private LocalDateTime time;
 	private StateSpace  states;
+	private List<MarketShock> shocks;   // optional stress overlay for the model's market lookups
+	private Integer stochasticPath;  // optional Monte Carlo path for the lookup, null for the selected one
 	
 	public BehaviorStateAtInput() {		
 	}
@@ -33,6 +36,18 @@ public class BehaviorStateAtInput {
 	}
 	public void setStates(StateSpace states) {
 		this.states = states;
+	}
+	public List<MarketShock> getShocks() {
+		return this.shocks;
+	}
+	public void setShocks(List<MarketShock> shocks) {
+		this.shocks = shocks;
+	}
+	public Integer getStochasticPath() {
+		return this.stochasticPath;
+	}
+	public void setStochasticPath(Integer stochasticPath) {
+		this.stochasticPath = stochasticPath;
 	}
 	 @Override
 	public String toString() {
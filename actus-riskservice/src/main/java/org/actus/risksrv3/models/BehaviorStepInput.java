@@ -0,0 +1,54 @@
+package org.actus.risksrv3.models;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The behavior callouts of all contracts of a portfolio at one time of a lock-step
+ * simulation, with the portfolio state at that time
+ */
+public class BehaviorStepInput {
+	private LocalDateTime time;
+	private List<BehaviorStateAtInput> callouts;
+	private Map<String,Double> portfolio;   // aggregates published to PortfolioAwareBehaviorModels
+	private List<MarketShock> shocks;       // optional stress overlay for the models' market lookups
+	
+	public BehaviorStepInput() {
+	}
+	public BehaviorStepInput(LocalDateTime time, List<BehaviorStateAtInput> callouts, Map<String,Double> portfolio) {
+		this.time = time;
+		this.callouts = callouts;
+		this.portfolio = portfolio;
+	}
+	
+	public LocalDateTime getTime() {
+		return this.time;
+	}
+	public void setTime(LocalDateTime time) {
+		this.time = time;
+	}
+	public List<BehaviorStateAtInput> getCallouts() {
+		return this.callouts;
+	}
+	public void setCallouts(List<BehaviorStateAtInput> callouts) {
+		this.callouts = callouts;
+	}
+	public Map<String,Double> getPortfolio() {
+		return this.portfolio;
+	}
+	public void setPortfolio(Map<String,Double> portfolio) {
+		this.portfolio = portfolio;
+	}
+	public List<MarketShock> getShocks() {
+		return this.shocks;
+	}
+	public void setShocks(List<MarketShock> shocks) {
+		this.shocks = shocks;
+	}
+	@Override
+	public String toString() {
+		return "BehaviorStepInput{time=" + time + ", callouts=" + (callouts == null ? 0 : callouts.size())
+				+ ", portfolio=" + portfolio + "}";
+	}
+}
@@ -47,6 +47,7 @@ public class BufferLTVModelData {
 
     // Monitoring schedule
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     // Constructors
     public BufferLTVModelData() {
@@ -172,4 +173,12 @@ public class BufferLTVModelData {
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) {
         this.monitoringEventTimes = monitoringEventTimes;
     }
+
+    public MonitoringSchedule getMonitoringSchedule() {
+        return monitoringSchedule;
+    }
+
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) {
+        this.monitoringSchedule = monitoringSchedule;
+    }
 }
@@ -0,0 +1,42 @@
+package org.actus.risksrv3.models;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request body of /bulkLoad: reference indexes, risk models of any registered type and scenarios
+ * uploaded together.
+ * <P>
+ * models is keyed on riskFactorType as used in scenario descriptors (e.g. "CollateralLTVModel",
+ * "EarlySettlement"); each value is a list of model documents in the JSON form accepted by the
+ * corresponding /add&lt;Type&gt; endpoint.
+ */
+public class BulkLoadBundle {
+	private List<ReferenceIndex> referenceIndexes = new ArrayList<ReferenceIndex>();
+	private Map<String, List<Map<String,Object>>> models = new LinkedHashMap<String, List<Map<String,Object>>>();
+	private List<Scenario> scenarios = new ArrayList<Scenario>();
+
+	public BulkLoadBundle() {
+	}
+
+	public List<ReferenceIndex> getReferenceIndexes() {
+		return referenceIndexes;
+	}
+	public void setReferenceIndexes(List<ReferenceIndex> referenceIndexes) {
+		this.referenceIndexes = (referenceIndexes == null) ? new ArrayList<ReferenceIndex>() : referenceIndexes;
+	}
+	public Map<String, List<Map<String,Object>>> getModels() {
+		return models;
+	}
+	public void setModels(Map<String, List<Map<String,Object>>> models) {
+		this.models = (models == null) ? new LinkedHashMap<String, List<Map<String,Object>>>() : models;
+	}
+	public List<Scenario> getScenarios() {
+		return scenarios;
+	}
+	public void setScenarios(List<Scenario> scenarios) {
+		this.scenarios = (scenarios == null) ? new ArrayList<Scenario>() : scenarios;
+	}
+}
@@ -1,9 +1,13 @@
 package org.actus.risksrv3.models;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 public class CalloutData {
 	private String modelID;
 	private String time;       // in format yyyy:mm:ddT00:00;00 
 	private String calloutType; // value AFD, MRD
+	private Double value;       // MRD only: the behavior model's value if already known at contract start 
+	                            // (0.0 for callouts pruning found cannot trigger), null to ask /behaviorStateAt
 	
 	public CalloutData() {
 	}
@@ -35,12 +39,23 @@ public class CalloutData {
 		this.calloutType = calloutType;
 	}
 	
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	public Double getValue() {
+		return this.value;
+	}
+	
+	public void setValue(Double value) {
+		this.value = value;
+	}
+	
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("CalloutData{");
         sb.append("modelID'").append(modelID).append('\'');
         sb.append(", time='").append(time).append('\'');
         sb.append("calloutType='").append(calloutType).append('\'');
+        if (value != null)
+            sb.append(", value=").append(value);
         sb.append('}');
         return sb.toString();
     }
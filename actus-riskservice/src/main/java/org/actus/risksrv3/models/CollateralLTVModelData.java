@@ -16,6 +16,7 @@ public class CollateralLTVModelData {
     private double ltvTarget;
     private double liquidationThreshold;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public CollateralLTVModelData() {
     }
@@ -62,4 +63,10 @@ public class CollateralLTVModelData {
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) {
         this.monitoringEventTimes = monitoringEventTimes;
     }
+    public MonitoringSchedule getMonitoringSchedule() {
+        return monitoringSchedule;
+    }
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) {
+        this.monitoringSchedule = monitoringSchedule;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package org.actus.risksrv3.models;
+
+/**
+ * A stress shock applied on the fly to one marketObjectCode of the active scenario.
+ *   MULTIPLICATIVE   value' = value * (1 + shock)     e.g. shock -0.3 for ETH -30%
+ *   ADDITIVE         value' = value + shock           e.g. shock 0.01 for rates +100bp
+ * from / to (yyyy-MM-ddTHH:mm:ss, both optional and inclusive) restrict the shock to a
+ * time window; outside it the base value is returned.
+ */
+public class MarketShock {
+	private String marketObjectCode;
+	private String type;
+	private double shock;
+	private String from;
+	private String to;
+
+	public MarketShock() {
+	}
+	public MarketShock(String marketObjectCode, String type, double shock) {
+		this.marketObjectCode = marketObjectCode;
+		this.type = type;
+		this.shock = shock;
+	}
+
+	public String getMarketObjectCode() {
+		return marketObjectCode;
+	}
+	public void setMarketObjectCode(String marketObjectCode) {
+		this.marketObjectCode = marketObjectCode;
+	}
+	public String getType() {
+		return type;
+	}
+	public void setType(String type) {
+		this.type = type;
+	}
+	public double getShock() {
+		return shock;
+	}
+	public void setShock(double shock) {
+		this.shock = shock;
+	}
+	public String getFrom() {
+		return from;
+	}
+	public void setFrom(String from) {
+		this.from = from;
+	}
+	public String getTo() {
+		return to;
+	}
+	public void setTo(String to) {
+		this.to = to;
+	}
+	public String toString() {
+		return "{ \"marketObjectCode\": \"" + marketObjectCode + "\", \"type\": \"" + type 
+				+ "\", \"shock\": " + shock + ", \"from\": " + from + ", \"to\": " + to + " }";
+	}
+}
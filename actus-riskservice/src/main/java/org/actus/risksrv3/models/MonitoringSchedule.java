@@ -0,0 +1,50 @@
+package org.actus.risksrv3.models;
+
+/**
+ * A behavior model's monitoring times given as an ACTUS cycle rule instead of an explicit
+ * monitoringEventTimes list, e.g.
+ *   { "anchor": "2025-06-01T00:00:00", "end": "2025-08-30T00:00:00", "cycle": "PT1ML1" }
+ * anchor is the first time, end the last; cycle is an ACTUS cycle (P1DL0, P1ML1, ...) or a
+ * sub-day duration (PT15M, PT1HL0). The stub behaves as in ACTUS schedules: with a long
+ * stub (L0) a last regular time falling short of end is dropped; a cycle without stub is
+ * treated as a short stub (L1).
+ * The times are generated when used (see utils.MonitoringTimes) and clipped to each
+ * contract's initialExchangeDate and maturityDate.
+ */
+public class MonitoringSchedule {
+	private String anchor;
+	private String end;
+	private String cycle;
+
+	public MonitoringSchedule() {
+	}
+	public MonitoringSchedule(String anchor, String end, String cycle) {
+		this.anchor = anchor;
+		this.end = end;
+		this.cycle = cycle;
+	}
+
+	public String getAnchor() {
+		return anchor;
+	}
+	public void setAnchor(String anchor) {
+		this.anchor = anchor;
+	}
+	public String getEnd() {
+		return end;
+	}
+	public void setEnd(String end) {
+		this.end = end;
+	}
+	public String getCycle() {
+		return cycle;
+	}
+	public void setCycle(String cycle) {
+		this.cycle = cycle;
+	}
+
+	@Override
+	public String toString() {
+		return "MonitoringSchedule{anchor=" + anchor + ", end=" + end + ", cycle=" + cycle + "}";
+	}
+}
@@ -1,7 +1,9 @@
 package org.actus.risksrv3.models;
 
 import java.util.List;
+import org.actus.risksrv3.utils.ObservationCodec;
 import org.springframework.data.annotation.Id;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 public class ReferenceIndex {
 	// attributes
@@ -9,6 +11,10 @@ public class ReferenceIndex {
 		private String marketObjectCode; 
 		private Double base;
 		private List<TimeValuePair> data;
+		// compact storage form: when set, data is null in the stored document and 
+		// observations are held in packedData (see ObservationCodec); not part of the REST API 
+		private String encoding;
+		private byte[] packedData;
 		
 		// null and useful constructors
 		public ReferenceIndex() {
@@ -31,8 +37,22 @@ public class ReferenceIndex {
 	    	return this.base;
 	    }
 	    public List<TimeValuePair> getData(){
+	    	if (this.data == null && this.packedData != null)
+	    		return ObservationCodec.decode(this.packedData);
 	    	return this.data;
 	    }
+	    @JsonIgnore
+	    public String getEncoding() {
+	    	return this.encoding;
+	    }
+	    @JsonIgnore
+	    public byte[] getPackedData() {
+	    	return this.packedData;
+	    }
+	    @JsonIgnore
+	    public boolean isPacked() {
+	    	return this.packedData != null;
+	    }
 		
 	    // set for each attribute 
 	    public void setString(String riskFactorID) {
@@ -46,13 +66,44 @@ public class ReferenceIndex {
 	    }
 	    public void setData(List<TimeValuePair> data) {
 	    	this.data = data;
+	    	this.encoding = null;
+	    	this.packedData = null;
+	    }
+	    
+	    // switch to the compact storage form, one block per day of observations
+	    public void pack() {
+	    	pack(ObservationCodec.DEFAULT_BUCKET_SECONDS);
+	    }
+	    // switch to the compact storage form, one block per bucket of observations; 
+	    // observations that cannot be packed without loss stay unpacked 
+	    public void pack(int bucketSeconds) {
+	    	if (this.data == null)
+	    		return;
+	    	byte[] packed = ObservationCodec.encode(this.data, bucketSeconds);
+	    	if (packed != null) {
+	    		this.encoding = ObservationCodec.ENCODING;
+	    		this.packedData = packed;
+	    		this.data = null;
+	    	}
+	    }
+	    // merge observations into the compact storage form, re-encoding only the blocks they touch; 
+	    // returns false (and leaves the index as it was) if they have to be merged into getData() instead  
+	    public boolean appendPacked(List<TimeValuePair> observations) {
+	    	if (this.packedData == null)
+	    		return false;
+	    	byte[] packed = ObservationCodec.merge(this.packedData, observations);
+	    	if (packed == null)
+	    		return false;
+	    	this.encoding = ObservationCodec.ENCODING;
+	    	this.packedData = packed;
+	    	return true;
 	    }
 	    public String toString() {
 	    	String str = "{ \"riskFactorID\": \"" + this.riskFactorID + 
 	    			"\" , \"marketObjectCode\" : \"" + this.marketObjectCode +
 	    			"\" , \"base\" , \"" + this.base + "\" , \"data\": [ "  ;
 	    			boolean first = true;
-	    			for (TimeValuePair tv : this.data) {
+	    			for (TimeValuePair tv : this.getData()) {
 	    				if (first) {
 	    					str +=  tv.toString();
 	    					first = false;
@@ -0,0 +1,51 @@
+package org.actus.risksrv3.models;
+
+/**
+ * One market risk factor of a StochasticScenario: the marketObjectCode it feeds and the
+ * process its paths follow.
+ *
+ * process is one of
+ *   GBM             dS = mu S dt + sigma S dW
+ *   JUMP_DIFFUSION  GBM plus Poisson(jumpIntensity) jumps with log size ~ N(jumpMean, jumpVolatility)
+ *   VASICEK         dr = kappa (theta - r) dt + sigma dW
+ *   CIR             dr = kappa (theta - r) dt + sigma sqrt(r) dW
+ * with mu = drift, sigma = volatility, kappa = meanReversion, theta = longTermMean.
+ * Rates and volatilities are annualised (ACT/365).
+ */
+public class StochasticFactorData {
+
+    private String marketObjectCode;
+    private String process;
+    private double initialValue;
+    private double drift;
+    private double volatility;
+    private double meanReversion;
+    private double longTermMean;
+    private double jumpIntensity;
+    private double jumpMean;
+    private double jumpVolatility;
+
+    public StochasticFactorData() {
+    }
+
+    public String getMarketObjectCode() { return marketObjectCode; }
+    public void setMarketObjectCode(String marketObjectCode) { this.marketObjectCode = marketObjectCode; }
+    public String getProcess() { return process; }
+    public void setProcess(String process) { this.process = process; }
+    public double getInitialValue() { return initialValue; }
+    public void setInitialValue(double initialValue) { this.initialValue = initialValue; }
+    public double getDrift() { return drift; }
+    public void setDrift(double drift) { this.drift = drift; }
+    public double getVolatility() { return volatility; }
+    public void setVolatility(double volatility) { this.volatility = volatility; }
+    public double getMeanReversion() { return meanReversion; }
+    public void setMeanReversion(double meanReversion) { this.meanReversion = meanReversion; }
+    public double getLongTermMean() { return longTermMean; }
+    public void setLongTermMean(double longTermMean) { this.longTermMean = longTermMean; }
+    public double getJumpIntensity() { return jumpIntensity; }
+    public void setJumpIntensity(double jumpIntensity) { this.jumpIntensity = jumpIntensity; }
+    public double getJumpMean() { return jumpMean; }
+    public void setJumpMean(double jumpMean) { this.jumpMean = jumpMean; }
+    public double getJumpVolatility() { return jumpVolatility; }
+    public void setJumpVolatility(double jumpVolatility) { this.jumpVolatility = jumpVolatility; }
+}
@@ -0,0 +1,80 @@
+package org.actus.risksrv3.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * StochasticScenarioData
+ *
+ * Parameters of a Monte Carlo market scenario (riskFactorType "StochasticScenario"):
+ * numPaths correlated paths of the listed factors, sampled every stepDays days
+ * for numSteps steps from startDate. Only the parameters are stored - the paths
+ * themselves are generated in memory when the scenario is started.
+ *
+ * correlation is the factor x factor correlation matrix of the Brownian drivers,
+ * in factor order; omitted means independent factors. seed fixes every path:
+ * the same seed always reproduces the same paths.
+ *
+ * Example:
+ * {
+ *   "riskFactorId": "mc_eth_btc_rates",
+ *   "startDate": "2025-01-01T00:00:00",
+ *   "stepDays": 1, "numSteps": 365, "numPaths": 2000, "seed": 42,
+ *   "factors": [
+ *     { "marketObjectCode": "ETH_USD", "process": "JUMP_DIFFUSION", "initialValue": 3300,
+ *       "drift": 0.05, "volatility": 0.75, "jumpIntensity": 2, "jumpMean": -0.1, "jumpVolatility": 0.15 },
+ *     { "marketObjectCode": "BTC_USD_SPOT", "process": "GBM", "initialValue": 95000,
+ *       "drift": 0.05, "volatility": 0.55 },
+ *     { "marketObjectCode": "UST_3M", "process": "CIR", "initialValue": 0.043,
+ *       "meanReversion": 0.8, "longTermMean": 0.035, "volatility": 0.06 }
+ *   ],
+ *   "correlation": [[1, 0.8, 0], [0.8, 1, 0], [0, 0, 1]]
+ * }
+ */
+@Document(collection = "stochasticScenarios")
+public class StochasticScenarioData {
+
+    @Id
+    private String riskFactorId;
+
+    private String startDate;
+    private double stepDays = 1.0;
+    private int numSteps;
+    private int numPaths;
+    private long seed;
+    private List<StochasticFactorData> factors = new ArrayList<StochasticFactorData>();
+    private double[][] correlation;
+
+    public StochasticScenarioData() {
+    }
+
+    public String getRiskFactorId() { return riskFactorId; }
+    public void setRiskFactorId(String riskFactorId) { this.riskFactorId = riskFactorId; }
+    public String getStartDate() { return startDate; }
+    public void setStartDate(String startDate) { this.startDate = startDate; }
+    public double getStepDays() { return stepDays; }
+    public void setStepDays(double stepDays) { this.stepDays = stepDays; }
+    public int getNumSteps() { return numSteps; }
+    public void setNumSteps(int numSteps) { this.numSteps = numSteps; }
+    public int getNumPaths() { return numPaths; }
+    public void setNumPaths(int numPaths) { this.numPaths = numPaths; }
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+    public List<StochasticFactorData> getFactors() { return factors; }
+    public void setFactors(List<StochasticFactorData> factors) { this.factors = factors; }
+    public double[][] getCorrelation() { return correlation; }
+    public void setCorrelation(double[][] correlation) { this.correlation = correlation; }
+
+    /**
+     * market object codes provided by this scenario, in factor order
+     */
+    public List<String> marketObjectCodes() {
+        List<String> mocs = new ArrayList<String>();
+        for (StochasticFactorData factor : factors)
+            mocs.add(factor.getMarketObjectCode());
+        return mocs;
+    }
+}
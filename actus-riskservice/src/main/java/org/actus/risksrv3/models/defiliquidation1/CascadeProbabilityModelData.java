@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.defiliquidation1;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 @Document(collection = "cascadeProbabilityModels")
 public class CascadeProbabilityModelData {
@@ -17,6 +18,7 @@ public class CascadeProbabilityModelData {
     private double priceImpactFactor;
     private double defensiveRepayFraction;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public CascadeProbabilityModelData() {}
     public String getRiskFactorId() { return riskFactorId; }
@@ -39,4 +41,6 @@ public class CascadeProbabilityModelData {
     public void setDefensiveRepayFraction(double v) { this.defensiveRepayFraction = v; }
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> v) { this.monitoringEventTimes = v; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule v) { this.monitoringSchedule = v; }
 }
\ No newline at end of file
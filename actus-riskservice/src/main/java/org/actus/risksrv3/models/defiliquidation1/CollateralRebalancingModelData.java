@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.defiliquidation1;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 @Document(collection = "collateralRebalancingModels")
 public class CollateralRebalancingModelData {
@@ -20,6 +21,7 @@ public class CollateralRebalancingModelData {
     private double etfFlowThreshold;
     private double etfSensitivity;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public CollateralRebalancingModelData() {}
     public String getRiskFactorId() { return riskFactorId; }
@@ -48,4 +50,6 @@ public class CollateralRebalancingModelData {
     public void setEtfSensitivity(double v) { this.etfSensitivity = v; }
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> v) { this.monitoringEventTimes = v; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule v) { this.monitoringSchedule = v; }
 }
\ No newline at end of file
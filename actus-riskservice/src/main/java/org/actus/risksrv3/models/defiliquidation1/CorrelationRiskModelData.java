@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.defiliquidation1;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 @Document(collection = "correlationRiskModels")
 public class CorrelationRiskModelData {
@@ -18,6 +19,7 @@ public class CorrelationRiskModelData {
     private double liquidationThreshold;
     private int rollingWindowSize;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public CorrelationRiskModelData() {}
     public String getRiskFactorId() { return riskFactorId; }
@@ -42,4 +44,6 @@ public class CorrelationRiskModelData {
     public void setRollingWindowSize(int v) { this.rollingWindowSize = v; }
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> v) { this.monitoringEventTimes = v; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule v) { this.monitoringSchedule = v; }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.defiliquidation1;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 @Document(collection = "gasOptimizationModels")
 public class GasOptimizationModelData {
@@ -17,6 +18,7 @@ public class GasOptimizationModelData {
     private double ltvTarget;
     private double minBenefitUSD;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public GasOptimizationModelData() {}
     public String getRiskFactorId() { return riskFactorId; }
@@ -39,4 +41,6 @@ public class GasOptimizationModelData {
     public void setMinBenefitUSD(double v) { this.minBenefitUSD = v; }
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> v) { this.monitoringEventTimes = v; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule v) { this.monitoringSchedule = v; }
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.defiliquidation1;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 @Document(collection = "healthFactorModels")
 public class HealthFactorModelData {
@@ -15,6 +16,7 @@ public class HealthFactorModelData {
     private double healthyThreshold;
     private double targetHealthFactor;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public HealthFactorModelData() {}
 
@@ -32,4 +34,6 @@ public class HealthFactorModelData {
     public void setTargetHealthFactor(double targetHealthFactor) { this.targetHealthFactor = targetHealthFactor; }
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) { this.monitoringEventTimes = monitoringEventTimes; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) { this.monitoringSchedule = monitoringSchedule; }
 }
@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.defiliquidation1;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 @Document(collection = "invoiceMaturityModels")
 public class InvoiceMaturityModelData {
@@ -19,6 +20,7 @@ public class InvoiceMaturityModelData {
     private double liquidationThreshold;
     private double ltvTarget;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public InvoiceMaturityModelData() {}
     public String getRiskFactorId() { return riskFactorId; }
@@ -45,4 +47,6 @@ public class InvoiceMaturityModelData {
     public void setLtvTarget(double v) { this.ltvTarget = v; }
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> v) { this.monitoringEventTimes = v; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule v) { this.monitoringSchedule = v; }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
 import java.util.Map;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 @Document(collection = "cashPoolOptimizationModels")
 public class CashPoolOptimizationModelData {
@@ -21,6 +22,7 @@ public class CashPoolOptimizationModelData {
     private String buyerCashMOC;
     private double portfolioAllocatedCash;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
     public CashPoolOptimizationModelData() {}
     public String getRiskFactorId() { return riskFactorId; }
     public void setRiskFactorId(String v) { this.riskFactorId = v; }
@@ -48,4 +50,6 @@ public class CashPoolOptimizationModelData {
     public void setPortfolioAllocatedCash(double v) { this.portfolioAllocatedCash = v; }
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> v) { this.monitoringEventTimes = v; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule v) { this.monitoringSchedule = v; }
 }
@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.dynamicdiscounting1;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 /**
  * DynamicDiscountingModelData — MongoDB document for dynamic discounting
@@ -42,6 +43,7 @@ public class DynamicDiscountingModelData {
     private String buyerID;                      // creatorID
     private double earlyPaymentThreshold;        // min discount % to trigger early payment (e.g. 0.005 = 0.5%)
     private List<String> monitoringEventTimes;   // daily monitoring times for behavioral callouts
+    private MonitoringSchedule monitoringSchedule;
 
     public DynamicDiscountingModelData() {}
 
@@ -67,4 +69,6 @@ public class DynamicDiscountingModelData {
     public void setEarlyPaymentThreshold(double v) { this.earlyPaymentThreshold = v; }
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> v) { this.monitoringEventTimes = v; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule v) { this.monitoringSchedule = v; }
 }
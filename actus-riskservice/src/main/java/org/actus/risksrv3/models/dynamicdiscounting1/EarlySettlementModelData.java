@@ -4,6 +4,7 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
 import java.util.Map;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 @Document(collection = "earlySettlementModels")
 public class EarlySettlementModelData {
@@ -21,6 +22,7 @@ public class EarlySettlementModelData {
     private double hurdleRateAnnualized;
     private String buyerCashMOC;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
     public EarlySettlementModelData() {}
     public String getRiskFactorId() { return riskFactorId; }
     public void setRiskFactorId(String v) { this.riskFactorId = v; }
@@ -48,4 +50,6 @@ public class EarlySettlementModelData {
     public void setBuyerCashMOC(String v) { this.buyerCashMOC = v; }
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> v) { this.monitoringEventTimes = v; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule v) { this.monitoringSchedule = v; }
 }
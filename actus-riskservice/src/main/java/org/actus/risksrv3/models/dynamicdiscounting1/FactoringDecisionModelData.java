@@ -4,6 +4,7 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
 import java.util.Map;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 @Document(collection = "factoringDecisionModels")
 public class FactoringDecisionModelData {
@@ -20,6 +21,7 @@ public class FactoringDecisionModelData {
     private double bankFactoringRateAnnualized;
     private double reverseFactoringRateAnnualized;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
     public FactoringDecisionModelData() {}
     public String getRiskFactorId() { return riskFactorId; }
     public void setRiskFactorId(String v) { this.riskFactorId = v; }
@@ -45,4 +47,6 @@ public class FactoringDecisionModelData {
     public void setReverseFactoringRateAnnualized(double v) { this.reverseFactoringRateAnnualized = v; }
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> v) { this.monitoringEventTimes = v; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule v) { this.monitoringSchedule = v; }
 }
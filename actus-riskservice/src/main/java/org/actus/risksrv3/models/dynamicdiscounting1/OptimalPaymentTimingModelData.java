@@ -4,6 +4,7 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
 import java.util.Map;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 @Document(collection = "optimalPaymentTimingModels")
 public class OptimalPaymentTimingModelData {
@@ -19,6 +20,7 @@ public class OptimalPaymentTimingModelData {
     private Map<Integer, Double> stepDiscountSchedule;
     private double opportunityCostRate;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
     public OptimalPaymentTimingModelData() {}
     public String getRiskFactorId() { return riskFactorId; }
     public void setRiskFactorId(String v) { this.riskFactorId = v; }
@@ -42,4 +44,6 @@ public class OptimalPaymentTimingModelData {
     public void setOpportunityCostRate(double v) { this.opportunityCostRate = v; }
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> v) { this.monitoringEventTimes = v; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule v) { this.monitoringSchedule = v; }
 }
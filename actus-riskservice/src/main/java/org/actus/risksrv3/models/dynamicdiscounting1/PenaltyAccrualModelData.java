@@ -4,6 +4,7 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
 import java.util.Map;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 @Document(collection = "penaltyAccrualModels")
 public class PenaltyAccrualModelData {
@@ -18,6 +19,7 @@ public class PenaltyAccrualModelData {
     private String penaltyRateMOC;
     private int penaltyHorizonDays;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
     public PenaltyAccrualModelData() {}
     public String getRiskFactorId() { return riskFactorId; }
     public void setRiskFactorId(String v) { this.riskFactorId = v; }
@@ -39,4 +41,6 @@ public class PenaltyAccrualModelData {
     public void setPenaltyHorizonDays(int v) { this.penaltyHorizonDays = v; }
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> v) { this.monitoringEventTimes = v; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule v) { this.monitoringSchedule = v; }
 }
@@ -4,6 +4,7 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
 import java.util.Map;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 @Document(collection = "supplierUrgencyModels")
 public class SupplierUrgencyModelData {
@@ -21,6 +22,7 @@ public class SupplierUrgencyModelData {
     private String supplierStressMOC;
     private double hurdleRateAnnualized;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
     public SupplierUrgencyModelData() {}
     public String getRiskFactorId() { return riskFactorId; }
     public void setRiskFactorId(String v) { this.riskFactorId = v; }
@@ -48,4 +50,6 @@ public class SupplierUrgencyModelData {
     public void setHurdleRateAnnualized(double v) { this.hurdleRateAnnualized = v; }
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> v) { this.monitoringEventTimes = v; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule v) { this.monitoringSchedule = v; }
 }
@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.hybridtreasury1;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 /**
  * AllocationDriftModelData
@@ -49,6 +50,7 @@ public class AllocationDriftModelData {
     private double maxAllocation;
     private double minAllocation;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     // ================================================================
     // CLM/UMP/PAM support: when BTC is modeled as a debt instrument
@@ -223,6 +225,8 @@ public class AllocationDriftModelData {
 
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) { this.monitoringEventTimes = monitoringEventTimes; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) { this.monitoringSchedule = monitoringSchedule; }
 
     public double getPositionQuantity() { return positionQuantity; }
     public void setPositionQuantity(double positionQuantity) { this.positionQuantity = positionQuantity; }
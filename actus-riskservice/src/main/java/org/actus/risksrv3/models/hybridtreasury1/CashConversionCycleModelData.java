@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.hybridtreasury1;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 @Document(collection = "cashConversionCycleModels")
 public class CashConversionCycleModelData {
@@ -15,6 +16,7 @@ public class CashConversionCycleModelData {
     private String availableDiscountsMOC;
     private double minArbitrageSpread;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public CashConversionCycleModelData() {}
 
@@ -35,4 +37,6 @@ public class CashConversionCycleModelData {
 
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) { this.monitoringEventTimes = monitoringEventTimes; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) { this.monitoringSchedule = monitoringSchedule; }
 }
@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.hybridtreasury1;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 @Document(collection = "fairValueComplianceModels")
 public class FairValueComplianceModelData {
@@ -15,6 +16,7 @@ public class FairValueComplianceModelData {
     private double msciThreshold;
     private double materialityThreshold;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public FairValueComplianceModelData() {}
 
@@ -35,4 +37,6 @@ public class FairValueComplianceModelData {
 
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) { this.monitoringEventTimes = monitoringEventTimes; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) { this.monitoringSchedule = monitoringSchedule; }
 }
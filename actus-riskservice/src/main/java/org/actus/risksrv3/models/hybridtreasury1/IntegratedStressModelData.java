@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.hybridtreasury1;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 @Document(collection = "integratedStressModels")
 public class IntegratedStressModelData {
@@ -15,6 +16,7 @@ public class IntegratedStressModelData {
     private double highThreshold;
     private double cascadeMultiplier;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public IntegratedStressModelData() {}
 
@@ -35,4 +37,6 @@ public class IntegratedStressModelData {
 
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) { this.monitoringEventTimes = monitoringEventTimes; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) { this.monitoringSchedule = monitoringSchedule; }
 }
@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.hybridtreasury1;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 @Document(collection = "liquidityBufferModels")
 public class LiquidityBufferModelData {
@@ -15,6 +16,7 @@ public class LiquidityBufferModelData {
     private double minBufferUSD;
     private double targetBufferUSD;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public LiquidityBufferModelData() {}
 
@@ -35,4 +37,6 @@ public class LiquidityBufferModelData {
 
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) { this.monitoringEventTimes = monitoringEventTimes; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) { this.monitoringSchedule = monitoringSchedule; }
 }
@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.hybridtreasury1;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 /**
  * ScheduledCashFlowModelData
@@ -45,6 +46,7 @@ public class ScheduledCashFlowModelData {
 
     private List<CashFlowEntry> cashFlowSchedule;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public ScheduledCashFlowModelData() {}
 
@@ -82,4 +84,12 @@ public class ScheduledCashFlowModelData {
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) {
         this.monitoringEventTimes = monitoringEventTimes;
     }
+
+    public MonitoringSchedule getMonitoringSchedule() {
+        return monitoringSchedule;
+    }
+
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) {
+        this.monitoringSchedule = monitoringSchedule;
+    }
 }
@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.stablecoin;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 /**
  * AssetQualityModelData
@@ -48,6 +49,7 @@ public class AssetQualityModelData {
     private String hqlaMOC;
     
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public AssetQualityModelData() {
     }
@@ -75,6 +77,8 @@ public class AssetQualityModelData {
 
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) { this.monitoringEventTimes = monitoringEventTimes; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) { this.monitoringSchedule = monitoringSchedule; }
 
     // NEW: Getter/Setter for strictMode (BACKWARD COMPATIBLE)
     public boolean isStrictMode() { return strictMode; }
@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.stablecoin;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 /**
  * BackingRatioModelData
@@ -33,6 +34,7 @@ public class BackingRatioModelData {
     private double backingThreshold;
     private double liquidityThreshold;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public BackingRatioModelData() {
     }
@@ -86,4 +88,12 @@ public class BackingRatioModelData {
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) {
         this.monitoringEventTimes = monitoringEventTimes;
     }
+
+    public MonitoringSchedule getMonitoringSchedule() {
+        return monitoringSchedule;
+    }
+
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) {
+        this.monitoringSchedule = monitoringSchedule;
+    }
 }
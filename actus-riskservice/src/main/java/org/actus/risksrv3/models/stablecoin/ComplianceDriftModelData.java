@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.stablecoin;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 /**
  * ComplianceDriftModelData
@@ -39,6 +40,7 @@ public class ComplianceDriftModelData {
     private double hqlaMinScore;
     private double attestationMaxDays;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public ComplianceDriftModelData() {
     }
@@ -72,4 +74,6 @@ public class ComplianceDriftModelData {
 
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) { this.monitoringEventTimes = monitoringEventTimes; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) { this.monitoringSchedule = monitoringSchedule; }
 }
@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.stablecoin;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 /**
  * ConcentrationDriftModelData
@@ -40,6 +41,7 @@ public class ConcentrationDriftModelData {
     private double maxSingleAssetShare;
     private double hhiWarningThreshold;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public ConcentrationDriftModelData() {
     }
@@ -62,4 +64,6 @@ public class ConcentrationDriftModelData {
 
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) { this.monitoringEventTimes = monitoringEventTimes; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) { this.monitoringSchedule = monitoringSchedule; }
 }
@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.stablecoin;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 /**
  * ContinuousAttestationModelData
@@ -35,6 +36,7 @@ public class ContinuousAttestationModelData {
     private String complianceRiskMOC;
     private String earlyWarningRiskMOC;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public ContinuousAttestationModelData() {
     }
@@ -62,4 +64,6 @@ public class ContinuousAttestationModelData {
 
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) { this.monitoringEventTimes = monitoringEventTimes; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) { this.monitoringSchedule = monitoringSchedule; }
 }
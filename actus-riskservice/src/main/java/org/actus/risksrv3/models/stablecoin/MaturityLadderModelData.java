@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.stablecoin;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 /**
  * MaturityLadderModelData
@@ -25,6 +26,7 @@ public class MaturityLadderModelData {
 
     private String pegRiskScoreMOC;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public MaturityLadderModelData() {
     }
@@ -52,4 +54,12 @@ public class MaturityLadderModelData {
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) {
         this.monitoringEventTimes = monitoringEventTimes;
     }
+
+    public MonitoringSchedule getMonitoringSchedule() {
+        return monitoringSchedule;
+    }
+
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) {
+        this.monitoringSchedule = monitoringSchedule;
+    }
 }
@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.stablecoin;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 /**
  * RedemptionPressureModelData
@@ -29,6 +30,7 @@ public class RedemptionPressureModelData {
     private String cashReserveMOC;
     private double pegDeviationThreshold;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public RedemptionPressureModelData() {
     }
@@ -72,4 +74,12 @@ public class RedemptionPressureModelData {
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) {
         this.monitoringEventTimes = monitoringEventTimes;
     }
+
+    public MonitoringSchedule getMonitoringSchedule() {
+        return monitoringSchedule;
+    }
+
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) {
+        this.monitoringSchedule = monitoringSchedule;
+    }
 }
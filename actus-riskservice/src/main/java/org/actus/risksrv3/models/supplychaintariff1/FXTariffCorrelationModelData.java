@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.supplychaintariff1;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 /**
  * FXTariffCorrelationModelData
@@ -43,6 +44,7 @@ public class FXTariffCorrelationModelData {
     private double fxSensitivity;
     private double amplificationFactor;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public FXTariffCorrelationModelData() {
     }
@@ -70,4 +72,6 @@ public class FXTariffCorrelationModelData {
 
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) { this.monitoringEventTimes = monitoringEventTimes; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) { this.monitoringSchedule = monitoringSchedule; }
 }
@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.supplychaintariff1;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 /**
  * HedgeEffectivenessModelData
@@ -44,6 +45,7 @@ public class HedgeEffectivenessModelData {
     private double upperEffectivenessBound;
     private double tariffExposureSensitivity;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public HedgeEffectivenessModelData() {
     }
@@ -74,4 +76,6 @@ public class HedgeEffectivenessModelData {
 
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) { this.monitoringEventTimes = monitoringEventTimes; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) { this.monitoringSchedule = monitoringSchedule; }
 }
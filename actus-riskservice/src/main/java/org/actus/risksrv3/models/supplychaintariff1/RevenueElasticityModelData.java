@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.supplychaintariff1;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 /**
  * RevenueElasticityModelData
@@ -40,6 +41,7 @@ public class RevenueElasticityModelData {
     private double passThrough;
     private double revenueFloorFraction;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public RevenueElasticityModelData() {
     }
@@ -64,4 +66,6 @@ public class RevenueElasticityModelData {
 
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) { this.monitoringEventTimes = monitoringEventTimes; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) { this.monitoringSchedule = monitoringSchedule; }
 }
@@ -3,6 +3,7 @@ package org.actus.risksrv3.models.supplychaintariff1;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
+import org.actus.risksrv3.models.MonitoringSchedule;
 
 /**
  * TariffSpreadModelData
@@ -42,6 +43,7 @@ public class TariffSpreadModelData {
     private double maxSpreadCap;
     private double armingtonElasticity;
     private List<String> monitoringEventTimes;
+    private MonitoringSchedule monitoringSchedule;
 
     public TariffSpreadModelData() {
     }
@@ -69,4 +71,6 @@ public class TariffSpreadModelData {
 
     public List<String> getMonitoringEventTimes() { return monitoringEventTimes; }
     public void setMonitoringEventTimes(List<String> monitoringEventTimes) { this.monitoringEventTimes = monitoringEventTimes; }
+    public MonitoringSchedule getMonitoringSchedule() { return monitoringSchedule; }
+    public void setMonitoringSchedule(MonitoringSchedule monitoringSchedule) { this.monitoringSchedule = monitoringSchedule; }
 }
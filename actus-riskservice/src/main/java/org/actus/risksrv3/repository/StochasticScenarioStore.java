@@ -0,0 +1,18 @@
+package org.actus.risksrv3.repository;
+
+import org.actus.risksrv3.models.StochasticScenarioData;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+/**
+ * StochasticScenarioStore
+ *
+ * Spring Data MongoDB repository for StochasticScenarioData documents
+ * (Monte Carlo scenario parameters; generated paths are never stored).
+ *
+ * Injected into:
+ *   - RiskDataManager    (CRUD REST endpoints)
+ *   - RiskObservationHandler (path generation at scenario start)
+ */
+public interface StochasticScenarioStore
+        extends MongoRepository<StochasticScenarioData, String> {
+}
@@ -0,0 +1,137 @@
+package org.actus.risksrv3.repository.inmemory;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deep copies of stored documents, so that an {@link InMemoryMongoRepository} behaves like MongoDB:
+ * a saved entity is detached from the caller's instance and every find returns a fresh instance.
+ * <P>
+ * Entities are copied field by field (including fields hidden from JSON, e.g. ReferenceIndex.packedData).
+ * Strings, boxed primitives, enums and other java.* values are immutable and shared; arrays, lists, sets
+ * and maps are copied element by element; any other object is instantiated with its no-arg constructor.
+ */
+final class DocumentCopier {
+
+	private static final Map<Class<?>,List<Field>> FIELDS = new ConcurrentHashMap<Class<?>,List<Field>>();
+
+	private DocumentCopier() {
+	}
+
+	/**
+	 * returns a deep copy of a document
+	 * @param document
+	 * @return copy
+	 */
+	static <T> T copy(T document) {
+		return copy(document, new IdentityHashMap<Object,Object>());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T copy(T value, IdentityHashMap<Object,Object> copies) {
+		if (value == null || isImmutable(value.getClass()))
+			return value;
+		Object copied = copies.get(value);
+		if (copied != null)
+			return (T) copied;
+		Class<?> type = value.getClass();
+		if (type.isArray()) {
+			int length = Array.getLength(value);
+			Object array = Array.newInstance(type.getComponentType(), length);
+			copies.put(value, array);
+			if (type.getComponentType().isPrimitive()) {
+				System.arraycopy(value, 0, array, 0, length);
+			} else {
+				for (int i = 0; i < length; i++)
+					Array.set(array, i, copy(Array.get(value, i), copies));
+			}
+			return (T) array;
+		}
+		if (value instanceof Map) {
+			Map<Object,Object> map = (value instanceof SortedMap)
+					? new TreeMap<Object,Object>(((SortedMap<Object,Object>) value).comparator())
+					: new LinkedHashMap<Object,Object>();
+			copies.put(value, map);
+			for (Map.Entry<?,?> entry : ((Map<?,?>) value).entrySet())
+				map.put(copy(entry.getKey(), copies), copy(entry.getValue(), copies));
+			return (T) map;
+		}
+		if (value instanceof Collection) {
+			Collection<Object> collection;
+			if (value instanceof SortedSet)
+				collection = new TreeSet<Object>(((SortedSet<Object>) value).comparator());
+			else if (value instanceof Set)
+				collection = new LinkedHashSet<Object>();
+			else
+				collection = new ArrayList<Object>();
+			copies.put(value, collection);
+			for (Object element : (Collection<?>) value)
+				collection.add(copy(element, copies));
+			return (T) collection;
+		}
+		if (type.getName().startsWith("java."))
+			throw new IllegalArgumentException("cannot copy stored value of " + type);
+		try {
+			Constructor<?> constructor = type.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			Object instance = constructor.newInstance();
+			copies.put(value, instance);
+			for (Field field : fieldsOf(type))
+				field.set(instance, copy(field.get(value), copies));
+			return (T) instance;
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalArgumentException("cannot copy stored value of " + type
+					+ " - documents need a no-arg constructor", e);
+		}
+	}
+
+	/**
+	 * returns the instance fields of a document class and its superclasses, made accessible
+	 * @param type
+	 * @return fields
+	 */
+	static List<Field> fieldsOf(Class<?> type) {
+		return FIELDS.computeIfAbsent(type, t -> {
+			List<Field> fields = new ArrayList<Field>();
+			for (Class<?> c = t; c != null && c != Object.class; c = c.getSuperclass()) {
+				for (Field field : c.getDeclaredFields()) {
+					if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic())
+						continue;
+					field.setAccessible(true);
+					fields.add(field);
+				}
+			}
+			return fields;
+		});
+	}
+
+	/**
+	 * true for values that are never modified in place and hence shared between copies
+	 * @param type
+	 * @return immutable
+	 */
+	static boolean isImmutable(Class<?> type) {
+		if (type.isPrimitive() || type.isEnum() || type.isRecord())
+			return true;
+		String name = type.getName();
+		return type == String.class || type == Boolean.class || type == Character.class
+				|| (Number.class.isAssignableFrom(type) && (name.startsWith("java.lang.") || name.startsWith("java.math.")))
+				|| name.startsWith("java.time.") || type == java.util.UUID.class
+				|| Enum.class.isAssignableFrom(type);
+	}
+}
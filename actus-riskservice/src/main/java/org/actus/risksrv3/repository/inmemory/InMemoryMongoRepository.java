@@ -0,0 +1,353 @@
+package org.actus.risksrv3.repository.inmemory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+/**
+ * In-memory implementation of a risksrv3 store interface (any interface extending
+ * MongoRepository&lt;T,String&gt;) backed by a ConcurrentHashMap keyed on the entity's @Id field.
+ * <P>
+ * Supported are the CRUD methods (save, saveAll, insert, findById, findAllById, findAll, existsById,
+ * count and the delete variants), findAll with a Sort or Pageable, and the query by Example methods
+ * findOne, findAll, count and exists. Examples match on the probe's fields as Spring Data does, with the
+ * matcher's default string matching, case, null handling and ignored paths; property specific matchers
+ * and the fluent findBy(Example, Function) are not supported. Store interfaces declaring their own
+ * (derived) query methods are rejected when the store is created.
+ * <P>
+ * Documents are copied on the way in and on the way out (see {@link DocumentCopier}), so that, as with
+ * MongoDB, changes to an entity are only stored by save() and never leak between callers.
+ */
+public class InMemoryMongoRepository implements InvocationHandler {
+
+	private final Class<?> storeInterface;
+	private final Class<?> entityClass;
+	private final Field idField;
+	private final ConcurrentHashMap<String,Object> documents = new ConcurrentHashMap<String,Object>();
+
+	private InMemoryMongoRepository(Class<?> storeInterface) {
+		this.storeInterface = storeInterface;
+		this.entityClass = entityClassOf(storeInterface);
+		this.idField = idFieldOf(this.entityClass);
+		for (Method method : storeInterface.getMethods()) {
+			if (!method.isDefault() && !method.getDeclaringClass().getName().startsWith("org.springframework.data."))
+				throw new IllegalArgumentException("In-memory " + storeInterface.getSimpleName()
+						+ " cannot derive the query of " + method);
+		}
+	}
+
+	/**
+	 * creates an in-memory instance of a store interface
+	 * @param storeInterface e.g. ReferenceIndexStore.class
+	 * @return store proxy
+	 */
+	@SuppressWarnings("unchecked")
+	public static <R> R create(Class<R> storeInterface) {
+		return (R) Proxy.newProxyInstance(storeInterface.getClassLoader(),
+				new Class<?>[] { storeInterface }, new InMemoryMongoRepository(storeInterface));
+	}
+
+	/**
+	 * returns the entity class stored by an in-memory store proxy
+	 * @param store
+	 * @return entity class
+	 */
+	public static Class<?> entityClass(Object store) {
+		return ((InMemoryMongoRepository) Proxy.getInvocationHandler(store)).entityClass;
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		String name = method.getName();
+		int argc = (args == null) ? 0 : args.length;
+		if (method.getDeclaringClass() == Object.class) {
+			switch (name) {
+			case "equals":   return proxy == args[0];
+			case "hashCode": return System.identityHashCode(proxy);
+			default:         return "InMemory" + this.storeInterface.getSimpleName();
+			}
+		}
+		if (method.isDefault())
+			return InvocationHandler.invokeDefault(proxy, method, args);
+		if (argc == 0) {
+			switch (name) {
+			case "findAll":   return copies(this.documents.values());
+			case "count":     return (long) this.documents.size();
+			case "deleteAll": this.documents.clear(); return null;
+			}
+		}
+		else if (argc == 1) {
+			Object arg = args[0];
+			boolean iterable = (arg instanceof Iterable);
+			switch (name) {
+			case "save":
+				if (!iterable)
+					return put(arg, false);
+				// fall through for the Iterable variant
+			case "saveAll": {
+				List<Object> saved = new ArrayList<Object>();
+				for (Object entity : (Iterable<?>) arg)
+					saved.add(put(entity, false));
+				return saved;
+			}
+			case "insert": {
+				if (!iterable)
+					return put(arg, true);
+				List<Object> inserted = new ArrayList<Object>();
+				for (Object entity : (Iterable<?>) arg)
+					inserted.add(put(entity, true));
+				return inserted;
+			}
+			case "findById":
+				return Optional.ofNullable(DocumentCopier.copy(this.documents.get((String) arg)));
+			case "existsById":
+				return this.documents.containsKey((String) arg);
+			case "findAllById": {
+				List<Object> found = new ArrayList<Object>();
+				for (Object id : (Iterable<?>) arg) {
+					Object entity = this.documents.get((String) id);
+					if (entity != null)
+						found.add(DocumentCopier.copy(entity));
+				}
+				return found;
+			}
+			case "deleteById":
+				this.documents.remove((String) arg);
+				return null;
+			case "delete":
+				this.documents.remove(idOf(arg));
+				return null;
+			case "deleteAllById":
+				for (Object id : (Iterable<?>) arg)
+					this.documents.remove((String) id);
+				return null;
+			case "deleteAll":
+				for (Object entity : (Iterable<?>) arg)
+					this.documents.remove(idOf(entity));
+				return null;
+			case "findAll":
+				if (arg instanceof Sort)
+					return sorted(copies(this.documents.values()), (Sort) arg);
+				if (arg instanceof Pageable)
+					return page(copies(this.documents.values()), (Pageable) arg);
+				return copies(matching((Example<?>) arg));
+			case "findOne": {
+				List<Object> found = matching((Example<?>) arg);
+				if (found.size() > 1)
+					throw new IncorrectResultSizeDataAccessException(1, found.size());
+				return found.isEmpty() ? Optional.empty() : Optional.of(DocumentCopier.copy(found.get(0)));
+			}
+			case "count":
+				return (long) matching((Example<?>) arg).size();
+			case "exists":
+				return !matching((Example<?>) arg).isEmpty();
+			}
+		}
+		else if (argc == 2 && name.equals("findAll") && args[0] instanceof Example) {
+			List<Object> found = copies(matching((Example<?>) args[0]));
+			if (args[1] instanceof Sort)
+				return sorted(found, (Sort) args[1]);
+			if (args[1] instanceof Pageable)
+				return page(found, (Pageable) args[1]);
+		}
+		throw new UnsupportedOperationException(
+				"In-memory " + this.storeInterface.getSimpleName() + " does not support " + method);
+	}
+
+	private Object put(Object entity, boolean insert) throws IllegalAccessException {
+		String id = idOf(entity);
+		if (id == null) {
+			// MongoDB would assign an ObjectId
+			id = UUID.randomUUID().toString();
+			this.idField.set(entity, id);
+		}
+		Object stored = DocumentCopier.copy(entity);
+		if (!insert)
+			this.documents.put(id, stored);
+		else if (this.documents.putIfAbsent(id, stored) != null)
+			throw new DuplicateKeyException("In-memory " + this.storeInterface.getSimpleName()
+					+ " already holds a document with id " + id);
+		return entity;
+	}
+
+	private static List<Object> copies(Collection<Object> stored) {
+		List<Object> copies = new ArrayList<Object>(stored.size());
+		for (Object entity : stored)
+			copies.add(DocumentCopier.copy(entity));
+		return copies;
+	}
+
+	private List<Object> matching(Example<?> example) {
+		ExampleMatcher matcher = example.getMatcher();
+		if (matcher.getPropertySpecifiers().hasValues())
+			throw new UnsupportedOperationException("In-memory " + this.storeInterface.getSimpleName()
+					+ " does not support property specific example matchers");
+		List<Object> found = new ArrayList<Object>();
+		for (Object entity : this.documents.values()) {
+			List<Boolean> predicates = new ArrayList<Boolean>();
+			match(example.getProbe(), entity, "", matcher, predicates);
+			boolean matches = matcher.isAllMatching()
+					? !predicates.contains(Boolean.FALSE)
+					: predicates.isEmpty() || predicates.contains(Boolean.TRUE);
+			if (matches)
+				found.add(entity);
+		}
+		return found;
+	}
+
+	// one predicate per probe property taking part in the match, nested objects are matched field by field
+	private static void match(Object probe, Object entity, String path, ExampleMatcher matcher, List<Boolean> predicates) {
+		for (Field field : DocumentCopier.fieldsOf(probe.getClass())) {
+			String property = path + field.getName();
+			if (matcher.isIgnoredPath(property))
+				continue;
+			Object expected = get(field, probe);
+			Object actual = (entity == null || !field.getDeclaringClass().isInstance(entity)) ? null : get(field, entity);
+			if (expected == null) {
+				if (matcher.getNullHandler() == ExampleMatcher.NullHandler.INCLUDE)
+					predicates.add(actual == null);
+			}
+			else if (expected instanceof String) {
+				predicates.add(actual instanceof String && matches((String) expected, (String) actual, matcher));
+			}
+			else if (DocumentCopier.isImmutable(expected.getClass()) || expected instanceof Collection
+					|| expected instanceof Map || expected.getClass().isArray()) {
+				predicates.add(expected.equals(actual));
+			}
+			else {
+				match(expected, actual, property + ".", matcher, predicates);
+			}
+		}
+	}
+
+	private static boolean matches(String expected, String actual, ExampleMatcher matcher) {
+		if (matcher.isIgnoreCaseEnabled()) {
+			expected = expected.toLowerCase();
+			actual = actual.toLowerCase();
+		}
+		switch (matcher.getDefaultStringMatcher()) {
+		case STARTING:   return actual.startsWith(expected);
+		case ENDING:     return actual.endsWith(expected);
+		case CONTAINING: return actual.contains(expected);
+		case REGEX:      return actual.matches(expected);
+		default:         return actual.equals(expected);
+		}
+	}
+
+	private static List<Object> sorted(List<Object> entities, Sort sort) {
+		Comparator<Object> comparator = null;
+		for (Sort.Order order : sort) {
+			Comparator<Object> byProperty = (a, b) -> compare(property(a, order.getProperty()),
+					property(b, order.getProperty()), order.isIgnoreCase());
+			if (order.isDescending())
+				byProperty = byProperty.reversed();
+			comparator = (comparator == null) ? byProperty : comparator.thenComparing(byProperty);
+		}
+		if (comparator != null)
+			entities.sort(comparator);
+		return entities;
+	}
+
+	private static PageImpl<Object> page(List<Object> entities, Pageable pageable) {
+		if (pageable.isUnpaged())
+			return new PageImpl<Object>(sorted(entities, pageable.getSort()), pageable, entities.size());
+		sorted(entities, pageable.getSort());
+		int from = (int) Math.min(pageable.getOffset(), entities.size());
+		int to = Math.min(from + pageable.getPageSize(), entities.size());
+		return new PageImpl<Object>(new ArrayList<Object>(entities.subList(from, to)), pageable, entities.size());
+	}
+
+	// as MongoDB, missing values sort before all others
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static int compare(Object a, Object b, boolean ignoreCase) {
+		if (a == null || b == null)
+			return (a == null) ? ((b == null) ? 0 : -1) : 1;
+		if (ignoreCase && a instanceof String && b instanceof String)
+			return ((String) a).compareToIgnoreCase((String) b);
+		if (a instanceof Comparable && a.getClass() == b.getClass())
+			return ((Comparable) a).compareTo(b);
+		if (a instanceof Number && b instanceof Number)
+			return Double.compare(((Number) a).doubleValue(), ((Number) b).doubleValue());
+		return a.toString().compareTo(b.toString());
+	}
+
+	// value of a (dotted) property path, null if the path does not exist
+	private static Object property(Object entity, String path) {
+		Object value = entity;
+		for (String name : path.split("\\.")) {
+			if (value == null)
+				return null;
+			Field field = null;
+			for (Field candidate : DocumentCopier.fieldsOf(value.getClass())) {
+				if (candidate.getName().equals(name)) {
+					field = candidate;
+					break;
+				}
+			}
+			value = (field == null) ? null : get(field, value);
+		}
+		return value;
+	}
+
+	private static Object get(Field field, Object entity) {
+		try {
+			return field.get(entity);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private String idOf(Object entity) {
+		Object id = get(this.idField, entity);
+		return (id == null) ? null : id.toString();
+	}
+
+	private static Class<?> entityClassOf(Class<?> storeInterface) {
+		for (Type type : storeInterface.getGenericInterfaces()) {
+			if (type instanceof ParameterizedType
+					&& ((ParameterizedType) type).getRawType() == MongoRepository.class) {
+				return (Class<?>) ((ParameterizedType) type).getActualTypeArguments()[0];
+			}
+		}
+		throw new IllegalArgumentException(storeInterface + " does not extend MongoRepository<T,String>");
+	}
+
+	private static Field idFieldOf(Class<?> entityClass) {
+		Field fallback = null;
+		for (Class<?> c = entityClass; c != null && c != Object.class; c = c.getSuperclass()) {
+			for (Field field : c.getDeclaredFields()) {
+				if (field.isAnnotationPresent(Id.class)) {
+					field.setAccessible(true);
+					return field;
+				}
+				if (field.getName().equals("id"))
+					fallback = field;
+			}
+		}
+		if (fallback == null)
+			throw new IllegalArgumentException(entityClass + " has no @Id field");
+		fallback.setAccessible(true);
+		return fallback;
+	}
+}
@@ -0,0 +1,82 @@
+package org.actus.risksrv3.repository.inmemory;
+
+import java.beans.Introspector;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+/**
+ * "inmemory" profile: every store interface under org.actus.risksrv3.repository is backed by an
+ * {@link InMemoryMongoRepository} instead of MongoDB. application-inmemory.properties excludes the
+ * Mongo auto-configuration so risksrv3 starts without a database; {@link SnapshotLoader} fills the
+ * stores from a snapshot directory at startup.
+ *
+ * Run with  --spring.profiles.active=inmemory --risksrv3.inmemory.snapshot=simulations/local
+ */
+@Configuration
+@Profile("inmemory")
+public class InMemoryRepositoryConfig {
+
+	public static final String REPOSITORY_PACKAGE = "org.actus.risksrv3.repository";
+
+	@Bean
+	public static BeanDefinitionRegistryPostProcessor inMemoryStoreRegistrar() {
+		return new BeanDefinitionRegistryPostProcessor() {
+			@Override
+			public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+				for (Class<?> store : findStoreInterfaces()) {
+					registerStore(registry, store);
+				}
+			}
+			@Override
+			public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+			}
+		};
+	}
+
+	/**
+	 * returns the bean name under which a store interface is registered, e.g. referenceIndexStore
+	 * @param storeName simple name of the store interface
+	 * @return bean name
+	 */
+	public static String beanName(String storeName) {
+		return Introspector.decapitalize(storeName);
+	}
+
+	private static <R> void registerStore(BeanDefinitionRegistry registry, Class<R> store) {
+		RootBeanDefinition definition = new RootBeanDefinition(store, () -> InMemoryMongoRepository.create(store));
+		definition.setPrimary(true);
+		registry.registerBeanDefinition(beanName(store.getSimpleName()), definition);
+	}
+
+	private static List<Class<?>> findStoreInterfaces() {
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+			@Override
+			protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+				return beanDefinition.getMetadata().isInterface();
+			}
+		};
+		scanner.addIncludeFilter(new AssignableTypeFilter(MongoRepository.class));
+		List<Class<?>> stores = new ArrayList<Class<?>>();
+		for (BeanDefinition candidate : scanner.findCandidateComponents(REPOSITORY_PACKAGE)) {
+			try {
+				stores.add(Class.forName(candidate.getBeanClassName()));
+			} catch (ClassNotFoundException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		return stores;
+	}
+}
@@ -0,0 +1,189 @@
+package org.actus.risksrv3.repository.inmemory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Loads the in-memory stores from a snapshot directory at startup and dumps them back to disk.
+ * <P>
+ * Every *.json file under the directory (recursively) is read as either
+ * <ul>
+ * <li>a store dump: file name is the store name without "Store" (ReferenceIndex.json,
+ *     CollateralLTVModel.json, ...) and the content a JSON array of documents, as written by dump()</li>
+ * <li>a Postman collection (e.g. simulations/local): every POST request to /add&lt;Name&gt; is
+ *     replayed into &lt;Name&gt;Store, just as RiskDataManager would save it</li>
+ * </ul>
+ * Files are loaded in path order; a later document with the same id replaces an earlier one.
+ * <P>
+ * /dumpSnapshot and /loadSnapshot only reach paths below risksrv3.inmemory.dump, see snapshotPath().
+ */
+@Component
+@Profile("inmemory")
+public class SnapshotLoader {
+
+	@Autowired
+	private ApplicationContext context;
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private
+	@Value("${risksrv3.inmemory.snapshot:}")
+	String snapshotDirectory;
+	private
+	@Value("${risksrv3.inmemory.dump:snapshot}")
+	String dumpDirectory;
+
+	public SnapshotLoader() {
+	}
+
+	// stores looked up in context, request paths confined to dumpDirectory
+	SnapshotLoader(ApplicationContext context, ObjectMapper objectMapper, String dumpDirectory) {
+		this.context = context;
+		this.objectMapper = objectMapper;
+		this.dumpDirectory = dumpDirectory;
+	}
+
+	@PostConstruct
+	void loadSnapshot() throws IOException {
+		if (snapshotDirectory == null || snapshotDirectory.isBlank()) {
+			System.out.println("**** fnp300 inmemory stores start empty - no risksrv3.inmemory.snapshot set");
+			return;
+		}
+		List<Path> files;
+		try (Stream<Path> walk = Files.walk(Paths.get(snapshotDirectory))) {
+			files = walk.filter(p -> p.toString().endsWith(".json")).sorted().collect(Collectors.toList());
+		}
+		int documents = 0;
+		for (Path file : files) {
+			documents += load(file);
+		}
+		System.out.println("**** fnp301 loaded " + documents + " documents from " + files.size()
+				+ " snapshot files in " + snapshotDirectory);
+	}
+
+	/**
+	 * resolves a snapshot file or directory name of a request against the dump directory
+	 * @param name relative path below risksrv3.inmemory.dump; null or blank for the directory itself
+	 * @return normalized absolute path
+	 * @throws IllegalArgumentException if the name leaves the dump directory (.., absolute paths, symbolic links)
+	 */
+	public Path snapshotPath(String name) throws IOException {
+		Path base = Paths.get(dumpDirectory).toAbsolutePath().normalize();
+		if (name == null || name.isBlank())
+			return base;
+		Path path = base.resolve(name).normalize();
+		boolean inside = path.startsWith(base);
+		// symbolic links below the dump directory must not lead out of it either
+		Path existing = path;
+		while (inside && existing != null && !existing.equals(base) && !Files.exists(existing))
+			existing = existing.getParent();
+		if (inside && Files.exists(base))
+			inside = existing.toRealPath().startsWith(base.toRealPath());
+		if (!inside)
+			throw new IllegalArgumentException("Snapshot " + name + " is not a path below the dump directory " + dumpDirectory);
+		return path;
+	}
+
+	/**
+	 * loads one snapshot file, either a store dump or a Postman collection
+	 * @param file
+	 * @return number of documents saved
+	 */
+	public int load(Path file) throws IOException {
+		JsonNode root;
+		try {
+			root = objectMapper.readTree(file.toFile());
+		} catch (IOException e) {
+			System.out.println("**** fnp302 skipping unreadable snapshot file " + file + " : " + e.getMessage());
+			return 0;
+		}
+		String name = file.getFileName().toString().replaceFirst("\\.json$", "");
+		MongoRepository<Object,String> store = store(name);
+		if (store != null && root.isArray()) {
+			Class<?> entityClass = InMemoryMongoRepository.entityClass(store);
+			for (JsonNode document : root) {
+				store.save(objectMapper.treeToValue(document, entityClass));
+			}
+			return root.size();
+		}
+		if (root.has("item")) {
+			return loadCollectionItems(root.get("item"), file);
+		}
+		return 0;
+	}
+
+	private int loadCollectionItems(JsonNode items, Path file) {
+		int documents = 0;
+		for (JsonNode item : items) {
+			if (item.has("item")) {
+				documents += loadCollectionItems(item.get("item"), file);
+				continue;
+			}
+			JsonNode request = item.path("request");
+			if (!request.path("method").asText().equals("POST"))
+				continue;
+			JsonNode url = request.path("url");
+			String raw = url.isTextual() ? url.asText() : url.path("raw").asText();
+			String endpoint = raw.replaceFirst("\\?.*$", "").replaceFirst("^.*/", "");
+			if (!endpoint.startsWith("add"))
+				continue;
+			MongoRepository<Object,String> store = store(endpoint.substring(3));
+			if (store == null)
+				continue;
+			try {
+				String body = request.path("body").path("raw").asText();
+				store.save(objectMapper.readValue(body, InMemoryMongoRepository.entityClass(store)));
+				documents++;
+			} catch (IOException e) {
+				System.out.println("**** fnp302 skipping /" + endpoint + " in " + file + " : " + e.getMessage());
+			}
+		}
+		return documents;
+	}
+
+	/**
+	 * writes every store as a JSON array to directory/&lt;Name&gt;.json, loadable by load()
+	 * @param directory
+	 * @return number of documents written
+	 */
+	public int dump(Path directory) throws IOException {
+		Files.createDirectories(directory);
+		int documents = 0;
+		for (Map.Entry<String,MongoRepository> entry : context.getBeansOfType(MongoRepository.class).entrySet()) {
+			String beanName = entry.getKey();
+			String name = Character.toUpperCase(beanName.charAt(0)) + beanName.substring(1).replaceFirst("Store$", "");
+			List<?> all = entry.getValue().findAll();
+			objectMapper.writerWithDefaultPrettyPrinter().writeValue(directory.resolve(name + ".json").toFile(), all);
+			documents += all.size();
+		}
+		System.out.println("**** fnp303 dumped " + documents + " documents to " + directory);
+		return documents;
+	}
+
+	@SuppressWarnings("unchecked")
+	private MongoRepository<Object,String> store(String name) {
+		String beanName = InMemoryRepositoryConfig.beanName(name + "Store");
+		if (!context.containsBean(beanName))
+			return null;
+		Object bean = context.getBean(beanName);
+		return (bean instanceof MongoRepository) ? (MongoRepository<Object,String>) bean : null;
+	}
+}
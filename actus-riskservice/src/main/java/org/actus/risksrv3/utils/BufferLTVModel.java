@@ -43,6 +43,7 @@ public class BufferLTVModel implements BehaviorRiskModelProvider {
 
     private final String riskFactorId;
     private final String collateralPriceMarketObjectCode;
+    private final int collateralPriceHandle;
     private final double collateralQuantity;
     private final String bufferContractId;
     private final double initialBufferQuantity;
@@ -89,8 +90,9 @@ public class BufferLTVModel implements BehaviorRiskModelProvider {
         this.cooldownMillis = data.getCooldownMillis();
         this.fallingKnifePriceDropThreshold = data.getFallingKnifePriceDropThreshold();
         this.fallingKnifeTimeWindowMillis = data.getFallingKnifeTimeWindowMillis();
-        this.monitoringEventTimes = data.getMonitoringEventTimes();
+        this.monitoringEventTimes = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel = marketModel;
+        this.collateralPriceHandle = marketModel.handle(this.collateralPriceMarketObjectCode);
 
         // Initialize buffer quantity
         this.currentBufferQuantity = this.initialBufferQuantity;
@@ -121,7 +123,7 @@ public class BufferLTVModel implements BehaviorRiskModelProvider {
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
         
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
@@ -156,8 +158,7 @@ public class BufferLTVModel implements BehaviorRiskModelProvider {
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
         // Step 1: Fetch current ETH price
-        double ethPrice = this.marketModel.stateAt(
-            this.collateralPriceMarketObjectCode, time);
+        double ethPrice = this.marketModel.stateAt(this.collateralPriceHandle, time);
 
         if (ethPrice <= 0.0) {
             System.out.println("**** BufferLTVModel WARNING: Invalid ETH price at " + time);
@@ -0,0 +1,150 @@
+package org.actus.risksrv3.utils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import org.actus.risksrv3.core.attributes.ContractModel;
+import org.actus.risksrv3.models.CalloutData;
+
+/**
+ * {@link CalloutPruner} class
+ * <P>
+ * Answers the callouts of a {@link PrunableBehaviorModel} at which the model cannot trigger
+ * at contract start. The callouts are sorted by time and bisected: a window is settled as a
+ * whole when the range min/max of every trigger input over it (MarketRiskModelProvider.rangeOf)
+ * rules out a trigger, otherwise it is split until single callouts remain. A window whose
+ * range is not known is left open.
+ * <P>
+ * Settled callouts are not dropped but returned with value 0.0, the value stateAt( ) would
+ * return. The client still creates their PP events, with the payoff and state transition of
+ * a 0.0 callout, but does not call /behaviorStateAt for them; so the events are identical to
+ * those of an unpruned run and only the round trips are saved.
+ */
+public final class CalloutPruner {
+
+	// contract types whose notional only decreases after IED, absent interest capitalization
+	private static final Set<String> AMORTIZING_TYPES = Set.of("PAM", "LAM", "ANN");
+
+	private CalloutPruner() {
+	}
+
+	/**
+	 * Returns an upper bound on |notionalPrincipal| over the life of the contract, or null
+	 * if the contract type or its attributes allow the notional to grow
+	 * @param contract
+	 * @return bound or null
+	 */
+	public static Double notionalBound(ContractModel contract) {
+		Double notional = contract.getAs("notionalPrincipal");
+		if (notional == null || !AMORTIZING_TYPES.contains(String.valueOf(contract.<Object>getAs("contractType")))
+				|| contract.getAs("capitalizationEndDate") != null)
+			return null;
+		return Math.abs(notional);
+	}
+
+	/**
+	 * Returns an upper bound on |notionalPrincipal| + |accruedInterest| over the life of the
+	 * contract, or null if there is none: interest accrues at a fixed rate for at most the
+	 * IED to maturity period, counted generously as (days + 31) / 360 years to cover any
+	 * day count convention
+	 * @param contract
+	 * @return bound or null
+	 */
+	public static Double debtBound(ContractModel contract) {
+		Double notional = notionalBound(contract);
+		LocalDateTime ied = contract.getAs("initialExchangeDate");
+		LocalDateTime maturity = contract.getAs("maturityDate");
+		if (notional == null || ied == null || maturity == null || contract.getAs("cycleOfRateReset") != null)
+			return null;
+		Double rate = contract.getAs("nominalInterestRate");
+		Double accrued = contract.getAs("accruedInterest");
+		double years = (ChronoUnit.DAYS.between(ied, maturity) + 31) / 360.0;
+		return notional * (1.0 + Math.abs(rate == null ? 0.0 : rate) * years)
+				+ Math.abs(accrued == null ? 0.0 : accrued);
+	}
+
+	/**
+	 * @param model behavior model the callouts belong to
+	 * @param contract the contract being started
+	 * @param marketModel market of the active scenario
+	 * @param callouts the model's callouts for the contract
+	 * @return the callouts in their original order, those that cannot trigger copied with value 0.0
+	 */
+	public static List<CalloutData> prune(PrunableBehaviorModel model, ContractModel contract,
+			MarketRiskModelProvider marketModel, List<CalloutData> callouts) {
+		int n = callouts.size();
+		if (n == 0)
+			return callouts;
+		LocalDateTime[] times = new LocalDateTime[n];
+		Integer[] order = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			times[i] = LocalDateTime.parse(callouts.get(i).getTime());
+			order[i] = i;
+		}
+		Arrays.sort(order, Comparator.comparing(i -> times[i]));
+		boolean[] keep = new boolean[n];
+		new Bisection(model, contract, marketModel, times, order, keep).visit(0, n - 1);
+		List<CalloutData> pruned = new ArrayList<CalloutData>(n);
+		for (int i = 0; i < n; i++) {
+			CalloutData callout = callouts.get(i);
+			if (!keep[i]) {
+				callout = new CalloutData(callout.getModelID(), callout.getTime(), callout.getCalloutType());
+				callout.setValue(0.0);
+			}
+			pruned.add(callout);
+		}
+		return pruned;
+	}
+
+	private static class Bisection {
+		final PrunableBehaviorModel model;
+		final ContractModel contract;
+		final MarketRiskModelProvider marketModel;
+		final List<String> inputs;
+		final LocalDateTime[] times;
+		final Integer[] order;
+		final boolean[] keep;
+
+		Bisection(PrunableBehaviorModel model, ContractModel contract, MarketRiskModelProvider marketModel,
+				LocalDateTime[] times, Integer[] order, boolean[] keep) {
+			this.model = model;
+			this.contract = contract;
+			this.marketModel = marketModel;
+			this.inputs = model.triggerInputs();
+			this.times = times;
+			this.order = order;
+			this.keep = keep;
+		}
+
+		// callouts order[lo..hi], inclusive
+		void visit(int lo, int hi) {
+			if (!canTrigger(times[order[lo]], times[order[hi]]))
+				return;
+			if (lo == hi) {
+				keep[order[lo]] = true;
+				return;
+			}
+			int mid = (lo + hi) >>> 1;
+			visit(lo, mid);
+			visit(mid + 1, hi);
+		}
+
+		boolean canTrigger(LocalDateTime from, LocalDateTime to) {
+			double[] min = new double[inputs.size()];
+			double[] max = new double[inputs.size()];
+			for (int i = 0; i < inputs.size(); i++) {
+				double[] range = marketModel.rangeOf(inputs.get(i), from, to);
+				if (range == null || Double.isNaN(range[0]) || Double.isNaN(range[1]))
+					return true;
+				min[i] = range[0];
+				max[i] = range[1];
+			}
+			return model.canTrigger(contract, min, max);
+		}
+	}
+}
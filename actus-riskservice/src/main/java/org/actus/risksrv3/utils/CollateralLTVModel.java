@@ -29,7 +29,7 @@ import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
  * Place this file in:
  *   src/main/java/org/actus/risksrv3/utils/
  */
-public class CollateralLTVModel implements BehaviorRiskModelProvider {
+public class CollateralLTVModel implements BehaviorRiskModelProvider, PrunableBehaviorModel {
 
     /** Callout event type - same as TwoDimensionalPrepaymentModel uses. */
     public static final String CALLOUT_TYPE = "MRD";
@@ -40,6 +40,7 @@ public class CollateralLTVModel implements BehaviorRiskModelProvider {
 
     private final String riskFactorId;
     private final String collateralPriceMarketObjectCode;
+    private final int collateralPriceHandle;
     private final double collateralQuantity;
     private final double ltvThreshold;
     private final double ltvTarget;
@@ -62,8 +63,9 @@ public class CollateralLTVModel implements BehaviorRiskModelProvider {
         this.ltvThreshold                     = data.getLtvThreshold();
         this.ltvTarget                        = data.getLtvTarget();
         this.liquidationThreshold             = data.getLiquidationThreshold();
-        this.monitoringEventTimes             = data.getMonitoringEventTimes();
+        this.monitoringEventTimes             = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel                      = marketModel;
+        this.collateralPriceHandle            = marketModel.handle(this.collateralPriceMarketObjectCode);
     }
 
     // -------------------------------------------------------------------------
@@ -83,7 +85,7 @@ public class CollateralLTVModel implements BehaviorRiskModelProvider {
         // PP-before-IED fix: filter out callouts before contract starts
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
@@ -96,6 +98,27 @@ public class CollateralLTVModel implements BehaviorRiskModelProvider {
         return callouts;
     }
 
+    public List<String> triggerInputs() {
+        return List.of(this.collateralPriceMarketObjectCode);
+    }
+
+    /**
+     * LTV <= notionalBound / (collateralQuantity x minPrice), so no action is possible while
+     * that stays below the lower of ltvThreshold and liquidationThreshold. Unbounded notional
+     * (contract types that can grow) never prunes.
+     */
+    public boolean canTrigger(ContractModel contract, double[] min, double[] max) {
+        Double notionalBound = CalloutPruner.notionalBound(contract);
+        double threshold = Math.min(this.ltvThreshold, this.liquidationThreshold);
+        if (notionalBound == null || this.collateralQuantity <= 0.0 || threshold <= 0.0)
+            return true;
+        if (max[0] <= 0.0)
+            return false;   // stateAt guards against bad data with 0.0
+        if (min[0] <= 0.0)
+            return true;
+        return notionalBound / (this.collateralQuantity * min[0]) >= threshold;
+    }
+
     /**
      * Core LTV logic - called at each MRD event time by actus-core.
      *
@@ -107,8 +130,7 @@ public class CollateralLTVModel implements BehaviorRiskModelProvider {
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
         // Fetch current ETH price from market model
-        double ethPrice = this.marketModel.stateAt(
-                this.collateralPriceMarketObjectCode, time);
+        double ethPrice = this.marketModel.stateAt(this.collateralPriceHandle, time);
 
         // Guard against bad data
         if (ethPrice <= 0.0) {
@@ -0,0 +1,131 @@
+package org.actus.risksrv3.utils;
+
+import java.util.Arrays;
+
+/**
+ * {@link ConcurrentLongDoubleMap} class
+ * <P>
+ * A thread safe map from long to double without boxing: keys are spread over independently
+ * locked segments, each an open addressing table of primitive arrays (linear probing, grown
+ * at 50% load). Entries are never removed individually; clear() empties the map.
+ */
+public class ConcurrentLongDoubleMap {
+
+	private static final int SEGMENTS = 16;
+
+	private final Segment[] segments = new Segment[SEGMENTS];
+
+	public ConcurrentLongDoubleMap() {
+		for (int i = 0; i < SEGMENTS; i++)
+			segments[i] = new Segment();
+	}
+
+	/**
+	 * @param key
+	 * @param absent value returned when key is not in the map
+	 * @return value of key, or absent
+	 */
+	public double get(long key, double absent) {
+		long h = mix(key);
+		return segments[(int) (h >>> 60)].get(key, h, absent);
+	}
+
+	public void put(long key, double value) {
+		long h = mix(key);
+		segments[(int) (h >>> 60)].put(key, h, value);
+	}
+
+	public boolean containsKey(long key) {
+		long h = mix(key);
+		return segments[(int) (h >>> 60)].index(key, h) >= 0;
+	}
+
+	public int size() {
+		int size = 0;
+		for (Segment segment : segments)
+			size += segment.size();
+		return size;
+	}
+
+	public void clear() {
+		for (Segment segment : segments)
+			segment.clear();
+	}
+
+	// murmur3 finalizer: top 4 bits pick the segment, low bits the slot
+	private static long mix(long key) {
+		long h = key;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	private static class Segment {
+		long[] keys = new long[16];
+		double[] values = new double[16];
+		boolean[] used = new boolean[16];
+		int size;
+
+		synchronized double get(long key, long h, double absent) {
+			int i = index(key, h);
+			return (i < 0) ? absent : values[i];
+		}
+
+		synchronized int index(long key, long h) {
+			int mask = keys.length - 1;
+			for (int i = (int) h & mask; used[i]; i = (i + 1) & mask) {
+				if (keys[i] == key)
+					return i;
+			}
+			return -1;
+		}
+
+		synchronized void put(long key, long h, double value) {
+			int mask = keys.length - 1;
+			int i = (int) h & mask;
+			for (; used[i]; i = (i + 1) & mask) {
+				if (keys[i] == key) {
+					values[i] = value;
+					return;
+				}
+			}
+			keys[i] = key;
+			values[i] = value;
+			used[i] = true;
+			if (++size * 2 > keys.length)
+				grow();
+		}
+
+		synchronized int size() {
+			return size;
+		}
+
+		synchronized void clear() {
+			Arrays.fill(used, false);
+			size = 0;
+		}
+
+		private void grow() {
+			long[] oldKeys = keys;
+			double[] oldValues = values;
+			boolean[] oldUsed = used;
+			keys = new long[oldKeys.length * 2];
+			values = new double[oldKeys.length * 2];
+			used = new boolean[oldKeys.length * 2];
+			int mask = keys.length - 1;
+			for (int j = 0; j < oldKeys.length; j++) {
+				if (!oldUsed[j])
+					continue;
+				int i = (int) mix(oldKeys[j]) & mask;
+				while (used[i])
+					i = (i + 1) & mask;
+				keys[i] = oldKeys[j];
+				values[i] = oldValues[j];
+				used[i] = true;
+			}
+		}
+	}
+}
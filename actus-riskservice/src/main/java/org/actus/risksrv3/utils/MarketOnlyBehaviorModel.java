@@ -0,0 +1,10 @@
+package org.actus.risksrv3.utils;
+
+/**
+ * Marker for behavior models whose stateAt( ) depends on time and market data only: it reads
+ * neither the StateSpace nor the contract, and keeps no state between calls. The value at a
+ * time is then the same for every contract using the model, and MultiBehaviorRiskModel
+ * computes it once per scenario session (see MultiBehaviorRiskModel.memoStats).
+ */
+public interface MarketOnlyBehaviorModel {
+}
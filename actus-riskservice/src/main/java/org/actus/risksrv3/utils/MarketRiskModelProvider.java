@@ -28,4 +28,17 @@ public abstract interface MarketRiskModelProvider {
 //	  public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider attributes);
 	  
 	  public double stateAt(String id, LocalDateTime time); 
+	  
+	  /**
+	   * Returns the minimum and maximum state of a market risk factor over a time window,
+	   * used to prune behavior model callouts that cannot trigger (see CalloutPruner)
+	   * 
+	   * @param id market object code identifier of the risk factor
+	   * @param from start of the window, inclusive
+	   * @param to end of the window, inclusive
+	   * @return {min, max} of stateAt(id, t) for t in [from, to], or null if not known
+	   */
+	  public default double[] rangeOf(String id, LocalDateTime from, LocalDateTime to) {
+		  return null;
+	  }
 }
@@ -0,0 +1,79 @@
+package org.actus.risksrv3.utils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.actus.risksrv3.models.MarketShock;
+
+/**
+ * {@link MarketShockOverlay} class
+ * <P>
+ * A set of stress shocks compiled for lookup by marketObjectCode. Shocks on the same code
+ * are applied in list order, so a multiplicative then an additive shock gives
+ * (value * (1 + m)) + a. The base market model is never modified.
+ */
+public class MarketShockOverlay {
+
+	private final Map<String,Shock[]> shocks = new HashMap<String,Shock[]>();
+
+	public MarketShockOverlay(List<MarketShock> shockList) {
+		Map<String,List<Shock>> byCode = new HashMap<String,List<Shock>>();
+		for (MarketShock shock : shockList) {
+			byCode.computeIfAbsent(shock.getMarketObjectCode(), moc -> new ArrayList<Shock>()).add(new Shock(shock));
+		}
+		for (Map.Entry<String,List<Shock>> entry : byCode.entrySet()) {
+			this.shocks.put(entry.getKey(), entry.getValue().toArray(new Shock[0]));
+		}
+	}
+
+	/**
+	 * returns an overlay for the shocks or null if there are none
+	 * @param shockList may be null
+	 * @return overlay or null
+	 */
+	public static MarketShockOverlay of(List<MarketShock> shockList) {
+		return (shockList == null || shockList.isEmpty()) ? null : new MarketShockOverlay(shockList);
+	}
+
+	/**
+	 * applies the shocks on a marketObjectCode to its base value at time
+	 * @param id marketObjectCode
+	 * @param time
+	 * @param value base value
+	 * @return shocked value
+	 */
+	public double apply(String id, LocalDateTime time, double value) {
+		Shock[] onCode = this.shocks.get(id);
+		if (onCode == null)
+			return value;
+		for (Shock shock : onCode) {
+			if (shock.from != null && time.isBefore(shock.from))
+				continue;
+			if (shock.to != null && time.isAfter(shock.to))
+				continue;
+			value = shock.multiplicative ? value * (1.0 + shock.shock) : value + shock.shock;
+		}
+		return value;
+	}
+
+	private static class Shock {
+		final boolean multiplicative;
+		final double shock;
+		final LocalDateTime from;
+		final LocalDateTime to;
+
+		Shock(MarketShock data) {
+			String type = (data.getType() == null) ? "MULTIPLICATIVE" : data.getType().toUpperCase();
+			if (!type.equals("MULTIPLICATIVE") && !type.equals("ADDITIVE"))
+				throw new IllegalArgumentException("unknown shock type " + data.getType()
+						+ " for " + data.getMarketObjectCode() + "; expected MULTIPLICATIVE or ADDITIVE");
+			this.multiplicative = type.equals("MULTIPLICATIVE");
+			this.shock = data.getShock();
+			this.from = (data.getFrom() == null) ? null : LocalDateTime.parse(data.getFrom());
+			this.to = (data.getTo() == null) ? null : LocalDateTime.parse(data.getTo());
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package org.actus.risksrv3.utils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.annotation.Id;
+
+/**
+ * {@link ModelReferences} class
+ * <P>
+ * Reads the identifiers a stored risk model document refers to, by reflection over its fields:
+ * <ul>
+ * <li>market object codes: String fields named *MOC or *MarketObjectCode, List&lt;String&gt; fields
+ *     named *MOCs, and referenceRateId / referenceRate (TwoDimensionalPrepaymentModel data / model)</li>
+ * <li>other behavior models: mirrorSourceModelId (AllocationDriftModel)</li>
+ * </ul>
+ * Used to validate a bundle of models and scenarios before it is persisted, so that a scenario
+ * never refers to a market object code its reference indexes do not provide. The behavior models
+ * built from the documents keep the field names, so the same reading gives the market inputs
+ * of an activated model (see MultiMarketRiskModel.preResolve).
+ */
+public final class ModelReferences {
+
+	private ModelReferences() {
+	}
+
+	/**
+	 * returns the value of the document's @Id field
+	 * @param document
+	 * @return id or null if not set
+	 */
+	public static String idOf(Object document) {
+		for (Class<?> c = document.getClass(); c != null && c != Object.class; c = c.getSuperclass()) {
+			for (Field field : c.getDeclaredFields()) {
+				if (field.isAnnotationPresent(Id.class)) {
+					Object id = read(field, document);
+					return (id == null) ? null : id.toString();
+				}
+			}
+		}
+		throw new IllegalArgumentException(document.getClass().getSimpleName() + " has no @Id field");
+	}
+
+	/**
+	 * returns the non empty market object codes the model reads from the market model
+	 * @param document
+	 * @return market object codes in field order
+	 */
+	public static List<String> marketObjectCodes(Object document) {
+		List<String> mocs = new ArrayList<String>();
+		for (Class<?> c = document.getClass(); c != null && c != Object.class; c = c.getSuperclass()) {
+			for (Field field : c.getDeclaredFields()) {
+				String name = field.getName();
+				if (field.getType() == String.class
+						&& (name.endsWith("MOC") || name.endsWith("MarketObjectCode") || name.equals("referenceRateId")
+								|| name.equals("referenceRate"))) {
+					add(mocs, read(field, document));
+				}
+				else if (List.class.isAssignableFrom(field.getType()) && name.endsWith("MOCs")) {
+					List<?> values = (List<?>) read(field, document);
+					if (values != null) {
+						for (Object value : values)
+							add(mocs, value);
+					}
+				}
+			}
+		}
+		return mocs;
+	}
+
+	/**
+	 * returns the ids of other behavior models in the same scenario the model depends on
+	 * @param document
+	 * @return model ids
+	 */
+	public static List<String> modelIds(Object document) {
+		List<String> ids = new ArrayList<String>();
+		for (Class<?> c = document.getClass(); c != null && c != Object.class; c = c.getSuperclass()) {
+			for (Field field : c.getDeclaredFields()) {
+				if (field.getType() == String.class && field.getName().equals("mirrorSourceModelId"))
+					add(ids, read(field, document));
+			}
+		}
+		return ids;
+	}
+
+	private static void add(List<String> values, Object value) {
+		if (value instanceof String && !((String) value).isEmpty())
+			values.add((String) value);
+	}
+
+	private static Object read(Field field, Object document) {
+		try {
+			field.setAccessible(true);
+			return field.get(document);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
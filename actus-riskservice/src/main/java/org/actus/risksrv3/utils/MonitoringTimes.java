@@ -0,0 +1,150 @@
+package org.actus.risksrv3.utils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAmount;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.actus.AttributeConversionException;
+import org.actus.risksrv3.core.attributes.ContractModel;
+import org.actus.risksrv3.models.MonitoringSchedule;
+import org.actus.util.CycleUtils;
+import org.actus.util.StringUtils;
+
+/**
+ * {@link MonitoringTimes} class
+ * <P>
+ * The monitoring times of a {@link MonitoringSchedule} rule as a read only list of
+ * yyyy-MM-ddTHH:mm:ss strings, so that behavior models iterate it like an explicit
+ * monitoringEventTimes list. Nothing is materialised: the i-th time is anchor + i x cycle,
+ * computed when asked for, and size and clipping are found by binary search.
+ */
+public class MonitoringTimes extends AbstractList<String> implements RandomAccess {
+
+	private final LocalDateTime anchor;
+	private final LocalDateTime end;
+	private final TemporalAmount cycle;
+	// number of times anchor + i x cycle before end kept in the list; end follows them
+	private final int regular;
+
+	public MonitoringTimes(MonitoringSchedule schedule) {
+		if (schedule.getAnchor() == null || schedule.getEnd() == null || schedule.getCycle() == null)
+			throw new IllegalArgumentException("monitoringSchedule needs anchor, end and cycle: " + schedule);
+		this.anchor = LocalDateTime.parse(schedule.getAnchor());
+		this.end = LocalDateTime.parse(schedule.getEnd());
+		String rule = schedule.getCycle();
+		try {
+			this.cycle = CycleUtils.parseTemporalAmount(rule);
+		} catch (AttributeConversionException e) {
+			throw new IllegalArgumentException("monitoringSchedule cycle " + rule + " is not an ACTUS cycle");
+		}
+		if (this.end.isBefore(this.anchor))
+			throw new IllegalArgumentException("monitoringSchedule end before anchor: " + schedule);
+		if (!this.anchor.plus(this.cycle).isAfter(this.anchor))
+			throw new IllegalArgumentException("monitoringSchedule cycle must be positive: " + schedule);
+		int n = countBeforeEnd();
+		boolean longStub = rule.contains("L") && CycleUtils.parseStub(rule) == StringUtils.LongStub;
+		// as ScheduleFactory: a long stub absorbs the last regular period short of end
+		if (longStub && n >= 2 && !gridTime(n).equals(this.end))
+			n--;
+		this.regular = n;
+	}
+
+	/**
+	 * Returns the monitoring times of a behavior model: the explicit list, or the times of
+	 * the rule if one is given
+	 * @param monitoringEventTimes explicit times, may be null
+	 * @param schedule cycle rule, may be null
+	 * @return list of times
+	 */
+	public static List<String> of(List<String> monitoringEventTimes, MonitoringSchedule schedule) {
+		if (schedule == null)
+			return monitoringEventTimes;
+		if (monitoringEventTimes != null && !monitoringEventTimes.isEmpty())
+			throw new IllegalArgumentException("give either monitoringEventTimes or monitoringSchedule, not both");
+		return new MonitoringTimes(schedule);
+	}
+
+	/**
+	 * Returns the monitoring times relevant to a contract: times generated from a rule are
+	 * clipped to the contract's initialExchangeDate and maturityDate (when given), explicit
+	 * lists are returned as they are
+	 * @param monitoringEventTimes as returned by of( )
+	 * @param contract
+	 * @return list of times
+	 */
+	public static List<String> forContract(List<String> monitoringEventTimes, ContractModel contract) {
+		if (!(monitoringEventTimes instanceof MonitoringTimes))
+			return monitoringEventTimes;
+		MonitoringTimes times = (MonitoringTimes) monitoringEventTimes;
+		LocalDateTime ied = contract.getAs("initialExchangeDate");
+		LocalDateTime maturity = contract.getAs("maturityDate");
+		int from = (ied == null) ? 0 : times.firstIndexNotBefore(ied);
+		int to = (maturity == null) ? times.size() : times.firstIndexNotBefore(maturity.plusNanos(1));
+		return times.subList(from, Math.max(from, to));
+	}
+
+	@Override
+	public String get(int index) {
+		return timeAt(index).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+	}
+
+	@Override
+	public int size() {
+		return this.regular + 1;
+	}
+
+	/**
+	 * @param index
+	 * @return the index-th monitoring time
+	 */
+	public LocalDateTime timeAt(int index) {
+		if (index < 0 || index > this.regular)
+			throw new IndexOutOfBoundsException("index " + index + " of " + size() + " monitoring times");
+		return (index < this.regular) ? gridTime(index) : this.end;
+	}
+
+	private LocalDateTime gridTime(int i) {
+		if (this.cycle instanceof Duration)
+			return this.anchor.plus(((Duration) this.cycle).multipliedBy(i));
+		return this.anchor.plus(((Period) this.cycle).multipliedBy(i));
+	}
+
+	// number of i >= 0 with anchor + i x cycle before end
+	private int countBeforeEnd() {
+		long hi = 1;
+		while (gridTime((int) hi).isBefore(this.end)) {
+			hi *= 2;
+			if (hi > Integer.MAX_VALUE / 2)
+				throw new IllegalArgumentException("monitoringSchedule generates too many times");
+		}
+		int lo = 0;
+		int up = (int) hi;
+		while (lo < up) {
+			int mid = (lo + up) >>> 1;
+			if (gridTime(mid).isBefore(this.end))
+				lo = mid + 1;
+			else
+				up = mid;
+		}
+		return lo;
+	}
+
+	// index of the first time at or after t, size() if none
+	private int firstIndexNotBefore(LocalDateTime t) {
+		int lo = 0;
+		int up = size();
+		while (lo < up) {
+			int mid = (lo + up) >>> 1;
+			if (timeAt(mid).isBefore(t))
+				lo = mid + 1;
+			else
+				up = mid;
+		}
+		return lo;
+	}
+}
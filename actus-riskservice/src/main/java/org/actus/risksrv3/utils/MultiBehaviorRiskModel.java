@@ -1,10 +1,15 @@
 package org.actus.risksrv3.utils;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 import org.actus.risksrv3.core.states.StateSpace;
 import org.actus.risksrv3.models.CalloutData;
@@ -14,6 +19,11 @@ public class MultiBehaviorRiskModel implements BehaviorRiskModelProvider {
 
 	HashMap<String,BehaviorRiskModelProvider> model = new HashMap<String,BehaviorRiskModelProvider>();
 	
+	// stateAt results of MarketOnlyBehaviorModels per model, keyed by time; lives as long as the scenario session
+	private final ConcurrentHashMap<String,Memo> memos = new ConcurrentHashMap<String,Memo>();
+	// off where market lookups follow a stochastic path, since results then depend on the lookup's path
+	private volatile boolean memoize = true;
+	
 	public MultiBehaviorRiskModel() {
 	}
 	
@@ -23,6 +33,7 @@ public class MultiBehaviorRiskModel implements BehaviorRiskModelProvider {
 
 	public void add(String symbol, BehaviorRiskModelProvider behaviorModel) {
 		model.put(symbol,behaviorModel);
+		memos.remove(symbol);
 	}
 
 	/**
@@ -37,7 +48,69 @@ public class MultiBehaviorRiskModel implements BehaviorRiskModelProvider {
 	public double stateAt(String id, LocalDateTime time, StateSpace state) {
 		System.out.println("** fnp061 in stateAt id = " + id );
 		System.out.println("** fnp062 model.get(id) = " + model.get(id).toString());
-		return model.get(id).stateAt(id, time, state);
+		BehaviorRiskModelProvider behaviorModel = model.get(id);
+		// shocked lookups see a different market, so they are neither served from nor added to the memo
+		if (!(behaviorModel instanceof MarketOnlyBehaviorModel) || !memoize || MultiMarketRiskModel.shocksActive())
+			return behaviorModel.stateAt(id, time, state);
+		Memo memo = memos.computeIfAbsent(id, mdl -> new Memo());
+		long key = time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano();
+		double value = memo.values.get(key, Double.NaN);
+		if (!Double.isNaN(value) || memo.values.containsKey(key)) {
+			memo.hits.increment();
+			return value;
+		}
+		memo.misses.increment();
+		value = behaviorModel.stateAt(id, time, state);
+		memo.values.put(key, value);
+		return value;
+	}
+
+	/**
+	 * Publishes the portfolio state at a time of a lock-step simulation to the models that
+	 * implement PortfolioAwareBehaviorModel
+	 * @param time
+	 * @param aggregates
+	 */
+	public void publishPortfolio(LocalDateTime time, Map<String,Double> aggregates) {
+		for (BehaviorRiskModelProvider behaviorModel : model.values()) {
+			if (behaviorModel instanceof PortfolioAwareBehaviorModel)
+				((PortfolioAwareBehaviorModel) behaviorModel).portfolioStep(time, aggregates);
+		}
+	}
+
+	/**
+	 * Turns the memo of MarketOnlyBehaviorModel results on or off, dropping what it holds
+	 * @param memoize false if the market depends on more than the time, e.g. on a stochastic path
+	 */
+	public void setMemoize(boolean memoize) {
+		this.memoize = memoize;
+		memos.clear();
+	}
+
+	/**
+	 * Drops memoized stateAt results, e.g. when the market they were computed from changes
+	 */
+	public void clearMemos() {
+		memos.clear();
+	}
+
+	/**
+	 * @return per MarketOnlyBehaviorModel id: hits, misses, hitRate and entries of its memo
+	 */
+	public Map<String,Map<String,Number>> memoStats() {
+		Map<String,Map<String,Number>> stats = new LinkedHashMap<String,Map<String,Number>>();
+		for (Map.Entry<String,Memo> entry : memos.entrySet()) {
+			Memo memo = entry.getValue();
+			long hits = memo.hits.sum();
+			long misses = memo.misses.sum();
+			Map<String,Number> modelStats = new LinkedHashMap<String,Number>();
+			modelStats.put("hits", hits);
+			modelStats.put("misses", misses);
+			modelStats.put("hitRate", (hits + misses == 0) ? 0.0 : (double) hits / (hits + misses));
+			modelStats.put("entries", memo.values.size());
+			stats.put(entry.getKey(), modelStats);
+		}
+		return stats;
 	}
 	
 	public List<CalloutData> contractStart(ContractModel contractModel){
@@ -62,5 +135,10 @@ public class MultiBehaviorRiskModel implements BehaviorRiskModelProvider {
 	public List<CalloutData> modelContractStart(ContractModel contractModel, String modelID){
 		return model.get(modelID).contractStart(contractModel);
 	}
-	
+
+	private static class Memo {
+		final ConcurrentLongDoubleMap values = new ConcurrentLongDoubleMap();
+		final LongAdder hits = new LongAdder();
+		final LongAdder misses = new LongAdder();
+	}
 }
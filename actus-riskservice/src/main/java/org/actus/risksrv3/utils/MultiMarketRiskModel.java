@@ -1,13 +1,31 @@
 package org.actus.risksrv3.utils;
 
 import java.util.Set;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.time.LocalDateTime;
 
 
 public class MultiMarketRiskModel implements MarketRiskModelProvider {
 	
-	HashMap<String,MarketRiskModelProvider> model = new HashMap<String,MarketRiskModelProvider>();
+	// written by add() under the lock, read without it by stateAt() on request threads
+	final ConcurrentHashMap<String,MarketRiskModelProvider> model = new ConcurrentHashMap<String,MarketRiskModelProvider>();
+	
+	// marketObjectCodes interned to dense handles (see handle()) and the model of each handle,
+	// null until a model is added for the code
+	private final HashMap<String,Integer> handles = new HashMap<String,Integer>();
+	private volatile String[] codes = new String[0];
+	private volatile MarketRiskModelProvider[] byHandle = new MarketRiskModelProvider[16];
+	
+	// stress shocks of the request being processed on this thread, see withShocks()
+	private static final ThreadLocal<MarketShockOverlay> overlay = new ThreadLocal<MarketShockOverlay>();
+	
+	// values pre-resolved at known callout times, see preResolve(); dropped whenever a model changes
+	private volatile Resolved resolved;
 	
 	public MultiMarketRiskModel() {
 	}
@@ -16,8 +34,56 @@ public class MultiMarketRiskModel implements MarketRiskModelProvider {
 		return model.keySet();
 	}
 
-	public void add(String symbol, MarketRiskModelProvider dimension) {
+	public synchronized void add(String symbol, MarketRiskModelProvider dimension) {
 		model.put(symbol,dimension);
+		int h = handle(symbol);
+		// copied rather than written in place, so a reader sees a complete array
+		MarketRiskModelProvider[] providers = this.byHandle;
+		providers = Arrays.copyOf(providers, (h >= providers.length) ? Math.max(2 * providers.length, h + 1) : providers.length);
+		providers[h] = dimension;
+		this.byHandle = providers;
+		this.resolved = null;
+	}
+
+	/**
+	 * Interns a marketObjectCode to a dense integer handle for stateAt(int, time). Behavior
+	 * models bind their codes once, in their constructor; a code may be bound before its model
+	 * is added. checkBound() then verifies at scenario start that every bound code has one.
+	 * @param id marketObjectCode
+	 * @return handle, -1 for a null or empty code
+	 */
+	public synchronized int handle(String id) {
+		if (id == null || id.isEmpty())
+			return -1;
+		Integer h = handles.get(id);
+		if (h == null) {
+			h = codes.length;
+			handles.put(id, h);
+			String[] grown = Arrays.copyOf(codes, h + 1);
+			grown[h] = id;
+			this.codes = grown;
+		}
+		return h;
+	}
+
+	/**
+	 * Fails fast, with the message stateAt would give at the first callout, if a code bound by
+	 * a behavior model has no market model in the scenario
+	 * @throws IllegalArgumentException naming the first unbound code
+	 */
+	public synchronized void checkBound() {
+		for (int h = 0; h < codes.length; h++) {
+			if (h >= byHandle.length || byHandle[h] == null)
+				throw notFound(codes[h]);
+		}
+	}
+
+	/**
+	 * Retrieve the market model registered for a marketObjectCode, or null.
+	 * Used by RiskObservationHandler to append streamed observations to the active scenario.
+	 */
+	public MarketRiskModelProvider getModel(String id) {
+		return model.get(id);
 	}
 
 	public boolean containsKey(String id) {
@@ -27,11 +93,141 @@ public class MultiMarketRiskModel implements MarketRiskModelProvider {
 	public double stateAt(String id, LocalDateTime time) {
 		MarketRiskModelProvider provider = model.get(id);
 		if (provider == null) {
-			throw new IllegalArgumentException(
+			throw notFound(id);
+		}
+		MarketShockOverlay shocks = overlay.get();
+		Resolved resolved = this.resolved;
+		double value = (resolved == null) ? Double.NaN : resolved.table.valueAt(id, time);
+		if (Double.isNaN(value))
+			value = provider.stateAt(id, time);
+		return (shocks == null) ? value : shocks.apply(id, time, value);
+	}
+
+	/**
+	 * stateAt by handle: an array read for the model, and for the value if it was pre-resolved
+	 * @param handle as returned by handle(id)
+	 * @param time
+	 * @return the state of the market risk factor
+	 */
+	public double stateAt(int handle, LocalDateTime time) {
+		MarketRiskModelProvider[] providers = this.byHandle;
+		MarketRiskModelProvider provider = (handle >= 0 && handle < providers.length) ? providers[handle] : null;
+		if (provider == null)
+			throw notFound((handle < 0) ? null : codes[handle]);
+		String id = codes[handle];
+		MarketShockOverlay shocks = overlay.get();
+		Resolved resolved = this.resolved;
+		double value = Double.NaN;
+		if (resolved != null && handle < resolved.rows.length && resolved.rows[handle] >= 0) {
+			int t = resolved.table.timeIndex(time);
+			if (t >= 0)
+				value = resolved.table.value(resolved.rows[handle], t);
+		}
+		if (Double.isNaN(value))
+			value = provider.stateAt(id, time);
+		return (shocks == null) ? value : shocks.apply(id, time, value);
+	}
+
+	private IllegalArgumentException notFound(String id) {
+		return new IllegalArgumentException(
 				"MarketObjectCode '" + id + "' not found in active scenario. "
 				+ "Available MOCs: " + model.keySet()
 				+ ". Add a ReferenceIndex with this marketObjectCode to the scenario.");
+	}
+
+	/**
+	 * Resolves the unshocked value of every known marketObjectCode in mocs at every time, so
+	 * later stateAt( ) calls at those times read them from a table. Codes of StochasticPaths are
+	 * not resolved, their values depend on the path of the lookup. The table replaces that of
+	 * the previous call, pairs it does not cover are looked up as before; it is dropped when a
+	 * model is added or replaced, and by clearResolved( ) when a model's data changes in place.
+	 * @param mocs market object codes, unknown codes are ignored
+	 * @param times callout times
+	 * @return the table in use
+	 */
+	public synchronized ResolvedMarket preResolve(Collection<String> mocs, Collection<LocalDateTime> times) {
+		Set<String> known = new LinkedHashSet<String>(mocs);
+		known.retainAll(model.keySet());
+		// stochastic factors follow the path of each lookup
+		known.removeIf(id -> model.get(id) instanceof StochasticPaths.PathModel);
+		MarketRiskModelProvider base = new MarketRiskModelProvider() {
+			public Set<String> keys() {
+				return model.keySet();
+			}
+			public double stateAt(String id, LocalDateTime time) {
+				return model.get(id).stateAt(id, time);
+			}
+		};
+		ResolvedMarket table = ResolvedMarket.resolve(base, known, times);
+		int[] rows = new int[codes.length];
+		for (int h = 0; h < rows.length; h++)
+			rows[h] = table.mocIndex(codes[h]);
+		this.resolved = new Resolved(table, rows);
+		return table;
+	}
+
+	/**
+	 * @return the table of pre-resolved values, for index based access; null if none
+	 */
+	public ResolvedMarket resolved() {
+		Resolved resolved = this.resolved;
+		return (resolved == null) ? null : resolved.table;
+	}
+
+	public void clearResolved() {
+		this.resolved = null;
+	}
+
+	/**
+	 * range of the unshocked market; null under a shock overlay or for an unknown code,
+	 * which callers must treat as unbounded
+	 */
+	@Override
+	public double[] rangeOf(String id, LocalDateTime from, LocalDateTime to) {
+		MarketRiskModelProvider provider = model.get(id);
+		if (provider == null || overlay.get() != null)
+			return null;
+		return provider.rangeOf(id, from, to);
+	}
+
+	/**
+	 * @return true if a shock overlay applies to market lookups on the calling thread
+	 */
+	public static boolean shocksActive() {
+		return overlay.get() != null;
+	}
+
+	/**
+	 * Runs action with the shocks applied to every market lookup made on the calling thread,
+	 * including those behavior models make through their MultiMarketRiskModel. The overlay is
+	 * request scoped: other threads, and this one after the call, see the unshocked market.
+	 * @param shocks overlay, null for none
+	 * @param action
+	 * @return result of action
+	 */
+	public static <T> T withShocks(MarketShockOverlay shocks, Supplier<T> action) {
+		if (shocks == null)
+			return action.get();
+		MarketShockOverlay previous = overlay.get();
+		overlay.set(shocks);
+		try {
+			return action.get();
+		} finally {
+			if (previous == null)
+				overlay.remove();
+			else
+				overlay.set(previous);
+		}
+	}
+
+	// a table with the row of each handle in it (-1 if not resolved), published together
+	private static class Resolved {
+		final ResolvedMarket table;
+		final int[] rows;
+
+		Resolved(ResolvedMarket table, int[] rows) {
+			this.table = table;
+			this.rows = rows;
 		}
-		return provider.stateAt(id, time);
 	}
 }
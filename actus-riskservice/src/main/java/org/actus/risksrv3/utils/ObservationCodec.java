@@ -0,0 +1,442 @@
+package org.actus.risksrv3.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.actus.risksrv3.models.TimeValuePair;
+
+/**
+ * {@link ObservationCodec} class
+ * <P>
+ * Compact columnar encoding of ReferenceIndex observations, stored by MongoDB as a single
+ * BSON binary field instead of an array of {time, value} subdocuments.
+ * <P>
+ * Observations are chunked into blocks by time bucket (one day unless configured otherwise).
+ * Each block is encoded on its own, so an append only re-encodes the blocks from the first
+ * bucket it touches. Layout (big endian, varints are zigzag LEB128):
+ * <pre>
+ *   byte       version      2
+ *   int32      count
+ *   varint     bucketSeconds  0 for a single block
+ *   byte       flags        1 if times are strictly increasing
+ *   blocks:
+ *     varint   count
+ *     varint   length       of the block body in bytes
+ *     byte     timeDigits   decimal digits of second kept in the time column: 0, 3, 6 or 9
+ *     byte     valueDigits  values are exact decimals with 0..9 digits, or -1 for raw doubles
+ *     varint[] times        first time, first delta, then delta of deltas, in 10^-timeDigits seconds
+ *     values                first value and deltas as varints of value * 10^valueDigits,
+ *                           or float64[] for raw doubles
+ * </pre>
+ * A regular series of prices quoted to a few decimals takes about 3 bytes per observation
+ * (1 for the time, 1-3 for the value) against roughly 60 for the subdocument form. Values without
+ * a short exact decimal form (NaN, -0.0, results of arithmetic) are stored raw, 9-10 bytes per
+ * observation. Documents written by the first version (see {@code ENCODING_V1}) are still decoded.
+ */
+public final class ObservationCodec {
+
+	public static final String ENCODING = "bucketed-delta-v2";
+	public static final String ENCODING_V1 = "delta-varint-f64-v1";
+
+	public static final int DEFAULT_BUCKET_SECONDS = 86400;
+
+	private static final byte VERSION = 2;
+	private static final byte SORTED = 1;
+	private static final byte RAW = -1;
+	private static final int HEADER_COUNT = 1;
+
+	private static final long[] POW10 = { 1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L,
+			100000000L, 1000000000L };
+	private static final double MAX_EXACT = 9007199254740992.0; // 2^53
+
+	private ObservationCodec() {
+	}
+
+	/**
+	 * encodes observations in daily buckets; returns null if they cannot be encoded without loss
+	 * (times too far from 1970 for their sub-second digits), in which case the caller keeps the
+	 * subdocument form
+	 * @param data
+	 * @return packed observations or null
+	 */
+	public static byte[] encode(List<TimeValuePair> data) {
+		return encode(data, DEFAULT_BUCKET_SECONDS);
+	}
+
+	/**
+	 * encodes observations chunked by time bucket; returns null if they cannot be encoded without loss
+	 * @param data
+	 * @param bucketSeconds bucket length, 0 for a single block
+	 * @return packed observations or null
+	 */
+	public static byte[] encode(List<TimeValuePair> data, int bucketSeconds) {
+		LocalDateTime[] times = new LocalDateTime[data.size()];
+		double[] values = new double[data.size()];
+		for (int i = 0; i < data.size(); i++) {
+			TimeValuePair tv = data.get(i);
+			times[i] = LocalDateTime.parse(tv.getTime());
+			values[i] = (tv.getValue() == null) ? Double.NaN : tv.getValue();
+		}
+		return encode(times, values, bucketSeconds);
+	}
+
+	/**
+	 * encodes parallel arrays of times and values chunked by time bucket; returns null if a time
+	 * cannot be encoded without loss
+	 * @param times
+	 * @param values
+	 * @param bucketSeconds bucket length, 0 for a single block
+	 * @return packed observations or null
+	 */
+	public static byte[] encode(LocalDateTime[] times, double[] values, int bucketSeconds) {
+		if (bucketSeconds < 0)
+			throw new IllegalArgumentException("bucketSeconds must not be negative: " + bucketSeconds);
+		ByteArrayOutputStream out = new ByteArrayOutputStream(16 + 4 * values.length);
+		writeHeader(out, values.length, bucketSeconds, isSorted(times));
+		try {
+			writeBlocks(out, times, values, 0, bucketSeconds);
+		} catch (ArithmeticException e) {
+			return null;
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * merges observations into packed data as a rewrite of the whole series would: an observation
+	 * replaces any at the same time and the result is sorted on time. Only the blocks from the first
+	 * bucket the observations touch are re-encoded. Returns null if the packed times are not strictly
+	 * increasing (or written by the first version), or cannot be encoded without loss, in which case
+	 * the caller merges the decoded observations.
+	 * @param packed
+	 * @param observations
+	 * @return packed observations or null
+	 */
+	public static byte[] merge(byte[] packed, List<TimeValuePair> observations) {
+		if (packed[0] != VERSION || (packed[HEADER_COUNT + 4 + varintLength(packed, HEADER_COUNT + 4)] & SORTED) == 0)
+			return null;
+		TreeMap<LocalDateTime,Double> appended = new TreeMap<LocalDateTime,Double>();
+		for (TimeValuePair tv : observations)
+			appended.put(LocalDateTime.parse(tv.getTime()), (tv.getValue() == null) ? Double.NaN : tv.getValue());
+		if (appended.isEmpty())
+			return packed;
+		Reader in = new Reader(packed, HEADER_COUNT + 4);
+		int bucketSeconds = (int) in.varint();
+		in.position++;
+		LocalDateTime first = appended.firstKey();
+		long firstBucket = bucket(first, bucketSeconds);
+
+		// keep the blocks that end before the first bucket touched
+		int kept = 0;
+		int blocksStart = in.position;
+		int keptEnd = blocksStart;
+		TreeMap<LocalDateTime,Double> merged = new TreeMap<LocalDateTime,Double>();
+		while (in.position < packed.length) {
+			int count = (int) in.varint();
+			int length = (int) in.varint();
+			int bodyEnd = in.position + length;
+			LocalDateTime[] times = new LocalDateTime[count];
+			double[] values = new double[count];
+			in.block(count, times, values, 0);
+			in.position = bodyEnd;
+			if (merged.isEmpty() && times[count - 1].isBefore(first) && bucket(times[count - 1], bucketSeconds) < firstBucket) {
+				kept += count;
+				keptEnd = bodyEnd;
+				continue;
+			}
+			for (int i = 0; i < count; i++)
+				merged.put(times[i], values[i]);
+		}
+		merged.putAll(appended);
+
+		LocalDateTime[] times = merged.keySet().toArray(new LocalDateTime[0]);
+		double[] values = new double[times.length];
+		int i = 0;
+		for (Map.Entry<LocalDateTime,Double> entry : merged.entrySet())
+			values[i++] = entry.getValue();
+		ByteArrayOutputStream out = new ByteArrayOutputStream(packed.length + 4 * values.length);
+		writeHeader(out, kept + values.length, bucketSeconds, true);
+		out.write(packed, blocksStart, keptEnd - blocksStart);
+		try {
+			writeBlocks(out, times, values, 0, bucketSeconds);
+		} catch (ArithmeticException e) {
+			return null;
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * returns the number of observations in packed data
+	 * @param packed
+	 * @return count
+	 */
+	public static int size(byte[] packed) {
+		return ByteBuffer.wrap(packed).getInt(packed[0] == VERSION ? HEADER_COUNT : 0);
+	}
+
+	/**
+	 * decodes the observation values
+	 * @param packed
+	 * @return values
+	 */
+	public static double[] decodeValues(byte[] packed) {
+		double[] values = new double[size(packed)];
+		decode(packed, null, values);
+		return values;
+	}
+
+	/**
+	 * decodes the observation times
+	 * @param packed
+	 * @return times
+	 */
+	public static LocalDateTime[] decodeTimes(byte[] packed) {
+		LocalDateTime[] times = new LocalDateTime[size(packed)];
+		decode(packed, times, null);
+		return times;
+	}
+
+	/**
+	 * decodes back to the REST representation; times are rendered as yyyy-MM-ddTHH:mm:ss, with
+	 * the fraction of second if there is one
+	 * @param packed
+	 * @return observations
+	 */
+	public static List<TimeValuePair> decode(byte[] packed) {
+		LocalDateTime[] times = new LocalDateTime[size(packed)];
+		double[] values = new double[times.length];
+		decode(packed, times, values);
+		List<TimeValuePair> data = new ArrayList<TimeValuePair>(times.length);
+		for (int i = 0; i < times.length; i++) {
+			Double value = Double.isNaN(values[i]) ? null : values[i];
+			data.add(new TimeValuePair(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(times[i]), value));
+		}
+		return data;
+	}
+
+	// either array may be null
+	private static void decode(byte[] packed, LocalDateTime[] times, double[] values) {
+		if (packed[0] != VERSION) {
+			decodeV1(packed, times, values);
+			return;
+		}
+		Reader in = new Reader(packed, HEADER_COUNT + 4);
+		in.varint();
+		in.position++;
+		int offset = 0;
+		while (in.position < packed.length) {
+			int count = (int) in.varint();
+			int length = (int) in.varint();
+			int bodyEnd = in.position + length;
+			in.block(count, times, values, offset);
+			in.position = bodyEnd;
+			offset += count;
+		}
+	}
+
+	private static void writeHeader(ByteArrayOutputStream out, int count, int bucketSeconds, boolean sorted) {
+		out.write(VERSION);
+		out.write(count >>> 24);
+		out.write(count >>> 16);
+		out.write(count >>> 8);
+		out.write(count);
+		writeVarint(out, bucketSeconds);
+		out.write(sorted ? SORTED : 0);
+	}
+
+	// one block per run of observations in the same bucket
+	private static void writeBlocks(ByteArrayOutputStream out, LocalDateTime[] times, double[] values, int from,
+			int bucketSeconds) {
+		while (from < times.length) {
+			int to = from + 1;
+			if (bucketSeconds > 0) {
+				long bucket = bucket(times[from], bucketSeconds);
+				while (to < times.length && bucket(times[to], bucketSeconds) == bucket)
+					to++;
+			}
+			else
+				to = times.length;
+			writeBlock(out, times, values, from, to);
+			from = to;
+		}
+	}
+
+	private static void writeBlock(ByteArrayOutputStream out, LocalDateTime[] times, double[] values, int from, int to) {
+		ByteArrayOutputStream body = new ByteArrayOutputStream(4 * (to - from) + 2);
+		int timeDigits = 0;
+		for (int i = from; i < to; i++)
+			timeDigits = Math.max(timeDigits, timeDigits(times[i].getNano()));
+		int valueDigits = valueDigits(values, from, to);
+		body.write(timeDigits);
+		body.write(valueDigits);
+
+		long previous = 0L;
+		long previousDelta = 0L;
+		for (int i = from; i < to; i++) {
+			long units = Math.addExact(Math.multiplyExact(times[i].toEpochSecond(ZoneOffset.UTC), POW10[timeDigits]),
+					times[i].getNano() / POW10[9 - timeDigits]);
+			long delta = Math.subtractExact(units, previous);
+			writeVarint(body, (i == from) ? units : Math.subtractExact(delta, previousDelta));
+			previousDelta = (i == from) ? 0L : delta;
+			previous = units;
+		}
+		if (valueDigits == RAW) {
+			for (int i = from; i < to; i++) {
+				long bits = Double.doubleToRawLongBits(values[i]);
+				for (int shift = 56; shift >= 0; shift -= 8)
+					body.write((int) (bits >>> shift));
+			}
+		}
+		else {
+			long previousScaled = 0L;
+			for (int i = from; i < to; i++) {
+				long scaled = Math.round(values[i] * POW10[valueDigits]);
+				writeVarint(body, scaled - previousScaled);
+				previousScaled = scaled;
+			}
+		}
+		writeVarint(out, to - from);
+		writeVarint(out, body.size());
+		out.write(body.toByteArray(), 0, body.size());
+	}
+
+	// digits of second needed for a nano of second: 0, 3, 6 or 9
+	private static int timeDigits(int nano) {
+		if (nano == 0)
+			return 0;
+		if (nano % 1000000 == 0)
+			return 3;
+		return (nano % 1000 == 0) ? 6 : 9;
+	}
+
+	// fewest decimal digits that give back every value exactly, or RAW
+	private static int valueDigits(double[] values, int from, int to) {
+		int digits = 0;
+		for (int i = from; i < to; i++) {
+			while (digits < POW10.length && !isExact(values[i], digits))
+				digits++;
+			if (digits == POW10.length)
+				return RAW;
+		}
+		for (int i = from; i < to; i++) {
+			if (!isExact(values[i], digits))
+				return RAW;
+		}
+		return digits;
+	}
+
+	private static boolean isExact(double value, int digits) {
+		double scaled = value * POW10[digits];
+		if (!(Math.abs(scaled) < MAX_EXACT))
+			return false;
+		return Double.doubleToRawLongBits(Math.round(scaled) / (double) POW10[digits]) == Double.doubleToRawLongBits(value);
+	}
+
+	private static long bucket(LocalDateTime time, int bucketSeconds) {
+		return (bucketSeconds == 0) ? 0L : Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), (long) bucketSeconds);
+	}
+
+	private static boolean isSorted(LocalDateTime[] times) {
+		for (int i = 1; i < times.length; i++) {
+			if (!times[i - 1].isBefore(times[i]))
+				return false;
+		}
+		return true;
+	}
+
+	private static void writeVarint(ByteArrayOutputStream out, long value) {
+		long zigzag = (value << 1) ^ (value >> 63);
+		while ((zigzag & ~0x7FL) != 0) {
+			out.write((int) ((zigzag & 0x7F) | 0x80));
+			zigzag >>>= 7;
+		}
+		out.write((int) zigzag);
+	}
+
+	private static int varintLength(byte[] packed, int position) {
+		int length = 1;
+		while ((packed[position + length - 1] & 0x80) != 0)
+			length++;
+		return length;
+	}
+
+	// reads varints and block bodies from a position in packed data
+	private static final class Reader {
+		final byte[] packed;
+		int position;
+
+		Reader(byte[] packed, int position) {
+			this.packed = packed;
+			this.position = position;
+		}
+
+		long varint() {
+			long zigzag = 0L;
+			int shift = 0;
+			byte b;
+			do {
+				b = packed[position++];
+				zigzag |= (long) (b & 0x7F) << shift;
+				shift += 7;
+			} while ((b & 0x80) != 0);
+			return (zigzag >>> 1) ^ -(zigzag & 1);
+		}
+
+		// reads a block body of count observations into the arrays (either may be null) from offset
+		void block(int count, LocalDateTime[] times, double[] values, int offset) {
+			int timeDigits = packed[position++];
+			int valueDigits = packed[position++];
+			long previous = 0L;
+			long previousDelta = 0L;
+			for (int i = 0; i < count; i++) {
+				long coded = varint();
+				long delta = (i == 0) ? 0L : previousDelta + coded;
+				long units = (i == 0) ? coded : previous + delta;
+				previousDelta = delta;
+				previous = units;
+				if (times != null)
+					times[offset + i] = LocalDateTime.ofEpochSecond(Math.floorDiv(units, POW10[timeDigits]),
+							(int) (Math.floorMod(units, POW10[timeDigits]) * POW10[9 - timeDigits]), ZoneOffset.UTC);
+			}
+			if (values == null)
+				return;
+			if (valueDigits == RAW) {
+				ByteBuffer buffer = ByteBuffer.wrap(packed, position, 8 * count);
+				for (int i = 0; i < count; i++)
+					values[offset + i] = buffer.getDouble();
+			}
+			else {
+				long scaled = 0L;
+				for (int i = 0; i < count; i++) {
+					scaled += varint();
+					values[offset + i] = scaled / (double) POW10[valueDigits];
+				}
+			}
+		}
+	}
+
+	// first version: int32 count, float64[] values, zigzag varint epoch second deltas
+	private static void decodeV1(byte[] packed, LocalDateTime[] times, double[] values) {
+		ByteBuffer buffer = ByteBuffer.wrap(packed);
+		int count = buffer.getInt();
+		for (int i = 0; i < count; i++) {
+			double value = buffer.getDouble();
+			if (values != null)
+				values[i] = value;
+		}
+		if (times == null)
+			return;
+		Reader in = new Reader(packed, 4 + 8 * count);
+		long previous = 0L;
+		for (int i = 0; i < count; i++) {
+			previous += in.varint();
+			times[i] = LocalDateTime.ofEpochSecond(previous, 0, ZoneOffset.UTC);
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package org.actus.risksrv3.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.actus.risksrv3.models.TimeValuePair;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link ObservationStreamReader} class
+ * <P>
+ * Line oriented reader for streamed ReferenceIndex observations. Each non blank line is either
+ * an NDJSON object <code>{"time": "2024-01-01T00:00:00", "value": 3310.5}</code> or a CSV
+ * record <code>2024-01-01T00:00:00,3310.5</code>; a leading CSV header line is skipped.
+ * <P>
+ * The result is sorted on time and holds one observation per time (the last one read wins).
+ * Times are rendered as yyyy-MM-ddTHH:mm:ss, with a fraction of a second only where there is one,
+ * so that two observations have equal time strings exactly when their times are equal, and the
+ * strings sort in time order. MongoDB deduplicating appended observations on the string then
+ * agrees with the compiled series (TimeSeriesModel.append) deduplicating on the parsed time.
+ */
+public class ObservationStreamReader {
+
+	private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private ObservationStreamReader() {
+	}
+
+	/**
+	 * reads all observations from the stream
+	 * @param reader
+	 * @return observations sorted and deduplicated on time
+	 * @throws IOException
+	 * @throws IllegalArgumentException if a line is neither a valid NDJSON nor CSV observation
+	 */
+	public static List<TimeValuePair> read(Reader reader) throws IOException {
+		TreeMap<LocalDateTime,Double> observations = new TreeMap<LocalDateTime,Double>();
+		BufferedReader lines = new BufferedReader(reader);
+		String line;
+		int lineNumber = 0;
+		boolean firstRecord = true;
+		while ((line = lines.readLine()) != null) {
+			lineNumber++;
+			line = line.trim();
+			if (line.isEmpty())
+				continue;
+			boolean header = firstRecord;
+			firstRecord = false;
+			try {
+				if (line.startsWith("{")) {
+					TimeValuePair tv = MAPPER.readValue(line, TimeValuePair.class);
+					observations.put(LocalDateTime.parse(tv.getTime()), tv.getValue());
+				}
+				else {
+					String[] fields = line.split(",");
+					LocalDateTime time;
+					try {
+						time = LocalDateTime.parse(unquote(fields[0]));
+					} catch (DateTimeParseException e) {
+						if (header)
+							continue;   // CSV header
+						throw e;
+					}
+					observations.put(time, Double.valueOf(unquote(fields[1])));
+				}
+			} catch (RuntimeException | IOException e) {
+				throw new IllegalArgumentException("Invalid observation at line " + lineNumber + ": " + line, e);
+			}
+		}
+		return toList(observations);
+	}
+
+	/**
+	 * renders observations as read from a stream: sorted on time, one per time (the last one
+	 * given wins) and times in the canonical form, so that observations posted whole can be
+	 * deduplicated against appended ones on the time string
+	 * @param data
+	 * @return observations in time order
+	 * @throws java.time.format.DateTimeParseException if a time is not an ISO local date time
+	 */
+	public static List<TimeValuePair> normalize(List<TimeValuePair> data) {
+		TreeMap<LocalDateTime,Double> observations = new TreeMap<LocalDateTime,Double>();
+		for (TimeValuePair tv : data)
+			observations.put(LocalDateTime.parse(tv.getTime()), tv.getValue());
+		return toList(observations);
+	}
+
+	/**
+	 * converts a time ordered map of observations to TimeValuePairs
+	 * @param observations
+	 * @return observations in time order
+	 */
+	public static List<TimeValuePair> toList(TreeMap<LocalDateTime,Double> observations) {
+		List<TimeValuePair> data = new ArrayList<TimeValuePair>(observations.size());
+		for (Map.Entry<LocalDateTime,Double> entry : observations.entrySet()) {
+			data.add(new TimeValuePair(TIME_FORMAT.format(entry.getKey()), entry.getValue()));
+		}
+		return data;
+	}
+
+	private static String unquote(String field) {
+		String s = field.trim();
+		if (s.length() >= 2 && s.startsWith("\"") && s.endsWith("\""))
+			s = s.substring(1, s.length() - 1);
+		return s;
+	}
+}
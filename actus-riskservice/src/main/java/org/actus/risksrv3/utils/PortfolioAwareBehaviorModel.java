@@ -0,0 +1,47 @@
+package org.actus.risksrv3.utils;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Behavior models that use portfolio wide state. In a lock-step portfolio simulation
+ * (actus-service /rf2/portfolioSimulation) every contract is advanced to a time before any
+ * callout at that time is evaluated; the aggregates of the contract states at that point are
+ * published to these models (see MultiBehaviorRiskModel.publishPortfolio) before their
+ * stateAt( ) is called for the time.
+ * Aggregates are keyed by state and currency, e.g. "notionalPrincipal:USD" and
+ * "accruedInterest:USD" summed over the contracts in USD, and "notionalPrincipal/" + contractID
+ * for single contracts. States carry the sign of the contract role, so a sum nets the
+ * positions held (positive) against those owed (negative).
+ * Outside a lock-step simulation nothing is published and the models decide on the state of
+ * the calling contract alone.
+ */
+public interface PortfolioAwareBehaviorModel {
+
+	/**
+	 * @param state e.g. "notionalPrincipal"
+	 * @param currency e.g. "USD"
+	 * @return the key of the state summed over the portfolio's contracts in the currency
+	 */
+	static String currencyKey(String state, String currency) {
+		return state + ":" + currency;
+	}
+
+	/**
+	 * @param portfolio the time and aggregates last published, null if none
+	 * @param time the time of the callout
+	 * @param key the aggregate
+	 * @return the aggregate if published for the time, else null
+	 */
+	static Double aggregateAt(Map.Entry<LocalDateTime,Map<String,Double>> portfolio, LocalDateTime time, String key) {
+		if (portfolio == null || !portfolio.getKey().equals(time))
+			return null;
+		return portfolio.getValue().get(key);
+	}
+
+	/**
+	 * @param time the time of the callouts to follow
+	 * @param aggregates portfolio state at time, before the callouts
+	 */
+	void portfolioStep(LocalDateTime time, Map<String,Double> aggregates);
+}
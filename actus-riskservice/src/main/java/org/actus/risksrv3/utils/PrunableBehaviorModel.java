@@ -0,0 +1,32 @@
+package org.actus.risksrv3.utils;
+
+import java.util.List;
+
+import org.actus.risksrv3.core.attributes.ContractModel;
+
+/**
+ * Implemented by behavior models whose stateAt( ) is a threshold on market inputs, so that
+ * callouts at times where the market cannot reach the threshold may be answered with 0.0 at
+ * contract start (see CalloutPruner). stateAt( ) must not depend on earlier calls, since
+ * those callouts never reach the model.
+ */
+public interface PrunableBehaviorModel {
+
+	/**
+	 * Returns the marketObjectCodes stateAt( ) reads
+	 * @return marketObjectCodes, the order of the min and max arrays of canTrigger
+	 */
+	public List<String> triggerInputs();
+
+	/**
+	 * Returns false only if stateAt( ) returns 0.0 for every market state with each input
+	 * within [min[i], max[i]] and every contract state the contract can reach.
+	 * When in doubt an implementation must return true.
+	 *
+	 * @param contract the contract being started
+	 * @param min lowest value of each trigger input over the window
+	 * @param max highest value of each trigger input over the window
+	 * @return true if a callout in the window may return a non zero value
+	 */
+	public boolean canTrigger(ContractModel contract, double[] min, double[] max);
+}
@@ -0,0 +1,113 @@
+package org.actus.risksrv3.utils;
+
+import java.util.Arrays;
+
+/**
+ * {@link RangeExtremaIndex} class
+ * <P>
+ * Range minimum and maximum over an array of values, as an iterative segment tree:
+ * O(n) to build, O(log n) per query and 4n doubles of storage (a sparse table would need
+ * n log n, too much for minute resolution series).
+ * <P>
+ * An index built with spare capacity takes appended values in O(log n). Appending only
+ * writes the nodes above the new value, none of which a query over the values indexed
+ * before reads, so such queries may run while a value is appended.
+ */
+public class RangeExtremaIndex {
+
+	private final int capacity;
+	private final double[] min;
+	private final double[] max;
+	private int n;
+
+	public RangeExtremaIndex(double[] values) {
+		this(values, values.length, values.length);
+	}
+
+	/**
+	 * builds the index over the first count values, with room for values appended up to capacity
+	 * @param values
+	 * @param count number of values indexed
+	 * @param capacity number of values the index can hold, at least count
+	 */
+	public RangeExtremaIndex(double[] values, int count, int capacity) {
+		if (count > capacity)
+			throw new IllegalArgumentException("count " + count + " exceeds capacity " + capacity);
+		this.capacity = capacity;
+		this.n = count;
+		this.min = new double[2 * capacity];
+		this.max = new double[2 * capacity];
+		System.arraycopy(values, 0, min, capacity, count);
+		System.arraycopy(values, 0, max, capacity, count);
+		Arrays.fill(min, capacity + count, 2 * capacity, Double.POSITIVE_INFINITY);
+		Arrays.fill(max, capacity + count, 2 * capacity, Double.NEGATIVE_INFINITY);
+		for (int i = capacity - 1; i > 0; i--) {
+			min[i] = Math.min(min[2 * i], min[2 * i + 1]);
+			max[i] = Math.max(max[2 * i], max[2 * i + 1]);
+		}
+	}
+
+	public int size() {
+		return n;
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * appends a value
+	 * @param value
+	 * @return false if the index is full, in which case it is unchanged
+	 */
+	public boolean append(double value) {
+		if (n == capacity)
+			return false;
+		int i = capacity + n;
+		min[i] = value;
+		max[i] = value;
+		for (i >>= 1; i > 0; i >>= 1) {
+			min[i] = Math.min(min[2 * i], min[2 * i + 1]);
+			max[i] = Math.max(max[2 * i], max[2 * i + 1]);
+		}
+		n++;
+		return true;
+	}
+
+	/**
+	 * returns an index over the same values with room for values appended up to capacity
+	 * @param capacity at least size()
+	 * @return index
+	 */
+	public RangeExtremaIndex withCapacity(int capacity) {
+		return new RangeExtremaIndex(Arrays.copyOfRange(min, this.capacity, this.capacity + n), n, capacity);
+	}
+
+	/**
+	 * returns the minimum and maximum of the values at indexes from to to, both inclusive
+	 * @param from first index, clamped to 0
+	 * @param to last index, clamped to size()-1
+	 * @return {min, max}, or {NaN, NaN} if the range is empty
+	 */
+	public double[] range(int from, int to) {
+		from = Math.max(from, 0);
+		to = Math.min(to, n - 1);
+		if (from > to)
+			return new double[] {Double.NaN, Double.NaN};
+		double lo = Double.POSITIVE_INFINITY;
+		double hi = Double.NEGATIVE_INFINITY;
+		for (int l = from + capacity, r = to + capacity + 1; l < r; l >>= 1, r >>= 1) {
+			if ((l & 1) == 1) {
+				lo = Math.min(lo, min[l]);
+				hi = Math.max(hi, max[l]);
+				l++;
+			}
+			if ((r & 1) == 1) {
+				r--;
+				lo = Math.min(lo, min[r]);
+				hi = Math.max(hi, max[r]);
+			}
+		}
+		return new double[] {lo, hi};
+	}
+}
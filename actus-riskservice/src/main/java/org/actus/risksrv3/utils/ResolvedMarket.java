@@ -0,0 +1,111 @@
+package org.actus.risksrv3.utils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link ResolvedMarket} class
+ * <P>
+ * Unshocked market values resolved in advance for known (marketObjectCode, time) pairs, held
+ * as a dense double[moc][time] table with index maps for both dimensions. Built at
+ * /contractSimulationStart from the callout times and market inputs of the activated models,
+ * so that the market lookups of their stateAt( ) calls become array reads.
+ * A table is immutable and covers the pairs of one contract start only, so its size, and the
+ * time to build it, follow that contract's models and callouts, not the scenario's.
+ * Cells whose lookup failed hold NaN and are looked up again by the caller.
+ */
+public class ResolvedMarket {
+
+	private final Map<String,Integer> mocIndex;
+	private final Map<LocalDateTime,Integer> timeIndex;
+	private final double[][] values;
+
+	private ResolvedMarket(Map<String,Integer> mocIndex, Map<LocalDateTime,Integer> timeIndex, double[][] values) {
+		this.mocIndex = mocIndex;
+		this.timeIndex = timeIndex;
+		this.values = values;
+	}
+
+	/**
+	 * resolves every (moc, time) pair
+	 * @param market unshocked market to read
+	 * @param mocs market object codes
+	 * @param times callout times
+	 * @return table
+	 */
+	public static ResolvedMarket resolve(MarketRiskModelProvider market, Collection<String> mocs,
+			Collection<LocalDateTime> times) {
+		Map<String,Integer> mocIndex = new HashMap<String,Integer>();
+		for (String moc : mocs)
+			mocIndex.putIfAbsent(moc, mocIndex.size());
+		Map<LocalDateTime,Integer> timeIndex = new HashMap<LocalDateTime,Integer>();
+		LocalDateTime[] timeAt = new LocalDateTime[times.size()];
+		for (LocalDateTime time : times) {
+			if (timeIndex.putIfAbsent(time, timeIndex.size()) == null)
+				timeAt[timeIndex.size() - 1] = time;
+		}
+		double[][] values = new double[mocIndex.size()][timeIndex.size()];
+		for (Map.Entry<String,Integer> entry : mocIndex.entrySet()) {
+			double[] row = values[entry.getValue()];
+			for (int t = 0; t < row.length; t++)
+				row[t] = lookup(market, entry.getKey(), timeAt[t]);
+		}
+		return new ResolvedMarket(mocIndex, timeIndex, values);
+	}
+
+	private static double lookup(MarketRiskModelProvider market, String moc, LocalDateTime time) {
+		try {
+			return market.stateAt(moc, time);
+		} catch (RuntimeException e) {
+			return Double.NaN;
+		}
+	}
+
+	/**
+	 * @param moc
+	 * @return row index of moc, -1 if not resolved
+	 */
+	public int mocIndex(String moc) {
+		Integer m = this.mocIndex.get(moc);
+		return (m == null) ? -1 : m;
+	}
+
+	/**
+	 * @param time
+	 * @return column index of time, -1 if not resolved
+	 */
+	public int timeIndex(LocalDateTime time) {
+		Integer t = this.timeIndex.get(time);
+		return (t == null) ? -1 : t;
+	}
+
+	/**
+	 * @param moc row index
+	 * @param time column index
+	 * @return resolved value, NaN if the lookup failed
+	 */
+	public double value(int moc, int time) {
+		return this.values[moc][time];
+	}
+
+	/**
+	 * @param moc
+	 * @param time
+	 * @return resolved value, NaN if the pair is not resolved or its lookup failed
+	 */
+	public double valueAt(String moc, LocalDateTime time) {
+		int m = mocIndex(moc);
+		int t = timeIndex(time);
+		return (m < 0 || t < 0) ? Double.NaN : this.values[m][t];
+	}
+
+	public int mocCount() {
+		return this.mocIndex.size();
+	}
+
+	public int timeCount() {
+		return this.timeIndex.size();
+	}
+}
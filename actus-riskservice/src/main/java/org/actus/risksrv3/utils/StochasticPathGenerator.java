@@ -0,0 +1,226 @@
+package org.actus.risksrv3.utils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import org.actus.risksrv3.models.StochasticFactorData;
+import org.actus.risksrv3.models.StochasticScenarioData;
+
+/**
+ * {@link StochasticPathGenerator} class
+ * <P>
+ * Generates the correlated Monte Carlo paths of a StochasticScenario in memory.
+ * <P>
+ * Every path draws from its own SplittableRandom stream, split off a root stream seeded with
+ * the scenario seed before any path is generated. Paths are then generated in parallel
+ * without sharing state, and path i is the same whatever the number of threads or paths
+ * generated after it. Independent normals are correlated per step with the Cholesky factor
+ * of the correlation matrix. GBM and Vasicek steps are exact, jump diffusion adds a
+ * compound Poisson log jump per step, CIR uses full truncation Euler.
+ */
+public class StochasticPathGenerator {
+
+	private static final double DAYS_PER_YEAR = 365.0;
+
+	private StochasticPathGenerator() {
+	}
+
+	/**
+	 * generates all paths of a scenario
+	 * @param data scenario parameters
+	 * @return paths
+	 * @throws IllegalArgumentException on an unknown process, a correlation matrix of the wrong
+	 *         size or one that is not positive definite
+	 */
+	public static StochasticPaths generate(StochasticScenarioData data) {
+		List<StochasticFactorData> factors = data.getFactors();
+		int nf = factors.size();
+		int steps = data.getNumSteps();
+		int numPaths = data.getNumPaths();
+		if (nf == 0 || steps < 1 || numPaths < 1)
+			throw new IllegalArgumentException("StochasticScenario " + data.getRiskFactorId()
+					+ " needs at least one factor, step and path");
+		Process[] processes = new Process[nf];
+		String[] mocs = new String[nf];
+		for (int f = 0; f < nf; f++) {
+			processes[f] = Process.of(factors.get(f));
+			mocs[f] = factors.get(f).getMarketObjectCode();
+		}
+		double[][] cholesky = cholesky(data.getCorrelation(), nf);
+
+		long[] epochSeconds = new long[steps + 1];
+		long start = LocalDateTime.parse(data.getStartDate()).toEpochSecond(ZoneOffset.UTC);
+		long stepSeconds = Math.round(data.getStepDays() * 86400.0);
+		for (int s = 0; s <= steps; s++)
+			epochSeconds[s] = start + s * stepSeconds;
+		double dt = data.getStepDays() / DAYS_PER_YEAR;
+
+		SplittableRandom root = new SplittableRandom(data.getSeed());
+		SplittableRandom[] streams = new SplittableRandom[numPaths];
+		for (int p = 0; p < numPaths; p++)
+			streams[p] = root.split();
+
+		int stride = steps + 1;
+		double[][] values = new double[nf][numPaths * stride];
+		IntStream.range(0, numPaths).parallel().forEach(p -> {
+			SplittableRandom rng = streams[p];
+			double[] state = new double[nf];
+			double[] normals = new double[nf];
+			double[] correlated = new double[nf];
+			int base = p * stride;
+			for (int f = 0; f < nf; f++) {
+				state[f] = factors.get(f).getInitialValue();
+				values[f][base] = state[f];
+			}
+			for (int s = 1; s <= steps; s++) {
+				for (int f = 0; f < nf; f++)
+					normals[f] = rng.nextGaussian();
+				for (int i = 0; i < nf; i++) {
+					double z = 0.0;
+					for (int j = 0; j <= i; j++)
+						z += cholesky[i][j] * normals[j];
+					correlated[i] = z;
+				}
+				for (int f = 0; f < nf; f++) {
+					state[f] = processes[f].step(state[f], dt, correlated[f], rng);
+					values[f][base + s] = processes[f].observe(state[f]);
+				}
+			}
+		});
+		return new StochasticPaths(mocs, epochSeconds, values, numPaths);
+	}
+
+	/**
+	 * returns the lower triangular Cholesky factor L of a correlation matrix, L L' = correlation
+	 * @param correlation factor x factor matrix; null means independent factors
+	 * @param n number of factors
+	 * @return L
+	 */
+	static double[][] cholesky(double[][] correlation, int n) {
+		double[][] l = new double[n][n];
+		if (correlation == null) {
+			for (int i = 0; i < n; i++)
+				l[i][i] = 1.0;
+			return l;
+		}
+		if (correlation.length != n)
+			throw new IllegalArgumentException("correlation matrix is " + correlation.length + "x.. for " + n + " factors");
+		for (int i = 0; i < n; i++) {
+			if (correlation[i].length != n)
+				throw new IllegalArgumentException("correlation matrix row " + i + " has " + correlation[i].length + " entries");
+			for (int j = 0; j <= i; j++) {
+				double sum = correlation[i][j];
+				for (int k = 0; k < j; k++)
+					sum -= l[i][k] * l[j][k];
+				if (i == j) {
+					if (sum <= 0.0)
+						throw new IllegalArgumentException("correlation matrix is not positive definite");
+					l[i][i] = Math.sqrt(sum);
+				}
+				else
+					l[i][j] = sum / l[j][j];
+			}
+		}
+		return l;
+	}
+
+	// one step of a factor's dynamics over dt years driven by the correlated normal z
+	private static abstract class Process {
+		final StochasticFactorData p;
+
+		Process(StochasticFactorData p) {
+			this.p = p;
+		}
+
+		abstract double step(double x, double dt, double z, SplittableRandom rng);
+
+		double observe(double x) {
+			return x;
+		}
+
+		static Process of(StochasticFactorData factor) {
+			String process = (factor.getProcess() == null) ? "" : factor.getProcess().toUpperCase();
+			switch (process) {
+			case "GBM":            return new GeometricBrownianMotion(factor);
+			case "JUMP_DIFFUSION": return new JumpDiffusion(factor);
+			case "VASICEK":        return new Vasicek(factor);
+			case "CIR":            return new CoxIngersollRoss(factor);
+			default:
+				throw new IllegalArgumentException("unknown process " + factor.getProcess()
+						+ " for " + factor.getMarketObjectCode() + "; expected GBM, JUMP_DIFFUSION, VASICEK or CIR");
+			}
+		}
+	}
+
+	private static class GeometricBrownianMotion extends Process {
+		GeometricBrownianMotion(StochasticFactorData p) {
+			super(p);
+		}
+		double step(double x, double dt, double z, SplittableRandom rng) {
+			double sigma = p.getVolatility();
+			return x * Math.exp((p.getDrift() - 0.5 * sigma * sigma) * dt + sigma * Math.sqrt(dt) * z);
+		}
+	}
+
+	// Merton: the drift is compensated so that E[S(t)] = S(0) exp(drift t) as for GBM
+	private static class JumpDiffusion extends Process {
+		private final double compensator;
+
+		JumpDiffusion(StochasticFactorData p) {
+			super(p);
+			double v = p.getJumpVolatility();
+			this.compensator = p.getJumpIntensity() * (Math.exp(p.getJumpMean() + 0.5 * v * v) - 1.0);
+		}
+		double step(double x, double dt, double z, SplittableRandom rng) {
+			double sigma = p.getVolatility();
+			double logReturn = (p.getDrift() - 0.5 * sigma * sigma - compensator) * dt + sigma * Math.sqrt(dt) * z;
+			int jumps = poisson(p.getJumpIntensity() * dt, rng);
+			for (int k = 0; k < jumps; k++)
+				logReturn += p.getJumpMean() + p.getJumpVolatility() * rng.nextGaussian();
+			return x * Math.exp(logReturn);
+		}
+		private static int poisson(double mean, SplittableRandom rng) {
+			double limit = Math.exp(-mean);
+			double product = rng.nextDouble();
+			int n = 0;
+			while (product > limit) {
+				product *= rng.nextDouble();
+				n++;
+			}
+			return n;
+		}
+	}
+
+	private static class Vasicek extends Process {
+		Vasicek(StochasticFactorData p) {
+			super(p);
+		}
+		double step(double x, double dt, double z, SplittableRandom rng) {
+			double kappa = p.getMeanReversion();
+			double sigma = p.getVolatility();
+			if (kappa == 0.0)
+				return x + sigma * Math.sqrt(dt) * z;
+			double decay = Math.exp(-kappa * dt);
+			double sd = sigma * Math.sqrt((1.0 - decay * decay) / (2.0 * kappa));
+			return p.getLongTermMean() + (x - p.getLongTermMean()) * decay + sd * z;
+		}
+	}
+
+	// the state may go negative under Euler; it is floored at zero in the drift, diffusion and output
+	private static class CoxIngersollRoss extends Process {
+		CoxIngersollRoss(StochasticFactorData p) {
+			super(p);
+		}
+		double step(double x, double dt, double z, SplittableRandom rng) {
+			double positive = Math.max(x, 0.0);
+			return x + p.getMeanReversion() * (p.getLongTermMean() - positive) * dt
+					+ p.getVolatility() * Math.sqrt(positive * dt) * z;
+		}
+		double observe(double x) {
+			return Math.max(x, 0.0);
+		}
+	}
+}
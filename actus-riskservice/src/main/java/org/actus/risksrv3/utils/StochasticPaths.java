@@ -0,0 +1,150 @@
+package org.actus.risksrv3.utils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * {@link StochasticPaths} class
+ * <P>
+ * Monte Carlo paths of a StochasticScenario held in primitive arrays: one shared time grid
+ * (epoch seconds, UTC) and, per factor, one flat double[] of numPaths x (numSteps + 1) values
+ * laid out path after path. A factor is exposed to the simulation as a MarketRiskModelProvider
+ * through {@link #model(int)}, which follows the path of the request being processed (see
+ * {@link #withPath}) or, outside one, the path last selected with {@link #select(int)}.
+ */
+public class StochasticPaths {
+	// path of the request being processed on this thread, see withPath(); null for the selected path
+	private static final ThreadLocal<Integer> requestPath = new ThreadLocal<Integer>();
+
+	private final String[] marketObjectCodes;
+	private final long[] epochSeconds;
+	private final double[][] values;
+	private final int numPaths;
+	private volatile int selected = 0;
+
+	StochasticPaths(String[] marketObjectCodes, long[] epochSeconds, double[][] values, int numPaths) {
+		this.marketObjectCodes = marketObjectCodes;
+		this.epochSeconds = epochSeconds;
+		this.values = values;
+		this.numPaths = numPaths;
+	}
+
+	public String[] getMarketObjectCodes() {
+		return marketObjectCodes;
+	}
+	public int getNumPaths() {
+		return numPaths;
+	}
+	public int getNumSteps() {
+		return epochSeconds.length - 1;
+	}
+
+	/**
+	 * returns the value of a factor on a path at a grid step
+	 * @param factor index into getMarketObjectCodes()
+	 * @param path
+	 * @param step 0 .. numSteps
+	 * @return value
+	 */
+	public double value(int factor, int path, int step) {
+		return values[factor][path * epochSeconds.length + step];
+	}
+
+	/**
+	 * returns the last grid step at or before time; times before the grid map to step 0
+	 * @param time
+	 * @return step
+	 */
+	public int stepAt(LocalDateTime time) {
+		int i = Arrays.binarySearch(epochSeconds, time.toEpochSecond(ZoneOffset.UTC));
+		if (i < 0)
+			i = -i - 2;
+		return Math.max(i, 0);
+	}
+
+	/**
+	 * @param path
+	 * @throws IllegalArgumentException if there is no such path
+	 */
+	public void checkPath(int path) {
+		if (path < 0 || path >= numPaths)
+			throw new IllegalArgumentException("path " + path + " out of range 0.." + (numPaths - 1));
+	}
+
+	/**
+	 * selects the path followed by lookups made outside a request path
+	 * @param path
+	 * @throws IllegalArgumentException if there is no such path, leaving the selection unchanged
+	 */
+	public void select(int path) {
+		checkPath(path);
+		this.selected = path;
+	}
+
+	/**
+	 * @return the path lookups on the calling thread follow
+	 */
+	public int path() {
+		Integer path = requestPath.get();
+		if (path == null)
+			return this.selected;
+		checkPath(path);
+		return path;
+	}
+
+	/**
+	 * Runs action with every factor of every StochasticPaths following the given path for the
+	 * lookups made on the calling thread, including those behavior models make. The path is
+	 * request scoped: other threads, and this one after the call, follow the selected path.
+	 * @param path path, null for the selected one
+	 * @param action
+	 * @return result of action
+	 */
+	public static <T> T withPath(Integer path, Supplier<T> action) {
+		if (path == null)
+			return action.get();
+		Integer previous = requestPath.get();
+		requestPath.set(path);
+		try {
+			return action.get();
+		} finally {
+			if (previous == null)
+				requestPath.remove();
+			else
+				requestPath.set(previous);
+		}
+	}
+
+	/**
+	 * returns one factor as a market model (step function between grid times) on the path
+	 * lookups follow, see path()
+	 * @param factor index into getMarketObjectCodes()
+	 * @return market model for the factor's marketObjectCode
+	 */
+	public MarketRiskModelProvider model(int factor) {
+		return new PathModel(factor);
+	}
+
+	/**
+	 * A factor of the paths; its values depend on the path of the lookup, so they are neither
+	 * pre-resolved nor memoized across lookups (see MultiMarketRiskModel.preResolve)
+	 */
+	public class PathModel implements MarketRiskModelProvider {
+		private final int factor;
+
+		private PathModel(int factor) {
+			this.factor = factor;
+		}
+
+		public Set<String> keys() {
+			return Set.of(marketObjectCodes[factor]);
+		}
+
+		public double stateAt(String id, LocalDateTime time) {
+			return values[factor][path() * epochSeconds.length + stepAt(time)];
+		}
+	}
+}
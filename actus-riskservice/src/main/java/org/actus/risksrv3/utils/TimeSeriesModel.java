@@ -1,13 +1,27 @@
 package org.actus.risksrv3.utils;
 
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import org.actus.risksrv3.models.ReferenceIndex;
+import org.actus.risksrv3.models.TimeValuePair;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 public class TimeSeriesModel implements MarketRiskModelProvider {
 	private String marketObjectCode;
-	private TimeSeries<LocalDateTime,Double> timeSeries;
+	private Double base;
+	// replaced as a whole by append(), so readers never see an append half done
+	private volatile Observations observations;
+	// observation times and range index for rangeOf(), built on first use and extended by later
+	// calls over observations appended in order
+	private volatile RangeIndex rangeIndex;
 	
 	public TimeSeriesModel(){
 	}
@@ -15,15 +29,207 @@ public class TimeSeriesModel implements MarketRiskModelProvider {
 	public TimeSeriesModel(ReferenceIndex referenceIndex) {
 		this.marketObjectCode = referenceIndex.getMarketObjectCode();
 		Double base = referenceIndex.getBase();
-		LocalDateTime[] times = referenceIndex.getData().stream().map(obs -> LocalDateTime.parse(obs.getTime())).toArray(LocalDateTime[]::new);
-        Double[] values = referenceIndex.getData().stream().map(obs -> 1/base*obs.getValue()).toArray(Double[]::new);  
-        this.timeSeries = new TimeSeries<LocalDateTime,Double>();
-        this.timeSeries.of(times,values);
+		this.base = base;
+		LocalDateTime[] times;
+		Double[] values;
+		if (referenceIndex.isPacked()) {
+			// compact storage form - no per observation string parsing 
+			byte[] packed = referenceIndex.getPackedData();
+			times = ObservationCodec.decodeTimes(packed);
+			values = Arrays.stream(ObservationCodec.decodeValues(packed)).mapToObj(v -> 1/base*v).toArray(Double[]::new);
+		}
+		else {
+			times = referenceIndex.getData().stream().map(obs -> LocalDateTime.parse(obs.getTime())).toArray(LocalDateTime[]::new);
+			values = referenceIndex.getData().stream().map(obs -> 1/base*obs.getValue()).toArray(Double[]::new);  
+		}
+        TimeSeries<LocalDateTime,Double> timeSeries = new TimeSeries<LocalDateTime,Double>();
+        timeSeries.of(times,values);
+        this.observations = new Observations(timeSeries, new LocalDateTime[0], new double[0], 0);
 	}	
 	public Set<String> keys() {
 		return Set.of(this.marketObjectCode);
 	}
 	public double stateAt(String id, LocalDateTime time ) {
-		return timeSeries.getValueFor(time,1);
+		Observations observations = this.observations;
+		if (observations.tailSize > 0 && !time.isBefore(observations.tailTimes[0]))
+			return observations.tailValues[floorIndex(observations.tailTimes, observations.tailSize, time)];
+		return observations.series.getValueFor(time,1);
+	}
+	
+	/**
+	 * the series is a step function, so its range over [from, to] is that of the observations
+	 * from the last one at or before from up to the last one at or before to
+	 */
+	@Override
+	public double[] rangeOf(String id, LocalDateTime from, LocalDateTime to) {
+		Observations observations = this.observations;
+		int size = observations.size();
+		RangeIndex index = this.rangeIndex;
+		if (index == null || index.series != observations.series || index.size < size)
+			index = buildRangeIndex(observations);
+		int first = floorIndex(index.times, size, from);
+		if (first < 0)
+			return null; // stateAt is undefined before the first observation
+		return index.extrema.range(first, floorIndex(index.times, size, to));
+	}
+
+	// indexes the observations; an index of the same series is extended by the observations appended 
+	// since it was built. Appending to the index leaves the part other rangeOf calls read untouched
+	private synchronized RangeIndex buildRangeIndex(Observations observations) {
+		RangeIndex index = this.rangeIndex;
+		int size = observations.size();
+		if (index != null && index.series == observations.series && index.size >= size)
+			return index;
+		int seriesSize = observations.series.size();
+		if (index == null || index.series != observations.series) {
+			LocalDateTime[] times = new LocalDateTime[size];
+			double[] values = new double[size];
+			Iterator<Map.Entry<LocalDateTime,Double>> entries = observations.series.iterator();
+			for (int i = 0; i < seriesSize; i++) {
+				Map.Entry<LocalDateTime,Double> entry = entries.next();
+				times[i] = entry.getKey();
+				values[i] = entry.getValue();
+			}
+			System.arraycopy(observations.tailTimes, 0, times, seriesSize, observations.tailSize);
+			System.arraycopy(observations.tailValues, 0, values, seriesSize, observations.tailSize);
+			index = new RangeIndex(observations.series, times, new RangeExtremaIndex(values), size);
+		}
+		else {
+			LocalDateTime[] times = index.times;
+			RangeExtremaIndex extrema = index.extrema;
+			if (size > times.length) {
+				int capacity = Math.max(size, 2 * times.length);
+				times = Arrays.copyOf(times, capacity);
+				extrema = extrema.withCapacity(capacity);
+			}
+			for (int i = index.size; i < size; i++) {
+				times[i] = observations.tailTimes[i - seriesSize];
+				extrema.append(observations.tailValues[i - seriesSize]);
+			}
+			index = new RangeIndex(observations.series, times, extrema, size);
+		}
+		this.rangeIndex = index;
+		return index;
+	}
+
+	// index of the last of the first size times <= t, -1 if none; full LocalDateTimes, as observations 
+	// may be sub-second apart
+	private static int floorIndex(LocalDateTime[] times, int size, LocalDateTime t) {
+		int i = Arrays.binarySearch(times, 0, size, t);
+		return (i >= 0) ? i : -i - 2;
+	}
+
+	/**
+	 * adds observations to the compiled series; an observation at an existing time replaces it.
+	 * Observations after the last time held, in time order, are added to the tail of the series
+	 * in O(1) each; only an observation at or before an earlier one makes the series rebuilt.
+	 * Concurrent stateAt, rangeOf and digest calls see either all or none of the observations.
+	 * Times are parsed as on construction, so appended observations collide with stored ones 
+	 * exactly as on a reload (ObservationStreamReader renders times losslessly).
+	 * @param data observations in ReferenceIndex units (scaled by 1/base as on construction)
+	 */
+	public synchronized void append(List<TimeValuePair> data) {
+		Observations observations = this.observations;
+		LocalDateTime[] times = new LocalDateTime[data.size()];
+		LocalDateTime last = observations.latestTime();
+		boolean inOrder = true;
+		for (int i = 0; i < times.length; i++) {
+			times[i] = LocalDateTime.parse(data.get(i).getTime());
+			inOrder = inOrder && (last == null || times[i].isAfter(last));
+			last = times[i];
+		}
+		if (inOrder) {
+			int size = observations.tailSize + times.length;
+			LocalDateTime[] tailTimes = observations.tailTimes;
+			double[] tailValues = observations.tailValues;
+			if (size > tailTimes.length) {
+				int capacity = Math.max(Math.max(size, 16), 2 * tailTimes.length);
+				tailTimes = Arrays.copyOf(tailTimes, capacity);
+				tailValues = Arrays.copyOf(tailValues, capacity);
+			}
+			for (int i = 0; i < times.length; i++) {
+				tailTimes[observations.tailSize + i] = times[i];
+				tailValues[observations.tailSize + i] = 1/this.base*data.get(i).getValue();
+			}
+			this.observations = new Observations(observations.series, tailTimes, tailValues, size);
+			return;
+		}
+		TreeMap<LocalDateTime,Double> rebuilt = new TreeMap<LocalDateTime,Double>();
+		Iterator<Map.Entry<LocalDateTime,Double>> entries = observations.series.iterator();
+		while (entries.hasNext()) {
+			Map.Entry<LocalDateTime,Double> entry = entries.next();
+			rebuilt.put(entry.getKey(), entry.getValue());
+		}
+		for (int i = 0; i < observations.tailSize; i++)
+			rebuilt.put(observations.tailTimes[i], observations.tailValues[i]);
+		for (int i = 0; i < times.length; i++)
+			rebuilt.put(times[i], 1/this.base*data.get(i).getValue());
+		this.observations = new Observations(new TimeSeries<LocalDateTime,Double>(rebuilt), new LocalDateTime[0], new double[0], 0);
+	}
+
+	/**
+	 * adds the observations up to a time to a digest; stateAt up to that time depends on no others
+	 * @param digest
+	 * @param until last time included, inclusive
+	 */
+	public void digest(MessageDigest digest, LocalDateTime until) {
+		Observations observations = this.observations;
+		ByteBuffer observation = ByteBuffer.allocate(20);
+		Iterator<Map.Entry<LocalDateTime,Double>> entries = observations.series.iterator();
+		while (entries.hasNext()) {
+			Map.Entry<LocalDateTime,Double> entry = entries.next();
+			if (entry.getKey().isAfter(until))
+				return;
+			digest(digest, observation, entry.getKey(), entry.getValue());
+		}
+		for (int i = 0; i < observations.tailSize && !observations.tailTimes[i].isAfter(until); i++)
+			digest(digest, observation, observations.tailTimes[i], observations.tailValues[i]);
+	}
+
+	private static void digest(MessageDigest digest, ByteBuffer observation, LocalDateTime time, double value) {
+		observation.clear();
+		observation.putLong(time.toEpochSecond(ZoneOffset.UTC)).putInt(time.getNano()).putDouble(value);
+		digest.update(observation.array());
+	}
+
+	// the series as constructed or last rebuilt, and the observations appended in order after it. 
+	// The tail arrays are shared with the Observations that follow, which only write past tailSize
+	private static class Observations {
+		final TimeSeries<LocalDateTime,Double> series;
+		final LocalDateTime[] tailTimes;
+		final double[] tailValues;
+		final int tailSize;
+
+		Observations(TimeSeries<LocalDateTime,Double> series, LocalDateTime[] tailTimes, double[] tailValues, int tailSize) {
+			this.series = series;
+			this.tailTimes = tailTimes;
+			this.tailValues = tailValues;
+			this.tailSize = tailSize;
+		}
+
+		int size() {
+			return series.size() + tailSize;
+		}
+
+		LocalDateTime latestTime() {
+			if (tailSize > 0)
+				return tailTimes[tailSize - 1];
+			return series.isEmpty() ? null : series.getLatestTime();
+		}
+	}
+
+	// the first size times of the series and tail, and their range index
+	private static class RangeIndex {
+		final TimeSeries<LocalDateTime,Double> series;
+		final LocalDateTime[] times;
+		final RangeExtremaIndex extrema;
+		final int size;
+
+		RangeIndex(TimeSeries<LocalDateTime,Double> series, LocalDateTime[] times, RangeExtremaIndex extrema, int size) {
+			this.series = series;
+			this.times = times;
+			this.extrema = extrema;
+			this.size = size;
+		}
 	}
 }
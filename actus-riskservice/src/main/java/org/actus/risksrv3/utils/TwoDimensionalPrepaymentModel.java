@@ -17,9 +17,10 @@ import org.actus.risksrv3.core.attributes.ContractModel;
 public class TwoDimensionalPrepaymentModel implements BehaviorRiskModelProvider {
 	public static final String CALLOUT_TYPE = "MRD";  // MultiplicativeReductionDelta
 	String referenceRate;
+	int referenceRateHandle;
 	String riskFactorId;
 	TimeSeries<Double,TimeSeries<Double,Double>> surface;
-	MarketRiskModelProvider marketModel;
+	MultiMarketRiskModel marketModel;
 	DayCountCalculator dayCount;
 	Map<String,Object> terms;
 	LocalDateTime initialExchangeDate;
@@ -33,6 +34,7 @@ public class TwoDimensionalPrepaymentModel implements BehaviorRiskModelProvider
 		this.marketModel = marketModel;
 		this.riskFactorId = riskFactorId;
 		this.referenceRate = data.getReferenceRateId();
+		this.referenceRateHandle = marketModel.handle(this.referenceRate);
 		this.dayCount = new DayCountCalculator("A360", null);
 		this.surface = new TimeSeries<Double,TimeSeries<Double,Double>>();
 		List<Double> dimension1Margins = data.getSurface().getMargins().get(0).getValues();
@@ -55,7 +57,7 @@ public class TwoDimensionalPrepaymentModel implements BehaviorRiskModelProvider
 	public double stateAt(String id, LocalDateTime time, StateSpace states) {
 System.out.println("****fnp009 TwoDimensionalPrepaymentModel stateAt() entered");  // fnp diagnostic jan 2023 
         // LocalDateTime time = states.statusDate;
-		double spread = states.nominalInterestRate - marketModel.stateAt(this.referenceRate,time);
+		double spread = states.nominalInterestRate - marketModel.stateAt(this.referenceRateHandle,time);
                 if ( spread <= -0.045 ) { spread = -0.045 ; }  
 System.out.println("****fnp011  spread=<" + String.valueOf(spread) + ">; starting age computation");   	// fnp diagnostic jan 2023 	
 	    	double age = dayCount.dayCountFraction(this.initialExchangeDate,states.statusDate);
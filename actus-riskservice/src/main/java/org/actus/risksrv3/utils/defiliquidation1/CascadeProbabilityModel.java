@@ -6,6 +6,8 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.defiliquidation1.CascadeProbabilityModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
+import org.actus.risksrv3.utils.MarketOnlyBehaviorModel;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -38,14 +40,17 @@ import java.util.Set;
  *   - POOL_AGG_LTV reference index: aggregate pool LTV distribution
  *   - MARKET_DEPTH reference index: market depth in USD terms
  */
-public class CascadeProbabilityModel implements BehaviorRiskModelProvider {
+public class CascadeProbabilityModel implements BehaviorRiskModelProvider, MarketOnlyBehaviorModel {
 
     public static final String CALLOUT_TYPE = "MRD";
 
     private final String riskFactorId;
     private final String collateralPriceMOC;
+    private final int collateralPriceHandle;
     private final String poolAggLtvMOC;        // aggregate pool LTV metric
+    private final int poolAggLtvHandle;
     private final String marketDepthMOC;       // market depth in USD
+    private final int marketDepthHandle;
     private final double collateralQuantity;
     private final double positionValueUSD;     // approximate position size
     private final double cascadeThreshold;     // probability above which to act (e.g. 0.60)
@@ -66,8 +71,11 @@ public class CascadeProbabilityModel implements BehaviorRiskModelProvider {
         this.cascadeThreshold      = data.getCascadeThreshold();
         this.priceImpactFactor     = data.getPriceImpactFactor();
         this.defensiveRepayFraction= data.getDefensiveRepayFraction();
-        this.monitoringEventTimes  = data.getMonitoringEventTimes();
+        this.monitoringEventTimes  = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel           = marketModel;
+        this.collateralPriceHandle = marketModel.handle(this.collateralPriceMOC);
+        this.poolAggLtvHandle      = marketModel.handle(this.poolAggLtvMOC);
+        this.marketDepthHandle     = marketModel.handle(this.marketDepthMOC);
     }
 
     @Override
@@ -82,7 +90,7 @@ public class CascadeProbabilityModel implements BehaviorRiskModelProvider {
         // PP-before-IED fix: filter out callouts before contract starts
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
@@ -98,9 +106,9 @@ public class CascadeProbabilityModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double ethPrice = this.marketModel.stateAt(this.collateralPriceMOC, time);
-        double poolAggLtv = this.marketModel.stateAt(this.poolAggLtvMOC, time);
-        double marketDepth = this.marketModel.stateAt(this.marketDepthMOC, time);
+        double ethPrice = this.marketModel.stateAt(this.collateralPriceHandle, time);
+        double poolAggLtv = this.marketModel.stateAt(this.poolAggLtvHandle, time);
+        double marketDepth = this.marketModel.stateAt(this.marketDepthHandle, time);
 
         if (ethPrice <= 0.0 || marketDepth <= 0.0) return 0.0;
 
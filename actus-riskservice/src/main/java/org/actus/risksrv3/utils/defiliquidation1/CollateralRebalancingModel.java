@@ -6,6 +6,7 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.defiliquidation1.CollateralRebalancingModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -46,8 +47,11 @@ public class CollateralRebalancingModel implements BehaviorRiskModelProvider {
 
     private final String riskFactorId;
     private final String volatileAssetMOC;     // e.g. "ETH_USD"
+    private final int volatileAssetHandle;
     private final String stableAssetMOC;       // e.g. "USDC_USD"
+    private final int stableAssetHandle;
     private final String etfFlowMOC;           // e.g. "ETH_ETF_FLOW" (net daily $M)
+    private final int etfFlowHandle;
     private final double volatileAssetQty;     // e.g. 2.5 ETH
     private final double stableAssetQty;       // e.g. 1000 USDC
     private final double invoiceValueUSD;      // e.g. 5000 USD (tokenized invoice)
@@ -74,8 +78,11 @@ public class CollateralRebalancingModel implements BehaviorRiskModelProvider {
         this.ltvTarget             = data.getLtvTarget();
         this.etfFlowThreshold      = data.getEtfFlowThreshold();
         this.etfSensitivity        = data.getEtfSensitivity();
-        this.monitoringEventTimes  = data.getMonitoringEventTimes();
+        this.monitoringEventTimes  = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel           = marketModel;
+        this.volatileAssetHandle   = marketModel.handle(this.volatileAssetMOC);
+        this.stableAssetHandle     = marketModel.handle(this.stableAssetMOC);
+        this.etfFlowHandle         = marketModel.handle(this.etfFlowMOC);
     }
 
     @Override
@@ -90,7 +97,7 @@ public class CollateralRebalancingModel implements BehaviorRiskModelProvider {
         // PP-before-IED fix: filter out callouts before contract starts
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
@@ -106,9 +113,9 @@ public class CollateralRebalancingModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double ethPrice = this.marketModel.stateAt(this.volatileAssetMOC, time);
-        double usdcPrice = this.marketModel.stateAt(this.stableAssetMOC, time);
-        double etfNetFlow = this.marketModel.stateAt(this.etfFlowMOC, time);
+        double ethPrice = this.marketModel.stateAt(this.volatileAssetHandle, time);
+        double usdcPrice = this.marketModel.stateAt(this.stableAssetHandle, time);
+        double etfNetFlow = this.marketModel.stateAt(this.etfFlowHandle, time);
 
         if (ethPrice <= 0.0) return 0.0;
 
@@ -6,6 +6,7 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.defiliquidation1.CollateralVelocityModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -83,6 +84,7 @@ public class CollateralVelocityModel implements BehaviorRiskModelProvider {
 
     private final String riskFactorId;
     private final String collateralPriceMOC;
+    private final int collateralPriceHandle;
     private final double collateralQuantity;
     private final double liquidationThreshold;     // e.g. 0.83
     private final double safeHorizonDays;          // e.g. 0.25 days = 6 hours
@@ -108,8 +110,9 @@ public class CollateralVelocityModel implements BehaviorRiskModelProvider {
         this.moderateRepayFraction  = data.getModerateRepayFraction();
         this.aggressiveRepayFraction= data.getAggressiveRepayFraction();
         this.rollingWindowSize      = data.getRollingWindowSize();
-        this.monitoringEventTimes   = data.getMonitoringEventTimes();
+        this.monitoringEventTimes   = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel            = marketModel;
+        this.collateralPriceHandle  = marketModel.handle(this.collateralPriceMOC);
     }
 
     @Override
@@ -165,7 +168,7 @@ public class CollateralVelocityModel implements BehaviorRiskModelProvider {
                 + " effectiveStride=" + effectiveStride
                 + " totalEvents=" + this.monitoringEventTimes.size());
 
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
 
             // Guard 1: skip events before contract IED
@@ -196,7 +199,7 @@ public class CollateralVelocityModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double ethPrice = this.marketModel.stateAt(this.collateralPriceMOC, time);
+        double ethPrice = this.marketModel.stateAt(this.collateralPriceHandle, time);
         if (ethPrice <= 0.0) return 0.0;
 
         double collateralValue = this.collateralQuantity * ethPrice;
@@ -6,6 +6,7 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.defiliquidation1.CorrelationRiskModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -42,7 +43,9 @@ public class CorrelationRiskModel implements BehaviorRiskModelProvider {
 
     private final String riskFactorId;
     private final String asset1MOC;                // e.g. "ETH_USD"
+    private final int asset1Handle;
     private final String asset2MOC;                // e.g. "BTC_USD"
+    private final int asset2Handle;
     private final double asset1Quantity;
     private final double asset2Quantity;
     private final double correlationThreshold;     // e.g. 0.90
@@ -69,8 +72,10 @@ public class CorrelationRiskModel implements BehaviorRiskModelProvider {
         this.baseLtvThreshold       = data.getBaseLtvThreshold();
         this.liquidationThreshold   = data.getLiquidationThreshold();
         this.rollingWindowSize      = data.getRollingWindowSize();
-        this.monitoringEventTimes   = data.getMonitoringEventTimes();
+        this.monitoringEventTimes   = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel            = marketModel;
+        this.asset1Handle           = marketModel.handle(this.asset1MOC);
+        this.asset2Handle           = marketModel.handle(this.asset2MOC);
     }
 
     @Override
@@ -85,7 +90,7 @@ public class CorrelationRiskModel implements BehaviorRiskModelProvider {
         // PP-before-IED fix: filter out callouts before contract starts
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
@@ -101,8 +106,8 @@ public class CorrelationRiskModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double price1 = this.marketModel.stateAt(this.asset1MOC, time);
-        double price2 = this.marketModel.stateAt(this.asset2MOC, time);
+        double price1 = this.marketModel.stateAt(this.asset1Handle, time);
+        double price2 = this.marketModel.stateAt(this.asset2Handle, time);
 
         // Store prices in rolling window
         priceHistory.addLast(new double[]{price1, price2});
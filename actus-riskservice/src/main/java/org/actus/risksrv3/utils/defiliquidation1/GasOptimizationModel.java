@@ -6,6 +6,7 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.defiliquidation1.GasOptimizationModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -42,7 +43,9 @@ public class GasOptimizationModel implements BehaviorRiskModelProvider {
 
     private final String riskFactorId;
     private final String collateralPriceMOC;
+    private final int collateralPriceHandle;
     private final String gasPriceMOC;          // gas price in Gwei as reference index
+    private final int gasPriceHandle;
     private final double collateralQuantity;
     private final double gasUnitsPerTx;        // estimated gas units (e.g. 250000 for liquidation)
     private final double ltvThreshold;         // base LTV threshold before gas adjustment
@@ -64,8 +67,10 @@ public class GasOptimizationModel implements BehaviorRiskModelProvider {
         this.liquidationThreshold  = data.getLiquidationThreshold();
         this.ltvTarget             = data.getLtvTarget();
         this.minBenefitUSD         = data.getMinBenefitUSD();
-        this.monitoringEventTimes  = data.getMonitoringEventTimes();
+        this.monitoringEventTimes  = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel           = marketModel;
+        this.collateralPriceHandle = marketModel.handle(this.collateralPriceMOC);
+        this.gasPriceHandle        = marketModel.handle(this.gasPriceMOC);
     }
 
     @Override
@@ -80,7 +85,7 @@ public class GasOptimizationModel implements BehaviorRiskModelProvider {
         // PP-before-IED fix: filter out callouts before contract starts
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
@@ -96,8 +101,8 @@ public class GasOptimizationModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double ethPrice = this.marketModel.stateAt(this.collateralPriceMOC, time);
-        double gasPriceGwei = this.marketModel.stateAt(this.gasPriceMOC, time);
+        double ethPrice = this.marketModel.stateAt(this.collateralPriceHandle, time);
+        double gasPriceGwei = this.marketModel.stateAt(this.gasPriceHandle, time);
 
         if (ethPrice <= 0.0) return 0.0;
 
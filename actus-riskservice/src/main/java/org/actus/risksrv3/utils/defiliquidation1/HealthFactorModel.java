@@ -5,7 +5,10 @@ import org.actus.risksrv3.core.states.StateSpace;
 import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.defiliquidation1.HealthFactorModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
+import org.actus.risksrv3.utils.CalloutPruner;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.PrunableBehaviorModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -40,7 +43,7 @@ import java.util.Set;
  *   Use 96 x 15-min points instead of 1440 x 1-min points for initial testing.
  *   Combined with Fix 1, this keeps total PP callouts to a small, manageable count.
  */
-public class HealthFactorModel implements BehaviorRiskModelProvider {
+public class HealthFactorModel implements BehaviorRiskModelProvider, PrunableBehaviorModel {
 
     public static final String CALLOUT_TYPE = "MRD";
 
@@ -61,7 +64,7 @@ public class HealthFactorModel implements BehaviorRiskModelProvider {
         this.liquidationThresholds  = data.getLiquidationThresholds();
         this.healthyThreshold       = data.getHealthyThreshold();
         this.targetHealthFactor     = data.getTargetHealthFactor();
-        this.monitoringEventTimes   = data.getMonitoringEventTimes();
+        this.monitoringEventTimes   = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel            = marketModel;
     }
 
@@ -119,7 +122,7 @@ public class HealthFactorModel implements BehaviorRiskModelProvider {
         int skippedHealthy = 0;
         int included       = 0;
 
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
 
             // Guard 1: skip events before contract IED
@@ -160,6 +163,26 @@ public class HealthFactorModel implements BehaviorRiskModelProvider {
         return callouts;
     }
 
+    @Override
+    public List<String> triggerInputs() {
+        return this.collateralMOCs;
+    }
+
+    // HF >= weightedCollateral(worst prices in the window) / debtBound; stateAt acts only
+    // below 1.0 (liquidation) or healthyThreshold (partial repay)
+    @Override
+    public boolean canTrigger(ContractModel contract, double[] min, double[] max) {
+        Double debtBound = CalloutPruner.debtBound(contract);
+        if (debtBound == null)
+            return true;
+        double worstCollateral = 0.0;
+        for (int i = 0; i < collateralMOCs.size(); i++) {
+            double weight = collateralQuantities.get(i) * liquidationThresholds.get(i);
+            worstCollateral += weight * ((weight >= 0.0) ? min[i] : max[i]);
+        }
+        return !(worstCollateral >= Math.max(1.0, this.healthyThreshold) * debtBound);
+    }
+
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
         double weightedCollateral = 0.0;
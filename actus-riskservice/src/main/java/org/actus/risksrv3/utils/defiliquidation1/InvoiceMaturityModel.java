@@ -6,6 +6,7 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.defiliquidation1.InvoiceMaturityModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -42,7 +43,9 @@ public class InvoiceMaturityModel implements BehaviorRiskModelProvider {
 
     private final String riskFactorId;
     private final String collateralPriceMOC;       // volatile asset price (ETH_USD)
+    private final int collateralPriceHandle;
     private final String invoicePaymentProbMOC;    // payment probability reference
+    private final int invoicePaymentProbHandle;
     private final double collateralQuantity;        // ETH quantity
     private final double invoiceFaceValue;          // invoice face value in USD
     private final LocalDateTime invoiceMaturityDate;
@@ -68,8 +71,10 @@ public class InvoiceMaturityModel implements BehaviorRiskModelProvider {
         this.ltvThreshold           = data.getLtvThreshold();
         this.liquidationThreshold   = data.getLiquidationThreshold();
         this.ltvTarget              = data.getLtvTarget();
-        this.monitoringEventTimes   = data.getMonitoringEventTimes();
+        this.monitoringEventTimes   = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel            = marketModel;
+        this.collateralPriceHandle  = marketModel.handle(this.collateralPriceMOC);
+        this.invoicePaymentProbHandle = marketModel.handle(this.invoicePaymentProbMOC);
     }
 
     @Override
@@ -84,7 +89,7 @@ public class InvoiceMaturityModel implements BehaviorRiskModelProvider {
         // PP-before-IED fix: filter out callouts before contract starts
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
@@ -100,8 +105,8 @@ public class InvoiceMaturityModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double ethPrice = this.marketModel.stateAt(this.collateralPriceMOC, time);
-        double paymentProb = this.marketModel.stateAt(this.invoicePaymentProbMOC, time);
+        double ethPrice = this.marketModel.stateAt(this.collateralPriceHandle, time);
+        double paymentProb = this.marketModel.stateAt(this.invoicePaymentProbHandle, time);
 
         if (ethPrice <= 0.0) return 0.0;
 
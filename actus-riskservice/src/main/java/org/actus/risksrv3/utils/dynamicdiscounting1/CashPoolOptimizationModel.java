@@ -6,6 +6,8 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.dynamicdiscounting1.CashPoolOptimizationModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
+import org.actus.risksrv3.utils.PortfolioAwareBehaviorModel;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -16,8 +18,11 @@ import java.util.*;
  * CashPoolOptimizationModel — Portfolio-level cash allocation.
  * Ranks this invoice by APR × supplierCriticality, settles if cash is allocated.
  * Supports configurable discount functions.
+ * In a lock-step portfolio simulation the allocated cash is shared pro rata among the invoices
+ * outstanding in the invoice's currency (see PortfolioAwareBehaviorModel); each invoice settled
+ * leaves a larger share to the others.
  */
-public class CashPoolOptimizationModel implements BehaviorRiskModelProvider {
+public class CashPoolOptimizationModel implements BehaviorRiskModelProvider, PortfolioAwareBehaviorModel {
 
     public static final String CALLOUT_TYPE = "MRD";
     private static final DateTimeFormatter FMT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
@@ -37,6 +42,10 @@ public class CashPoolOptimizationModel implements BehaviorRiskModelProvider {
     private final List<String> monitoringEventTimes;
     private final MultiMarketRiskModel marketModel;
     private boolean settled = false;
+    // currency of the invoice, whose portfolio aggregates are read
+    private volatile String currency = "USD";
+    // portfolio state published for the time of the next callouts, null if none
+    private volatile Map.Entry<LocalDateTime, Map<String, Double>> portfolio;
 
     public CashPoolOptimizationModel(String riskFactorId, CashPoolOptimizationModelData data, MultiMarketRiskModel marketModel) {
         this.riskFactorId = riskFactorId;
@@ -51,16 +60,18 @@ public class CashPoolOptimizationModel implements BehaviorRiskModelProvider {
         this.supplierCriticality = data.getSupplierCriticality();
         this.buyerCashMOC = data.getBuyerCashMOC();
         this.portfolioAllocatedCash = data.getPortfolioAllocatedCash();
-        this.monitoringEventTimes = data.getMonitoringEventTimes();
+        this.monitoringEventTimes = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel = marketModel;
     }
 
     @Override public Set<String> keys() { Set<String> k = new HashSet<>(); k.add(riskFactorId); return k; }
+    @Override public void portfolioStep(LocalDateTime time, Map<String, Double> aggregates) { portfolio = Map.entry(time, aggregates); }
     @Override public List<CalloutData> contractStart(ContractModel contract) {
+        if (contract.getAs("currency") != null) currency = contract.getAs("currency");
         // PP-before-IED fix: filter out callouts before contract starts
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> c = new ArrayList<>();
-        for (String t : monitoringEventTimes) {
+        for (String t : MonitoringTimes.forContract(monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(t);
                 if (eventDateTime.isBefore(ied)) {
@@ -90,8 +101,13 @@ public class CashPoolOptimizationModel implements BehaviorRiskModelProvider {
         double priorityScore = apr * supplierCriticality;
         double settlementAmount = notionalAmount * (1.0 - discount);
         double availableCash = portfolioAllocatedCash;
+        // the pool's share of this invoice, by its part in the invoices outstanding in its currency
+        Double outstanding = PortfolioAwareBehaviorModel.aggregateAt(portfolio, time, PortfolioAwareBehaviorModel.currencyKey("notionalPrincipal", currency));
+        if (outstanding != null && outstanding > states.notionalPrincipal) {
+            availableCash = portfolioAllocatedCash * states.notionalPrincipal / outstanding;
+        }
         if (buyerCashMOC != null && !buyerCashMOC.isEmpty()) {
-            availableCash = Math.min(portfolioAllocatedCash, marketModel.stateAt(buyerCashMOC, time));
+            availableCash = Math.min(availableCash, marketModel.stateAt(buyerCashMOC, time));
         }
         System.out.println("**** CashPoolOptimizationModel: time=" + time + " APR=" + String.format("%.2f%%", apr*100) + " criticality=" + String.format("%.2f", supplierCriticality) + " priority=" + String.format("%.4f", priorityScore) + " need=$" + String.format("%.2f", settlementAmount) + " allocated=$" + String.format("%.2f", availableCash));
         if (availableCash >= settlementAmount && priorityScore > 0.0) {
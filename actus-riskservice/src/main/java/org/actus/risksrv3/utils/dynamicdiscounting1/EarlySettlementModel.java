@@ -6,6 +6,7 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.dynamicdiscounting1.EarlySettlementModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -74,7 +75,7 @@ public class EarlySettlementModel implements BehaviorRiskModelProvider {
         this.customDiscountMOC = data.getCustomDiscountMOC();
         this.hurdleRateAnnualized = data.getHurdleRateAnnualized();
         this.buyerCashMOC = data.getBuyerCashMOC();
-        this.monitoringEventTimes = data.getMonitoringEventTimes();
+        this.monitoringEventTimes = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel = marketModel;
     }
 
@@ -89,7 +90,7 @@ public class EarlySettlementModel implements BehaviorRiskModelProvider {
     public List<CalloutData> contractStart(ContractModel contract) {
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) { LocalDateTime edt = LocalDateTime.parse(eventTime); if (edt.isBefore(ied)) { System.out.println("**** EarlySettlementModel: SKIPPING pre-IED callout " + eventTime + " (IED=" + ied + ")"); continue; } }
             callouts.add(new CalloutData(this.riskFactorId, eventTime, CALLOUT_TYPE));
         }
@@ -6,6 +6,7 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.dynamicdiscounting1.FactoringDecisionModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -62,7 +63,7 @@ public class FactoringDecisionModel implements BehaviorRiskModelProvider {
         this.stepDiscountSchedule = data.getStepDiscountSchedule() != null ? new TreeMap<>(data.getStepDiscountSchedule()) : new TreeMap<>();
         this.bankFactoringRateAnnualized = data.getBankFactoringRateAnnualized();
         this.reverseFactoringRateAnnualized = data.getReverseFactoringRateAnnualized();
-        this.monitoringEventTimes = data.getMonitoringEventTimes();
+        this.monitoringEventTimes = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel = marketModel;
     }
 
@@ -78,7 +79,7 @@ public class FactoringDecisionModel implements BehaviorRiskModelProvider {
         // PP-before-IED fix: filter out callouts before contract starts
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> c = new ArrayList<>();
-        for (String t : monitoringEventTimes) {
+        for (String t : MonitoringTimes.forContract(monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(t);
                 if (eventDateTime.isBefore(ied)) {
@@ -6,6 +6,7 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.dynamicdiscounting1.OptimalPaymentTimingModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -50,7 +51,7 @@ public class OptimalPaymentTimingModel implements BehaviorRiskModelProvider {
         this.powerAlpha = data.getPowerAlpha() > 0 ? data.getPowerAlpha() : 1.0;
         this.stepDiscountSchedule = data.getStepDiscountSchedule() != null ? new TreeMap<>(data.getStepDiscountSchedule()) : new TreeMap<>();
         this.opportunityCostRate = data.getOpportunityCostRate();
-        this.monitoringEventTimes = data.getMonitoringEventTimes();
+        this.monitoringEventTimes = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel = marketModel;
         precomputeOptimalDay();
     }
@@ -95,7 +96,7 @@ public class OptimalPaymentTimingModel implements BehaviorRiskModelProvider {
         // PP-before-IED fix: filter out callouts before contract starts
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> c = new ArrayList<>();
-        for (String t : monitoringEventTimes) {
+        for (String t : MonitoringTimes.forContract(monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(t);
                 if (eventDateTime.isBefore(ied)) {
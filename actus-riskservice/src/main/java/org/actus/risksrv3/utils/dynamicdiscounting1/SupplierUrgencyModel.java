@@ -6,6 +6,7 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.dynamicdiscounting1.SupplierUrgencyModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -52,7 +53,7 @@ public class SupplierUrgencyModel implements BehaviorRiskModelProvider {
         this.stressMultiplier = data.getStressMultiplier() > 0 ? data.getStressMultiplier() : 2.0;
         this.supplierStressMOC = data.getSupplierStressMOC();
         this.hurdleRateAnnualized = data.getHurdleRateAnnualized();
-        this.monitoringEventTimes = data.getMonitoringEventTimes();
+        this.monitoringEventTimes = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel = marketModel;
     }
 
@@ -61,7 +62,7 @@ public class SupplierUrgencyModel implements BehaviorRiskModelProvider {
         // PP-before-IED fix: filter out callouts before contract starts
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> c = new ArrayList<>();
-        for (String t : monitoringEventTimes) {
+        for (String t : MonitoringTimes.forContract(monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(t);
                 if (eventDateTime.isBefore(ied)) {
@@ -6,6 +6,7 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.hybridtreasury1.AllocationDriftModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -124,7 +125,7 @@ public class AllocationDriftModel implements BehaviorRiskModelProvider {
         this.targetAllocation          = data.getTargetAllocation();
         this.maxAllocation             = data.getMaxAllocation();
         this.minAllocation             = data.getMinAllocation();
-        this.monitoringEventTimes      = data.getMonitoringEventTimes();
+        this.monitoringEventTimes      = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel               = marketModel;
         this.positionQuantity          = data.getPositionQuantity();
         this.initialNotionalPrincipal  = data.getInitialNotionalPrincipal();
@@ -180,7 +181,7 @@ public class AllocationDriftModel implements BehaviorRiskModelProvider {
     public List<CalloutData> contractStart(ContractModel contract) {
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
@@ -6,6 +6,8 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.hybridtreasury1.CashConversionCycleModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
+import org.actus.risksrv3.utils.MarketOnlyBehaviorModel;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -24,14 +26,17 @@ import java.util.Set;
  * Market Object Codes consumed:
  *   DISCOUNT_APR, TREASURY_YIELD, AVAILABLE_DISCOUNTS
  */
-public class CashConversionCycleModel implements BehaviorRiskModelProvider {
+public class CashConversionCycleModel implements BehaviorRiskModelProvider, MarketOnlyBehaviorModel {
 
     public static final String CALLOUT_TYPE = "MRD";
 
     private final String riskFactorId;
     private final String discountAPRMOC;
+    private final int discountAPRHandle;
     private final String treasuryYieldMOC;
+    private final int treasuryYieldHandle;
     private final String availableDiscountsMOC;
+    private final int availableDiscountsHandle;
     private final double minArbitrageSpread;
     private final List<String> monitoringEventTimes;
     private final MultiMarketRiskModel marketModel;
@@ -44,8 +49,11 @@ public class CashConversionCycleModel implements BehaviorRiskModelProvider {
         this.treasuryYieldMOC     = data.getTreasuryYieldMOC();
         this.availableDiscountsMOC = data.getAvailableDiscountsMOC();
         this.minArbitrageSpread   = data.getMinArbitrageSpread();
-        this.monitoringEventTimes = data.getMonitoringEventTimes();
+        this.monitoringEventTimes = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel          = marketModel;
+        this.discountAPRHandle    = marketModel.handle(this.discountAPRMOC);
+        this.treasuryYieldHandle  = marketModel.handle(this.treasuryYieldMOC);
+        this.availableDiscountsHandle = marketModel.handle(this.availableDiscountsMOC);
     }
 
     @Override
@@ -59,7 +67,7 @@ public class CashConversionCycleModel implements BehaviorRiskModelProvider {
     public List<CalloutData> contractStart(ContractModel contract) {
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) { LocalDateTime edt = LocalDateTime.parse(eventTime); if (edt.isBefore(ied)) { System.out.println("**** CashConversionCycleModel: SKIPPING pre-IED callout " + eventTime + " (IED=" + ied + ")"); continue; } }
             callouts.add(new CalloutData(this.riskFactorId, eventTime, CALLOUT_TYPE));
         }
@@ -69,9 +77,9 @@ public class CashConversionCycleModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double discountAPR      = this.marketModel.stateAt(this.discountAPRMOC, time);
-        double treasuryYield    = this.marketModel.stateAt(this.treasuryYieldMOC, time);
-        double availableAmount  = this.marketModel.stateAt(this.availableDiscountsMOC, time);
+        double discountAPR      = this.marketModel.stateAt(this.discountAPRHandle, time);
+        double treasuryYield    = this.marketModel.stateAt(this.treasuryYieldHandle, time);
+        double availableAmount  = this.marketModel.stateAt(this.availableDiscountsHandle, time);
 
         double spread = discountAPR - treasuryYield;
 
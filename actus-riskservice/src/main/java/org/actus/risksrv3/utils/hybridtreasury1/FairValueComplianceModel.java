@@ -6,6 +6,7 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.hybridtreasury1.FairValueComplianceModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -60,7 +61,9 @@ public class FairValueComplianceModel implements BehaviorRiskModelProvider {
 
     private final String riskFactorId;
     private final String assetFairValueMOC;      // e.g. BTC_FAIR_VALUE or ETH_FAIR_VALUE
+    private final int assetFairValueHandle;
     private final String msciExclusionProbMOC;   // e.g. MSCI_EXCLUSION_PROB
+    private final int msciExclusionProbHandle;
     private final double msciThreshold;          // e.g. 0.15 (15%)
     private final double materialityThreshold;   // e.g. 0.10 (10% fair value change)
     private final List<String> monitoringEventTimes;
@@ -78,8 +81,10 @@ public class FairValueComplianceModel implements BehaviorRiskModelProvider {
         this.msciExclusionProbMOC = data.getMsciExclusionProbMOC();
         this.msciThreshold        = data.getMsciThreshold();
         this.materialityThreshold = data.getMaterialityThreshold();
-        this.monitoringEventTimes = data.getMonitoringEventTimes();
+        this.monitoringEventTimes = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel          = marketModel;
+        this.assetFairValueHandle = marketModel.handle(this.assetFairValueMOC);
+        this.msciExclusionProbHandle = marketModel.handle(this.msciExclusionProbMOC);
     }
 
     // -------------------------------------------------------------------------
@@ -97,7 +102,7 @@ public class FairValueComplianceModel implements BehaviorRiskModelProvider {
     public List<CalloutData> contractStart(ContractModel contract) {
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) { LocalDateTime edt = LocalDateTime.parse(eventTime); if (edt.isBefore(ied)) { System.out.println("**** FairValueComplianceModel: SKIPPING pre-IED callout " + eventTime + " (IED=" + ied + ")"); continue; } }
             callouts.add(new CalloutData(this.riskFactorId, eventTime, CALLOUT_TYPE));
         }
@@ -118,8 +123,8 @@ public class FairValueComplianceModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double fairValue       = this.marketModel.stateAt(this.assetFairValueMOC, time);
-        double msciExclusion   = this.marketModel.stateAt(this.msciExclusionProbMOC, time);
+        double fairValue       = this.marketModel.stateAt(this.assetFairValueHandle, time);
+        double msciExclusion   = this.marketModel.stateAt(this.msciExclusionProbHandle, time);
 
         double bookValue = Math.abs(states.notionalPrincipal);
 
@@ -6,6 +6,9 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.hybridtreasury1.IntegratedStressModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.PrunableBehaviorModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
+import org.actus.risksrv3.utils.MarketOnlyBehaviorModel;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -39,12 +42,13 @@ import java.util.Set;
  * Market Object Codes consumed:
  *   COMPOSITE_STRESS_INDEX — aggregate stress indicator (0.0–1.0)
  */
-public class IntegratedStressModel implements BehaviorRiskModelProvider {
+public class IntegratedStressModel implements BehaviorRiskModelProvider, PrunableBehaviorModel, MarketOnlyBehaviorModel {
 
     public static final String CALLOUT_TYPE = "MRD";
 
     private final String riskFactorId;
     private final String compositeStressIndexMOC;
+    private final int compositeStressIndexHandle;
     private final double lowThreshold;
     private final double highThreshold;
     private final double cascadeMultiplier;
@@ -59,8 +63,9 @@ public class IntegratedStressModel implements BehaviorRiskModelProvider {
         this.lowThreshold            = data.getLowThreshold();
         this.highThreshold           = data.getHighThreshold();
         this.cascadeMultiplier       = data.getCascadeMultiplier();
-        this.monitoringEventTimes    = data.getMonitoringEventTimes();
+        this.monitoringEventTimes    = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel             = marketModel;
+        this.compositeStressIndexHandle = marketModel.handle(this.compositeStressIndexMOC);
     }
 
     @Override
@@ -74,17 +79,28 @@ public class IntegratedStressModel implements BehaviorRiskModelProvider {
     public List<CalloutData> contractStart(ContractModel contract) {
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) { LocalDateTime edt = LocalDateTime.parse(eventTime); if (edt.isBefore(ied)) { System.out.println("**** IntegratedStressModel: SKIPPING pre-IED callout " + eventTime + " (IED=" + ied + ")"); continue; } }
             callouts.add(new CalloutData(this.riskFactorId, eventTime, CALLOUT_TYPE));
         }
         return callouts;
     }
 
+    @Override
+    public List<String> triggerInputs() {
+        return List.of(this.compositeStressIndexMOC);
+    }
+
+    // below lowThreshold stateAt returns 0.0 whatever the contract
+    @Override
+    public boolean canTrigger(ContractModel contract, double[] min, double[] max) {
+        return max[0] >= this.lowThreshold;
+    }
+
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double compositeStress = this.marketModel.stateAt(this.compositeStressIndexMOC, time);
+        double compositeStress = this.marketModel.stateAt(this.compositeStressIndexHandle, time);
 
         System.out.println("**** IntegratedStressModel: time=" + time
                 + " compositeStress=" + String.format("%.4f", compositeStress)
@@ -6,11 +6,14 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.hybridtreasury1.LiquidityBufferModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
+import org.actus.risksrv3.utils.PortfolioAwareBehaviorModel;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -23,22 +26,32 @@ import java.util.Set;
  *
  * Runs on the fiat cash CSH contract.
  *
+ * In a lock-step portfolio simulation the interest the portfolio owes, net
+ * of the interest it is owed, in the currency of the cash contract is added
+ * to the projected outflows (see PortfolioAwareBehaviorModel).
+ *
  * ACTUS contract type: CSH (cash position)
  * Market Object Codes consumed:
  *   PROJECTED_OUTFLOWS      — daily projected AP/operational outflows
  *   TBILL_MATURITY_SCHEDULE — nearest T-bill maturity value (for sizing)
  */
-public class LiquidityBufferModel implements BehaviorRiskModelProvider {
+public class LiquidityBufferModel implements BehaviorRiskModelProvider, PortfolioAwareBehaviorModel {
 
     public static final String CALLOUT_TYPE = "MRD";
 
     private final String riskFactorId;
     private final String projectedOutflowsMOC;
+    private final int projectedOutflowsHandle;
     private final String tbillMaturityScheduleMOC;
+    private final int tbillMaturityScheduleHandle;
     private final double minBufferUSD;
     private final double targetBufferUSD;
     private final List<String> monitoringEventTimes;
     private final MultiMarketRiskModel marketModel;
+    // currency of the cash contract, whose portfolio aggregates are read
+    private volatile String currency = "USD";
+    // portfolio state published for the time of the next callouts, null if none
+    private volatile Map.Entry<LocalDateTime, Map<String, Double>> portfolio;
 
     public LiquidityBufferModel(String riskFactorId,
                                 LiquidityBufferModelData data,
@@ -48,8 +61,10 @@ public class LiquidityBufferModel implements BehaviorRiskModelProvider {
         this.tbillMaturityScheduleMOC = data.getTbillMaturityScheduleMOC();
         this.minBufferUSD             = data.getMinBufferUSD();
         this.targetBufferUSD          = data.getTargetBufferUSD();
-        this.monitoringEventTimes     = data.getMonitoringEventTimes();
+        this.monitoringEventTimes     = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel              = marketModel;
+        this.projectedOutflowsHandle  = marketModel.handle(this.projectedOutflowsMOC);
+        this.tbillMaturityScheduleHandle = marketModel.handle(this.tbillMaturityScheduleMOC);
     }
 
     @Override
@@ -59,11 +74,18 @@ public class LiquidityBufferModel implements BehaviorRiskModelProvider {
         return keys;
     }
 
+    @Override
+    public void portfolioStep(LocalDateTime time, Map<String, Double> aggregates) {
+        this.portfolio = Map.entry(time, aggregates);
+    }
+
     @Override
     public List<CalloutData> contractStart(ContractModel contract) {
+        if (contract.getAs("currency") != null)
+            this.currency = contract.getAs("currency");
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
@@ -79,8 +101,14 @@ public class LiquidityBufferModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double projectedOutflows = this.marketModel.stateAt(this.projectedOutflowsMOC, time);
-        double tbillAvailable    = this.marketModel.stateAt(this.tbillMaturityScheduleMOC, time);
+        double projectedOutflows = this.marketModel.stateAt(this.projectedOutflowsHandle, time);
+        double tbillAvailable    = this.marketModel.stateAt(this.tbillMaturityScheduleHandle, time);
+
+        // net interest owed across the portfolio is due on top of the projected outflows
+        Double accruedInterest = PortfolioAwareBehaviorModel.aggregateAt(this.portfolio, time,
+                PortfolioAwareBehaviorModel.currencyKey("accruedInterest", this.currency));
+        if (accruedInterest != null && accruedInterest < 0.0)
+            projectedOutflows -= accruedInterest;
 
         double cashBalance = Math.abs(states.notionalPrincipal);
         double projectedBuffer = cashBalance - projectedOutflows;
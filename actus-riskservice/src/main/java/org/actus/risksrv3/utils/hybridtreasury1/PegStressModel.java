@@ -6,6 +6,7 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.hybridtreasury1.PegStressModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -37,7 +38,9 @@ public class PegStressModel implements BehaviorRiskModelProvider {
 
     private final String riskFactorId;
     private final String primaryPegDeviationMOC;
+    private final int primaryPegDeviationHandle;
     private final String altPegDeviationMOC;
+    private final int altPegDeviationHandle;
     private final double pegDeviationThreshold;
     private final double criticalDeviation;
     private final List<String> monitoringEventTimes;
@@ -51,8 +54,10 @@ public class PegStressModel implements BehaviorRiskModelProvider {
         this.altPegDeviationMOC     = data.getAltPegDeviationMOC();
         this.pegDeviationThreshold  = data.getPegDeviationThreshold();
         this.criticalDeviation      = data.getCriticalDeviation();
-        this.monitoringEventTimes   = data.getMonitoringEventTimes();
+        this.monitoringEventTimes   = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel            = marketModel;
+        this.primaryPegDeviationHandle = marketModel.handle(this.primaryPegDeviationMOC);
+        this.altPegDeviationHandle  = marketModel.handle(this.altPegDeviationMOC);
     }
 
     @Override
@@ -66,7 +71,7 @@ public class PegStressModel implements BehaviorRiskModelProvider {
     public List<CalloutData> contractStart(ContractModel contract) {
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) { LocalDateTime edt = LocalDateTime.parse(eventTime); if (edt.isBefore(ied)) { System.out.println("**** PegStressModel: SKIPPING pre-IED callout " + eventTime + " (IED=" + ied + ")"); continue; } }
             callouts.add(new CalloutData(this.riskFactorId, eventTime, CALLOUT_TYPE));
         }
@@ -76,8 +81,8 @@ public class PegStressModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double primaryRaw = this.marketModel.stateAt(this.primaryPegDeviationMOC, time);
-        double altRaw     = this.marketModel.stateAt(this.altPegDeviationMOC, time);
+        double primaryRaw = this.marketModel.stateAt(this.primaryPegDeviationHandle, time);
+        double altRaw     = this.marketModel.stateAt(this.altPegDeviationHandle, time);
 
         // Auto-detect: if |value| > 0.5 it is a peg rate → compute deviation from 1.0
         // Otherwise treat as a deviation value directly
@@ -6,6 +6,7 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.hybridtreasury1.RegulatoryDeRiskModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -31,7 +32,9 @@ public class RegulatoryDeRiskModel implements BehaviorRiskModelProvider {
 
     private final String riskFactorId;
     private final String regulatoryStressMOC;
+    private final int regulatoryStressHandle;
     private final String marketDepthMOC;
+    private final int marketDepthHandle;
     private final double regulatoryThreshold;
     private final double dailyLiquidationFraction;
     private final int maxDays;
@@ -52,8 +55,10 @@ public class RegulatoryDeRiskModel implements BehaviorRiskModelProvider {
         this.dailyLiquidationFraction = data.getDailyLiquidationFraction();
         this.maxDays                 = data.getMaxDays();
         this.minMarketDepth          = data.getMinMarketDepth();
-        this.monitoringEventTimes    = data.getMonitoringEventTimes();
+        this.monitoringEventTimes    = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel             = marketModel;
+        this.regulatoryStressHandle  = marketModel.handle(this.regulatoryStressMOC);
+        this.marketDepthHandle       = marketModel.handle(this.marketDepthMOC);
     }
 
     @Override
@@ -67,7 +72,7 @@ public class RegulatoryDeRiskModel implements BehaviorRiskModelProvider {
     public List<CalloutData> contractStart(ContractModel contract) {
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) { LocalDateTime edt = LocalDateTime.parse(eventTime); if (edt.isBefore(ied)) { System.out.println("**** RegulatoryDeRiskModel: SKIPPING pre-IED callout " + eventTime + " (IED=" + ied + ")"); continue; } }
             callouts.add(new CalloutData(this.riskFactorId, eventTime, CALLOUT_TYPE));
         }
@@ -77,8 +82,8 @@ public class RegulatoryDeRiskModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double regStress = this.marketModel.stateAt(this.regulatoryStressMOC, time);
-        double marketDepth = this.marketModel.stateAt(this.marketDepthMOC, time);
+        double regStress = this.marketModel.stateAt(this.regulatoryStressHandle, time);
+        double marketDepth = this.marketModel.stateAt(this.marketDepthHandle, time);
         double remainingPosition = Math.abs(states.notionalPrincipal);
 
         System.out.println("**** RegulatoryDeRiskModel: time=" + time
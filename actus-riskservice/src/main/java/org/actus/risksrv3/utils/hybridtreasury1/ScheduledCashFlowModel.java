@@ -6,6 +6,7 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.hybridtreasury1.ScheduledCashFlowModelData;
 import org.actus.risksrv3.models.hybridtreasury1.ScheduledCashFlowModelData.CashFlowEntry;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
+import org.actus.risksrv3.utils.MonitoringTimes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -58,7 +59,7 @@ public class ScheduledCashFlowModel implements BehaviorRiskModelProvider {
     public ScheduledCashFlowModel(String riskFactorId,
                                   ScheduledCashFlowModelData data) {
         this.riskFactorId = riskFactorId;
-        this.monitoringEventTimes = data.getMonitoringEventTimes();
+        this.monitoringEventTimes = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
 
         // Build LocalDateTime → amountUSD lookup from CashFlowEntry list
         this.schedule = new HashMap<>();
@@ -81,7 +82,7 @@ public class ScheduledCashFlowModel implements BehaviorRiskModelProvider {
     public List<CalloutData> contractStart(ContractModel contract) {
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
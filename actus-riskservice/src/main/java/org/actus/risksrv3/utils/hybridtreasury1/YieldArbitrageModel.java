@@ -6,6 +6,7 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.hybridtreasury1.YieldArbitrageModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -30,8 +31,11 @@ public class YieldArbitrageModel implements BehaviorRiskModelProvider {
 
     private final String riskFactorId;
     private final String tbillYieldMOC;
+    private final int tbillYieldHandle;
     private final String stakingYieldMOC;
+    private final int stakingYieldHandle;
     private final String lendingYieldMOC;
+    private final int lendingYieldHandle;
     private final double minSpreadBps;
     private final double riskAdjustmentFactor;
     private final List<String> monitoringEventTimes;
@@ -46,8 +50,11 @@ public class YieldArbitrageModel implements BehaviorRiskModelProvider {
         this.lendingYieldMOC      = data.getLendingYieldMOC();
         this.minSpreadBps         = data.getMinSpreadBps();
         this.riskAdjustmentFactor = data.getRiskAdjustmentFactor();
-        this.monitoringEventTimes = data.getMonitoringEventTimes();
+        this.monitoringEventTimes = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel          = marketModel;
+        this.tbillYieldHandle     = marketModel.handle(this.tbillYieldMOC);
+        this.stakingYieldHandle   = marketModel.handle(this.stakingYieldMOC);
+        this.lendingYieldHandle   = marketModel.handle(this.lendingYieldMOC);
     }
 
     @Override
@@ -61,7 +68,7 @@ public class YieldArbitrageModel implements BehaviorRiskModelProvider {
     public List<CalloutData> contractStart(ContractModel contract) {
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) { LocalDateTime edt = LocalDateTime.parse(eventTime); if (edt.isBefore(ied)) { System.out.println("**** YieldArbitrageModel: SKIPPING pre-IED callout " + eventTime + " (IED=" + ied + ")"); continue; } }
             callouts.add(new CalloutData(this.riskFactorId, eventTime, CALLOUT_TYPE));
         }
@@ -71,9 +78,9 @@ public class YieldArbitrageModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double tbillYield   = this.marketModel.stateAt(this.tbillYieldMOC, time);
-        double stakingYield = this.marketModel.stateAt(this.stakingYieldMOC, time);
-        double lendingYield = this.marketModel.stateAt(this.lendingYieldMOC, time);
+        double tbillYield   = this.marketModel.stateAt(this.tbillYieldHandle, time);
+        double stakingYield = this.marketModel.stateAt(this.stakingYieldHandle, time);
+        double lendingYield = this.marketModel.stateAt(this.lendingYieldHandle, time);
 
         double currentYield = states.nominalInterestRate;
 
@@ -6,6 +6,8 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.stablecoin.AssetQualityModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
+import org.actus.risksrv3.utils.MarketOnlyBehaviorModel;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -44,7 +46,7 @@ import java.util.Set;
  *
  * Returns: quality degradation fraction (0.0 = no degradation, up to 1.0)
  */
-public class AssetQualityModel implements BehaviorRiskModelProvider {
+public class AssetQualityModel implements BehaviorRiskModelProvider, MarketOnlyBehaviorModel {
 
     public static final String CALLOUT_TYPE = "MRD";
 
@@ -54,7 +56,9 @@ public class AssetQualityModel implements BehaviorRiskModelProvider {
 
     private final String riskFactorId;
     private final String bankStressIndexMOC;
+    private final int bankStressIndexHandle;
     private final String sovereignStressMOC;
+    private final int sovereignStressHandle;
     private final double bankStressThreshold;    // 0.5
     private final double baseQuality;            // 100.0 (L1 HQLA)
     private final double qualityFloor;           // 50.0  (L2B minimum)
@@ -80,8 +84,10 @@ public class AssetQualityModel implements BehaviorRiskModelProvider {
         this.sovereignMaxDegradation = data.getSovereignMaxDegradation();
         this.strictMode             = data.isStrictMode();  // BACKWARD COMPATIBLE - defaults to false
         this.hqlaMOC                = data.getHqlaMOC();    // BACKWARD COMPATIBLE - can be null
-        this.monitoringEventTimes   = data.getMonitoringEventTimes();
+        this.monitoringEventTimes   = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel            = marketModel;
+        this.bankStressIndexHandle  = marketModel.handle(this.bankStressIndexMOC);
+        this.sovereignStressHandle  = marketModel.handle(this.sovereignStressMOC);
     }
 
     // -------------------------------------------------------------------------
@@ -100,7 +106,7 @@ public class AssetQualityModel implements BehaviorRiskModelProvider {
         // PP-before-IED fix: filter out callouts before contract starts
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
@@ -134,8 +140,8 @@ public class AssetQualityModel implements BehaviorRiskModelProvider {
         }
 
         // Standard stress-based degradation logic
-        double bankStress = this.marketModel.stateAt(this.bankStressIndexMOC, time);
-        double sovereignStress = this.marketModel.stateAt(this.sovereignStressMOC, time);
+        double bankStress = this.marketModel.stateAt(this.bankStressIndexHandle, time);
+        double sovereignStress = this.marketModel.stateAt(this.sovereignStressHandle, time);
 
         double effectiveQuality = this.baseQuality;
 
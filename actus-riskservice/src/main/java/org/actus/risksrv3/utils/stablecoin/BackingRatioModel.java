@@ -6,6 +6,7 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.stablecoin.BackingRatioModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -56,7 +57,9 @@ public class BackingRatioModel implements BehaviorRiskModelProvider {
 
     private final String riskFactorId;
     private final String totalReservesMOC;   // market object code for total reserves
+    private final int totalReservesHandle;
     private final String cashReserveMOC;     // market object code for cash reserves
+    private final int cashReserveHandle;
     private final double backingThreshold;   // regulatory minimum (1.0 = 100%)
     private final double liquidityThreshold; // minimum immediate liquidity ratio (0.35)
     private final List<String> monitoringEventTimes;
@@ -74,8 +77,10 @@ public class BackingRatioModel implements BehaviorRiskModelProvider {
         this.cashReserveMOC     = data.getCashReserveMOC();
         this.backingThreshold   = data.getBackingThreshold();
         this.liquidityThreshold = data.getLiquidityThreshold();
-        this.monitoringEventTimes = data.getMonitoringEventTimes();
+        this.monitoringEventTimes = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel        = marketModel;
+        this.totalReservesHandle = marketModel.handle(this.totalReservesMOC);
+        this.cashReserveHandle  = marketModel.handle(this.cashReserveMOC);
     }
 
     // -------------------------------------------------------------------------
@@ -99,7 +104,7 @@ public class BackingRatioModel implements BehaviorRiskModelProvider {
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         LocalDateTime maturity = contract.getAs("maturityDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
             if (ied != null && eventDateTime.isBefore(ied)) {
                 System.out.println("**** BackingRatioModel: SKIPPING pre-IED callout " + eventTime + " (IED=" + ied + ")");
@@ -129,8 +134,8 @@ public class BackingRatioModel implements BehaviorRiskModelProvider {
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
         // Fetch reserve values from market model
-        double totalReserves = this.marketModel.stateAt(this.totalReservesMOC, time);
-        double cashReserve   = this.marketModel.stateAt(this.cashReserveMOC, time);
+        double totalReserves = this.marketModel.stateAt(this.totalReservesHandle, time);
+        double cashReserve   = this.marketModel.stateAt(this.cashReserveHandle, time);
 
         // Outstanding supply from contract state (negative notional = liability)
         double outstandingSupply = Math.abs(states.notionalPrincipal);
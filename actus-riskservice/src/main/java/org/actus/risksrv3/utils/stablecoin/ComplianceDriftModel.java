@@ -6,6 +6,8 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.stablecoin.ComplianceDriftModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
+import org.actus.risksrv3.utils.MarketOnlyBehaviorModel;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -37,7 +39,7 @@ import java.util.Set;
  *   SC_HQLA_SCORE         — HQLA quality score (0–100)
  *   SC_ATTESTATION_AGE    — days since last attestation
  */
-public class ComplianceDriftModel implements BehaviorRiskModelProvider {
+public class ComplianceDriftModel implements BehaviorRiskModelProvider, MarketOnlyBehaviorModel {
 
     public static final String CALLOUT_TYPE = "MRD";
 
@@ -53,9 +55,13 @@ public class ComplianceDriftModel implements BehaviorRiskModelProvider {
 
     private final String riskFactorId;
     private final String backingRatioMOC;
+    private final int backingRatioHandle;
     private final String wamDaysMOC;
+    private final int wamDaysHandle;
     private final String hqlaScoreMOC;
+    private final int hqlaScoreHandle;
     private final String attestationAgeMOC;
+    private final int attestationAgeHandle;
     private final double backingThreshold;        // 1.0 (100%)
     private final double wamMaxDays;              // 93.0 (GENIUS Act)
     private final double hqlaMinScore;            // 100.0 (all L1)
@@ -79,8 +85,12 @@ public class ComplianceDriftModel implements BehaviorRiskModelProvider {
         this.wamMaxDays         = data.getWamMaxDays();
         this.hqlaMinScore       = data.getHqlaMinScore();
         this.attestationMaxDays = data.getAttestationMaxDays();
-        this.monitoringEventTimes = data.getMonitoringEventTimes();
+        this.monitoringEventTimes = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel        = marketModel;
+        this.backingRatioHandle = marketModel.handle(this.backingRatioMOC);
+        this.wamDaysHandle      = marketModel.handle(this.wamDaysMOC);
+        this.hqlaScoreHandle    = marketModel.handle(this.hqlaScoreMOC);
+        this.attestationAgeHandle = marketModel.handle(this.attestationAgeMOC);
     }
 
     // -------------------------------------------------------------------------
@@ -98,7 +108,7 @@ public class ComplianceDriftModel implements BehaviorRiskModelProvider {
     public List<CalloutData> contractStart(ContractModel contract) {
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
@@ -119,10 +129,10 @@ public class ComplianceDriftModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double backingRatio   = this.marketModel.stateAt(this.backingRatioMOC, time);
-        double wamDays        = this.marketModel.stateAt(this.wamDaysMOC, time);
-        double hqlaScore      = this.marketModel.stateAt(this.hqlaScoreMOC, time);
-        double attestationAge = this.marketModel.stateAt(this.attestationAgeMOC, time);
+        double backingRatio   = this.marketModel.stateAt(this.backingRatioHandle, time);
+        double wamDays        = this.marketModel.stateAt(this.wamDaysHandle, time);
+        double hqlaScore      = this.marketModel.stateAt(this.hqlaScoreHandle, time);
+        double attestationAge = this.marketModel.stateAt(this.attestationAgeHandle, time);
 
         // Compute individual breach scores (0.0 = compliant, 1.0 = maximally breached)
         double backingBreach = (backingRatio >= this.backingThreshold) ? 0.0
@@ -6,6 +6,8 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.stablecoin.ConcentrationDriftModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
+import org.actus.risksrv3.utils.MarketOnlyBehaviorModel;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -48,7 +50,7 @@ import java.util.Set;
  *
  * Returns: excess concentration fraction above threshold (0.0 if diversified)
  */
-public class ConcentrationDriftModel implements BehaviorRiskModelProvider {
+public class ConcentrationDriftModel implements BehaviorRiskModelProvider, MarketOnlyBehaviorModel {
 
     public static final String CALLOUT_TYPE = "MRD";
 
@@ -76,7 +78,7 @@ public class ConcentrationDriftModel implements BehaviorRiskModelProvider {
         this.custodianBucketMOCs  = data.getCustodianBucketMOCs(); // BACKWARD COMPATIBLE - can be null
         this.maxSingleAssetShare  = data.getMaxSingleAssetShare();
         this.hhiWarningThreshold  = data.getHhiWarningThreshold();
-        this.monitoringEventTimes = data.getMonitoringEventTimes();
+        this.monitoringEventTimes = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel          = marketModel;
     }
 
@@ -95,7 +97,7 @@ public class ConcentrationDriftModel implements BehaviorRiskModelProvider {
     public List<CalloutData> contractStart(ContractModel contract) {
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
@@ -6,6 +6,8 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.stablecoin.ContinuousAttestationModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
+import org.actus.risksrv3.utils.MarketOnlyBehaviorModel;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -45,7 +47,7 @@ import java.util.Set;
  *   SC_COMPLIANCE_RISK    — compliance drift risk (from ComplianceDriftModel)
  *   SC_EARLYWARNING_RISK  — early warning risk (from EarlyWarningModel)
  */
-public class ContinuousAttestationModel implements BehaviorRiskModelProvider {
+public class ContinuousAttestationModel implements BehaviorRiskModelProvider, MarketOnlyBehaviorModel {
 
     public static final String CALLOUT_TYPE = "MRD";
 
@@ -68,11 +70,17 @@ public class ContinuousAttestationModel implements BehaviorRiskModelProvider {
 
     private final String riskFactorId;
     private final String backingRiskMOC;
+    private final int backingRiskHandle;
     private final String liquidityRiskMOC;
+    private final int liquidityRiskHandle;
     private final String qualityRiskMOC;
+    private final int qualityRiskHandle;
     private final String concentrationRiskMOC;
+    private final int concentrationRiskHandle;
     private final String complianceRiskMOC;
+    private final int complianceRiskHandle;
     private final String earlyWarningRiskMOC;
+    private final int earlyWarningRiskHandle;
     private final List<String> monitoringEventTimes;
     private final MultiMarketRiskModel marketModel;
 
@@ -90,8 +98,14 @@ public class ContinuousAttestationModel implements BehaviorRiskModelProvider {
         this.concentrationRiskMOC = data.getConcentrationRiskMOC();
         this.complianceRiskMOC    = data.getComplianceRiskMOC();
         this.earlyWarningRiskMOC  = data.getEarlyWarningRiskMOC();
-        this.monitoringEventTimes = data.getMonitoringEventTimes();
+        this.monitoringEventTimes = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel          = marketModel;
+        this.backingRiskHandle    = marketModel.handle(this.backingRiskMOC);
+        this.liquidityRiskHandle  = marketModel.handle(this.liquidityRiskMOC);
+        this.qualityRiskHandle    = marketModel.handle(this.qualityRiskMOC);
+        this.concentrationRiskHandle = marketModel.handle(this.concentrationRiskMOC);
+        this.complianceRiskHandle = marketModel.handle(this.complianceRiskMOC);
+        this.earlyWarningRiskHandle = marketModel.handle(this.earlyWarningRiskMOC);
     }
 
     // -------------------------------------------------------------------------
@@ -109,7 +123,7 @@ public class ContinuousAttestationModel implements BehaviorRiskModelProvider {
     public List<CalloutData> contractStart(ContractModel contract) {
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
@@ -130,12 +144,12 @@ public class ContinuousAttestationModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double backingRisk       = this.marketModel.stateAt(this.backingRiskMOC, time);
-        double liquidityRisk     = this.marketModel.stateAt(this.liquidityRiskMOC, time);
-        double qualityRisk       = this.marketModel.stateAt(this.qualityRiskMOC, time);
-        double concentrationRisk = this.marketModel.stateAt(this.concentrationRiskMOC, time);
-        double complianceRisk    = this.marketModel.stateAt(this.complianceRiskMOC, time);
-        double earlyWarningRisk  = this.marketModel.stateAt(this.earlyWarningRiskMOC, time);
+        double backingRisk       = this.marketModel.stateAt(this.backingRiskHandle, time);
+        double liquidityRisk     = this.marketModel.stateAt(this.liquidityRiskHandle, time);
+        double qualityRisk       = this.marketModel.stateAt(this.qualityRiskHandle, time);
+        double concentrationRisk = this.marketModel.stateAt(this.concentrationRiskHandle, time);
+        double complianceRisk    = this.marketModel.stateAt(this.complianceRiskHandle, time);
+        double earlyWarningRisk  = this.marketModel.stateAt(this.earlyWarningRiskHandle, time);
 
         // Weighted composite
         double compositeScore = WEIGHT_BACKING * backingRisk
@@ -6,6 +6,8 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.stablecoin.EarlyWarningModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
+import org.actus.risksrv3.utils.MarketOnlyBehaviorModel;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -44,7 +46,7 @@ import java.util.Set;
  *   SC_CEX_OUTFLOW_MULT   — CEX outflow multiplier vs baseline
  *   SC_SENTIMENT_ZSCORE   — social sentiment z-score (negative = bearish)
  */
-public class EarlyWarningModel implements BehaviorRiskModelProvider {
+public class EarlyWarningModel implements BehaviorRiskModelProvider, MarketOnlyBehaviorModel {
 
     public static final String CALLOUT_TYPE = "MRD";
 
@@ -67,9 +69,13 @@ public class EarlyWarningModel implements BehaviorRiskModelProvider {
 
     private final String riskFactorId;
     private final String curveImbalanceMOC;
+    private final int curveImbalanceHandle;
     private final String orderbookDeclineMOC;
+    private final int orderbookDeclineHandle;
     private final String cexOutflowMOC;
+    private final int cexOutflowHandle;
     private final String sentimentZscoreMOC;
+    private final int sentimentZscoreHandle;
     private final List<String> monitoringEventTimes;
     private final MultiMarketRiskModel marketModel;
 
@@ -85,8 +91,12 @@ public class EarlyWarningModel implements BehaviorRiskModelProvider {
         this.orderbookDeclineMOC = data.getOrderbookDeclineMOC();
         this.cexOutflowMOC      = data.getCexOutflowMOC();
         this.sentimentZscoreMOC = data.getSentimentZscoreMOC();
-        this.monitoringEventTimes = data.getMonitoringEventTimes();
+        this.monitoringEventTimes = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel        = marketModel;
+        this.curveImbalanceHandle = marketModel.handle(this.curveImbalanceMOC);
+        this.orderbookDeclineHandle = marketModel.handle(this.orderbookDeclineMOC);
+        this.cexOutflowHandle   = marketModel.handle(this.cexOutflowMOC);
+        this.sentimentZscoreHandle = marketModel.handle(this.sentimentZscoreMOC);
     }
 
     // -------------------------------------------------------------------------
@@ -106,7 +116,7 @@ public class EarlyWarningModel implements BehaviorRiskModelProvider {
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         LocalDateTime maturity = contract.getAs("maturityDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
             if (ied != null && eventDateTime.isBefore(ied)) {
                 System.out.println("**** EarlyWarningModel: SKIPPING pre-IED callout " + eventTime + " (IED=" + ied + ")");
@@ -129,10 +139,10 @@ public class EarlyWarningModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double curveImbalance  = this.marketModel.stateAt(this.curveImbalanceMOC, time);
-        double orderbookDecline = this.marketModel.stateAt(this.orderbookDeclineMOC, time);
-        double cexOutflowMult  = this.marketModel.stateAt(this.cexOutflowMOC, time);
-        double sentimentZscore = this.marketModel.stateAt(this.sentimentZscoreMOC, time);
+        double curveImbalance  = this.marketModel.stateAt(this.curveImbalanceHandle, time);
+        double orderbookDecline = this.marketModel.stateAt(this.orderbookDeclineHandle, time);
+        double cexOutflowMult  = this.marketModel.stateAt(this.cexOutflowHandle, time);
+        double sentimentZscore = this.marketModel.stateAt(this.sentimentZscoreHandle, time);
 
         // Count active signals
         int activeSignals = 0;
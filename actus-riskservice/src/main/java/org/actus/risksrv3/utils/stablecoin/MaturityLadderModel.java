@@ -6,6 +6,7 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.stablecoin.MaturityLadderModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -51,6 +52,7 @@ public class MaturityLadderModel implements BehaviorRiskModelProvider {
 
     private final String riskFactorId;
     private final String pegRiskScoreMOC;
+    private final int pegRiskScoreHandle;
     private final List<String> monitoringEventTimes;
     private final MultiMarketRiskModel marketModel;
 
@@ -63,8 +65,9 @@ public class MaturityLadderModel implements BehaviorRiskModelProvider {
                                MultiMarketRiskModel marketModel) {
         this.riskFactorId      = riskFactorId;
         this.pegRiskScoreMOC   = data.getPegRiskScoreMOC();
-        this.monitoringEventTimes = data.getMonitoringEventTimes();
+        this.monitoringEventTimes = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel       = marketModel;
+        this.pegRiskScoreHandle = marketModel.handle(this.pegRiskScoreMOC);
     }
 
     // -------------------------------------------------------------------------
@@ -84,7 +87,7 @@ public class MaturityLadderModel implements BehaviorRiskModelProvider {
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         LocalDateTime maturity = contract.getAs("maturityDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
             if (ied != null && eventDateTime.isBefore(ied)) {
                 System.out.println("**** MaturityLadderModel: SKIPPING pre-IED callout " + eventTime + " (IED=" + ied + ")");
@@ -110,7 +113,7 @@ public class MaturityLadderModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double pegRiskScore = this.marketModel.stateAt(this.pegRiskScoreMOC, time);
+        double pegRiskScore = this.marketModel.stateAt(this.pegRiskScoreHandle, time);
 
         String decision;
         double signal;
@@ -6,6 +6,7 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.stablecoin.RedemptionPressureModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -55,7 +56,9 @@ public class RedemptionPressureModel implements BehaviorRiskModelProvider {
 
     private final String riskFactorId;
     private final String pegDeviationMOC;
+    private final int pegDeviationHandle;
     private final String cashReserveMOC;
+    private final int cashReserveHandle;
     private final double pegDeviationThreshold;   // minimum deviation to trigger (e.g. 0.005)
     private final List<String> monitoringEventTimes;
     private final MultiMarketRiskModel marketModel;
@@ -71,8 +74,10 @@ public class RedemptionPressureModel implements BehaviorRiskModelProvider {
         this.pegDeviationMOC      = data.getPegDeviationMOC();
         this.cashReserveMOC       = data.getCashReserveMOC();
         this.pegDeviationThreshold = data.getPegDeviationThreshold();
-        this.monitoringEventTimes = data.getMonitoringEventTimes();
+        this.monitoringEventTimes = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel          = marketModel;
+        this.pegDeviationHandle   = marketModel.handle(this.pegDeviationMOC);
+        this.cashReserveHandle    = marketModel.handle(this.cashReserveMOC);
     }
 
     // -------------------------------------------------------------------------
@@ -92,7 +97,7 @@ public class RedemptionPressureModel implements BehaviorRiskModelProvider {
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         LocalDateTime maturity = contract.getAs("maturityDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
             if (ied != null && eventDateTime.isBefore(ied)) {
                 System.out.println("**** RedemptionPressureModel: SKIPPING pre-IED callout " + eventTime + " (IED=" + ied + ")");
@@ -118,8 +123,8 @@ public class RedemptionPressureModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double pegDeviation = this.marketModel.stateAt(this.pegDeviationMOC, time);
-        double cashAvailable = this.marketModel.stateAt(this.cashReserveMOC, time);
+        double pegDeviation = this.marketModel.stateAt(this.pegDeviationHandle, time);
+        double cashAvailable = this.marketModel.stateAt(this.cashReserveHandle, time);
         double outstandingSupply = Math.abs(states.notionalPrincipal);
 
         System.out.println("**** RedemptionPressureModel: time=" + time
@@ -6,6 +6,8 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.supplychaintariff1.FXTariffCorrelationModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
+import org.actus.risksrv3.utils.MarketOnlyBehaviorModel;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -32,13 +34,15 @@ import java.util.Set;
  *
  * Returns: combined stress factor (0.0 = no stress)
  */
-public class FXTariffCorrelationModel implements BehaviorRiskModelProvider {
+public class FXTariffCorrelationModel implements BehaviorRiskModelProvider, MarketOnlyBehaviorModel {
 
     public static final String CALLOUT_TYPE = "MRD";
 
     private final String riskFactorId;
     private final String tariffIndexMOC;
+    private final int tariffIndexHandle;
     private final String fxRateMOC;
+    private final int fxRateHandle;
     private final double baseFxRate;
     private final double correlationCoefficient;
     private final double fxSensitivity;
@@ -56,8 +60,10 @@ public class FXTariffCorrelationModel implements BehaviorRiskModelProvider {
         this.correlationCoefficient = data.getCorrelationCoefficient();
         this.fxSensitivity         = data.getFxSensitivity();
         this.amplificationFactor   = data.getAmplificationFactor();
-        this.monitoringEventTimes  = data.getMonitoringEventTimes();
+        this.monitoringEventTimes  = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel           = marketModel;
+        this.tariffIndexHandle     = marketModel.handle(this.tariffIndexMOC);
+        this.fxRateHandle          = marketModel.handle(this.fxRateMOC);
     }
 
     @Override
@@ -72,7 +78,7 @@ public class FXTariffCorrelationModel implements BehaviorRiskModelProvider {
         // PP-before-IED fix: filter out callouts before contract starts
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
@@ -93,8 +99,8 @@ public class FXTariffCorrelationModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double currentTariff = this.marketModel.stateAt(this.tariffIndexMOC, time);
-        double currentFxRate = this.marketModel.stateAt(this.fxRateMOC, time);
+        double currentTariff = this.marketModel.stateAt(this.tariffIndexHandle, time);
+        double currentFxRate = this.marketModel.stateAt(this.fxRateHandle, time);
 
         // FX stress: percentage deviation from base rate
         double fxDeviation = Math.abs(currentFxRate - this.baseFxRate) / this.baseFxRate;
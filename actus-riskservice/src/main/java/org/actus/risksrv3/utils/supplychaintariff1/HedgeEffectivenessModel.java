@@ -6,6 +6,8 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.supplychaintariff1.HedgeEffectivenessModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
+import org.actus.risksrv3.utils.MarketOnlyBehaviorModel;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -30,15 +32,17 @@ import java.util.Set;
  * Returns: hedge ineffectiveness (0.0 = perfect, positive = over-hedged,
  *          negative = under-hedged)
  */
-public class HedgeEffectivenessModel implements BehaviorRiskModelProvider {
+public class HedgeEffectivenessModel implements BehaviorRiskModelProvider, MarketOnlyBehaviorModel {
 
     public static final String CALLOUT_TYPE = "MRD";
 
     private final String riskFactorId;
     private final String tariffIndexMOC;
+    private final int tariffIndexHandle;
     private final String fxRateMOC;
     private final double hedgedNotional;
     private final String currentExposureMOC;
+    private final int currentExposureHandle;
     private final double lowerEffectivenessBound;
     private final double upperEffectivenessBound;
     private final double tariffExposureSensitivity;
@@ -56,8 +60,10 @@ public class HedgeEffectivenessModel implements BehaviorRiskModelProvider {
         this.lowerEffectivenessBound  = data.getLowerEffectivenessBound();
         this.upperEffectivenessBound  = data.getUpperEffectivenessBound();
         this.tariffExposureSensitivity = data.getTariffExposureSensitivity();
-        this.monitoringEventTimes     = data.getMonitoringEventTimes();
+        this.monitoringEventTimes     = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel              = marketModel;
+        this.tariffIndexHandle        = marketModel.handle(this.tariffIndexMOC);
+        this.currentExposureHandle    = marketModel.handle(this.currentExposureMOC);
     }
 
     @Override
@@ -72,7 +78,7 @@ public class HedgeEffectivenessModel implements BehaviorRiskModelProvider {
         // PP-before-IED fix: filter out callouts before contract starts
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
@@ -93,8 +99,8 @@ public class HedgeEffectivenessModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double currentTariff = this.marketModel.stateAt(this.tariffIndexMOC, time);
-        double currentExposure = this.marketModel.stateAt(this.currentExposureMOC, time);
+        double currentTariff = this.marketModel.stateAt(this.tariffIndexHandle, time);
+        double currentExposure = this.marketModel.stateAt(this.currentExposureHandle, time);
 
         // Tariff reduces actual exposure (volume effect)
         double tariffAdjustedExposure = currentExposure * (1.0 - this.tariffExposureSensitivity * currentTariff);
@@ -6,6 +6,8 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.supplychaintariff1.PortCongestionModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
+import org.actus.risksrv3.utils.MarketOnlyBehaviorModel;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -34,13 +36,15 @@ import java.util.Set;
  *
  * Returns: financial impact fraction (0.0 = no delay impact)
  */
-public class PortCongestionModel implements BehaviorRiskModelProvider {
+public class PortCongestionModel implements BehaviorRiskModelProvider, MarketOnlyBehaviorModel {
 
     public static final String CALLOUT_TYPE = "MRD";
 
     private final String riskFactorId;
     private final String portCongestionIndexMOC;
+    private final int portCongestionIndexHandle;
     private final String tariffIndexMOC;
+    private final int tariffIndexHandle;
     private final double baseDwellDays;
     private final double congestionSensitivity;
     private final double maxDelayDays;
@@ -58,8 +62,10 @@ public class PortCongestionModel implements BehaviorRiskModelProvider {
         this.congestionSensitivity  = data.getCongestionSensitivity();
         this.maxDelayDays           = data.getMaxDelayDays();
         this.financialImpactPerDay  = data.getFinancialImpactPerDay();
-        this.monitoringEventTimes   = data.getMonitoringEventTimes();
+        this.monitoringEventTimes   = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel            = marketModel;
+        this.portCongestionIndexHandle = marketModel.handle(this.portCongestionIndexMOC);
+        this.tariffIndexHandle      = marketModel.handle(this.tariffIndexMOC);
     }
 
     @Override
@@ -74,7 +80,7 @@ public class PortCongestionModel implements BehaviorRiskModelProvider {
         // PP-before-IED fix: filter out callouts before contract starts
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
@@ -99,8 +105,8 @@ public class PortCongestionModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double congestionIndex = this.marketModel.stateAt(this.portCongestionIndexMOC, time);
-        double currentTariff = this.marketModel.stateAt(this.tariffIndexMOC, time);
+        double congestionIndex = this.marketModel.stateAt(this.portCongestionIndexHandle, time);
+        double currentTariff = this.marketModel.stateAt(this.tariffIndexHandle, time);
 
         // Congestion index IS the current dwell days (raw, not normalized)
         // Extra delay = current dwell - baseline dwell
@@ -6,6 +6,8 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.supplychaintariff1.RevenueElasticityModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
+import org.actus.risksrv3.utils.MarketOnlyBehaviorModel;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -30,12 +32,13 @@ import java.util.Set;
  *
  * Returns: revenue decline fraction (0.0 = no decline, e.g. 0.3 = 30% decline)
  */
-public class RevenueElasticityModel implements BehaviorRiskModelProvider {
+public class RevenueElasticityModel implements BehaviorRiskModelProvider, MarketOnlyBehaviorModel {
 
     public static final String CALLOUT_TYPE = "MRD";
 
     private final String riskFactorId;
     private final String tariffIndexMOC;
+    private final int tariffIndexHandle;
     private final double productElasticity;
     private final double baseRevenue;
     private final double passThrough;
@@ -52,8 +55,9 @@ public class RevenueElasticityModel implements BehaviorRiskModelProvider {
         this.baseRevenue           = data.getBaseRevenue();
         this.passThrough           = data.getPassThrough();
         this.revenueFloorFraction  = data.getRevenueFloorFraction();
-        this.monitoringEventTimes  = data.getMonitoringEventTimes();
+        this.monitoringEventTimes  = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel           = marketModel;
+        this.tariffIndexHandle     = marketModel.handle(this.tariffIndexMOC);
     }
 
     @Override
@@ -68,7 +72,7 @@ public class RevenueElasticityModel implements BehaviorRiskModelProvider {
         // PP-before-IED fix: filter out callouts before contract starts
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
@@ -89,7 +93,7 @@ public class RevenueElasticityModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double currentTariff = this.marketModel.stateAt(this.tariffIndexMOC, time);
+        double currentTariff = this.marketModel.stateAt(this.tariffIndexHandle, time);
 
         // Volume decline using Armington elasticity and pass-through
         double volumeDecline = this.productElasticity * currentTariff * this.passThrough;
@@ -6,6 +6,8 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.supplychaintariff1.TariffSpreadModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
+import org.actus.risksrv3.utils.MarketOnlyBehaviorModel;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -31,12 +33,13 @@ import java.util.Set;
  * Returns: spread adjustment (positive = wider spreads = higher cost)
  * Capped at maxSpreadCap to prevent unrealistic values.
  */
-public class TariffSpreadModel implements BehaviorRiskModelProvider {
+public class TariffSpreadModel implements BehaviorRiskModelProvider, MarketOnlyBehaviorModel {
 
     public static final String CALLOUT_TYPE = "MRD";
 
     private final String riskFactorId;
     private final String tariffIndexMOC;
+    private final int tariffIndexHandle;
     private final double baseSpread;
     private final double baseTariffIndex;
     private final double baseTariffSensitivity;
@@ -55,8 +58,9 @@ public class TariffSpreadModel implements BehaviorRiskModelProvider {
         this.baseTariffSensitivity = data.getBaseTariffSensitivity();
         this.maxSpreadCap          = data.getMaxSpreadCap();
         this.armingtonElasticity   = data.getArmingtonElasticity();
-        this.monitoringEventTimes  = data.getMonitoringEventTimes();
+        this.monitoringEventTimes  = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel           = marketModel;
+        this.tariffIndexHandle     = marketModel.handle(this.tariffIndexMOC);
     }
 
     @Override
@@ -71,7 +75,7 @@ public class TariffSpreadModel implements BehaviorRiskModelProvider {
         // PP-before-IED fix: filter out callouts before contract starts
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
@@ -92,7 +96,7 @@ public class TariffSpreadModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double currentTariff = this.marketModel.stateAt(this.tariffIndexMOC, time);
+        double currentTariff = this.marketModel.stateAt(this.tariffIndexHandle, time);
         double tariffDelta = currentTariff - this.baseTariffIndex;
 
         // Armington-scaled sensitivity: higher elasticity → more spread impact
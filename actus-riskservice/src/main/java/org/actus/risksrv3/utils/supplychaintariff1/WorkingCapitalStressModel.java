@@ -6,6 +6,8 @@ import org.actus.risksrv3.models.CalloutData;
 import org.actus.risksrv3.models.supplychaintariff1.WorkingCapitalStressModelData;
 import org.actus.risksrv3.utils.BehaviorRiskModelProvider;
 import org.actus.risksrv3.utils.MultiMarketRiskModel;
+import org.actus.risksrv3.utils.MonitoringTimes;
+import org.actus.risksrv3.utils.MarketOnlyBehaviorModel;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -27,14 +29,17 @@ import java.util.Set;
  *
  * Returns: drawdown fraction (0.0 = no stress, 1.0 = full facility draw)
  */
-public class WorkingCapitalStressModel implements BehaviorRiskModelProvider {
+public class WorkingCapitalStressModel implements BehaviorRiskModelProvider, MarketOnlyBehaviorModel {
 
     public static final String CALLOUT_TYPE = "MRD";
 
     private final String riskFactorId;
     private final String tariffIndexMOC;
+    private final int tariffIndexHandle;
     private final String revenueIndexMOC;
+    private final int revenueIndexHandle;
     private final String dsoIndexMOC;
+    private final int dsoIndexHandle;
     private final double baseDSO;
     private final double baseDIO;
     private final double baseDPO;
@@ -57,8 +62,11 @@ public class WorkingCapitalStressModel implements BehaviorRiskModelProvider {
         this.tariffDSOSensitivity  = data.getTariffDSOSensitivity();
         this.tariffDIOSensitivity  = data.getTariffDIOSensitivity();
         this.maxDrawdownFraction   = data.getMaxDrawdownFraction();
-        this.monitoringEventTimes  = data.getMonitoringEventTimes();
+        this.monitoringEventTimes  = MonitoringTimes.of(data.getMonitoringEventTimes(), data.getMonitoringSchedule());
         this.marketModel           = marketModel;
+        this.tariffIndexHandle     = marketModel.handle(this.tariffIndexMOC);
+        this.revenueIndexHandle    = marketModel.handle(this.revenueIndexMOC);
+        this.dsoIndexHandle        = marketModel.handle(this.dsoIndexMOC);
     }
 
     @Override
@@ -73,7 +81,7 @@ public class WorkingCapitalStressModel implements BehaviorRiskModelProvider {
         // PP-before-IED fix: filter out callouts before contract starts
         LocalDateTime ied = contract.getAs("initialExchangeDate");
         List<CalloutData> callouts = new ArrayList<>();
-        for (String eventTime : this.monitoringEventTimes) {
+        for (String eventTime : MonitoringTimes.forContract(this.monitoringEventTimes, contract)) {
             if (ied != null) {
                 LocalDateTime eventDateTime = LocalDateTime.parse(eventTime);
                 if (eventDateTime.isBefore(ied)) {
@@ -94,9 +102,9 @@ public class WorkingCapitalStressModel implements BehaviorRiskModelProvider {
     @Override
     public double stateAt(String id, LocalDateTime time, StateSpace states) {
 
-        double currentTariff = this.marketModel.stateAt(this.tariffIndexMOC, time);
-        double revenueIndex = this.marketModel.stateAt(this.revenueIndexMOC, time);
-        double dsoIndex = this.marketModel.stateAt(this.dsoIndexMOC, time);
+        double currentTariff = this.marketModel.stateAt(this.tariffIndexHandle, time);
+        double revenueIndex = this.marketModel.stateAt(this.revenueIndexHandle, time);
+        double dsoIndex = this.marketModel.stateAt(this.dsoIndexHandle, time);
 
         // Tariff stress extends DSO and DIO
         double stressedDSO = this.baseDSO + (this.tariffDSOSensitivity * currentTariff * this.baseDSO);
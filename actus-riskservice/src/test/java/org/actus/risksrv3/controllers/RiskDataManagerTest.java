@@ -0,0 +1,89 @@
+package org.actus.risksrv3.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.actus.risksrv3.models.ReferenceIndex;
+import org.actus.risksrv3.models.TimeValuePair;
+import org.actus.risksrv3.repository.ReferenceIndexStore;
+import org.actus.risksrv3.repository.inmemory.InMemoryMongoRepository;
+import org.actus.risksrv3.utils.ObservationStreamReader;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RiskDataManagerTest {
+
+	private static final LocalDateTime T0 = LocalDateTime.parse("2025-01-01T00:00:00");
+
+	private static RiskDataManager manager(ReferenceIndexStore store) {
+		RiskDataManager manager = new RiskDataManager();
+		ReflectionTestUtils.setField(manager, "referenceIndexStore", store);
+		ReflectionTestUtils.setField(manager, "riskObservationHandler", new RiskObservationHandler());
+		return manager;
+	}
+
+	private static ReferenceIndex index(String id, List<TimeValuePair> data) {
+		ReferenceIndex index = new ReferenceIndex(id, "ETH", 1.0, data);
+		index.setMarketObjectCode("ETH");
+		index.setBase(1.0);
+		return index;
+	}
+
+	@Test
+	void concurrentAppendsAreAllKept() throws Exception {
+		ReferenceIndexStore store = InMemoryMongoRepository.create(ReferenceIndexStore.class);
+		RiskDataManager manager = manager(store);
+		manager.saveReferenceIndex(index("ix1", new ArrayList<TimeValuePair>(List.of(new TimeValuePair(T0.toString(), 1.0)))));
+
+		// 8 clients each append 50 observations of their own, all at once
+		ExecutorService clients = Executors.newFixedThreadPool(8);
+		CountDownLatch start = new CountDownLatch(1);
+		List<CompletableFuture<String>> appends = new ArrayList<CompletableFuture<String>>();
+		for (int client = 0; client < 8; client++) {
+			StringBuilder csv = new StringBuilder();
+			for (int i = 1; i <= 50; i++)
+				csv.append(T0.plusMinutes(8 * i + client)).append(',').append(client).append('\n');
+			appends.add(CompletableFuture.supplyAsync(() -> {
+				try {
+					start.await();
+					return manager.appendReferenceIndex("ix1", new StringReader(csv.toString()));
+				} catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+			}, clients));
+		}
+		start.countDown();
+		for (CompletableFuture<String> append : appends)
+			append.join();
+		clients.shutdown();
+		assertEquals(1 + 8 * 50, store.findById("ix1").get().getData().size());
+	}
+
+	@Test
+	void storedTimesTakeTheAppendedForm() throws Exception {
+		ReferenceIndexStore store = InMemoryMongoRepository.create(ReferenceIndexStore.class);
+		RiskDataManager manager = manager(store);
+		List<TimeValuePair> data = new ArrayList<TimeValuePair>();
+		data.add(new TimeValuePair("2025-01-02T00:00:00.500", 3.0));
+		data.add(new TimeValuePair("2025-01-01T00:00", 1.0));
+		data.add(new TimeValuePair("2025-01-01T00:00:00.000", 2.0));
+		manager.saveReferenceIndex(index("ix1", data));
+
+		List<TimeValuePair> stored = store.findById("ix1").get().getData();
+		assertEquals(2, stored.size());
+		assertEquals("2025-01-01T00:00:00", stored.get(0).getTime());
+		assertEquals(2.0, stored.get(0).getValue());
+		assertEquals("2025-01-02T00:00:00.5", stored.get(1).getTime());
+		// as read from an append stream
+		assertEquals(ObservationStreamReader.read(new StringReader("2025-01-02T00:00:00.500,3\n2025-01-01T00:00,2\n")).toString(),
+				stored.toString());
+	}
+}
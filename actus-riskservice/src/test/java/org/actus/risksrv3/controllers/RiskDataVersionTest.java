@@ -0,0 +1,80 @@
+package org.actus.risksrv3.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.actus.risksrv3.models.RiskFactorDescriptor;
+import org.actus.risksrv3.models.Scenario;
+import org.actus.risksrv3.models.ScenarioDescriptor;
+import org.actus.risksrv3.models.StateAtInput;
+import org.actus.risksrv3.models.StochasticFactorData;
+import org.actus.risksrv3.models.StochasticScenarioData;
+import org.actus.risksrv3.repository.ReferenceIndexStore;
+import org.actus.risksrv3.repository.ScenarioStore;
+import org.actus.risksrv3.repository.StochasticScenarioStore;
+import org.actus.risksrv3.repository.inmemory.InMemoryMongoRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RiskDataVersionTest {
+
+	private static final LocalDateTime T1 = LocalDateTime.parse("2025-01-02T00:00:00");
+
+	// a handler on in-memory stores holding one scenario of 4 paths of ETH
+	private static RiskObservationHandler handler(RiskDataVersion version) {
+		StochasticFactorData eth = new StochasticFactorData();
+		eth.setMarketObjectCode("ETH");
+		eth.setProcess("GBM");
+		eth.setInitialValue(3000.0);
+		eth.setVolatility(0.8);
+		StochasticScenarioData mc = new StochasticScenarioData();
+		mc.setRiskFactorId("mc01");
+		mc.setStartDate("2025-01-01T00:00:00");
+		mc.setNumSteps(10);
+		mc.setNumPaths(4);
+		mc.setSeed(42);
+		mc.setFactors(List.of(eth));
+		StochasticScenarioStore stochasticScenarioStore = InMemoryMongoRepository.create(StochasticScenarioStore.class);
+		stochasticScenarioStore.save(mc);
+		ScenarioStore scenarioStore = InMemoryMongoRepository.create(ScenarioStore.class);
+		scenarioStore.save(new Scenario("sc01", List.of(new RiskFactorDescriptor("mc01", "StochasticScenario"))));
+
+		RiskObservationHandler handler = new RiskObservationHandler();
+		ReflectionTestUtils.setField(handler, "scenarioStore", scenarioStore);
+		ReflectionTestUtils.setField(handler, "stochasticScenarioStore", stochasticScenarioStore);
+		ReflectionTestUtils.setField(handler, "referenceIndexStore", InMemoryMongoRepository.create(ReferenceIndexStore.class));
+		ReflectionTestUtils.setField(handler, "riskDataVersion", version);
+		return handler;
+	}
+
+	@Test
+	void selectingAnotherPathChangesTheVersion() {
+		RiskDataVersion version = new RiskDataVersion();
+		RiskObservationHandler handler = handler(version);
+		handler.doScenarioSimulationStart(new ScenarioDescriptor("sc01", "scenario"));
+		String v0 = version.doDataVersion();
+		Double path0 = handler.doMarketStateAt(new StateAtInput("ETH", T1));
+
+		// a result cached under v0 is looked up under another version: a miss
+		handler.doSelectStochasticPath(1);
+		String v1 = version.doDataVersion();
+		assertNotEquals(v0, v1);
+		assertNotEquals(path0, handler.doMarketStateAt(new StateAtInput("ETH", T1)));
+
+		// selecting the path already selected, or an invalid one, changes nothing
+		handler.doSelectStochasticPath(1);
+		assertThrows(IllegalArgumentException.class, () -> handler.doSelectStochasticPath(4));
+		assertEquals(v1, version.doDataVersion());
+
+		// nor do lookups; restarting the scenario falls back to path 0
+		handler.doMarketStateAt(new StateAtInput("ETH", T1));
+		assertEquals(v1, version.doDataVersion());
+		handler.doScenarioSimulationStart(new ScenarioDescriptor("sc01", "scenario"));
+		assertNotEquals(v1, version.doDataVersion());
+		assertEquals(path0, handler.doMarketStateAt(new StateAtInput("ETH", T1)));
+	}
+}
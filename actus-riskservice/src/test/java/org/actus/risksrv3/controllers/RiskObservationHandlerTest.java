@@ -0,0 +1,61 @@
+package org.actus.risksrv3.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import org.actus.risksrv3.models.RiskFactorDescriptor;
+import org.actus.risksrv3.models.Scenario;
+import org.actus.risksrv3.models.ScenarioDescriptor;
+import org.actus.risksrv3.repository.CollateralLTVModelStore;
+import org.actus.risksrv3.repository.ReferenceIndexStore;
+import org.actus.risksrv3.repository.ScenarioStore;
+import org.actus.risksrv3.repository.inmemory.InMemoryMongoRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RiskObservationHandlerTest {
+
+	// a handler whose scenario sc01 has the descriptors, none of them stored
+	private static RiskObservationHandler handler(ReferenceIndexStore referenceIndexStore, RiskFactorDescriptor... rfdl) {
+		ScenarioStore scenarioStore = InMemoryMongoRepository.create(ScenarioStore.class);
+		scenarioStore.save(new Scenario("sc01", List.of(rfdl)));
+		RiskObservationHandler handler = new RiskObservationHandler();
+		ReflectionTestUtils.setField(handler, "scenarioStore", scenarioStore);
+		ReflectionTestUtils.setField(handler, "referenceIndexStore", referenceIndexStore);
+		ReflectionTestUtils.setField(handler, "collateralLTVModelStore", InMemoryMongoRepository.create(CollateralLTVModelStore.class));
+		ReflectionTestUtils.setField(handler, "riskDataVersion", new RiskDataVersion());
+		return handler;
+	}
+
+	// a store whose bulk query fails
+	private static ReferenceIndexStore unavailable() {
+		ReferenceIndexStore store = InMemoryMongoRepository.create(ReferenceIndexStore.class);
+		return (ReferenceIndexStore) Proxy.newProxyInstance(ReferenceIndexStore.class.getClassLoader(),
+				new Class<?>[] { ReferenceIndexStore.class }, (proxy, method, args) -> {
+					if (method.getName().equals("findAllById"))
+						throw new IllegalStateException("store unavailable");
+					try {
+						return method.invoke(store, args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				});
+	}
+
+	@Test
+	void scenarioStartFailsWithTheCauseItself() {
+		// a behavior model lookup failing before the ReferenceIndex query is joined
+		RiskObservationHandler handler = handler(InMemoryMongoRepository.create(ReferenceIndexStore.class),
+				new RiskFactorDescriptor("ix01", "ReferenceIndex"), new RiskFactorDescriptor("ltv01", "CollateralLTVModel"));
+		assertThrows(CollateralLTVModelNotFoundException.class,
+				() -> handler.doScenarioSimulationStart(new ScenarioDescriptor("sc01", "scenario")));
+
+		// the ReferenceIndex query failing, rethrown as it was thrown on the loader thread
+		RiskObservationHandler offline = handler(unavailable(), new RiskFactorDescriptor("ix01", "ReferenceIndex"));
+		assertThrows(IllegalStateException.class,
+				() -> offline.doScenarioSimulationStart(new ScenarioDescriptor("sc01", "scenario")));
+	}
+}
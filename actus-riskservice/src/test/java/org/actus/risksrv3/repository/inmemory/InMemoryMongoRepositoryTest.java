@@ -0,0 +1,123 @@
+package org.actus.risksrv3.repository.inmemory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.actus.risksrv3.models.ReferenceIndex;
+import org.actus.risksrv3.models.TimeValuePair;
+import org.actus.risksrv3.repository.ReferenceIndexStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+class InMemoryMongoRepositoryTest {
+
+	interface DerivedQueryStore extends MongoRepository<ReferenceIndex,String> {
+		List<ReferenceIndex> findByMarketObjectCode(String marketObjectCode);
+	}
+
+	private static ReferenceIndex index(String id, String moc, double base) {
+		List<TimeValuePair> data = new ArrayList<TimeValuePair>();
+		data.add(new TimeValuePair("2025-01-01T00:00:00", base));
+		data.add(new TimeValuePair("2025-01-02T00:00:00", base + 1));
+		ReferenceIndex index = new ReferenceIndex(id, moc, base, data);
+		index.setMarketObjectCode(moc);
+		index.setBase(base);
+		return index;
+	}
+
+	@Test
+	void savedAndFoundEntitiesAreCopies() {
+		ReferenceIndexStore store = InMemoryMongoRepository.create(ReferenceIndexStore.class);
+		ReferenceIndex saved = index("ix1", "ETH", 100.0);
+		store.save(saved);
+
+		// changing the caller's instance does not change the stored document
+		saved.getData().get(0).setValue(-1.0);
+		saved.setBase(-1.0);
+		ReferenceIndex found = store.findById("ix1").get();
+		assertNotSame(saved, found);
+		assertEquals(100.0, found.getBase());
+		assertEquals(100.0, found.getData().get(0).getValue());
+
+		// nor does changing a found instance, until it is saved
+		found.getData().add(new TimeValuePair("2025-01-03T00:00:00", 3.0));
+		assertEquals(2, store.findById("ix1").get().getData().size());
+		assertEquals(2, store.findAll().get(0).getData().size());
+		store.save(found);
+		assertEquals(3, store.findById("ix1").get().getData().size());
+	}
+
+	@Test
+	void fieldsHiddenFromJsonAreStored() {
+		ReferenceIndexStore store = InMemoryMongoRepository.create(ReferenceIndexStore.class);
+		ReferenceIndex packed = index("ix1", "ETH", 100.0);
+		packed.pack();
+		store.save(packed);
+		ReferenceIndex found = store.findById("ix1").get();
+		assertTrue(found.isPacked());
+		assertNotSame(packed.getPackedData(), found.getPackedData());
+		assertEquals(101.0, found.getData().get(1).getValue());
+	}
+
+	@Test
+	void insertRejectsExistingId() {
+		ReferenceIndexStore store = InMemoryMongoRepository.create(ReferenceIndexStore.class);
+		store.insert(index("ix1", "ETH", 100.0));
+		assertThrows(DuplicateKeyException.class, () -> store.insert(index("ix1", "BTC", 1.0)));
+		assertEquals("ETH", store.findById("ix1").get().getMarketObjectCode());
+	}
+
+	@Test
+	void findAllSortedAndPaged() {
+		ReferenceIndexStore store = InMemoryMongoRepository.create(ReferenceIndexStore.class);
+		store.save(index("ix2", "BTC", 2.0));
+		store.save(index("ix3", "ETH", 3.0));
+		store.save(index("ix1", "USD", 1.0));
+
+		List<ReferenceIndex> byBase = store.findAll(Sort.by(Sort.Order.desc("base")));
+		assertEquals("ix3", byBase.get(0).getRiskFactorID());
+		assertEquals("ix1", byBase.get(2).getRiskFactorID());
+
+		Page<ReferenceIndex> second = store.findAll(PageRequest.of(1, 2, Sort.by("riskFactorID")));
+		assertEquals(3L, second.getTotalElements());
+		assertEquals(1, second.getContent().size());
+		assertEquals("ix3", second.getContent().get(0).getRiskFactorID());
+	}
+
+	@Test
+	void findByExample() {
+		ReferenceIndexStore store = InMemoryMongoRepository.create(ReferenceIndexStore.class);
+		store.save(index("ix1", "ETH", 1.0));
+		store.save(index("ix2", "ETH-USD", 2.0));
+		store.save(index("ix3", "BTC", 3.0));
+
+		ReferenceIndex probe = new ReferenceIndex();
+		probe.setMarketObjectCode("ETH");
+		assertEquals(1L, store.count(Example.of(probe)));
+		assertEquals("ix1", store.findOne(Example.of(probe)).get().getRiskFactorID());
+
+		ExampleMatcher startsWith = ExampleMatcher.matching().withStringMatcher(ExampleMatcher.StringMatcher.STARTING);
+		assertEquals(2, store.findAll(Example.of(probe, startsWith)).size());
+
+		probe.setMarketObjectCode("eth");
+		assertFalse(store.exists(Example.of(probe)));
+		assertTrue(store.exists(Example.of(probe, ExampleMatcher.matching().withIgnoreCase())));
+	}
+
+	@Test
+	void derivedQueriesAreRejected() {
+		assertThrows(IllegalArgumentException.class, () -> InMemoryMongoRepository.create(DerivedQueryStore.class));
+	}
+}
@@ -0,0 +1,80 @@
+package org.actus.risksrv3.repository.inmemory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.actus.risksrv3.models.ReferenceIndex;
+import org.actus.risksrv3.models.TimeValuePair;
+import org.actus.risksrv3.repository.ReferenceIndexStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class SnapshotLoaderTest {
+
+	private final ReferenceIndexStore store = InMemoryMongoRepository.create(ReferenceIndexStore.class);
+
+	private SnapshotLoader loader(Path dumpDirectory) {
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBean("referenceIndexStore", ReferenceIndexStore.class, () -> store);
+		context.refresh();
+		return new SnapshotLoader(context, new ObjectMapper(), dumpDirectory.toString());
+	}
+
+	@Test
+	void dumpAndLoadRoundTrip() throws IOException {
+		Path dump = Files.createTempDirectory("snapshot");
+		SnapshotLoader loader = loader(dump);
+		List<TimeValuePair> data = new ArrayList<TimeValuePair>();
+		data.add(new TimeValuePair("2025-01-01T00:00:00", 1.5));
+		ReferenceIndex index = new ReferenceIndex("ix1", "ETH", null, data);
+		index.setMarketObjectCode("ETH");
+		store.save(index);
+
+		assertEquals(1, loader.dump(loader.snapshotPath("run1")));
+		assertTrue(Files.exists(dump.resolve("run1").resolve("ReferenceIndex.json")));
+		store.deleteAll();
+		assertEquals(1, loader.load(loader.snapshotPath("run1/ReferenceIndex.json")));
+		ReferenceIndex loaded = store.findById("ix1").get();
+		assertEquals("ETH", loaded.getMarketObjectCode());
+		assertEquals(1.5, loaded.getData().get(0).getValue());
+	}
+
+	@Test
+	void loadPostmanCollection() throws IOException {
+		Path dump = Files.createTempDirectory("snapshot");
+		Files.writeString(dump.resolve("collection.json"),
+				"{ \"item\": [ { \"item\": [ { \"request\": { \"method\": \"POST\","
+				+ " \"url\": { \"raw\": \"{{host}}:8082/addReferenceIndex\" },"
+				+ " \"body\": { \"raw\": \"{ \\\"riskFactorID\\\": \\\"ix9\\\", \\\"marketObjectCode\\\": \\\"BTC\\\","
+				+ " \\\"data\\\": [] }\" } } } ] } ] }");
+		SnapshotLoader loader = loader(dump);
+		assertEquals(1, loader.load(loader.snapshotPath("collection.json")));
+		assertEquals("BTC", store.findById("ix9").get().getMarketObjectCode());
+	}
+
+	@Test
+	void snapshotPathsStayInDumpDirectory() throws IOException {
+		Path dump = Files.createTempDirectory("snapshot");
+		SnapshotLoader loader = loader(dump);
+		assertEquals(dump.toAbsolutePath().normalize(), loader.snapshotPath(null));
+		assertEquals(dump.resolve("a").resolve("b.json"), loader.snapshotPath("a/./c/../b.json"));
+		assertThrows(IllegalArgumentException.class, () -> loader.snapshotPath("../other"));
+		assertThrows(IllegalArgumentException.class, () -> loader.snapshotPath("a/../../other"));
+		assertThrows(IllegalArgumentException.class, () -> loader.snapshotPath("/etc/passwd"));
+
+		Path outside = Files.createTempDirectory("outside");
+		Files.createSymbolicLink(dump.resolve("link"), outside);
+		assertThrows(IllegalArgumentException.class, () -> loader.snapshotPath("link/ReferenceIndex.json"));
+		assertFalse(Files.exists(outside.resolve("ReferenceIndex.json")));
+	}
+}
@@ -0,0 +1,111 @@
+package org.actus.risksrv3.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.actus.risksrv3.core.attributes.ContractModel;
+import org.actus.risksrv3.core.states.StateSpace;
+import org.actus.risksrv3.models.CalloutData;
+import org.actus.risksrv3.models.CollateralLTVModelData;
+import org.actus.risksrv3.models.ReferenceIndex;
+import org.actus.risksrv3.models.TimeValuePair;
+import org.junit.jupiter.api.Test;
+
+class CalloutPrunerTest {
+
+	private static final String[] MONITORING_TIMES = {
+			"2025-01-01T00:00:00", "2025-01-02T00:00:00", "2025-01-03T00:00:00",
+			"2025-01-03T00:00:00.400", "2025-01-03T00:00:00.600", "2025-01-04T00:00:00",
+			"2025-01-05T00:00:00", "2025-01-06T00:00:00", "2025-01-07T00:00:00" };
+
+	// ETH at 2000 except for a crash to 500 from 00:00:00.5 to 00:00:00.7 on 3 January, and 1100 on 6 January
+	private static MultiMarketRiskModel market() {
+		List<TimeValuePair> data = new ArrayList<TimeValuePair>();
+		data.add(new TimeValuePair("2025-01-01T00:00:00", 2000.0));
+		data.add(new TimeValuePair("2025-01-03T00:00:00.5", 500.0));
+		data.add(new TimeValuePair("2025-01-03T00:00:00.7", 2000.0));
+		data.add(new TimeValuePair("2025-01-06T00:00:00", 1100.0));
+		data.add(new TimeValuePair("2025-01-07T00:00:00", 2000.0));
+		ReferenceIndex index = new ReferenceIndex("ETH_USD", "ETH_USD", 1.0, data);
+		index.setMarketObjectCode("ETH_USD");
+		index.setBase(1.0);
+		MultiMarketRiskModel market = new MultiMarketRiskModel();
+		market.add("ETH_USD", new TimeSeriesModel(index));
+		return market;
+	}
+
+	private static CollateralLTVModel model(MultiMarketRiskModel market) {
+		CollateralLTVModelData data = new CollateralLTVModelData();
+		data.setRiskFactorId("ltv01");
+		data.setCollateralPriceMarketObjectCode("ETH_USD");
+		data.setCollateralQuantity(1.0);
+		data.setLtvThreshold(0.8);
+		data.setLtvTarget(0.6);
+		data.setLiquidationThreshold(0.9);
+		data.setMonitoringEventTimes(List.of(MONITORING_TIMES));
+		return new CollateralLTVModel("ltv01", data, market);
+	}
+
+	private static ContractModel contract() {
+		Map<String,Object> attributes = new HashMap<String,Object>();
+		attributes.put("contractID", "pam01");
+		attributes.put("contractType", "PAM");
+		attributes.put("initialExchangeDate", "2024-12-31T00:00:00");
+		attributes.put("maturityDate", "2025-12-31T00:00:00");
+		attributes.put("notionalPrincipal", "1000");
+		return ContractModel.parse(attributes);
+	}
+
+	@Test
+	void prunedCalloutsAreAnsweredWithTheUnprunedValue() {
+		MultiMarketRiskModel market = market();
+		CollateralLTVModel model = model(market);
+		ContractModel contract = contract();
+		List<CalloutData> unpruned = model.contractStart(contract);
+		List<CalloutData> pruned = CalloutPruner.prune(model, contract, market, unpruned);
+
+		// the same callouts in the same order, none dropped
+		assertEquals(unpruned.size(), pruned.size());
+		int answered = 0;
+		for (int i = 0; i < unpruned.size(); i++) {
+			assertEquals(unpruned.get(i).getTime(), pruned.get(i).getTime());
+			assertNull(unpruned.get(i).getValue());
+			if (pruned.get(i).getValue() == null)
+				continue;
+			answered++;
+			// the value given is what the model returns for any notional the contract can reach
+			for (double notional : new double[] { 1000.0, 500.0, 0.0 }) {
+				StateSpace states = new StateSpace();
+				states.notionalPrincipal = notional;
+				assertEquals(model.stateAt("ltv01", LocalDateTime.parse(pruned.get(i).getTime()), states),
+						pruned.get(i).getValue(), 0.0);
+			}
+		}
+		assertTrue(answered > 0);
+	}
+
+	@Test
+	void subSecondObservationsAreNotMissed() {
+		MultiMarketRiskModel market = market();
+		CollateralLTVModel model = model(market);
+		List<CalloutData> pruned = CalloutPruner.prune(model, contract(), market, model.contractStart(contract()));
+		Map<String,Double> values = new HashMap<String,Double>();
+		for (CalloutData callout : pruned)
+			values.put(callout.getTime(), callout.getValue());
+
+		// 400ms is before the crash, 600ms within it: same second, different answers
+		assertEquals(0.0, values.get("2025-01-03T00:00:00.400"));
+		assertNull(values.get("2025-01-03T00:00:00.600"));
+		// 1000 / 1100 is above the 0.8 threshold
+		assertNull(values.get("2025-01-06T00:00:00"));
+		assertEquals(0.0, values.get("2025-01-02T00:00:00"));
+		assertEquals(0.0, values.get("2025-01-07T00:00:00"));
+	}
+}
@@ -0,0 +1,127 @@
+package org.actus.risksrv3.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.actus.risksrv3.core.attributes.ContractModel;
+import org.actus.risksrv3.models.MonitoringSchedule;
+import org.actus.time.ScheduleFactory;
+import org.actus.types.EndOfMonthConventionEnum;
+import org.junit.jupiter.api.Test;
+
+class MonitoringTimesTest {
+
+	private static MonitoringTimes times(String anchor, String end, String cycle) {
+		return new MonitoringTimes(new MonitoringSchedule(anchor, end, cycle));
+	}
+
+	private static List<String> list(String... times) {
+		return List.of(times);
+	}
+
+	private static ContractModel contract(String initialExchangeDate, String maturityDate) {
+		Map<String,Object> attributes = new HashMap<String,Object>();
+		attributes.put("contractID", "pam01");
+		attributes.put("contractType", "PAM");
+		attributes.put("notionalPrincipal", "1000");
+		if (initialExchangeDate != null)
+			attributes.put("initialExchangeDate", initialExchangeDate);
+		if (maturityDate != null)
+			attributes.put("maturityDate", maturityDate);
+		return ContractModel.parse(attributes);
+	}
+
+	// the times as an ACTUS schedule with the end time added
+	private static List<String> schedule(String anchor, String end, String cycle) {
+		List<LocalDateTime> times = new ArrayList<LocalDateTime>(ScheduleFactory.createSchedule(
+				LocalDateTime.parse(anchor), LocalDateTime.parse(end), cycle, EndOfMonthConventionEnum.SD, true));
+		times.sort(null);
+		List<String> strings = new ArrayList<String>();
+		for (LocalDateTime time : times)
+			strings.add(time.toString().length() == 16 ? time + ":00" : time.toString());
+		return strings;
+	}
+
+	@Test
+	void sizeAtCycleEdges() {
+		// end on the grid
+		assertEquals(list("2025-01-01T00:00:00", "2025-01-02T00:00:00", "2025-01-03T00:00:00"),
+				times("2025-01-01T00:00:00", "2025-01-03T00:00:00", "P1DL1"));
+		// end a moment past and a moment short of the grid, short stub
+		assertEquals(4, times("2025-01-01T00:00:00", "2025-01-03T00:00:01", "P1DL1").size());
+		assertEquals(3, times("2025-01-01T00:00:00", "2025-01-02T23:59:59", "P1DL1").size());
+		assertEquals("2025-01-02T23:59:59", times("2025-01-01T00:00:00", "2025-01-02T23:59:59", "P1DL1").get(2));
+		// a long stub absorbs the last regular time short of end
+		assertEquals(list("2025-01-01T00:00:00", "2025-01-02T00:00:00", "2025-01-03T12:00:00"),
+				times("2025-01-01T00:00:00", "2025-01-03T12:00:00", "P1DL0"));
+		// end within the first period, and end at the anchor
+		assertEquals(list("2025-01-01T00:00:00", "2025-01-01T12:00:00"),
+				times("2025-01-01T00:00:00", "2025-01-01T12:00:00", "P1DL0"));
+		assertEquals(list("2025-01-01T00:00:00"), times("2025-01-01T00:00:00", "2025-01-01T00:00:00", "P1DL1"));
+		// sub-day cycles
+		MonitoringTimes quarters = times("2025-01-01T00:00:00", "2025-01-02T00:00:00", "PT15M");
+		assertEquals(97, quarters.size());
+		assertEquals("2025-01-01T23:45:00", quarters.get(95));
+		assertThrows(IndexOutOfBoundsException.class, () -> quarters.get(97));
+		assertThrows(IndexOutOfBoundsException.class, () -> quarters.timeAt(-1));
+	}
+
+	@Test
+	void timesAsActusSchedules() {
+		String[][] cases = {
+				{ "2025-01-31T00:00:00", "2025-12-31T00:00:00", "P1ML1" },
+				{ "2025-01-31T00:00:00", "2025-12-15T00:00:00", "P1ML0" },
+				{ "2025-01-31T00:00:00", "2025-12-15T00:00:00", "P1ML1" },
+				{ "2024-02-29T00:00:00", "2028-02-29T00:00:00", "P1YL1" },
+				{ "2025-01-01T00:00:00", "2025-03-01T00:00:00", "P1WL0" },
+				{ "2025-01-01T00:00:00", "2025-03-01T00:00:00", "P1WL1" },
+				{ "2025-01-01T00:00:00", "2025-01-20T00:00:00", "P3DL0" },
+				{ "2025-01-01T00:00:00", "2025-01-20T00:00:00", "P3DL1" },
+				{ "2025-01-01T00:00:00", "2025-01-02T00:00:00", "P1DL0" } };
+		for (String[] c : cases)
+			assertEquals(schedule(c[0], c[1], c[2]), times(c[0], c[1], c[2]), String.join(" ", c));
+	}
+
+	@Test
+	void clippedToTheContract() {
+		List<String> times = MonitoringTimes.of(null,
+				new MonitoringSchedule("2025-01-01T00:00:00", "2025-01-10T00:00:00", "P1DL1"));
+		// bounds on monitoring times are kept
+		assertEquals(list("2025-01-03T00:00:00", "2025-01-04T00:00:00", "2025-01-05T00:00:00"),
+				MonitoringTimes.forContract(times, contract("2025-01-03T00:00:00", "2025-01-05T00:00:00")));
+		// bounds between monitoring times
+		assertEquals(list("2025-01-04T00:00:00", "2025-01-05T00:00:00"),
+				MonitoringTimes.forContract(times, contract("2025-01-03T12:00:00", "2025-01-05T12:00:00")));
+		// a contract outliving the schedule, or starting before it
+		assertEquals(times, MonitoringTimes.forContract(times, contract("2024-06-01T00:00:00", "2026-01-01T00:00:00")));
+		assertEquals(list("2025-01-09T00:00:00", "2025-01-10T00:00:00"),
+				MonitoringTimes.forContract(times, contract("2025-01-09T00:00:00", null)));
+		// contracts entirely before or after the schedule
+		assertTrue(MonitoringTimes.forContract(times, contract("2024-01-01T00:00:00", "2024-12-31T00:00:00")).isEmpty());
+		assertTrue(MonitoringTimes.forContract(times, contract("2025-01-10T00:00:01", "2025-02-01T00:00:00")).isEmpty());
+		// the end time at maturity
+		assertEquals(list("2025-01-10T00:00:00"),
+				MonitoringTimes.forContract(times, contract("2025-01-09T12:00:00", "2025-01-10T00:00:00")));
+		// explicit lists are not clipped
+		List<String> explicit = list("2020-01-01T00:00:00");
+		assertSame(explicit, MonitoringTimes.forContract(explicit, contract("2025-01-03T00:00:00", "2025-01-05T00:00:00")));
+	}
+
+	@Test
+	void invalidRules() {
+		assertThrows(IllegalArgumentException.class, () -> times("2025-01-02T00:00:00", "2025-01-01T00:00:00", "P1DL1"));
+		assertThrows(IllegalArgumentException.class, () -> times("2025-01-01T00:00:00", "2025-01-02T00:00:00", "X1D"));
+		assertThrows(IllegalArgumentException.class, () -> times("2025-01-01T00:00:00", null, "P1DL1"));
+		assertThrows(IllegalArgumentException.class, () -> times("2000-01-01T00:00:00", "2100-01-01T00:00:00", "PT1S"));
+		assertThrows(IllegalArgumentException.class, () -> MonitoringTimes.of(list("2025-01-01T00:00:00"),
+				new MonitoringSchedule("2025-01-01T00:00:00", "2025-01-02T00:00:00", "P1DL1")));
+	}
+}
@@ -0,0 +1,60 @@
+package org.actus.risksrv3.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class MultiMarketRiskModelTest {
+
+	private static final LocalDateTime T0 = LocalDateTime.parse("2025-01-01T00:00:00");
+
+	// the day of the time as value, counting lookups
+	private static MarketRiskModelProvider days(AtomicInteger lookups) {
+		return new MarketRiskModelProvider() {
+			public Set<String> keys() {
+				return Set.of();
+			}
+			public double stateAt(String id, LocalDateTime time) {
+				lookups.incrementAndGet();
+				return time.getDayOfYear();
+			}
+		};
+	}
+
+	private static List<LocalDateTime> days(int from, int count) {
+		List<LocalDateTime> times = new ArrayList<LocalDateTime>();
+		for (int d = from; d < from + count; d++)
+			times.add(T0.plusDays(d));
+		return times;
+	}
+
+	@Test
+	void eachContractStartResolvesItsOwnPairs() {
+		AtomicInteger lookups = new AtomicInteger();
+		MultiMarketRiskModel market = new MultiMarketRiskModel();
+		market.add("ETH", days(lookups));
+		market.add("BTC", days(lookups));
+
+		// 50 contract starts of 10 times each, none shared
+		for (int c = 0; c < 50; c++) {
+			ResolvedMarket table = market.preResolve(List.of("ETH", "BTC", "XRP"), days(10 * c, 10));
+			assertEquals(2, table.mocCount());
+			assertEquals(10, table.timeCount());
+		}
+		assertEquals(50 * 2 * 10, lookups.get());
+
+		// the last contract's pairs are read from the table, earlier ones from the models
+		lookups.set(0);
+		assertEquals(T0.plusDays(495).getDayOfYear(), market.stateAt("ETH", T0.plusDays(495)), 0.0);
+		assertEquals(T0.plusDays(495).getDayOfYear(), market.stateAt(market.handle("BTC"), T0.plusDays(495)), 0.0);
+		assertEquals(0, lookups.get());
+		assertEquals(T0.plusDays(5).getDayOfYear(), market.stateAt("ETH", T0.plusDays(5)), 0.0);
+		assertEquals(1, lookups.get());
+	}
+}
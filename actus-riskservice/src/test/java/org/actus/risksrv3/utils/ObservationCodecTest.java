@@ -0,0 +1,140 @@
+package org.actus.risksrv3.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.actus.risksrv3.models.TimeValuePair;
+import org.junit.jupiter.api.Test;
+
+class ObservationCodecTest {
+
+	private static final LocalDateTime T0 = LocalDateTime.parse("2025-01-01T00:00:00");
+
+	private static void assertRoundTrip(LocalDateTime[] times, double[] values, int bucketSeconds) {
+		byte[] packed = ObservationCodec.encode(times, values, bucketSeconds);
+		assertEquals(times.length, ObservationCodec.size(packed));
+		assertArrayEquals(times, ObservationCodec.decodeTimes(packed));
+		double[] decoded = ObservationCodec.decodeValues(packed);
+		for (int i = 0; i < values.length; i++)
+			assertEquals(Double.doubleToRawLongBits(values[i]), Double.doubleToRawLongBits(decoded[i]));
+	}
+
+	// a minute series of prices quoted in cents
+	private static List<TimeValuePair> minutes(LocalDateTime from, int count, long seed) {
+		Random random = new Random(seed);
+		long cents = 250000;
+		List<TimeValuePair> data = new ArrayList<TimeValuePair>();
+		for (int i = 0; i < count; i++) {
+			cents += random.nextInt(201) - 100;
+			data.add(new TimeValuePair(from.plusMinutes(i).toString(), cents / 100.0));
+		}
+		return data;
+	}
+
+	@Test
+	void specialValuesRoundTrip() {
+		LocalDateTime[] times = { T0, T0.plusDays(1), T0.plusDays(2), T0.plusDays(3), T0.plusDays(4), T0.plusDays(5) };
+		assertRoundTrip(times, new double[] { 1.5, Double.NaN, -2.25, Double.POSITIVE_INFINITY, -0.0, 0.1 + 0.2 }, 0);
+		assertRoundTrip(times, new double[] { -1.0, -1000.5, -0.01, 0.0, 1e300, -Double.MIN_VALUE }, 86400);
+		assertRoundTrip(times, new double[] { -3.0, -2.0, -1.0, 0.0, 1.0, 2.0 }, 3600);
+	}
+
+	@Test
+	void equalAndUnorderedTimesRoundTrip() {
+		LocalDateTime[] times = { T0, T0, T0.plusSeconds(60), T0.plusSeconds(60), T0.minusDays(400), T0.plusSeconds(1) };
+		double[] values = { 1.0, 2.0, 3.0, 4.0, 5.0, 6.0 };
+		assertRoundTrip(times, values, 86400);
+		assertRoundTrip(times, values, 0);
+		// before 1970
+		assertRoundTrip(new LocalDateTime[] { LocalDateTime.parse("1969-12-31T23:59:59.5"), T0 }, new double[] { 1.0, 2.0 }, 60);
+	}
+
+	@Test
+	void subSecondTimesRoundTrip() {
+		LocalDateTime[] times = { T0, T0.plusNanos(400000000), T0.plusNanos(600000000), T0.plusNanos(600001000),
+				T0.plusNanos(600001001), T0.plusSeconds(1) };
+		assertRoundTrip(times, new double[] { 1.0, 2.0, 3.0, 4.0, 5.0, 6.0 }, 86400);
+
+		List<TimeValuePair> data = new ArrayList<TimeValuePair>();
+		data.add(new TimeValuePair("2025-01-03T00:00:00", 2000.0));
+		data.add(new TimeValuePair("2025-01-03T00:00:00.5", 500.0));
+		data.add(new TimeValuePair("2025-01-03T00:00:00.700", null));
+		List<TimeValuePair> decoded = ObservationCodec.decode(ObservationCodec.encode(data));
+		assertEquals("2025-01-03T00:00:00", decoded.get(0).getTime());
+		assertEquals("2025-01-03T00:00:00.5", decoded.get(1).getTime());
+		assertEquals(LocalDateTime.parse("2025-01-03T00:00:00.700"), LocalDateTime.parse(decoded.get(2).getTime()));
+		assertEquals(500.0, decoded.get(1).getValue());
+		assertNull(decoded.get(2).getValue());
+	}
+
+	@Test
+	void regularPriceSeriesPacksTenfold() {
+		// 30 days of minutes at about 60 bytes per subdocument
+		List<TimeValuePair> data = minutes(T0, 30 * 1440, 7);
+		byte[] packed = ObservationCodec.encode(data);
+		assertTrue(packed.length * 10 <= 60 * data.size(), packed.length + " bytes for " + data.size());
+		List<TimeValuePair> decoded = ObservationCodec.decode(packed);
+		for (int i = 0; i < data.size(); i++) {
+			assertEquals(LocalDateTime.parse(data.get(i).getTime()), LocalDateTime.parse(decoded.get(i).getTime()));
+			assertEquals(data.get(i).getValue(), decoded.get(i).getValue());
+		}
+	}
+
+	@Test
+	void mergeRewritesOnlyTheBucketsTouched() {
+		List<TimeValuePair> stored = minutes(T0, 5 * 1440, 11);
+		byte[] packed = ObservationCodec.encode(stored);
+		// one observation replaced on the last day, the rest on the next
+		List<TimeValuePair> appended = minutes(T0.plusDays(5).minusMinutes(10), 100, 13);
+
+		TreeMap<LocalDateTime,Double> expected = new TreeMap<LocalDateTime,Double>();
+		for (TimeValuePair tv : stored)
+			expected.put(LocalDateTime.parse(tv.getTime()), tv.getValue());
+		for (TimeValuePair tv : appended)
+			expected.put(LocalDateTime.parse(tv.getTime()), tv.getValue());
+		List<TimeValuePair> rewritten = new ArrayList<TimeValuePair>();
+		for (Map.Entry<LocalDateTime,Double> entry : expected.entrySet())
+			rewritten.add(new TimeValuePair(entry.getKey().toString(), entry.getValue()));
+
+		byte[] merged = ObservationCodec.merge(packed, appended);
+		assertArrayEquals(ObservationCodec.encode(rewritten), merged);
+		// past the version and count, the first four days are copied as they were
+		int unchanged = 5;
+		while (packed[unchanged] == merged[unchanged])
+			unchanged++;
+		assertTrue(unchanged > packed.length / 2);
+	}
+
+	@Test
+	void mergeNeedsOrderedTimes() {
+		List<TimeValuePair> stored = new ArrayList<TimeValuePair>();
+		stored.add(new TimeValuePair("2025-01-02T00:00:00", 1.0));
+		stored.add(new TimeValuePair("2025-01-01T00:00:00", 2.0));
+		List<TimeValuePair> appended = new ArrayList<TimeValuePair>();
+		appended.add(new TimeValuePair("2025-01-03T00:00:00", 3.0));
+		assertNull(ObservationCodec.merge(ObservationCodec.encode(stored), appended));
+	}
+
+	@Test
+	void firstVersionIsDecoded() {
+		// two observations 1.0 and 2.0 at 60 and 120 epoch seconds
+		ByteBuffer v1 = ByteBuffer.allocate(4 + 16 + 2);
+		v1.putInt(2).putDouble(1.0).putDouble(2.0).put((byte) 120).put((byte) 120);
+		byte[] packed = v1.array();
+		assertEquals(2, ObservationCodec.size(packed));
+		assertArrayEquals(new double[] { 1.0, 2.0 }, ObservationCodec.decodeValues(packed));
+		assertArrayEquals(new LocalDateTime[] { LocalDateTime.parse("1970-01-01T00:01:00"),
+				LocalDateTime.parse("1970-01-01T00:02:00") }, ObservationCodec.decodeTimes(packed));
+		assertNull(ObservationCodec.merge(packed, List.of(new TimeValuePair("2025-01-01T00:00:00", 1.0))));
+	}
+}
@@ -0,0 +1,126 @@
+package org.actus.risksrv3.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.actus.risksrv3.core.attributes.ContractModel;
+import org.actus.risksrv3.core.states.StateSpace;
+import org.actus.risksrv3.models.ReferenceIndex;
+import org.actus.risksrv3.models.TimeValuePair;
+import org.actus.risksrv3.models.dynamicdiscounting1.CashPoolOptimizationModelData;
+import org.actus.risksrv3.models.hybridtreasury1.LiquidityBufferModelData;
+import org.actus.risksrv3.utils.dynamicdiscounting1.CashPoolOptimizationModel;
+import org.actus.risksrv3.utils.hybridtreasury1.LiquidityBufferModel;
+import org.junit.jupiter.api.Test;
+
+class PortfolioAwareBehaviorModelTest {
+
+	private static final LocalDateTime TIME = LocalDateTime.parse("2025-01-15T00:00:00");
+
+	private static TimeSeriesModel constant(String moc, double value) {
+		List<TimeValuePair> data = new ArrayList<TimeValuePair>();
+		data.add(new TimeValuePair("2025-01-01T00:00:00", value));
+		ReferenceIndex index = new ReferenceIndex(moc, moc, 1.0, data);
+		index.setMarketObjectCode(moc);
+		index.setBase(1.0);
+		return new TimeSeriesModel(index);
+	}
+
+	private static ContractModel contract(String currency) {
+		Map<String,Object> attributes = new HashMap<String,Object>();
+		attributes.put("contractID", "c01");
+		attributes.put("contractType", "PAM");
+		attributes.put("initialExchangeDate", "2025-01-01T00:00:00");
+		attributes.put("currency", currency);
+		return ContractModel.parse(attributes);
+	}
+
+	private static Map<String,Double> portfolio(String key, double value) {
+		Map<String,Double> aggregates = new HashMap<String,Double>();
+		aggregates.put(key, value);
+		return aggregates;
+	}
+
+	private static StateSpace notional(double notionalPrincipal) {
+		StateSpace states = new StateSpace();
+		states.notionalPrincipal = notionalPrincipal;
+		return states;
+	}
+
+	@Test
+	void liquidityBufferCountsInterestOwedByThePortfolio() {
+		MultiMarketRiskModel market = new MultiMarketRiskModel();
+		market.add("OUTFLOWS", constant("OUTFLOWS", 900.0));
+		market.add("TBILLS", constant("TBILLS", 5000.0));
+		LiquidityBufferModelData data = new LiquidityBufferModelData();
+		data.setRiskFactorId("lb01");
+		data.setProjectedOutflowsMOC("OUTFLOWS");
+		data.setTbillMaturityScheduleMOC("TBILLS");
+		data.setMinBufferUSD(50.0);
+		data.setTargetBufferUSD(500.0);
+		data.setMonitoringEventTimes(List.of(TIME.toString()));
+		MultiBehaviorRiskModel behavior = new MultiBehaviorRiskModel();
+		LiquidityBufferModel model = new LiquidityBufferModel("lb01", data, market);
+		behavior.add("lb01", model);
+		model.contractStart(contract("USD"));
+
+		// a buffer of 1000 - 900 is above the minimum
+		assertEquals(0.0, behavior.stateAt("lb01", TIME, notional(1000.0)), 0.0);
+		// interest owed in another currency, or published for another time, is not counted
+		behavior.publishPortfolio(TIME, portfolio("accruedInterest:EUR", -200.0));
+		assertEquals(0.0, behavior.stateAt("lb01", TIME, notional(1000.0)), 0.0);
+		behavior.publishPortfolio(TIME.minusDays(1), portfolio("accruedInterest:USD", -200.0));
+		assertEquals(0.0, behavior.stateAt("lb01", TIME, notional(1000.0)), 0.0);
+		// 200 owed across the portfolio leaves 1000 - 1100, 150 short of the minimum
+		behavior.publishPortfolio(TIME, portfolio("accruedInterest:USD", -200.0));
+		assertEquals(150.0 / 500.0, behavior.stateAt("lb01", TIME, notional(1000.0)), 1e-12);
+		// interest owed to the portfolio does not add to the buffer
+		behavior.publishPortfolio(TIME, portfolio("accruedInterest:USD", 200.0));
+		assertEquals(0.0, behavior.stateAt("lb01", TIME, notional(1000.0)), 0.0);
+	}
+
+	@Test
+	void cashPoolIsSharedAmongTheInvoicesOutstanding() {
+		CashPoolOptimizationModelData data = new CashPoolOptimizationModelData();
+		data.setRiskFactorId("cp01");
+		data.setInvoiceDate("2025-01-01T00:00:00");
+		data.setDueDate("2025-03-01T00:00:00");
+		data.setNotionalAmount(1000.0);
+		data.setMaxDiscountRate(0.02);
+		data.setSupplierCriticality(1.0);
+		data.setPortfolioAllocatedCash(1000.0);
+		data.setMonitoringEventTimes(List.of(TIME.toString()));
+		MultiBehaviorRiskModel behavior = new MultiBehaviorRiskModel();
+		CashPoolOptimizationModel model = new CashPoolOptimizationModel("cp01", data, new MultiMarketRiskModel());
+		behavior.add("cp01", model);
+		model.contractStart(contract("USD"));
+
+		// with 2000 of invoices outstanding, half the pool does not pay this one
+		behavior.publishPortfolio(TIME, portfolio("notionalPrincipal:USD", 2000.0));
+		assertEquals(0.0, behavior.stateAt("cp01", TIME, notional(1000.0)), 0.0);
+		// once the others are settled, the whole pool is this invoice's
+		behavior.publishPortfolio(TIME, portfolio("notionalPrincipal:USD", 1000.0));
+		assertEquals(1.0, behavior.stateAt("cp01", TIME, notional(1000.0)), 0.0);
+	}
+
+	@Test
+	void cashPoolWithoutPortfolioStateUsesThePool() {
+		CashPoolOptimizationModelData data = new CashPoolOptimizationModelData();
+		data.setRiskFactorId("cp01");
+		data.setInvoiceDate("2025-01-01T00:00:00");
+		data.setDueDate("2025-03-01T00:00:00");
+		data.setNotionalAmount(1000.0);
+		data.setMaxDiscountRate(0.02);
+		data.setSupplierCriticality(1.0);
+		data.setPortfolioAllocatedCash(1000.0);
+		data.setMonitoringEventTimes(List.of(TIME.toString()));
+		CashPoolOptimizationModel model = new CashPoolOptimizationModel("cp01", data, new MultiMarketRiskModel());
+		model.contractStart(contract("USD"));
+		assertEquals(1.0, model.stateAt("cp01", TIME, notional(1000.0)), 0.0);
+	}
+}
@@ -0,0 +1,67 @@
+package org.actus.risksrv3.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+class StochasticPathsTest {
+
+	private static final LocalDateTime T0 = LocalDateTime.parse("2025-01-01T00:00:00");
+
+	// one factor, path p at step s is 10 * p + s
+	private static StochasticPaths paths(String moc, int numPaths) {
+		long[] epochSeconds = { T0.toEpochSecond(ZoneOffset.UTC), T0.plusDays(1).toEpochSecond(ZoneOffset.UTC) };
+		double[] values = new double[numPaths * epochSeconds.length];
+		for (int p = 0; p < numPaths; p++)
+			for (int s = 0; s < epochSeconds.length; s++)
+				values[p * epochSeconds.length + s] = 10 * p + s;
+		return new StochasticPaths(new String[] { moc }, epochSeconds, new double[][] { values }, numPaths);
+	}
+
+	@Test
+	void requestPathDoesNotChangeTheSelection() throws Exception {
+		StochasticPaths paths = paths("ETH", 4);
+		MultiMarketRiskModel market = new MultiMarketRiskModel();
+		market.add("ETH", paths.model(0));
+		paths.select(1);
+
+		assertEquals(31.0, StochasticPaths.withPath(3, () -> market.stateAt("ETH", T0.plusDays(1))), 0.0);
+		assertEquals(11.0, market.stateAt("ETH", T0.plusDays(1)), 0.0);
+		// another thread follows the selected path while this one runs on its own
+		double other = StochasticPaths.withPath(2, () -> {
+			double elsewhere = CompletableFuture.supplyAsync(() -> market.stateAt("ETH", T0)).join();
+			assertEquals(20.0, market.stateAt("ETH", T0), 0.0);
+			return elsewhere;
+		});
+		assertEquals(10.0, other, 0.0);
+	}
+
+	@Test
+	void invalidPathLeavesTheSelection() {
+		StochasticPaths paths = paths("ETH", 4);
+		MultiMarketRiskModel market = new MultiMarketRiskModel();
+		market.add("ETH", paths.model(0));
+		paths.select(2);
+		assertThrows(IllegalArgumentException.class, () -> paths.select(4));
+		assertEquals(20.0, market.stateAt("ETH", T0), 0.0);
+		assertThrows(IllegalArgumentException.class, () -> StochasticPaths.withPath(-1, () -> market.stateAt("ETH", T0)));
+	}
+
+	@Test
+	void pathValuesAreNotPreResolved() {
+		StochasticPaths paths = paths("ETH", 2);
+		MultiMarketRiskModel market = new MultiMarketRiskModel();
+		market.add("ETH", paths.model(0));
+		ResolvedMarket table = market.preResolve(List.of("ETH"), List.of(T0));
+		assertEquals(-1, table.mocIndex("ETH"));
+		assertEquals(10.0, StochasticPaths.withPath(1, () -> market.stateAt("ETH", T0)), 0.0);
+		assertNull(market.rangeOf("ETH", T0, T0.plusDays(1)));
+	}
+}
@@ -0,0 +1,106 @@
+package org.actus.risksrv3.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.actus.risksrv3.models.ReferenceIndex;
+import org.actus.risksrv3.models.TimeValuePair;
+import org.junit.jupiter.api.Test;
+
+class TimeSeriesModelTest {
+
+	private static TimeSeriesModel model(String... observations) {
+		List<TimeValuePair> data = new ArrayList<TimeValuePair>();
+		for (int i = 0; i < observations.length; i += 2)
+			data.add(new TimeValuePair(observations[i], Double.valueOf(observations[i + 1])));
+		ReferenceIndex index = new ReferenceIndex("ix", "ETH", 1.0, data);
+		index.setMarketObjectCode("ETH");
+		index.setBase(1.0);
+		return new TimeSeriesModel(index);
+	}
+
+	@Test
+	void appendReplacesTheSeries() {
+		TimeSeriesModel model = model("2025-01-01T00:00:00", "10", "2025-01-03T00:00:00", "30");
+		LocalDateTime t2 = LocalDateTime.parse("2025-01-02T00:00:00");
+		assertEquals(10.0, model.stateAt("ETH", t2), 0.0);
+		assertEquals(30.0, model.rangeOf("ETH", t2, LocalDateTime.parse("2025-01-04T00:00:00"))[1], 0.0);
+
+		List<TimeValuePair> appended = new ArrayList<TimeValuePair>();
+		appended.add(new TimeValuePair("2025-01-02T00:00:00", 20.0));
+		appended.add(new TimeValuePair("2025-01-03T00:00:00", 5.0));
+		model.append(appended);
+		assertEquals(20.0, model.stateAt("ETH", t2), 0.0);
+		double[] range = model.rangeOf("ETH", t2, LocalDateTime.parse("2025-01-04T00:00:00"));
+		assertEquals(5.0, range[0], 0.0);
+		assertEquals(20.0, range[1], 0.0);
+	}
+
+	@Test
+	void appendedTimesCollideAsOnIngestion() throws IOException {
+		// the stream reader keeps sub-second times apart, as parsing the stored strings does
+		List<TimeValuePair> read = ObservationStreamReader.read(new StringReader(
+				"time,value\n2025-01-01T00:00:00.5,2\n2025-01-01T00:00,1\n2025-01-01T00:00:00.500,3\n"));
+		assertEquals(2, read.size());
+		assertEquals("2025-01-01T00:00:00", read.get(0).getTime());
+		assertEquals("2025-01-01T00:00:00.5", read.get(1).getTime());
+		assertEquals(3.0, read.get(1).getValue(), 0.0);
+
+		TimeSeriesModel appended = model("2024-12-31T00:00:00", "0");
+		appended.append(read);
+		List<TimeValuePair> stored = new ArrayList<TimeValuePair>();
+		stored.add(new TimeValuePair("2024-12-31T00:00:00", 0.0));
+		stored.addAll(read);
+		TimeSeriesModel reloaded = model(
+				stored.get(0).getTime(), "0", stored.get(1).getTime(), "1", stored.get(2).getTime(), "3");
+		for (String time : new String[] { "2025-01-01T00:00:00", "2025-01-01T00:00:00.4", "2025-01-01T00:00:00.5" }) {
+			LocalDateTime t = LocalDateTime.parse(time);
+			assertEquals(reloaded.stateAt("ETH", t), appended.stateAt("ETH", t), 0.0);
+		}
+	}
+
+	private static byte[] digest(TimeSeriesModel model, LocalDateTime until) throws NoSuchAlgorithmException {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		model.digest(digest, until);
+		return digest.digest();
+	}
+
+	@Test
+	void appendsMatchAReload() throws NoSuchAlgorithmException {
+		LocalDateTime t0 = LocalDateTime.parse("2025-01-01T00:00:00");
+		Random random = new Random(3);
+		TimeSeriesModel appended = model(t0.toString(), "100");
+		List<String> stored = new ArrayList<String>(List.of(t0.toString(), "100"));
+		LocalDateTime last = t0;
+		for (int batch = 0; batch < 100; batch++) {
+			List<TimeValuePair> data = new ArrayList<TimeValuePair>();
+			for (int i = random.nextInt(5); i >= 0; i--) {
+				// mostly in order, now and then at or before a time already held
+				last = (random.nextInt(30) == 0) ? last.minusMinutes(random.nextInt(120)) : last.plusMinutes(1 + random.nextInt(30));
+				String value = Integer.toString(random.nextInt(1000));
+				data.add(new TimeValuePair(last.toString(), Double.valueOf(value)));
+				stored.add(last.toString());
+				stored.add(value);
+			}
+			appended.append(data);
+			// queries in between extend the range index as the series grows
+			if (batch % 7 == 0)
+				appended.rangeOf("ETH", t0, last);
+		}
+		TimeSeriesModel reloaded = model(stored.toArray(new String[0]));
+		for (LocalDateTime t = t0; !t.isAfter(last.plusHours(1)); t = t.plusMinutes(7)) {
+			assertEquals(reloaded.stateAt("ETH", t), appended.stateAt("ETH", t), 0.0, t.toString());
+			assertArrayEquals(reloaded.rangeOf("ETH", t0.plusMinutes(30), t), appended.rangeOf("ETH", t0.plusMinutes(30), t), t.toString());
+			assertArrayEquals(digest(reloaded, t), digest(appended, t), t.toString());
+		}
+	}
+}
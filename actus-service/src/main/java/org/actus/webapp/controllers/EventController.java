@@ -12,6 +12,7 @@ import org.actus.attributes.ContractModel;
 import org.actus.attributes.ContractModelProvider;
 import org.actus.contracts.ContractType;
 import org.actus.events.ContractEvent;
+import org.actus.externals.FirstPassageProvider;
 import org.actus.externals.RiskFactorModelProvider;
 import org.actus.states.StateSpace;
 import org.actus.webapp.models.BatchInputData;
@@ -29,7 +30,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class EventController {
 
-    class MarketModel implements RiskFactorModelProvider {
+    class MarketModel implements RiskFactorModelProvider, FirstPassageProvider {
         HashMap<String,TimeSeries<LocalDateTime,Double>> multiSeries = new HashMap<String,TimeSeries<LocalDateTime,Double>>();
         
         public Set<String> keys() {
@@ -44,6 +45,10 @@ public class EventController {
                 ContractModelProvider terms, boolean isMarket) {
             return multiSeries.get(id).getValueFor(time,1);
         }
+
+        public int firstPassage(String id, List<LocalDateTime> times, double boundary, boolean increasing) {
+            return multiSeries.get(id).firstPassage(times, value -> increasing ? value >= boundary : value <= boundary);
+        }
     }
 
     // String -> ArrayList<ContractEvent>
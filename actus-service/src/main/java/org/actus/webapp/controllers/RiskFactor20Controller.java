@@ -2,22 +2,30 @@ package org.actus.webapp.controllers;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.actus.attributes.ContractModel;
 import org.actus.attributes.ContractModelProvider;
+import org.actus.contracts.EvaluationScope;
+import org.actus.contracts.ContractStepper;
 import org.actus.contracts.ContractType;
 import org.actus.events.ContractEvent;
 import org.actus.events.EventFactory;
+import org.actus.externals.FirstPassageProvider;
 import org.actus.externals.RiskFactorModelProvider;
 import org.actus.functions.pam.POF_AD_PAM;
 import org.actus.functions.pam.STF_AD_PAM;
 import org.actus.states.StateSpace;
 import org.actus.types.EventType;
+import org.actus.util.CommonUtils;
 import org.actus.webapp.core.functions.POF_PP_rf2;
 import org.actus.webapp.core.functions.STF_PP_rf2;
 import org.actus.webapp.core.functions.POF_AFD_rf2;
@@ -30,12 +38,25 @@ import org.actus.webapp.models.Event;
 import org.actus.webapp.models.EventStream;
 import org.actus.webapp.models.EventStream2;
 import org.actus.webapp.models.MarketData_rf2;
+import org.actus.webapp.models.MultiScenarioSimulationInput;
+import org.actus.webapp.models.MultiScenarioSimulationOutput;
 import org.actus.webapp.models.ObservedData;
 import org.actus.webapp.models.ReferenceIndex_rf2;
 import org.actus.webapp.models.ScenarioSimulationInput_rf2;
 import org.actus.webapp.models.ScenarioDescriptor;
+import org.actus.webapp.models.SensitivityInput;
+import org.actus.webapp.models.SensitivityOutput;
+import org.actus.webapp.models.StressGridInput;
+import org.actus.webapp.models.StressGridOutput;
+import org.actus.webapp.models.StressRung;
+import org.actus.webapp.utils.ContractCohorts;
+import org.actus.webapp.utils.LockStepPortfolio;
 import org.actus.webapp.utils.MultiRiskFactorModel_rf2;
 import org.actus.webapp.utils.PPEventStateCorrector;
+import org.actus.webapp.utils.ResultCache;
+import org.actus.webapp.utils.ScenarioDistributions;
+import org.actus.webapp.utils.SensitivityMeasures;
+import org.actus.webapp.utils.SimulationCheckpoints;
 import org.actus.webapp.utils.TimeSeries;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -44,6 +65,8 @@ import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 import  org.springframework.beans.factory.annotation.Value;
+import jakarta.annotation.PostConstruct;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 
@@ -51,7 +74,7 @@ import org.springframework.web.client.RestTemplate;
 @RestController
 public class RiskFactor20Controller {
 	
-    class MarketModel implements RiskFactorModelProvider {
+    class MarketModel implements RiskFactorModelProvider, FirstPassageProvider {
         HashMap<String,TimeSeries<LocalDateTime,Double>> multiSeries = new HashMap<String,TimeSeries<LocalDateTime,Double>>();
         
         public Set<String> keys() {
@@ -66,6 +89,10 @@ public class RiskFactor20Controller {
                 ContractModelProvider terms, boolean isMarket) {
             return multiSeries.get(id).getValueFor(time,1);
         }
+
+        public int firstPassage(String id, List<LocalDateTime> times, double boundary, boolean increasing) {
+            return multiSeries.get(id).firstPassage(times, value -> increasing ? value >= boundary : value <= boundary);
+        }
     }	
     
 	// properties to configure location of external risk service 
@@ -77,8 +104,53 @@ public class RiskFactor20Controller {
     @Value("${actus.riskservice.port}")
     Integer riskservicePort;
 
+	// simulate one representative per cohort of contracts equal up to scale (see ContractCohorts)
+    private
+    @Value("${actus.simulation.cohorts:true}")
+    Boolean cohortsEnabled;
+
+	// threads to evaluate the legs of swaps on concurrently, 0 to evaluate them in sequence
+    private
+    @Value("${actus.simulation.legParallelism:0}")
+    Integer legParallelism;
+
+	// results of /rf2/scenarioSimulation, by contract, scenario, risk data version and horizon (see ResultCache)
+    private
+    @Value("${actus.simulation.resultCache.size:0}")
+    Integer resultCacheSize;
+
+	// directory results evicted from the heap are spilled to, empty for none
+    private
+    @Value("${actus.simulation.resultCache.spillDirectory:}")
+    String resultCacheSpillDirectory;
+
+    private
+    @Value("${actus.simulation.resultCache.spillSize:100000}")
+    Integer resultCacheSpillSize;
+
+    private ResultCache resultCache;
+
+    @PostConstruct
+    void configureResultCache() {
+        resultCache = new ResultCache(resultCacheSize, resultCacheSpillDirectory, resultCacheSpillSize);
+        System.out.println("****fnp024 result cache size= " + resultCacheSize + " spill directory= " + resultCacheSpillDirectory);
+    }
+
+	// checkpoints of /rf2/scenarioSimulation runs with a checkpointTime, by scenario and contract
+    private final SimulationCheckpoints checkpoints = new SimulationCheckpoints();
+
+	// pool the legs of swaps are evaluated on, passed to each EvaluationScope; null to evaluate them in sequence
+    private ForkJoinPool legPool;
+
+    @PostConstruct
+    void configureLegPool() {
+        legPool = legParallelism > 0 ? new ForkJoinPool(legParallelism) : null;
+        System.out.println("****fnp017 swap legs evaluated on parallelism= " + legParallelism);
+    }
+
 	  @RequestMapping(method = RequestMethod.POST, value = "/rf2/eventsBatch")
 	  @CrossOrigin(origins = "*")
+	  @SuppressWarnings("try") // the scope opened below is found by the contracts evaluated within it, not by name
       public List<EventStream> solveContractBatch_rf2(@RequestBody BatchInputData_rf2 json) {
 	        
 		  // extract body parameters
@@ -100,24 +172,41 @@ public class RiskFactor20Controller {
 	      RiskFactorModelProvider observer = createObserver(riskFactorData);
 
 	      ArrayList<EventStream> output = new ArrayList<>();
-	      contractData.forEach(entry -> {
+	      ContractCohorts cohorts = new ContractCohorts(contractData, this.cohortsEnabled);
+	      // contracts covered by several credit enhancements, and legs repeated across swaps, are evaluated once
+	      try (EvaluationScope shared = EvaluationScope.open(legPool)) {
+	          for (int i = 0; i < contractData.size(); i++) {
+	              // a cohort member takes the scaled events of its representative, which comes first
+	              EventStream representative = output.isEmpty() ? null : output.get(cohorts.representative(i));
+	              if (!cohorts.isSimulated(i) && representative.getStatus().equals("Success"))
+	                  output.add(new EventStream(contractID(contractData.get(i)), "Success", "", 
+	                		  ContractCohorts.scale(representative.getEvents(), cohorts.factor(i))));
+	              else
+	                  output.add(eventStream(contractData.get(i), observer));
+	          }
+	      }
+	      return output;
+	    }
+
+	    private EventStream eventStream(Map<String,Object> entry, RiskFactorModelProvider observer) {
 	      // extract contract terms
 	            ContractModel terms;
-	            String contractID = (entry.get("contractID") == null)? "NA":entry.get("contractID").toString();
+	            String contractID = contractID(entry);
 	            try {
 	                terms = ContractModel.parse(entry); 
 	            } catch(Exception e){
-	                output.add(new EventStream(contractID, "Failure", e.toString(), new ArrayList<Event>()));
-	                return; // skip this iteration and continue with next
+	                return new EventStream(contractID, "Failure", e.toString(), new ArrayList<Event>());
 	            }
 	            // compute contract events
 	            try {
-	                output.add(new EventStream(contractID, "Success", "", computeEvents(terms, observer)));
+	                return new EventStream(contractID, "Success", "", computeEvents(terms, observer));
 	            }catch(Exception e){
-	                output.add(new EventStream(contractID, "Failure", e.toString(), new ArrayList<Event>()));
+	                return new EventStream(contractID, "Failure", e.toString(), new ArrayList<Event>());
 	            }
-	        });
-	        return output;
+	    }
+
+	    private static String contractID(Map<String,Object> entry) {
+	        return (entry.get("contractID") == null)? "NA":entry.get("contractID").toString();
 	    }
 	    private RiskFactorModelProvider createObserver(List<ObservedData> json) {
 	        MarketModel observer = new MarketModel();
@@ -173,6 +262,7 @@ public class RiskFactor20Controller {
 	    @RequestMapping(method = RequestMethod.POST, value = "/rf2/scenarioSimulation")
 	    @ResponseBody
 	    @CrossOrigin(origins = "*")
+	    @SuppressWarnings("try")
 	    public List<EventStream2> runScenarioSimulation(@RequestBody ScenarioSimulationInput_rf2 json) {
 	        
 	        System.out.println("****fnp001 Started a scenario simulation");  // fnp diagnostic aug 2024  
@@ -203,10 +293,48 @@ public class RiskFactor20Controller {
 	        // for each contract compute events
 	        
 		    ArrayList<EventStream2> output = new ArrayList<>();
-	        contractData.forEach(entry -> {
+		    ContractCohorts cohorts = new ContractCohorts(contractData, this.cohortsEnabled);
+		    String dataVersion = resultCache.isEnabled() ? dataVersion() : null;
+		    int cacheHits = 0;
+		    // risksrv3 digests of the scenario's market data, by the time of the checkpoints validated against them
+		    Map<LocalDateTime,String> marketDigests = new HashMap<>();
+		    // contracts covered by several credit enhancements, and legs repeated across swaps, are evaluated once
+		    try (EvaluationScope shared = EvaluationScope.open(legPool)) {
+		        for (int i = 0; i < contractData.size(); i++) {
+		            // a cohort member takes the scaled events of its representative, which comes first
+		            EventStream2 representative = output.isEmpty() ? null : output.get(cohorts.representative(i));
+		            if (!cohorts.isSimulated(i) && representative.getStatus().equals("Success"))
+		                output.add(new EventStream2(scenarioId, contractID(contractData.get(i)), "Success", "", 
+		                		ContractCohorts.scale(representative.getEvents(), cohorts.factor(i))));
+		            else {
+		                // identical simulations under unchanged risk data are served from the result cache; not those 
+		                // with behavior models, whose state in risksrv3 may depend on the contracts simulated before
+		                String key = (dataVersion == null || ContractCohorts.hasBehaviorModels(contractData.get(i))) ? null 
+		                		: ResultCache.key(contractData.get(i), scenarioId, dataVersion, simulateTo, monitoringTimes);
+		                EventStream2 result = (key == null) ? null : resultCache.get(dataVersion, key);
+		                if (result != null)
+		                    cacheHits++;
+		                else if (json.getCheckpointTime() != null)
+		                    result = resumableEventStream(scenarioId, contractData.get(i), observer, simulateTo, 
+		                    		monitoringTimes, json.getCheckpointTime(), marketDigests);
+		                else
+		                    result = eventStream(scenarioId, contractData.get(i), observer, simulateTo, monitoringTimes);
+		                if (key != null && result.getStatus().equals("Success"))
+		                    resultCache.put(dataVersion, key, result);
+		                output.add(result);
+		            }
+		        }
+		    }
+		    System.out.println("****fnp016 scenario simulation contracts= " + contractData.size() 
+		    		+ " scaled from cohort representatives= " + cohorts.scaledCount() + " result cache hits= " + cacheHits);
+	        return output;
+	    }
+
+	    private EventStream2 eventStream(String scenarioId, Map<String,Object> entry, RiskFactorModelProvider observer, 
+	    		LocalDateTime simulateTo, Set<LocalDateTime> monitoringTimes) {
 	        // extract contract terms - this is parsing the contractTerms and necessary BUT no auxiliary  
 	        ContractModel terms;
-	        String contractID = (entry.get("contractID") == null)? "NA":entry.get("contractID").toString();
+	        String contractID = contractID(entry);
 	        Map<String,Object> attributes = entry;
 	        try {  	        	   
 	               terms = ContractModel.parse(entry);
@@ -216,21 +344,94 @@ public class RiskFactor20Controller {
 	               
 	            // If a contract did not parse skip this one and continue with next  
 	            } catch(Exception e){
-	               output.add(new EventStream2(scenarioId, contractID, "Failure", e.toString(), new ArrayList<Event>()));
-	               return; // skip this iteration and continue with next
+	               return new EventStream2(scenarioId, contractID, "Failure", e.toString(), new ArrayList<Event>());
 	            }
 	            
 	        // *** both adding behavior model events AND simulation is in this stanza - compute events  
 	        // compute contract events
 	        //computeEvents  should NOT need a scenario - just use the observer for all scenario related info 
 	        try {
-	                output.add(new EventStream2(scenarioId, contractID, "Success", "", computeEvents(terms, observer, simulateTo, 
-	                																				 monitoringTimes, attributes)));
+	                return new EventStream2(scenarioId, contractID, "Success", "", computeEvents(terms, observer, simulateTo, 
+	                																				 monitoringTimes, attributes));
 	            }catch(Exception e){
-	                output.add(new EventStream2(scenarioId, contractID, "Failure", e.toString(), new ArrayList<Event>()));
+	                return new EventStream2(scenarioId, contractID, "Failure", e.toString(), new ArrayList<Event>());
 	            }
+	    }
+
+	    // The simulation of a contract resumed from its checkpoint in the scenario, if the terms and the market 
+	    // data up to the checkpoint are unchanged, and checkpointed at checkpointTime for the next run. 
+	    // Contracts with behavior callouts are simulated in full and not checkpointed, as the state of their 
+	    // behavior models is kept by risksrv3; so are contract types that cannot be stepped.
+	    private EventStream2 resumableEventStream(String scenarioId, Map<String,Object> entry, RiskFactorModelProvider observer, 
+	    		LocalDateTime simulateTo, Set<LocalDateTime> monitoringTimes, LocalDateTime checkpointTime, 
+	    		Map<LocalDateTime,String> marketDigests) {
+	        String contractID = contractID(entry);
+	        try {
+	            ContractModel terms = ContractModel.parse(entry);
+	            ArrayList<ContractEvent> schedule = scheduleContract(terms, simulateTo, monitoringTimes);
+	            ArrayList<ContractEvent> callouts = calloutEvents(terms, entry, true);
+	            if (!callouts.isEmpty() || !ContractStepper.supports(terms)) {
+	                schedule.addAll(callouts);
+	                return new EventStream2(scenarioId, contractID, "Success", "", applySchedule(schedule, terms, observer, entry));
+	            }
+	            String termsHash = SimulationCheckpoints.termsHash(entry);
+	            SimulationCheckpoints.Checkpoint checkpoint = checkpoints.get(scenarioId, contractID);
+	            ContractStepper stepper = null;
+	            if (checkpoint != null && checkpoint.isValid(termsHash, marketDigest(checkpoint.getTime(), marketDigests))) {
+	                try {
+	                    stepper = ContractStepper.resume(schedule, terms, checkpoint.getStates(), checkpoint.getEvaluated());
+	                    System.out.println("****fnp020 " + contractID + " resumed from checkpoint at " + checkpoint.getTime() 
+	                    		+ " events skipped= " + checkpoint.getEvaluated().size());
+	                } catch (IllegalArgumentException e) {
+	                    System.out.println("****fnp021 " + contractID + " checkpoint not resumed: " + e.getMessage());
+	                }
+	            }
+	            // a checkpoint is only taken if the run starts at or before checkpointTime
+	            boolean checkpointDue = (stepper == null || !checkpoint.getTime().isAfter(checkpointTime));
+	            if (stepper == null)
+	                stepper = ContractStepper.of(schedule, terms);
+	            prefetchFxRates(schedule.subList(stepper.evaluated().size(), schedule.size()), terms, observer);
+	            while (stepper.hasNext()) {
+	                if (checkpointDue && stepper.nextEventTime().isAfter(checkpointTime)) {
+	                    keepCheckpoint(scenarioId, contractID, termsHash, checkpointTime, stepper, marketDigests);
+	                    checkpointDue = false;
+	                }
+	                stepper.evalNext(observer);
+	            }
+	            if (checkpointDue)
+	                keepCheckpoint(scenarioId, contractID, termsHash, checkpointTime, stepper, marketDigests);
+	            List<Event> events = stepper.events().stream().map(e -> new Event(e)).collect(Collectors.toList());
+	            return new EventStream2(scenarioId, contractID, "Success", "", PPEventStateCorrector.correctPPStates(events, entry));
+	        } catch(Exception e){
+	            return new EventStream2(scenarioId, contractID, "Failure", e.toString(), new ArrayList<Event>());
+	        }
+	    }
+
+	    private void keepCheckpoint(String scenarioId, String contractID, String termsHash, LocalDateTime time, 
+	    		ContractStepper stepper, Map<LocalDateTime,String> marketDigests) {
+	        String marketDigest = marketDigest(time, marketDigests);
+	        // market data that risksrv3 does not digest cannot validate a checkpoint
+	        if (!marketDigest.isEmpty())
+	            checkpoints.put(scenarioId, contractID, new SimulationCheckpoints.Checkpoint(time, termsHash, marketDigest, stepper));
+	    }
+
+	    // risksrv3 version of its risk data, null if not reported (no results are cached then)
+	    private String dataVersion() {
+	        try {
+	            return new RestTemplate().getForObject("http://"+ riskserviceHost+ ':' + riskservicePort + "/dataVersion", String.class);
+	        } catch (RestClientException e) {
+	            System.out.println("****fnp022 no risk data version, results not cached: " + e.getMessage());
+	            return null;
+	        }
+	    }
+
+	    // risksrv3 digest of the active scenario's market data up to a time, fetched once per time and request
+	    private String marketDigest(LocalDateTime time, Map<LocalDateTime,String> marketDigests) {
+	        return marketDigests.computeIfAbsent(time, t -> {
+	            String digest = new RestTemplate().getForObject("http://"+ riskserviceHost+ ':' + riskservicePort 
+	            		+ "/marketDigest?until={until}", String.class, t.toString());
+	            return (digest == null) ? "" : digest;
 	        });
-	        return output;
 	    }
 
 	    private RiskFactorModelProvider createObserver() {
@@ -238,9 +439,366 @@ public class RiskFactor20Controller {
 	        return observer;
 	    }
 
+	    // Simulate a portfolio in lock-step: instead of one contract after the other, all contracts 
+	    // advance together through their merged event timeline, and the behavior callouts of each 
+	    // time go to risksrv3 in one batch with the portfolio state at that time (see LockStepPortfolio). 
+	    // Same input and output as /rf2/scenarioSimulation.
+	    @RequestMapping(method = RequestMethod.POST, value = "/rf2/portfolioSimulation")
+	    @ResponseBody
+	    @CrossOrigin(origins = "*")
+	    public List<EventStream2> runPortfolioSimulation(@RequestBody ScenarioSimulationInput_rf2 json) {
+	        ScenarioDescriptor scenarioDescriptor = json.getScenarioDescriptor();
+	        String scenarioId = scenarioDescriptor.getScenarioID();
+	        System.out.println("****fnp014 Started a lock-step portfolio simulation on scenario " + scenarioId);
+	        String riskservice = "http://"+ riskserviceHost+ ':' + riskservicePort;
+	        new RestTemplate().postForObject(riskservice + "/scenarioSimulationStart", scenarioDescriptor, String.class);
+
+	        List<Map<String, Object>> contractData = json.getContracts();
+	        List<String> contractIDs = new ArrayList<>();
+	        List<ContractModel> models = new ArrayList<>();
+	        List<Integer> indexes = new ArrayList<>();
+	        Map<String,String> failures = new HashMap<>();
+	        LockStepPortfolio portfolio = new LockStepPortfolio(riskservice, createObserver());
+	        for (Map<String,Object> entry : contractData) {
+	            String contractID = (entry.get("contractID") == null)? "NA":entry.get("contractID").toString();
+	            contractIDs.add(contractID);
+	            try {
+	                ContractModel terms = ContractModel.parse(entry);
+	                ArrayList<ContractEvent> schedule = scheduleContract(terms, json.getSimulateTo(), json.getMonitoringTimes());
+	                Map<ContractEvent,String> calloutEvents = new IdentityHashMap<>();
+	                for (CalloutData calloutData : callouts(entry, true)) {
+	                    ContractEvent event = calloutEvent(terms, calloutData);
+	                    // callouts answered at contract start need no batch
+	                    if (event != null && calloutData.getValue() != null)
+	                        schedule.add(event);
+	                    else if (event != null)
+	                        calloutEvents.put(event, calloutData.getModelID());
+	                }
+	                models.add(terms);
+	                indexes.add(portfolio.add(terms, schedule, calloutEvents));
+	            } catch(Exception e){
+	                failures.put(contractID, e.toString());
+	                models.add(null);
+	                indexes.add(null);
+	            }
+	        }
+
+	        List<List<ContractEvent>> results = portfolio.run();
+	        List<EventStream2> output = new ArrayList<>();
+	        for (int i = 0; i < contractIDs.size(); i++) {
+	            String contractID = contractIDs.get(i);
+	            List<ContractEvent> result = (indexes.get(i) == null) ? null : results.get(indexes.get(i));
+	            if (result != null) {
+	                List<Event> events = result.stream().map(e -> new Event(e)).collect(Collectors.toList());
+	                events = PPEventStateCorrector.correctPPStates(events, contractData.get(i));
+	                output.add(new EventStream2(scenarioId, contractID, "Success", "", events));
+	            } else {
+	                String message = (indexes.get(i) == null) ? failures.get(contractID) 
+	                		: portfolio.getFailure(indexes.get(i)).toString();
+	                output.add(new EventStream2(scenarioId, contractID, "Failure", message, new ArrayList<Event>()));
+	            }
+	        }
+	        System.out.println("****fnp015 lock-step portfolio simulation completed contracts= " + contractIDs.size() 
+	        		+ " batches= " + portfolio.getBatches());
+	        return output;
+	    }
+
+	    // Simulate one portfolio against several scenarios: each entry of scenarioIDs and, with 
+	    // stochasticScenarioID, each Monte Carlo path of that scenario is one run. Contracts are 
+	    // parsed and scheduled once; every run applies a copy of the schedule with its own callouts.
+	    // Runs go one after the other since risksrv3 holds a single active scenario; paths of a 
+	    // stochastic scenario are passed with each lookup of their run.
+	    @RequestMapping(method = RequestMethod.POST, value = "/rf2/multiScenarioSimulation")
+	    @ResponseBody
+	    @CrossOrigin(origins = "*")
+	    public MultiScenarioSimulationOutput runMultiScenarioSimulation(@RequestBody MultiScenarioSimulationInput json) {
+	        System.out.println("****fnp010 Started a multi scenario simulation");
+	        List<Map<String, Object>> contractData = json.getContracts();
+	        LocalDateTime simulateTo = json.getSimulateTo();
+
+	        // parse and schedule every contract once 
+	        List<String> contractIDs = new ArrayList<>();
+	        List<ContractModel> models = new ArrayList<>();
+	        List<ArrayList<ContractEvent>> schedules = new ArrayList<>();
+	        Map<String,String> failures = new HashMap<>();
+	        for (Map<String,Object> entry : contractData) {
+	            String contractID = (entry.get("contractID") == null)? "NA":entry.get("contractID").toString();
+	            contractIDs.add(contractID);
+	            try {
+	                ContractModel terms = ContractModel.parse(entry);
+	                models.add(terms);
+	                schedules.add(scheduleContract(terms, simulateTo, json.getMonitoringTimes()));
+	            } catch(Exception e){
+	                failures.put(contractID, e.toString());
+	                models.add(null);
+	                schedules.add(null);
+	            }
+	        }
+
+	        MultiScenarioSimulationOutput output = new MultiScenarioSimulationOutput();
+	        ScenarioDistributions distributions = new ScenarioDistributions();
+	        RestTemplate restTemplate = new RestTemplate();
+	        String riskservice = "http://"+ riskserviceHost+ ':' + riskservicePort;
+	        ContractCohorts cohorts = new ContractCohorts(contractData, this.cohortsEnabled);
+	        List<String> scenarioIDs = (json.getScenarioIDs() == null) ? new ArrayList<>() : json.getScenarioIDs();
+	        for (String scenarioId : scenarioIDs) {
+	            restTemplate.postForObject(riskservice + "/scenarioSimulationStart", 
+	            		new ScenarioDescriptor(scenarioId, "scenario"), String.class);
+	            // an observer per run, as the market data it keeps is the active scenario's
+	            runScenario(scenarioId, contractData, contractIDs, models, schedules, failures, createObserver(), 
+	            		cohorts, json.isAggregate(), output, distributions);
+	        }
+	        String stochasticScenarioId = json.getStochasticScenarioID();
+	        if (stochasticScenarioId != null) {
+	            restTemplate.postForObject(riskservice + "/scenarioSimulationStart", 
+	            		new ScenarioDescriptor(stochasticScenarioId, "scenario"), String.class);
+	            int numPaths = restTemplate.getForObject(riskservice + "/stochasticPathCount", Integer.class);
+	            if (json.getNumPaths() != null)
+	                numPaths = Math.min(numPaths, json.getNumPaths());
+	            // every lookup of a run carries its path, rather than selecting it for all clients of risksrv3
+	            for (int path = 0; path < numPaths; path++) {
+	                runScenario(stochasticScenarioId + "#" + path, contractData, contractIDs, models, schedules, failures, 
+	                		new MultiRiskFactorModel_rf2(riskserviceHost, riskservicePort, Integer.valueOf(path)), 
+	                		cohorts, json.isAggregate(), output, distributions);
+	            }
+	        }
+	        output.setDistributions(distributions.distributions());
+	        System.out.println("****fnp011 multi scenario simulation completed runs= " + output.getRuns());
+	        return output;
+	    }
+
+	    // Evaluate a grid of market shocks against one compiled scenario. The scenario is started once 
+	    // and every contract scheduled once with its behavior callouts; each rung then applies the 
+	    // schedule with an observer whose lookups carry the rung's shocks, which risksrv3 applies on 
+	    // the fly to the base series. Nothing is persisted and no scenario is rebuilt per rung.
+	    @RequestMapping(method = RequestMethod.POST, value = "/rf2/stressGrid")
+	    @ResponseBody
+	    @CrossOrigin(origins = "*")
+	    public StressGridOutput runStressGrid(@RequestBody StressGridInput json) {
+	        String scenarioId = json.getScenarioDescriptor().getScenarioID();
+	        System.out.println("****fnp012 Started a stress grid on scenario " + scenarioId);
+	        RestTemplate restTemplate = new RestTemplate();
+	        restTemplate.postForObject("http://"+ riskserviceHost+ ':' + riskservicePort + "/scenarioSimulationStart", 
+	        		json.getScenarioDescriptor(), String.class);
+
+	        List<Map<String, Object>> contractData = json.getContracts();
+	        int nc = contractData.size();
+	        StressGridOutput output = new StressGridOutput();
+	        output.setScenarioId(scenarioId);
+	        List<ContractModel> models = new ArrayList<>();
+	        List<List<ContractEvent>> schedules = new ArrayList<>();
+	        for (Map<String,Object> entry : contractData) {
+	            String contractID = (entry.get("contractID") == null)? "NA":entry.get("contractID").toString();
+	            output.getContracts().add(contractID);
+	            try {
+	                ContractModel terms = ContractModel.parse(entry);
+	                ArrayList<ContractEvent> schedule = scheduleContract(terms, json.getSimulateTo(), json.getMonitoringTimes());
+	                // shared by all rungs, so not pruned against the unshocked market
+	                schedule.addAll(calloutEvents(terms, entry, false));
+	                models.add(terms);
+	                schedules.add(schedule);
+	            } catch(Exception e){
+	                output.getFailures().add(contractID + ": " + e.toString());
+	                models.add(null);
+	                schedules.add(null);
+	            }
+	        }
+
+	        List<StressRung> rungs = new ArrayList<>();
+	        rungs.add(new StressRung("base", null));
+	        if (json.getRungs() != null)
+	            rungs.addAll(json.getRungs());
+	        int nr = rungs.size();
+	        Double[][] payoff = new Double[nr][nc];
+	        Double[][] minNotional = new Double[nr][nc];
+	        Double[][] liquidationDays = new Double[nr][nc];
+	        List<String> failures = Collections.synchronizedList(output.getFailures());
+	        // rungs share the risksrv3 behavior model state, so they only run in parallel on request
+	        IntStream rungIndexes = IntStream.range(0, nr);
+	        (json.isParallel() ? rungIndexes.parallel() : rungIndexes).forEach(r -> {
+	            RiskFactorModelProvider observer = new MultiRiskFactorModel_rf2(riskserviceHost, riskservicePort, 
+	            		rungs.get(r).getShocks());
+	            for (int c = 0; c < nc; c++) {
+	                if (models.get(c) == null)
+	                    continue;
+	                try {
+	                    List<Event> events = applySchedule(schedules.get(c), models.get(c), observer, contractData.get(c));
+	                    double[] outcome = ScenarioDistributions.outcome(models.get(c).getAs("statusDate"), events);
+	                    payoff[r][c] = outcome[0];
+	                    minNotional[r][c] = outcome[1];
+	                    liquidationDays[r][c] = Double.isNaN(outcome[2]) ? null : outcome[2];
+	                } catch(Exception e){
+	                    failures.add(rungs.get(r).getLabel() + " / " + output.getContracts().get(c) + ": " + e.toString());
+	                }
+	            }
+	        });
+	        for (StressRung rung : rungs)
+	            output.getRungs().add(rung.getLabel());
+	        output.setPayoff(payoff);
+	        output.setMinNotional(minNotional);
+	        output.setTimeToLiquidationDays(liquidationDays);
+	        System.out.println("****fnp013 stress grid completed rungs= " + nr + " contracts= " + nc);
+	        return output;
+	    }
+
+	    // Reprice a portfolio under bumped markets for bucketed sensitivities. Like the stress grid, 
+	    // the scenario is started once and each contract parsed and scheduled once with its behavior 
+	    // callouts; every bucket applies a copy of that schedule, i.e. starts from fresh initial states, 
+	    // with an observer carrying the bucket's shocks. Deltas are against an unshocked base run.
+	    @RequestMapping(method = RequestMethod.POST, value = "/rf2/sensitivities")
+	    @ResponseBody
+	    @CrossOrigin(origins = "*")
+	    @SuppressWarnings("try")
+	    public SensitivityOutput runSensitivities(@RequestBody SensitivityInput json) {
+	        String scenarioId = json.getScenarioDescriptor().getScenarioID();
+	        System.out.println("****fnp018 Started a sensitivity run on scenario " + scenarioId);
+	        RestTemplate restTemplate = new RestTemplate();
+	        restTemplate.postForObject("http://"+ riskserviceHost+ ':' + riskservicePort + "/scenarioSimulationStart", 
+	        		json.getScenarioDescriptor(), String.class);
+
+	        List<Map<String, Object>> contractData = json.getContracts();
+	        int nc = contractData.size();
+	        SensitivityOutput output = new SensitivityOutput();
+	        output.setScenarioId(scenarioId);
+	        List<ContractModel> models = new ArrayList<>();
+	        List<List<ContractEvent>> schedules = new ArrayList<>();
+	        for (Map<String,Object> entry : contractData) {
+	            String contractID = (entry.get("contractID") == null)? "NA":entry.get("contractID").toString();
+	            output.getContracts().add(contractID);
+	            try {
+	                ContractModel terms = ContractModel.parse(entry);
+	                ArrayList<ContractEvent> schedule = scheduleContract(terms, json.getSimulateTo(), json.getMonitoringTimes());
+	                // shared by all buckets, so not pruned against the unshocked market
+	                schedule.addAll(calloutEvents(terms, entry, false));
+	                models.add(terms);
+	                schedules.add(schedule);
+	            } catch(Exception e){
+	                output.getFailures().add(contractID + ": " + e.toString());
+	                models.add(null);
+	                schedules.add(null);
+	            }
+	        }
+
+	        List<String> measures = new ArrayList<>();
+	        for (String measure : (json.getMeasures() == null) ? SensitivityMeasures.MEASURES : json.getMeasures()) {
+	            if (SensitivityMeasures.MEASURES.contains(measure))
+	                measures.add(measure);
+	            else
+	                output.getFailures().add("unknown measure " + measure);
+	        }
+	        // run 0 is the unshocked base
+	        List<StressRung> runs = new ArrayList<>();
+	        runs.add(new StressRung("base", null));
+	        if (json.getBuckets() != null)
+	            runs.addAll(json.getBuckets());
+	        int nr = runs.size();
+	        double[][][] values = new double[nr][nc][];
+	        List<String> failures = Collections.synchronizedList(output.getFailures());
+	        // as for the stress grid, runs share the risksrv3 behavior model state
+	        IntStream runIndexes = IntStream.range(0, nr);
+	        (json.isParallel() ? runIndexes.parallel() : runIndexes).forEach(r -> {
+	            RiskFactorModelProvider observer = new MultiRiskFactorModel_rf2(riskserviceHost, riskservicePort, 
+	            		runs.get(r).getShocks());
+	            try (EvaluationScope shared = EvaluationScope.open(legPool)) {
+	                for (int c = 0; c < nc; c++) {
+	                    if (models.get(c) == null)
+	                        continue;
+	                    try {
+	                        List<Event> events = applySchedule(schedules.get(c), models.get(c), observer, contractData.get(c));
+	                        LocalDateTime valuationDate = (json.getValuationDate() == null) ? 
+	                        		models.get(c).getAs("statusDate") : json.getValuationDate();
+	                        values[r][c] = SensitivityMeasures.measures(events, valuationDate, json.getSimulateTo(), 
+	                        		json.getDiscountRate());
+	                    } catch(Exception e){
+	                        failures.add(runs.get(r).getLabel() + " / " + output.getContracts().get(c) + ": " + e.toString());
+	                    }
+	                }
+	            }
+	        });
+
+	        for (int r = 1; r < nr; r++)
+	            output.getBuckets().add(runs.get(r).getLabel());
+	        for (String measure : measures) {
+	            int m = SensitivityMeasures.MEASURES.indexOf(measure);
+	            Double[] base = new Double[nc];
+	            Double[][] deltas = new Double[nr - 1][nc];
+	            double[] portfolioDeltas = new double[nr - 1];
+	            for (int c = 0; c < nc; c++) {
+	                if (values[0][c] == null)
+	                    continue;
+	                base[c] = values[0][c][m];
+	                for (int r = 1; r < nr; r++) {
+	                    if (values[r][c] == null)
+	                        continue;
+	                    deltas[r - 1][c] = values[r][c][m] - base[c];
+	                    portfolioDeltas[r - 1] += deltas[r - 1][c];
+	                }
+	            }
+	            output.getBase().put(measure, base);
+	            output.getDeltas().put(measure, deltas);
+	            output.getPortfolioDeltas().put(measure, portfolioDeltas);
+	        }
+	        System.out.println("****fnp019 sensitivity run completed buckets= " + (nr - 1) + " contracts= " + nc);
+	        return output;
+	    }
+
+	    // one run of a multi scenario simulation against the scenario (path) active in risksrv3
+	    @SuppressWarnings("try")
+	    private void runScenario(String runId, List<Map<String,Object>> contractData, List<String> contractIDs, 
+	    		List<ContractModel> models, List<ArrayList<ContractEvent>> schedules, Map<String,String> failures, 
+	    		RiskFactorModelProvider observer, ContractCohorts cohorts, boolean aggregate, 
+	    		MultiScenarioSimulationOutput output, ScenarioDistributions distributions) {
+	        // events of the cohort representatives in this run, null where a representative failed
+	        List<List<Event>> simulated = new ArrayList<>(Collections.nCopies(contractIDs.size(), (List<Event>) null));
+	        // contracts covered by several credit enhancements, and legs repeated across swaps, are evaluated once per run
+	        try (EvaluationScope shared = EvaluationScope.open(legPool)) {
+	            runContracts(runId, contractIDs, models, schedules, failures, contractData, observer, cohorts, 
+	            		simulated, aggregate, output, distributions);
+	        }
+	        output.setRuns(output.getRuns() + 1);
+	    }
+
+	    private void runContracts(String runId, List<String> contractIDs, List<ContractModel> models, 
+	    		List<ArrayList<ContractEvent>> schedules, Map<String,String> failures, List<Map<String,Object>> contractData, 
+	    		RiskFactorModelProvider observer, ContractCohorts cohorts, List<List<Event>> simulated, boolean aggregate, 
+	    		MultiScenarioSimulationOutput output, ScenarioDistributions distributions) {
+	        for (int i = 0; i < contractIDs.size(); i++) {
+	            String contractID = contractIDs.get(i);
+	            ContractModel terms = models.get(i);
+	            if (terms == null) {
+	                distributions.addFailure(contractID);
+	                if (!aggregate)
+	                    output.getResults().add(new EventStream2(runId, contractID, "Failure", failures.get(contractID), new ArrayList<Event>()));
+	                continue;
+	            }
+	            try {
+	                List<Event> events;
+	                List<Event> representative = simulated.get(cohorts.representative(i));
+	                if (!cohorts.isSimulated(i) && representative != null)
+	                    events = ContractCohorts.scale(representative, cohorts.factor(i));
+	                else
+	                    events = applyScenario(schedules.get(i), terms, observer, contractData.get(i));
+	                simulated.set(i, events);
+	                distributions.add(contractID, terms.getAs("statusDate"), events);
+	                if (!aggregate)
+	                    output.getResults().add(new EventStream2(runId, contractID, "Success", "", events));
+	            } catch(Exception e){
+	                distributions.addFailure(contractID);
+	                if (!aggregate)
+	                    output.getResults().add(new EventStream2(runId, contractID, "Failure", e.toString(), new ArrayList<Event>()));
+	            }
+	        }
+	    }
+
 	    // scenario is removed from compute events - all logic to add events commented out 
 	    private List<Event> computeEvents(ContractModel model, RiskFactorModelProvider observer, LocalDateTime to, 
 	                                    Set<LocalDateTime> monitoringTimes, Map<String,Object> attributes) {
+	        return applyScenario(scheduleContract(model, to, monitoringTimes), model, observer, attributes);
+	    }
+
+	    // the scenario independent part of the simulation: ACTUS schedule plus monitoring events
+	    private ArrayList<ContractEvent> scheduleContract(ContractModel model, LocalDateTime to, 
+	                                    Set<LocalDateTime> monitoringTimes) {
 
 	        // define simulation horizon if not provided
 	        if(to == null) to = model.getAs("maturityDate");
@@ -262,11 +820,37 @@ public class RiskFactor20Controller {
 	                        model.getAs("contractID")
 	                ));
 	        }
+	        return schedule;
+	    }
 
+	    // the scenario dependent part: behavior callouts and application of the events; baseSchedule 
+	    // is left untouched so that it can be applied against further scenarios
+	    private List<Event> applyScenario(List<ContractEvent> baseSchedule, ContractModel model, 
+	                                    RiskFactorModelProvider observer, Map<String,Object> attributes) {
+	        ArrayList<ContractEvent> schedule = new ArrayList<ContractEvent>(baseSchedule);
+	        schedule.addAll(calloutEvents(model, attributes, true));
+	        return applySchedule(schedule, model, observer, attributes);
+	    }
+
+	    // behavior callout events for the contract in the active scenario; with allowPruning false 
+	    // the risk service returns every callout even if its callout pruning is on 
+	    private ArrayList<ContractEvent> calloutEvents(ContractModel model, Map<String,Object> attributes, 
+	                                                   boolean allowPruning) {
+	    	ArrayList<ContractEvent> calloutEvents = new ArrayList<ContractEvent>();
+	    	for (CalloutData calloutData : callouts(attributes, allowPruning)) {
+	    		ContractEvent event = calloutEvent(model, calloutData);
+	    		if (event != null)
+	    			calloutEvents.add(event);
+	    	}
+	    	return calloutEvents;
+	    }
+
+	    private List<CalloutData> callouts(Map<String,Object> attributes, boolean allowPruning) {
 	        // call out to risk service /contractSimulationStart will decide whether
 	        // any behavior models are activated for this contract and return populated or empty List<CallOutData> 
 	        RestTemplate restTemplate = new RestTemplate(); 
-	        String uri = "http://"+ riskserviceHost+ ':' + riskservicePort + "/contractSimulationStart" ;
+	        String uri = "http://"+ riskserviceHost+ ':' + riskservicePort + "/contractSimulationStart" 
+	                + (allowPruning ? "" : "?prune=false");
 	    	// String uri = "http://localhost:8082/contractSimulationStart";
 	    	System.out.println("****fnp100  in ppcallouts about to post ContractStart request ") ;  // fnp diagnostic aug 2024 
 	    	List<Object> items = restTemplate.postForObject(uri, attributes, List.class);
@@ -277,27 +861,34 @@ public class RiskFactor20Controller {
 	    		HashMap<String,String> fromItem = (HashMap<String,String>) item;
 	    		CalloutData calloutData = new CalloutData(fromItem.get("modelID"),fromItem.get("time"), 
 	    				fromItem.get("calloutType"));
+	    		// value is set for callouts the risk service answered at contract start (pruned); it is 
+	    		// a number in the JSON, so it is read as an Object whatever fromItem declares
+	    		Object value = fromItem.get("value");
+	    		if (value instanceof Number)
+	    			calloutData.setValue(((Number) value).doubleValue());
 	    		ppcallouts.add(calloutData);
 	    	}
 	    	System.out.println("****fnp103  ppcallouts= " + ppcallouts.toString()) ;
-	    	
-	        // add any returned prepayment observations into the event schedule 
-	    	ArrayList<ContractEvent> calloutEvents = new ArrayList<ContractEvent>();
-	    	for (CalloutData calloutData : ppcallouts ) {
+	    	return ppcallouts;
+	    }
+
+	    // the event of a returned behavior callout, null if its calloutType is not known
+	    private ContractEvent calloutEvent(ContractModel model, CalloutData calloutData) {
 	    		if (calloutData.getCalloutType().equals("MRD"))
 	    		 // set up a Prepayment behavior call out event for this model at this time 
-	    		 calloutEvents.add(EventFactory.createEvent(
+	    		 return EventFactory.createEvent(
 	    		     LocalDateTime.parse(calloutData.getTime()),
 	    		     EventType.PP,
 	    		     model.getAs("currency"),
-	    		     new POF_PP_rf2(calloutData.getModelID()),
-	    		     new STF_PP_rf2(calloutData.getModelID()),
+	    		     new POF_PP_rf2(calloutData.getModelID(), calloutData.getValue()),
+	    		     new STF_PP_rf2(calloutData.getModelID(), calloutData.getValue()),
 	    		     model.getAs("businessDayConvention"),
 	    		          model.getAs("contractID")
-	    		     ));   
+	    		     );   
 	    		else if (calloutData.getCalloutType().equals("AFD")) {
+		    	    System.out.println("****fnp1039 created AFD callout time= " + LocalDateTime.parse(calloutData.getTime()));
 		    		// set up an Absolute Funds-checked Delta callout event for this model at this time 
-		    	    calloutEvents.add(EventFactory.createEvent(
+		    	    return EventFactory.createEvent(
 		    	    	LocalDateTime.parse(calloutData.getTime()),
 		    	    	EventType.AFD,
 		    	    	model.getAs("currency"),
@@ -305,14 +896,20 @@ public class RiskFactor20Controller {
 		    	    	new STF_AFD_rf2(calloutData.getModelID()),
 		    	    	model.getAs("businessDayConvention"),
 		    	  	    model.getAs("contractID")
-		    	    	));
-		    	    System.out.println("****fnp1039 created AFD callout time= " + LocalDateTime.parse(calloutData.getTime()));
+		    	    	);
 	    		}
-	    		else 
-	    			System.out.println("****fnp104  invalid calloutType = " + calloutData.getCalloutType()) ;
-	    		
-	    	}
-	    	schedule.addAll(calloutEvents);
+	    		System.out.println("****fnp104  invalid calloutType = " + calloutData.getCalloutType()) ;
+	    		return null;
+	    }
+
+	    // applies copies of the events, so that the same events can be applied again
+	    private List<Event> applySchedule(List<ContractEvent> contractEvents, ContractModel model, 
+	                                    RiskFactorModelProvider observer, Map<String,Object> attributes) {
+	        ArrayList<ContractEvent> schedule = new ArrayList<ContractEvent>(contractEvents.size());
+	        for (ContractEvent event : contractEvents)
+	            schedule.add(event.copy());
+	        prefetchFxRates(schedule, model, observer);
+
 	        // apply schedule to contract
 	        schedule = ContractType.apply(schedule, model, observer);
 
@@ -327,6 +924,18 @@ public class RiskFactor20Controller {
 	        return events;
 	    }
 
+	    // the fx rates the payoffs of a contract observe, fetched for its whole schedule in one call; none 
+	    // for a contract settled in its own currency (see CommonUtils.settlementCurrencyPair)
+	    private static void prefetchFxRates(List<ContractEvent> schedule, ContractModel model, RiskFactorModelProvider observer) {
+	        String pair = CommonUtils.settlementCurrencyPair(model);
+	        if (pair == null || !(observer instanceof MultiRiskFactorModel_rf2))
+	            return;
+	        List<LocalDateTime> times = new ArrayList<>(schedule.size());
+	        for (ContractEvent event : schedule)
+	            times.add(event.scheduleTime());
+	        ((MultiRiskFactorModel_rf2) observer).prefetchFxRates(pair, times);
+	    }
+
 
 	        
 	        // add prepayment events if prepayment model referenced by contract
@@ -13,9 +13,14 @@ import org.actus.util.CommonUtils;
 
 public final class POF_PP_rf2 implements PayOffFunction {
 	private String riskFactorID;   // the id of the behavior model for this prepayment callout event 
+	private Double value;          // the model's value if known at contract start, else null 
 	public POF_PP_rf2(String riskFactorID) {
 		this.riskFactorID = riskFactorID;
 	}
+	public POF_PP_rf2(String riskFactorID, Double value) {
+		this.riskFactorID = riskFactorID;
+		this.value = value;
+	}
     @Override    
         public double eval(LocalDateTime time, StateSpace states, ContractModelProvider model,
         		           RiskFactorModelProvider riskFactorModel, DayCountCalculator dayCounter,
@@ -23,7 +28,7 @@ public final class POF_PP_rf2 implements PayOffFunction {
         	System.out.println("****fnp110 PayoffFunction POF_PP_rf2 entered");       // fnp diagnostic jan 2023   
         	return CommonUtils.settlementCurrencyFxRate(riskFactorModel, model, time, states)
                 * ContractRoleConvention.roleSign(model.getAs("contractRole"))
-                * riskFactorModel.stateAt(this.riskFactorID,time,states,model,false)
+                * ((this.value == null) ? riskFactorModel.stateAt(this.riskFactorID,time,states,model,false) : this.value)
                 * states.notionalPrincipal;
         	}
 }
@@ -11,8 +11,13 @@ import org.actus.states.StateSpace;
 
 public final class STF_PP_rf2 implements StateTransitionFunction {
 	private String riskFactorID;   // the id of the behavior model for this prepayment callout event 
+	private Double value;          // the model's value if known at contract start, else null 
 	public STF_PP_rf2(String riskFactorID) {
 		this.riskFactorID = riskFactorID;
+	}
+	public STF_PP_rf2(String riskFactorID, Double value) {
+		this.riskFactorID = riskFactorID;
+		this.value = value;
 	} 
     @Override
     public StateSpace eval(LocalDateTime time, StateSpace states,
@@ -21,7 +26,7 @@ public final class STF_PP_rf2 implements StateTransitionFunction {
         double timeFromLastEvent = dayCounter.dayCountFraction(timeAdjuster.shiftCalcTime(states.statusDate), timeAdjuster.shiftCalcTime(time));
         states.accruedInterest += states.nominalInterestRate * states.notionalPrincipal * timeFromLastEvent;
         states.feeAccrued += model.<Double>getAs("feeRate") * states.notionalPrincipal * timeFromLastEvent;
-        states.notionalPrincipal -= riskFactorModel.stateAt(this.riskFactorID,time,states,model,false) * states.notionalPrincipal;
+        states.notionalPrincipal -= ((this.value == null) ? riskFactorModel.stateAt(this.riskFactorID,time,states,model,false) : this.value) * states.notionalPrincipal;
         states.statusDate = time;
 
         // return post-event-states
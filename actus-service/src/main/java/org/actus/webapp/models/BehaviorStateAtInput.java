@@ -1,6 +1,7 @@
 package org.actus.webapp.models;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import java.time.LocalDateTime;
 
@@ -9,6 +10,8 @@ public class BehaviorStateAtInput {
 	private String riskFactorId ;
 	private LocalDateTime time;
 	private StateSpace  states;
+	private List<MarketShock> shocks;   // optional stress overlay for the model's market lookups
+	private Integer stochasticPath;  // optional Monte Carlo path for the lookup, null for the selected one
 	
 	public BehaviorStateAtInput() {		
 	}
@@ -35,6 +38,18 @@ public class BehaviorStateAtInput {
 	}
 	public void setStates(StateSpace states) {
 		this.states = states;
+	}
+	public List<MarketShock> getShocks() {
+		return this.shocks;
+	}
+	public void setShocks(List<MarketShock> shocks) {
+		this.shocks = shocks;
+	}
+	public Integer getStochasticPath() {
+		return this.stochasticPath;
+	}
+	public void setStochasticPath(Integer stochasticPath) {
+		this.stochasticPath = stochasticPath;
 	}
 	 @Override
 	public String toString() {
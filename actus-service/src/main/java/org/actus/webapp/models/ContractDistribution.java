@@ -0,0 +1,81 @@
+package org.actus.webapp.models;
+
+import java.util.Map;
+
+/**
+ * Distribution of one contract's outcomes over the runs of a multi scenario simulation.
+ *   payoff                 sum of event payoffs per run
+ *   minNotional            lowest notional principal reached per run
+ *   timeToLiquidationDays  days from statusDate to the first PP event with a non zero
+ *                          payoff, over the liquidatedRuns in which one occurred
+ * Each distribution maps mean, min, p1, p5, p25, p50, p75, p95, p99 and max to its value.
+ */
+public class ContractDistribution {
+
+    private String contractID;
+    private int runs;
+    private int failedRuns;
+    private int liquidatedRuns;
+    private Map<String,Double> payoff;
+    private Map<String,Double> minNotional;
+    private Map<String,Double> timeToLiquidationDays;
+
+    public ContractDistribution() {
+    }
+
+    public String getContractID() {
+        return contractID;
+    }
+
+    public void setContractID(String contractID) {
+        this.contractID = contractID;
+    }
+
+    public int getRuns() {
+        return runs;
+    }
+
+    public void setRuns(int runs) {
+        this.runs = runs;
+    }
+
+    public int getFailedRuns() {
+        return failedRuns;
+    }
+
+    public void setFailedRuns(int failedRuns) {
+        this.failedRuns = failedRuns;
+    }
+
+    public int getLiquidatedRuns() {
+        return liquidatedRuns;
+    }
+
+    public void setLiquidatedRuns(int liquidatedRuns) {
+        this.liquidatedRuns = liquidatedRuns;
+    }
+
+    public Map<String,Double> getPayoff() {
+        return payoff;
+    }
+
+    public void setPayoff(Map<String,Double> payoff) {
+        this.payoff = payoff;
+    }
+
+    public Map<String,Double> getMinNotional() {
+        return minNotional;
+    }
+
+    public void setMinNotional(Map<String,Double> minNotional) {
+        this.minNotional = minNotional;
+    }
+
+    public Map<String,Double> getTimeToLiquidationDays() {
+        return timeToLiquidationDays;
+    }
+
+    public void setTimeToLiquidationDays(Map<String,Double> timeToLiquidationDays) {
+        this.timeToLiquidationDays = timeToLiquidationDays;
+    }
+}
@@ -0,0 +1,46 @@
+package org.actus.webapp.models;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The states of one market risk factor at several times, looked up in one call
+ */
+public class MarketStatesAtInput {
+	private String id;
+	private List<LocalDateTime> times;
+	private List<MarketShock> shocks;   // optional stress overlay for the lookups
+	private Integer stochasticPath;  // optional Monte Carlo path for the lookup, null for the selected one
+	
+	public MarketStatesAtInput() {
+	}
+	public MarketStatesAtInput(String id, List<LocalDateTime> times) {
+		this.id = id;
+		this.times = times;
+	}
+	
+	public String getId() {
+		return this.id;
+	}
+	public void setId(String id) {
+		this.id = id;
+	}
+	public List<LocalDateTime> getTimes() {
+		return this.times;
+	}
+	public void setTimes(List<LocalDateTime> times) {
+		this.times = times;
+	}
+	public List<MarketShock> getShocks() {
+		return this.shocks;
+	}
+	public void setShocks(List<MarketShock> shocks) {
+		this.shocks = shocks;
+	}
+	public Integer getStochasticPath() {
+		return this.stochasticPath;
+	}
+	public void setStochasticPath(Integer stochasticPath) {
+		this.stochasticPath = stochasticPath;
+	}
+}
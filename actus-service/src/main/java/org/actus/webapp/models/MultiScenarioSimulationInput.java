@@ -0,0 +1,84 @@
+package org.actus.webapp.models;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Request body of /rf2/multiScenarioSimulation: one portfolio simulated against several
+ * scenarios. Every id in scenarioIDs is one run; if stochasticScenarioID is set, each
+ * Monte Carlo path of that scenario (its StochasticScenario risk factor) is one more run,
+ * numPaths limiting how many (default all generated paths).
+ * With aggregate = true only the per contract distributions over all runs are returned,
+ * not the event streams of every run.
+ */
+public class MultiScenarioSimulationInput {
+
+    private List<Map<String,Object>> contracts;
+    private List<String> scenarioIDs;
+    private String stochasticScenarioID;
+    private Integer numPaths;
+    private LocalDateTime simulateTo;
+    private Set<LocalDateTime> monitoringTimes;
+    private boolean aggregate;
+
+    public MultiScenarioSimulationInput() {
+    }
+
+    public List<Map<String,Object>> getContracts() {
+        return contracts;
+    }
+
+    public void setContracts(List<Map<String,Object>> contracts) {
+        this.contracts = contracts;
+    }
+
+    public List<String> getScenarioIDs() {
+        return scenarioIDs;
+    }
+
+    public void setScenarioIDs(List<String> scenarioIDs) {
+        this.scenarioIDs = scenarioIDs;
+    }
+
+    public String getStochasticScenarioID() {
+        return stochasticScenarioID;
+    }
+
+    public void setStochasticScenarioID(String stochasticScenarioID) {
+        this.stochasticScenarioID = stochasticScenarioID;
+    }
+
+    public Integer getNumPaths() {
+        return numPaths;
+    }
+
+    public void setNumPaths(Integer numPaths) {
+        this.numPaths = numPaths;
+    }
+
+    public LocalDateTime getSimulateTo() {
+        return simulateTo;
+    }
+
+    public void setSimulateTo(LocalDateTime simulateTo) {
+        this.simulateTo = simulateTo;
+    }
+
+    public Set<LocalDateTime> getMonitoringTimes() {
+        return monitoringTimes;
+    }
+
+    public void setMonitoringTimes(Set<LocalDateTime> monitoringTimes) {
+        this.monitoringTimes = monitoringTimes;
+    }
+
+    public boolean isAggregate() {
+        return aggregate;
+    }
+
+    public void setAggregate(boolean aggregate) {
+        this.aggregate = aggregate;
+    }
+}
@@ -0,0 +1,43 @@
+package org.actus.webapp.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response of /rf2/multiScenarioSimulation: the event streams of every run (omitted when
+ * aggregate was requested) and per contract distributions over all runs.
+ * A run is identified by its scenarioId, plus "#path" for Monte Carlo paths.
+ */
+public class MultiScenarioSimulationOutput {
+
+    private int runs;
+    private List<EventStream2> results = new ArrayList<>();
+    private List<ContractDistribution> distributions = new ArrayList<>();
+
+    public MultiScenarioSimulationOutput() {
+    }
+
+    public int getRuns() {
+        return runs;
+    }
+
+    public void setRuns(int runs) {
+        this.runs = runs;
+    }
+
+    public List<EventStream2> getResults() {
+        return results;
+    }
+
+    public void setResults(List<EventStream2> results) {
+        this.results = results;
+    }
+
+    public List<ContractDistribution> getDistributions() {
+        return distributions;
+    }
+
+    public void setDistributions(List<ContractDistribution> distributions) {
+        this.distributions = distributions;
+    }
+}
@@ -11,6 +11,8 @@ public class ScenarioSimulationInput_rf2 {
     private List<Map<String,Object>> contracts;
     private LocalDateTime simulateTo;
     private Set<LocalDateTime> monitoringTimes;
+    // if set, contracts resume from their checkpoint of an earlier run and are checkpointed at this time
+    private LocalDateTime checkpointTime;
 
     public ScenarioSimulationInput_rf2() {
     }
@@ -55,6 +57,14 @@ public class ScenarioSimulationInput_rf2 {
         this.monitoringTimes = monitoringTimes;
     }
 
+    public LocalDateTime getCheckpointTime() {
+        return this.checkpointTime;
+    }
+
+    public void setCheckpointTime(LocalDateTime checkpointTime) {
+        this.checkpointTime = checkpointTime;
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("ScenarioSimulationInput{");
@@ -62,6 +72,7 @@ public class ScenarioSimulationInput_rf2 {
         sb.append(", contracts='").append(contracts).append('\'');
         sb.append(", simulateTo='").append(simulateTo).append('\'');
         sb.append(", monitoringTimes='").append(monitoringTimes).append('\'');
+        sb.append(", checkpointTime='").append(checkpointTime).append('\'');
         sb.append('}');
         return sb.toString();
     }
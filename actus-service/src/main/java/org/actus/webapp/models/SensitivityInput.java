@@ -0,0 +1,106 @@
+package org.actus.webapp.models;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Request body of /rf2/sensitivities: a portfolio, the scenario it is simulated in and the
+ * buckets to reprice it in. A bucket is a labelled set of shocks, e.g. a parallel shift
+ * (ADDITIVE shock of a rate index), a key-rate bucket (the same with a from / to window)
+ * or a spot shock (MULTIPLICATIVE shock of a price).
+ * measures selects the outputs whose deltas are returned, any of "payoff", "pv" and
+ * "notional" (default all); pv discounts the payoffs from valuationDate on (default each
+ * contract's statusDate) at the flat, annually compounded discountRate on ACT/365, and
+ * notional is the notional of the last event up to simulateTo (default the last event).
+ * Buckets run one after the other unless parallel is true; as with /rf2/stressGrid, parallel
+ * buckets share the state of the risksrv3 behavior models and suit stateless callouts only.
+ */
+public class SensitivityInput {
+
+    private ScenarioDescriptor scenarioDescriptor;
+    private List<Map<String,Object>> contracts;
+    private LocalDateTime simulateTo;
+    private Set<LocalDateTime> monitoringTimes;
+    private List<StressRung> buckets;
+    private List<String> measures;
+    private LocalDateTime valuationDate;
+    private double discountRate;
+    private boolean parallel = false;
+
+    public SensitivityInput() {
+    }
+
+    public ScenarioDescriptor getScenarioDescriptor() {
+        return scenarioDescriptor;
+    }
+
+    public void setScenarioDescriptor(ScenarioDescriptor scenarioDescriptor) {
+        this.scenarioDescriptor = scenarioDescriptor;
+    }
+
+    public List<Map<String,Object>> getContracts() {
+        return contracts;
+    }
+
+    public void setContracts(List<Map<String,Object>> contracts) {
+        this.contracts = contracts;
+    }
+
+    public LocalDateTime getSimulateTo() {
+        return simulateTo;
+    }
+
+    public void setSimulateTo(LocalDateTime simulateTo) {
+        this.simulateTo = simulateTo;
+    }
+
+    public Set<LocalDateTime> getMonitoringTimes() {
+        return monitoringTimes;
+    }
+
+    public void setMonitoringTimes(Set<LocalDateTime> monitoringTimes) {
+        this.monitoringTimes = monitoringTimes;
+    }
+
+    public List<StressRung> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<StressRung> buckets) {
+        this.buckets = buckets;
+    }
+
+    public List<String> getMeasures() {
+        return measures;
+    }
+
+    public void setMeasures(List<String> measures) {
+        this.measures = measures;
+    }
+
+    public LocalDateTime getValuationDate() {
+        return valuationDate;
+    }
+
+    public void setValuationDate(LocalDateTime valuationDate) {
+        this.valuationDate = valuationDate;
+    }
+
+    public double getDiscountRate() {
+        return discountRate;
+    }
+
+    public void setDiscountRate(double discountRate) {
+        this.discountRate = discountRate;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+}
@@ -0,0 +1,82 @@
+package org.actus.webapp.models;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response of /rf2/sensitivities, per requested measure: base holds the unshocked value of
+ * every contract, deltas one row per bucket and one column per contract with the bumped
+ * value less the base value, and portfolioDeltas the sum of a bucket's row. A cell is null
+ * where the contract failed in the bucket or the base, failures listing why.
+ */
+public class SensitivityOutput {
+
+    private String scenarioId;
+    private List<String> buckets = new ArrayList<>();
+    private List<String> contracts = new ArrayList<>();
+    private Map<String,Double[]> base = new LinkedHashMap<>();
+    private Map<String,Double[][]> deltas = new LinkedHashMap<>();
+    private Map<String,double[]> portfolioDeltas = new LinkedHashMap<>();
+    private List<String> failures = new ArrayList<>();
+
+    public SensitivityOutput() {
+    }
+
+    public String getScenarioId() {
+        return scenarioId;
+    }
+
+    public void setScenarioId(String scenarioId) {
+        this.scenarioId = scenarioId;
+    }
+
+    public List<String> getBuckets() {
+        return buckets;
+    }
+
+    public void setBuckets(List<String> buckets) {
+        this.buckets = buckets;
+    }
+
+    public List<String> getContracts() {
+        return contracts;
+    }
+
+    public void setContracts(List<String> contracts) {
+        this.contracts = contracts;
+    }
+
+    public Map<String,Double[]> getBase() {
+        return base;
+    }
+
+    public void setBase(Map<String,Double[]> base) {
+        this.base = base;
+    }
+
+    public Map<String,Double[][]> getDeltas() {
+        return deltas;
+    }
+
+    public void setDeltas(Map<String,Double[][]> deltas) {
+        this.deltas = deltas;
+    }
+
+    public Map<String,double[]> getPortfolioDeltas() {
+        return portfolioDeltas;
+    }
+
+    public void setPortfolioDeltas(Map<String,double[]> portfolioDeltas) {
+        this.portfolioDeltas = portfolioDeltas;
+    }
+
+    public List<String> getFailures() {
+        return failures;
+    }
+
+    public void setFailures(List<String> failures) {
+        this.failures = failures;
+    }
+}
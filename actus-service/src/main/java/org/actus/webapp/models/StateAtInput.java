@@ -1,10 +1,13 @@
 package org.actus.webapp.models;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class StateAtInput {
 	private String id;
 	private LocalDateTime time;
+	private List<MarketShock> shocks;   // optional stress overlay for this lookup
+	private Integer stochasticPath;  // optional Monte Carlo path for the lookup, null for the selected one
 	
 	public StateAtInput() {
 	}
@@ -24,4 +27,16 @@ public class StateAtInput {
     public void setTime(LocalDateTime time) {
     	this.time = time;
     }
+    public List<MarketShock> getShocks() {
+    	return shocks;
+    }
+    public void setShocks(List<MarketShock> shocks) {
+    	this.shocks = shocks;
+    }
+    public Integer getStochasticPath() {
+    	return this.stochasticPath;
+    }
+    public void setStochasticPath(Integer stochasticPath) {
+    	this.stochasticPath = stochasticPath;
+    }
 }
@@ -0,0 +1,74 @@
+package org.actus.webapp.models;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Request body of /rf2/stressGrid: a portfolio, the scenario it is simulated in and the
+ * rungs of shocks to evaluate. An unshocked "base" rung is always evaluated first.
+ * Rungs run one after the other unless parallel is true. All rungs are served by the same
+ * risksrv3 behavior models, which keep state between lookups (current model, AllocationDrift
+ * mirrors, memos), so parallel rungs are only safe for portfolios without stateful callouts.
+ */
+public class StressGridInput {
+
+    private ScenarioDescriptor scenarioDescriptor;
+    private List<Map<String,Object>> contracts;
+    private LocalDateTime simulateTo;
+    private Set<LocalDateTime> monitoringTimes;
+    private List<StressRung> rungs;
+    private boolean parallel = false;
+
+    public StressGridInput() {
+    }
+
+    public ScenarioDescriptor getScenarioDescriptor() {
+        return scenarioDescriptor;
+    }
+
+    public void setScenarioDescriptor(ScenarioDescriptor scenarioDescriptor) {
+        this.scenarioDescriptor = scenarioDescriptor;
+    }
+
+    public List<Map<String,Object>> getContracts() {
+        return contracts;
+    }
+
+    public void setContracts(List<Map<String,Object>> contracts) {
+        this.contracts = contracts;
+    }
+
+    public LocalDateTime getSimulateTo() {
+        return simulateTo;
+    }
+
+    public void setSimulateTo(LocalDateTime simulateTo) {
+        this.simulateTo = simulateTo;
+    }
+
+    public Set<LocalDateTime> getMonitoringTimes() {
+        return monitoringTimes;
+    }
+
+    public void setMonitoringTimes(Set<LocalDateTime> monitoringTimes) {
+        this.monitoringTimes = monitoringTimes;
+    }
+
+    public List<StressRung> getRungs() {
+        return rungs;
+    }
+
+    public void setRungs(List<StressRung> rungs) {
+        this.rungs = rungs;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+}
@@ -0,0 +1,80 @@
+package org.actus.webapp.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response of /rf2/stressGrid: one row per rung (rungs[0] is "base"), one column per
+ * contract. payoff is the sum of event payoffs, minNotional the lowest notional reached
+ * and timeToLiquidationDays the days to the first non zero PP event (null if none);
+ * a cell is null where the contract failed, failures listing why.
+ */
+public class StressGridOutput {
+
+    private String scenarioId;
+    private List<String> rungs = new ArrayList<>();
+    private List<String> contracts = new ArrayList<>();
+    private Double[][] payoff;
+    private Double[][] minNotional;
+    private Double[][] timeToLiquidationDays;
+    private List<String> failures = new ArrayList<>();
+
+    public StressGridOutput() {
+    }
+
+    public String getScenarioId() {
+        return scenarioId;
+    }
+
+    public void setScenarioId(String scenarioId) {
+        this.scenarioId = scenarioId;
+    }
+
+    public List<String> getRungs() {
+        return rungs;
+    }
+
+    public void setRungs(List<String> rungs) {
+        this.rungs = rungs;
+    }
+
+    public List<String> getContracts() {
+        return contracts;
+    }
+
+    public void setContracts(List<String> contracts) {
+        this.contracts = contracts;
+    }
+
+    public Double[][] getPayoff() {
+        return payoff;
+    }
+
+    public void setPayoff(Double[][] payoff) {
+        this.payoff = payoff;
+    }
+
+    public Double[][] getMinNotional() {
+        return minNotional;
+    }
+
+    public void setMinNotional(Double[][] minNotional) {
+        this.minNotional = minNotional;
+    }
+
+    public Double[][] getTimeToLiquidationDays() {
+        return timeToLiquidationDays;
+    }
+
+    public void setTimeToLiquidationDays(Double[][] timeToLiquidationDays) {
+        this.timeToLiquidationDays = timeToLiquidationDays;
+    }
+
+    public List<String> getFailures() {
+        return failures;
+    }
+
+    public void setFailures(List<String> failures) {
+        this.failures = failures;
+    }
+}
@@ -0,0 +1,37 @@
+package org.actus.webapp.models;
+
+import java.util.List;
+
+/**
+ * One rung of a stress grid: a label and the shocks applied together, e.g.
+ * { "label": "ETH -30%", "shocks": [ { "marketObjectCode": "ETH_USD", "type": "MULTIPLICATIVE", "shock": -0.3 } ] }
+ */
+public class StressRung {
+
+    private String label;
+    private List<MarketShock> shocks;
+
+    public StressRung() {
+    }
+
+    public StressRung(String label, List<MarketShock> shocks) {
+        this.label = label;
+        this.shocks = shocks;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public List<MarketShock> getShocks() {
+        return shocks;
+    }
+
+    public void setShocks(List<MarketShock> shocks) {
+        this.shocks = shocks;
+    }
+}
@@ -0,0 +1,47 @@
+package org.actus.webapp.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Stable hash of JSON-like content (maps, lists and scalars as received in a request body),
+ * independent of the order of map keys.
+ */
+public class ContentHash {
+
+    /**
+     * @param content
+     * @return hex SHA-256 of the canonical form of the content
+     */
+    public static String of(Object content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical(content).toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // maps sorted on their keys, recursively
+    private static Object canonical(Object value) {
+        if (value instanceof Map) {
+            TreeMap<String,Object> sorted = new TreeMap<>();
+            for (Map.Entry<?,?> entry : ((Map<?,?>) value).entrySet())
+                sorted.put(String.valueOf(entry.getKey()), canonical(entry.getValue()));
+            return sorted;
+        }
+        if (value instanceof List) {
+            List<Object> list = new ArrayList<>();
+            for (Object item : (List<?>) value)
+                list.add(canonical(item));
+            return list;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,180 @@
+package org.actus.webapp.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.actus.webapp.models.Event;
+
+/**
+ * Groups the contracts of a request into cohorts whose simulated events differ only by scale.
+ * <P>
+ * The events of a linear contract scale exactly with its notionalPrincipal: two contracts of
+ * type PAM, LAM, NAM or ANN whose terms are equal except for contractID and notionalPrincipal,
+ * and whose other amount terms (accruedInterest, nextPrincipalRedemptionPayment, ...) are in
+ * the same proportion to it, have the same events up to the factor between their notionals.
+ * Only one representative of each cohort is simulated; the events of the other members are
+ * the representative's, scaled.
+ * <P>
+ * A contract with a behavior model attached (any non empty ...Models list, or a legacy
+ * ObjectCodeOf... term) is not put in a cohort, since behavior models may depend nonlinearly
+ * on the contract state; it is simulated on its own, as are contracts of other types.
+ */
+public class ContractCohorts {
+
+    private static final Set<String> COHORT_TYPES = Set.of("PAM", "LAM", "NAM", "ANN");
+
+    // terms that scale with notionalPrincipal; fingerprinted as their ratio to it
+    private static final Set<String> AMOUNT_TERMS = Set.of("accruedInterest", "feeAccrued",
+            "nextPrincipalRedemptionPayment", "interestCalculationBaseAmount", "premiumDiscountAtIED",
+            "priceAtPurchaseDate", "priceAtTerminationDate");
+
+    private final int[] representative;
+    private final double[] factor;
+
+    /**
+     * @param contracts contract terms as received
+     * @param enabled false to simulate every contract on its own
+     */
+    public ContractCohorts(List<Map<String,Object>> contracts, boolean enabled) {
+        int n = contracts.size();
+        this.representative = new int[n];
+        this.factor = new double[n];
+        Map<String,Integer> representatives = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            this.representative[i] = i;
+            this.factor[i] = 1.0;
+            String fingerprint = enabled ? fingerprint(contracts.get(i)) : null;
+            if (fingerprint == null)
+                continue;
+            Integer r = representatives.putIfAbsent(fingerprint, i);
+            if (r == null)
+                continue;
+            this.representative[i] = r;
+            this.factor[i] = notional(contracts.get(i)) / notional(contracts.get(r));
+        }
+    }
+
+    /**
+     * @param i index of a contract
+     * @return true if contract i is simulated, i.e. it represents its cohort or is in none
+     */
+    public boolean isSimulated(int i) {
+        return this.representative[i] == i;
+    }
+
+    /**
+     * @param i index of a contract
+     * @return index of the contract whose events, scaled by factor(i), are those of contract i
+     */
+    public int representative(int i) {
+        return this.representative[i];
+    }
+
+    /**
+     * @param i index of a contract
+     * @return notionalPrincipal of contract i over that of its representative
+     */
+    public double factor(int i) {
+        return this.factor[i];
+    }
+
+    /**
+     * @return number of contracts whose events are derived by scaling
+     */
+    public int scaledCount() {
+        int scaled = 0;
+        for (int i = 0; i < this.representative.length; i++) {
+            if (!isSimulated(i))
+                scaled++;
+        }
+        return scaled;
+    }
+
+    /**
+     * @param terms
+     * @return true if a behavior model is attached to the contract: a non empty ...Models
+     * list or a legacy ObjectCodeOf... term
+     */
+    public static boolean hasBehaviorModels(Map<String,Object> terms) {
+        for (Map.Entry<String,Object> term : terms.entrySet()) {
+            Object value = term.getValue();
+            if (term.getKey().endsWith("Models") && value instanceof Collection && !((Collection<?>) value).isEmpty())
+                return true;
+            if (term.getKey().toLowerCase().startsWith("objectcodeof") && value != null)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * returns the cohort fingerprint of a contract: its terms without contractID and
+     * notionalPrincipal, amount terms as ratios to notionalPrincipal
+     * @param terms
+     * @return fingerprint, null if the contract cannot be part of a cohort
+     */
+    public static String fingerprint(Map<String,Object> terms) {
+        if (!COHORT_TYPES.contains(String.valueOf(terms.get("contractType"))) || hasBehaviorModels(terms))
+            return null;
+        double notional = notional(terms);
+        if (Double.isNaN(notional) || notional == 0.0)
+            return null;
+        // an absolute fee is an amount too
+        boolean absoluteFee = "A".equals(String.valueOf(terms.get("feeBasis")));
+        TreeMap<String,String> fingerprint = new TreeMap<>();
+        for (Map.Entry<String,Object> term : terms.entrySet()) {
+            String key = term.getKey();
+            Object value = term.getValue();
+            if (key.equals("contractID") || key.equals("notionalPrincipal") || value == null)
+                continue;
+            if (AMOUNT_TERMS.contains(key) || (absoluteFee && key.equals("feeRate"))) {
+                double amount = number(value);
+                if (Double.isNaN(amount))
+                    return null;
+                fingerprint.put(key, Double.toString(amount / notional));
+            } else {
+                fingerprint.put(key, String.valueOf(value));
+            }
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * @param events events of a representative
+     * @param factor scale of the member
+     * @return the member's events: payoffs, notional and accrued interest scaled
+     */
+    public static List<Event> scale(List<Event> events, double factor) {
+        List<Event> scaled = new ArrayList<>(events.size());
+        for (Event event : events) {
+            Event copy = new Event();
+            copy.setType(event.getType());
+            copy.setTime(event.getTime());
+            copy.setCurrency(event.getCurrency());
+            copy.setNominalRate(event.getNominalRate());
+            copy.setPayoff(event.getPayoff() * factor);
+            copy.setNominalValue(event.getNominalValue() * factor);
+            copy.setNominalAccrued(event.getNominalAccrued() * factor);
+            scaled.add(copy);
+        }
+        return scaled;
+    }
+
+    private static double notional(Map<String,Object> terms) {
+        return number(terms.get("notionalPrincipal"));
+    }
+
+    private static double number(Object value) {
+        if (value instanceof Number)
+            return ((Number) value).doubleValue();
+        try {
+            return Double.parseDouble(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+}
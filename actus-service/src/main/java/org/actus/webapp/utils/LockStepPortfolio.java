@@ -0,0 +1,249 @@
+package org.actus.webapp.utils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.actus.attributes.ContractModel;
+import org.actus.attributes.ContractModelProvider;
+import org.actus.contracts.ContractStepper;
+import org.actus.contracts.ContractType;
+import org.actus.events.ContractEvent;
+import org.actus.externals.RiskFactorModelProvider;
+import org.actus.states.StateSpace;
+import org.actus.webapp.models.BehaviorStateAtInput;
+import org.actus.webapp.models.BehaviorStepInput;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Simulates the contracts of a portfolio in lock-step through their merged event timeline.
+ * <P>
+ * At each time every contract first evaluates its events up to its next behavior callout at
+ * that time. The callouts of all contracts are then sent to risksrv3 in one
+ * /behaviorStepBatch call, together with the portfolio aggregates of the contract states at
+ * that point; each contract evaluates its callout event with the value returned for it and
+ * continues to its next callout at the time, if any, which makes a further batch.
+ * Cross contract behavior (AllocationDriftModel mirrors, portfolio aware models) thus sees
+ * every contract at the same time, whatever the order of the contracts in the request.
+ * <P>
+ * Contract types without a ContractStepper (see ContractStepper.supports) are applied on
+ * their own before the timeline starts, with their callouts looked up one by one, and are
+ * not part of the aggregates.
+ */
+public class LockStepPortfolio {
+
+    private final String riskservice;
+    private final RiskFactorModelProvider observer;
+    private final RestTemplate restTemplate = new RestTemplate();
+
+    private final List<ContractModel> models = new ArrayList<>();
+    private final List<ArrayList<ContractEvent>> schedules = new ArrayList<>();
+    // behavior model id of each callout event
+    private final Map<ContractEvent,String> callouts = new IdentityHashMap<>();
+
+    private int batches;
+    // outcome of run( ) per contract: its events, or the exception it failed with
+    private List<List<ContractEvent>> results;
+    private RuntimeException[] failures;
+
+    /**
+     * @param riskservice base uri of risksrv3, e.g. http://localhost:8082
+     * @param observer observer for market lookups and for contracts applied on their own
+     */
+    public LockStepPortfolio(String riskservice, RiskFactorModelProvider observer) {
+        this.riskservice = riskservice;
+        this.observer = observer;
+    }
+
+    /**
+     * adds a contract
+     * @param model contract terms
+     * @param schedule contract events without the behavior callouts
+     * @param calloutEvents behavior callout events of the contract, keyed by event to the
+     *                      id of the behavior model they call out to
+     * @return index of the contract
+     */
+    public int add(ContractModel model, List<ContractEvent> schedule, Map<ContractEvent,String> calloutEvents) {
+        ArrayList<ContractEvent> events = new ArrayList<>(schedule.size() + calloutEvents.size());
+        for (ContractEvent event : schedule)
+            events.add(event.copy());
+        for (Map.Entry<ContractEvent,String> callout : calloutEvents.entrySet()) {
+            ContractEvent event = callout.getKey().copy();
+            events.add(event);
+            this.callouts.put(event, callout.getValue());
+        }
+        this.models.add(model);
+        this.schedules.add(events);
+        return this.models.size() - 1;
+    }
+
+    /**
+     * @return number of /behaviorStepBatch calls made by run( )
+     */
+    public int getBatches() {
+        return this.batches;
+    }
+
+    /**
+     * @param c index of a contract
+     * @return the exception contract c failed with in run( ), null if it did not fail
+     */
+    public RuntimeException getFailure(int c) {
+        return this.failures[c];
+    }
+
+    /**
+     * runs the simulation
+     * @return per contract, in the order added, the evaluated events as ContractType.apply
+     *         returns them, or null if the contract failed (see getFailure)
+     */
+    public List<List<ContractEvent>> run() {
+        int n = this.models.size();
+        this.results = new ArrayList<>(Collections.nCopies(n, null));
+        this.failures = new RuntimeException[n];
+        ContractStepper[] steppers = new ContractStepper[n];
+        PriorityQueue<Integer> timeline = new PriorityQueue<>(Math.max(1, n),
+                (a, b) -> steppers[a].nextEventTime().compareTo(steppers[b].nextEventTime()));
+        for (int c = 0; c < n; c++) {
+            try {
+                if (ContractStepper.supports(this.models.get(c))) {
+                    steppers[c] = ContractStepper.of(this.schedules.get(c), this.models.get(c));
+                    enqueue(c, steppers, timeline);
+                } else {
+                    this.results.set(c, ContractType.apply(this.schedules.get(c), this.models.get(c), this.observer));
+                }
+            } catch (RuntimeException e) {
+                this.failures[c] = e;
+            }
+        }
+
+        while (!timeline.isEmpty()) {
+            LocalDateTime time = steppers[timeline.peek()].nextEventTime();
+            List<Integer> step = new ArrayList<>();
+            while (!timeline.isEmpty() && steppers[timeline.peek()].nextEventTime().equals(time))
+                step.add(timeline.poll());
+
+            // advance each contract of the step to its first callout at time
+            List<Integer> pending = new ArrayList<>();
+            for (int c : step) {
+                if (advance(c, time, steppers))
+                    pending.add(c);
+            }
+            while (!pending.isEmpty())
+                pending = batch(time, pending, steppers);
+
+            for (int c : step)
+                enqueue(c, steppers, timeline);
+        }
+        return this.results;
+    }
+
+    private boolean done(int c) {
+        return this.results.get(c) != null || this.failures[c] != null;
+    }
+
+    // evaluates the events of contract c at time up to its next callout; true if it stopped at one
+    private boolean advance(int c, LocalDateTime time, ContractStepper[] steppers) {
+        ContractStepper stepper = steppers[c];
+        if (done(c))
+            return false;
+        try {
+            while (stepper.hasNext() && stepper.nextEventTime().equals(time)) {
+                if (this.callouts.containsKey(stepper.peek()))
+                    return true;
+                stepper.evalNext(this.observer);
+            }
+        } catch (RuntimeException e) {
+            this.failures[c] = e;
+        }
+        return false;
+    }
+
+    // evaluates the pending callouts at time in one call; returns contracts stopped at a further callout
+    private List<Integer> batch(LocalDateTime time, List<Integer> pending, ContractStepper[] steppers) {
+        List<BehaviorStateAtInput> inputs = new ArrayList<>(pending.size());
+        for (int c : pending)
+            inputs.add(new BehaviorStateAtInput(this.callouts.get(steppers[c].peek()), steppers[c].peek().scheduleTime(),
+                    steppers[c].states()));
+        BehaviorStepInput stepInput = new BehaviorStepInput(time, inputs, aggregates(steppers));
+        List<Integer> next = new ArrayList<>();
+        List<?> values;
+        try {
+            values = this.restTemplate.postForObject(this.riskservice + "/behaviorStepBatch", stepInput, List.class);
+            this.batches++;
+        } catch (RuntimeException e) {
+            for (int c : pending)
+                this.failures[c] = e;
+            return next;
+        }
+        for (int i = 0; i < pending.size(); i++) {
+            int c = pending.get(i);
+            String modelId = inputs.get(i).getRiskFactorId();
+            double value = ((Number) values.get(i)).doubleValue();
+            try {
+                steppers[c].evalNext(new CalloutObserver(this.observer, modelId, value));
+            } catch (RuntimeException e) {
+                this.failures[c] = e;
+                continue;
+            }
+            if (advance(c, time, steppers))
+                next.add(c);
+        }
+        return next;
+    }
+
+    private void enqueue(int c, ContractStepper[] steppers, PriorityQueue<Integer> timeline) {
+        if (done(c))
+            return;
+        if (steppers[c].hasNext())
+            timeline.add(c);
+        else
+            this.results.set(c, steppers[c].events());
+    }
+
+    // portfolio state published to risksrv3 with each batch: per currency the notional and accrued
+    // interest summed over the contracts, signed by their role, and the notional of each contract
+    private Map<String,Double> aggregates(ContractStepper[] steppers) {
+        Map<String,Double> aggregates = new LinkedHashMap<>();
+        for (int c = 0; c < steppers.length; c++) {
+            if (steppers[c] == null || this.failures[c] != null)
+                continue;
+            StateSpace states = steppers[c].states();
+            String currency = this.models.get(c).getAs("currency");
+            aggregates.merge("notionalPrincipal:" + currency, states.notionalPrincipal, Double::sum);
+            aggregates.merge("accruedInterest:" + currency, states.accruedInterest, Double::sum);
+            aggregates.put("notionalPrincipal/" + this.models.get(c).getAs("contractID"), states.notionalPrincipal);
+        }
+        return aggregates;
+    }
+
+    // serves the value of the batch to the payoff and state transition of a callout event, so
+    // the behavior model is evaluated once per callout; everything else goes to the observer
+    private static class CalloutObserver implements RiskFactorModelProvider {
+        private final RiskFactorModelProvider observer;
+        private final String modelId;
+        private final double value;
+
+        CalloutObserver(RiskFactorModelProvider observer, String modelId, double value) {
+            this.observer = observer;
+            this.modelId = modelId;
+            this.value = value;
+        }
+
+        public Set<String> keys() {
+            return this.observer.keys();
+        }
+
+        public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider terms, boolean isMarket) {
+            if (!isMarket && this.modelId.equals(id))
+                return this.value;
+            return this.observer.stateAt(id, time, states, terms, isMarket);
+        }
+    }
+}
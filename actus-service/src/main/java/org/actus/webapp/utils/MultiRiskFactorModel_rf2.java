@@ -1,14 +1,23 @@
 package org.actus.webapp.utils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.actus.attributes.ContractModelProvider;
 import org.actus.externals.RiskFactorModelProvider;
 import org.actus.states.StateSpace;
+import org.actus.webapp.models.MarketShock;
+import org.actus.webapp.models.MarketStatesAtInput;
 import org.actus.webapp.models.StateAtInput;
 import org.actus.webapp.models.BehaviorStateAtInput;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import  org.springframework.beans.factory.annotation.Value;
 
@@ -22,6 +31,17 @@ public class MultiRiskFactorModel_rf2 implements RiskFactorModelProvider{
     private
     Integer riskservicePort;
   //  @Value("${actus.riskservice.port}")  
+    
+    // stress shocks sent with every lookup, applied by risksrv3 on the fly (null for none)
+    private List<MarketShock> shocks;
+
+    // Monte Carlo path of the active scenario's StochasticScenarios sent with every lookup (null for 
+    // the path selected in risksrv3), so that runs of several clients do not switch each other's path
+    private Integer stochasticPath;
+
+    // fx rates of the currency pairs prefetched, by pair and time; an observer is used for the one 
+    // scenario active in risksrv3 when it was created, so these do not change over its lifetime
+    private final Map<String,Map<LocalDateTime,Double>> fxRates = new ConcurrentHashMap<>();
 		
 	
 	public MultiRiskFactorModel_rf2() {
@@ -32,6 +52,16 @@ public class MultiRiskFactorModel_rf2 implements RiskFactorModelProvider{
 		this.riskservicePort = riskservicePort;
 	}
 
+	public MultiRiskFactorModel_rf2(String riskserviceHost, Integer riskservicePort, List<MarketShock> shocks) {
+		this(riskserviceHost, riskservicePort);
+		this.shocks = shocks;
+	}
+
+	public MultiRiskFactorModel_rf2(String riskserviceHost, Integer riskservicePort, Integer stochasticPath) {
+		this(riskserviceHost, riskservicePort);
+		this.stochasticPath = stochasticPath;
+	}
+
 	// this has a warning about type conversion - my not work FNP Aug 2024 
 	// but may never get used - we do not want to refine the interface 
 	public Set<String> keys() {
@@ -42,25 +72,67 @@ public class MultiRiskFactorModel_rf2 implements RiskFactorModelProvider{
 		  return kset;
 	}
 
+	// Looks up the fx rates of a currency pair at all given times in one call to risksrv3, e.g. at the 
+	// events of a contract's schedule (see CommonUtils.settlementCurrencyPair); later lookups of the 
+	// pair are served from the rates kept, and are kept too. If the rates cannot be fetched, they 
+	// are looked up one by one as before, so that errors surface with the contract's payoffs.
+	public void prefetchFxRates(String pair, Collection<LocalDateTime> times) {
+		  Map<LocalDateTime,Double> rates = fxRates.computeIfAbsent(pair, p -> new ConcurrentHashMap<>());
+		  List<LocalDateTime> missing = new ArrayList<>(new LinkedHashSet<>(times));
+		  missing.removeIf(rates::containsKey);
+		  if (missing.isEmpty())
+			  return;
+		  MarketStatesAtInput statesAtInput = new MarketStatesAtInput(pair, missing);
+		  statesAtInput.setShocks(shocks);
+		  statesAtInput.setStochasticPath(stochasticPath);
+		  try {
+			  Double[] values = new RestTemplate().postForObject("http://"+ riskserviceHost+ ':' + riskservicePort 
+					  + "/marketStatesAt", statesAtInput, Double[].class);
+			  for (int i = 0; values != null && i < values.length && i < missing.size(); i++) {
+				  if (values[i] != null)
+					  rates.put(missing.get(i), values[i]);
+			  }
+		  } catch (RestClientException e) {
+			  System.out.println("****fnp702 fx rates of " + pair + " not prefetched: " + e.getMessage());
+		  }
+	}
+
 	public double stateAt(String id, LocalDateTime time, StateSpace states, ContractModelProvider terms, boolean isMarket) {
 		  // adding code to make this work for both market and behavior observations
 		  System.out.println("****fnp701 stateAt entered: time = " + String.valueOf(time) + " states.statusDate = " + String.valueOf(states.statusDate));
+		  Map<LocalDateTime,Double> rates = isMarket ? fxRates.get(id) : null;
+		  if (rates != null) {
+			  Double rate = rates.get(time);
+			  if (rate == null) {
+				  rate = marketStateAt(id, time);
+				  rates.put(time, rate);
+			  }
+			  return rate;
+		  }
 		  double dval;
 	      if (isMarket) {
-	    	  RestTemplate restTemplate = new RestTemplate();
-	    	  String uri = "http://"+ riskserviceHost+ ':' + riskservicePort + "/marketStateAt" ;
-	    	  // String uri = "http://localhost:8082/marketStateAt";
-	    	  StateAtInput stateAtInput = new StateAtInput(id, time);		  
-	    	  dval = restTemplate.postForObject(uri, stateAtInput, Double.class );
+	    	  dval = marketStateAt(id, time);
 		  } else {  // observation call out to a behavior rather than a model
 	    	  RestTemplate restTemplate = new RestTemplate();
 	    	  String uri = "http://"+ riskserviceHost+ ':' + riskservicePort + "/behaviorStateAt";
 	    	  // String uri = "http://localhost:8082/behaviorStateAt";
 	    	  BehaviorStateAtInput behaviorStateAtInput = new BehaviorStateAtInput(id, time, states);		  
+	    	  behaviorStateAtInput.setShocks(shocks);
+	    	  behaviorStateAtInput.setStochasticPath(stochasticPath);
 	    	  dval = restTemplate.postForObject(uri, behaviorStateAtInput, Double.class );
 		  }
 		  return dval;
 	}
+
+	private double marketStateAt(String id, LocalDateTime time) {
+		  RestTemplate restTemplate = new RestTemplate();
+		  String uri = "http://"+ riskserviceHost+ ':' + riskservicePort + "/marketStateAt" ;
+		  // String uri = "http://localhost:8082/marketStateAt";
+		  StateAtInput stateAtInput = new StateAtInput(id, time);		  
+		  stateAtInput.setShocks(shocks);
+		  stateAtInput.setStochasticPath(stochasticPath);
+		  return restTemplate.postForObject(uri, stateAtInput, Double.class );
+	}
 	
 	
 
@@ -0,0 +1,154 @@
+package org.actus.webapp.utils;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.actus.webapp.models.EventStream2;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Bounded cache of contract simulation results, addressed by the content they are computed from.
+ * <P>
+ * The key of a result is a hash of the contract terms (canonicalised, see ContentHash), the
+ * scenario, the risk service's data version, simulateTo and the monitoring times. Results are
+ * kept on heap up to capacity, least recently used first out; with a spill directory, evicted
+ * results are written there as JSON (up to spillCapacity files) and read back on their next hit.
+ * <P>
+ * All entries are computed under one data version: when the risk service reports another, the
+ * cache is cleared, spilled files included. A hit therefore returns the very result a simulation
+ * would, without a copy - callers must not modify it.
+ */
+public class ResultCache {
+
+    private final int capacity;
+    private final Path spillDirectory;
+    private final int spillCapacity;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final LinkedHashMap<String,EventStream2> entries;
+    private int spilled;
+    private String dataVersion;
+
+    /**
+     * @param capacity results kept on heap, 0 to disable the cache
+     * @param spillDirectory directory evicted results are written to, null or empty for none
+     * @param spillCapacity results kept in the spill directory
+     */
+    public ResultCache(int capacity, String spillDirectory, int spillCapacity) {
+        this.capacity = capacity;
+        this.spillDirectory = (spillDirectory == null || spillDirectory.isEmpty()) ? null : Paths.get(spillDirectory);
+        this.spillCapacity = spillCapacity;
+        this.entries = new LinkedHashMap<String,EventStream2>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String,EventStream2> eldest) {
+                if (size() <= ResultCache.this.capacity)
+                    return false;
+                spill(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    /**
+     * returns the key of the simulation of a contract
+     * @param contract contract terms as received
+     * @param scenarioId
+     * @param dataVersion version of the risk data, as reported by the risk service
+     * @param simulateTo
+     * @param monitoringTimes
+     * @return the key
+     */
+    public static String key(Map<String,Object> contract, String scenarioId, String dataVersion, 
+                             LocalDateTime simulateTo, Set<LocalDateTime> monitoringTimes) {
+        List<Object> content = new ArrayList<>();
+        content.add(contract);
+        content.add(scenarioId);
+        content.add(dataVersion);
+        content.add(String.valueOf(simulateTo));
+        content.add((monitoringTimes == null) ? null : new ArrayList<>(new TreeSet<>(monitoringTimes)).toString());
+        return ContentHash.of(content);
+    }
+
+    /**
+     * @param dataVersion the risk service's current data version
+     * @param key
+     * @return the cached result, null if none
+     */
+    public synchronized EventStream2 get(String dataVersion, String key) {
+        validate(dataVersion);
+        EventStream2 result = entries.get(key);
+        if (result == null && spillDirectory != null)
+            result = unspill(key);
+        return result;
+    }
+
+    /**
+     * @param dataVersion the risk service's data version the result was computed under
+     * @param key
+     * @param result
+     */
+    public synchronized void put(String dataVersion, String key, EventStream2 result) {
+        validate(dataVersion);
+        entries.put(key, result);
+    }
+
+    // clears the cache if the data version moved on
+    private void validate(String dataVersion) {
+        if (dataVersion.equals(this.dataVersion))
+            return;
+        entries.clear();
+        if (spillDirectory != null && Files.isDirectory(spillDirectory)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(spillDirectory, "*.json")) {
+                for (Path file : files)
+                    Files.deleteIfExists(file);
+            } catch (IOException e) {
+                System.out.println("****fnp023 result cache spill directory not cleared: " + e);
+            }
+        }
+        spilled = 0;
+        this.dataVersion = dataVersion;
+    }
+
+    private void spill(String key, EventStream2 result) {
+        if (spillDirectory == null || spilled >= spillCapacity)
+            return;
+        try {
+            Files.createDirectories(spillDirectory);
+            Files.writeString(spillDirectory.resolve(key + ".json"), mapper.writeValueAsString(result));
+            spilled++;
+        } catch (IOException e) {
+            System.out.println("****fnp023 result not spilled: " + e);
+        }
+    }
+
+    // reads a spilled result back onto the heap
+    private EventStream2 unspill(String key) {
+        Path file = spillDirectory.resolve(key + ".json");
+        if (!Files.exists(file))
+            return null;
+        try {
+            EventStream2 result = mapper.readValue(Files.readString(file), EventStream2.class);
+            Files.delete(file);
+            spilled--;
+            entries.put(key, result);
+            return result;
+        } catch (IOException e) {
+            System.out.println("****fnp023 spilled result not read: " + e);
+            return null;
+        }
+    }
+}
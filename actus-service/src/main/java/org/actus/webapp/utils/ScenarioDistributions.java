@@ -0,0 +1,132 @@
+package org.actus.webapp.utils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.actus.webapp.models.ContractDistribution;
+import org.actus.webapp.models.Event;
+
+/**
+ * Accumulates per contract outcomes of the runs of a multi scenario simulation into
+ * primitive arrays and summarises them as percentile distributions.
+ */
+public class ScenarioDistributions {
+
+    private static final double[] PERCENTILES = {1, 5, 25, 50, 75, 95, 99};
+
+    private final Map<String,Accumulator> contracts = new LinkedHashMap<>();
+
+    /**
+     * records one run of one contract
+     * @param contractID
+     * @param statusDate contract status date, origin of the time to liquidation
+     * @param events simulated events of the run
+     */
+    public void add(String contractID, LocalDateTime statusDate, List<Event> events) {
+        double[] outcome = outcome(statusDate, events);
+        accumulator(contractID).add(outcome[0], outcome[1], outcome[2]);
+    }
+
+    /**
+     * returns the key outcomes of one simulated contract: total payoff, minimum notional and
+     * days from statusDate to the first PP event with a non zero payoff (NaN if none)
+     * @param statusDate
+     * @param events
+     * @return {payoff, minNotional, liquidationDays}
+     */
+    public static double[] outcome(LocalDateTime statusDate, List<Event> events) {
+        double payoff = 0.0;
+        double minNotional = Double.POSITIVE_INFINITY;
+        double liquidationDays = Double.NaN;
+        for (Event event : events) {
+            payoff += event.getPayoff();
+            minNotional = Math.min(minNotional, Math.abs(event.getNominalValue()));
+            if (Double.isNaN(liquidationDays) && event.getType().equals("PP") && event.getPayoff() != 0.0
+                    && statusDate != null) {
+                liquidationDays = ChronoUnit.SECONDS.between(statusDate, LocalDateTime.parse(event.getTime())) / 86400.0;
+            }
+        }
+        return new double[] {payoff, events.isEmpty() ? 0.0 : minNotional, liquidationDays};
+    }
+
+    /**
+     * records a run in which the contract failed to simulate
+     * @param contractID
+     */
+    public void addFailure(String contractID) {
+        accumulator(contractID).failures++;
+    }
+
+    /**
+     * @return distributions per contract, in the order contracts were first recorded
+     */
+    public List<ContractDistribution> distributions() {
+        List<ContractDistribution> out = new ArrayList<>();
+        for (Map.Entry<String,Accumulator> entry : contracts.entrySet()) {
+            Accumulator a = entry.getValue();
+            ContractDistribution d = new ContractDistribution();
+            d.setContractID(entry.getKey());
+            d.setRuns(a.n);
+            d.setFailedRuns(a.failures);
+            d.setLiquidatedRuns(a.liquidated);
+            d.setPayoff(summarise(a.payoff, a.n));
+            d.setMinNotional(summarise(a.minNotional, a.n));
+            d.setTimeToLiquidationDays(summarise(a.liquidationDays, a.liquidated));
+            out.add(d);
+        }
+        return out;
+    }
+
+    private Accumulator accumulator(String contractID) {
+        return contracts.computeIfAbsent(contractID, id -> new Accumulator());
+    }
+
+    // mean, min, max and nearest rank percentiles of the first n values
+    static Map<String,Double> summarise(double[] values, int n) {
+        Map<String,Double> summary = new LinkedHashMap<>();
+        if (n == 0)
+            return summary;
+        double[] sorted = Arrays.copyOf(values, n);
+        Arrays.sort(sorted);
+        double sum = 0.0;
+        for (double v : sorted)
+            sum += v;
+        summary.put("mean", sum / n);
+        summary.put("min", sorted[0]);
+        for (double p : PERCENTILES) {
+            int rank = (int) Math.ceil(p / 100.0 * n);
+            summary.put("p" + (int) p, sorted[Math.max(rank, 1) - 1]);
+        }
+        summary.put("max", sorted[n - 1]);
+        return summary;
+    }
+
+    private static class Accumulator {
+        double[] payoff = new double[16];
+        double[] minNotional = new double[16];
+        double[] liquidationDays = new double[16];
+        int n;
+        int liquidated;
+        int failures;
+
+        void add(double payoffValue, double minNotionalValue, double liquidationDaysValue) {
+            if (n == payoff.length) {
+                payoff = Arrays.copyOf(payoff, 2 * n);
+                minNotional = Arrays.copyOf(minNotional, 2 * n);
+            }
+            payoff[n] = payoffValue;
+            minNotional[n] = minNotionalValue;
+            n++;
+            if (!Double.isNaN(liquidationDaysValue)) {
+                if (liquidated == liquidationDays.length)
+                    liquidationDays = Arrays.copyOf(liquidationDays, 2 * liquidated);
+                liquidationDays[liquidated++] = liquidationDaysValue;
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.actus.webapp.utils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+import org.actus.webapp.models.Event;
+
+/**
+ * The outputs of one simulated contract that /rf2/sensitivities reports deltas of.
+ */
+public class SensitivityMeasures {
+
+    public static final List<String> MEASURES = Arrays.asList("payoff", "pv", "notional");
+
+    /**
+     * returns the measures of one simulated contract, in the order of MEASURES: total payoff,
+     * payoffs from valuationDate on discounted to it, and notional at horizon
+     * @param events simulated events, in time order
+     * @param valuationDate time payoffs are discounted to, earlier ones are left out of pv
+     * @param horizon time of the notional, null for the notional after the last event
+     * @param discountRate flat, annually compounded rate on ACT/365
+     * @return {payoff, pv, notional}
+     */
+    public static double[] measures(List<Event> events, LocalDateTime valuationDate, LocalDateTime horizon,
+                                    double discountRate) {
+        double payoff = 0.0;
+        double pv = 0.0;
+        double notional = 0.0;
+        for (Event event : events) {
+            LocalDateTime time = LocalDateTime.parse(event.getTime());
+            payoff += event.getPayoff();
+            if (valuationDate == null || !time.isBefore(valuationDate)) {
+                double years = (valuationDate == null) ? 0.0 : ChronoUnit.SECONDS.between(valuationDate, time) / (365.0 * 86400.0);
+                pv += event.getPayoff() * Math.pow(1.0 + discountRate, -years);
+            }
+            if (horizon == null || !time.isAfter(horizon))
+                notional = event.getNominalValue();
+        }
+        return new double[] {payoff, pv, notional};
+    }
+}
@@ -0,0 +1,99 @@
+package org.actus.webapp.utils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.actus.contracts.ContractStepper;
+import org.actus.events.ContractEvent;
+import org.actus.states.StateSpace;
+
+/**
+ * Checkpoints of contract simulations, kept in memory per scenario and contract.
+ * <P>
+ * A checkpoint taken at a time holds the events evaluated up to that time and the contract
+ * state after them, together with a hash of the contract terms and the risk service's digest
+ * of the scenario's market data up to that time. A later simulation of the contract in the
+ * same scenario resumes from the checkpoint (see ContractStepper.resume) as long as both are
+ * unchanged, evaluating only the events after it.
+ */
+public class SimulationCheckpoints {
+
+    private final Map<String,Checkpoint> checkpoints = new ConcurrentHashMap<>();
+
+    /**
+     * @param scenarioId
+     * @param contractID
+     * @return the latest checkpoint of the contract in the scenario, null if none
+     */
+    public Checkpoint get(String scenarioId, String contractID) {
+        return checkpoints.get(scenarioId + "/" + contractID);
+    }
+
+    /**
+     * keeps a checkpoint, replacing the contract's earlier one in the scenario
+     * @param scenarioId
+     * @param contractID
+     * @param checkpoint
+     */
+    public void put(String scenarioId, String contractID, Checkpoint checkpoint) {
+        checkpoints.put(scenarioId + "/" + contractID, checkpoint);
+    }
+
+    /**
+     * returns a hash of contract terms as received, independent of the order of their keys
+     * @param attributes
+     * @return hex SHA-256 of the terms
+     */
+    public static String termsHash(Map<String,Object> attributes) {
+        return ContentHash.of(attributes);
+    }
+
+    public static class Checkpoint {
+        private final LocalDateTime time;
+        private final String termsHash;
+        private final String marketDigest;
+        private final List<ContractEvent> evaluated;
+        private final StateSpace states;
+
+        /**
+         * takes a checkpoint of a stepper whose evaluated events are those up to time
+         * @param time
+         * @param termsHash
+         * @param marketDigest digest of the market data up to time
+         * @param stepper
+         */
+        public Checkpoint(LocalDateTime time, String termsHash, String marketDigest, ContractStepper stepper) {
+            this.time = time;
+            this.termsHash = termsHash;
+            this.marketDigest = marketDigest;
+            this.evaluated = new ArrayList<>();
+            for (ContractEvent event : stepper.evaluated())
+                this.evaluated.add(event.copyEvaluated());
+            this.states = StateSpace.copyStateSpace(stepper.states());
+        }
+
+        /**
+         * @param termsHash hash of the terms of the contract now
+         * @param marketDigest digest of the market data up to the checkpoint's time now
+         * @return true if neither changed since the checkpoint was taken
+         */
+        public boolean isValid(String termsHash, String marketDigest) {
+            return this.termsHash.equals(termsHash) && this.marketDigest.equals(marketDigest);
+        }
+
+        public LocalDateTime getTime() {
+            return time;
+        }
+
+        public List<ContractEvent> getEvaluated() {
+            return evaluated;
+        }
+
+        public StateSpace getStates() {
+            return states;
+        }
+    }
+}
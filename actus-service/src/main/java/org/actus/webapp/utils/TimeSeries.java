@@ -2,12 +2,14 @@ package org.actus.webapp.utils;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NavigableMap;
 import java.util.TreeMap;
+import java.util.function.Predicate;
 
 /**
  * {@link TimeSeries} class
@@ -109,6 +111,49 @@ public class TimeSeries<T, V> {
 		
 	}
 
+	/**
+	 * returns the first of ascending times at which the value as per getValueFor(time,1)
+	 * satisfies a condition. The value only changes at the times of the series, so instead
+	 * of looking up every time the series is searched for the first value satisfying the
+	 * condition that is still the latest value at one of the times
+	 * @param times ascending
+	 * @param condition
+	 * @return index into times, -1 if the condition is not satisfied at any of them
+	 */
+	public int firstPassage(List<T> times, Predicate<V> condition) {
+		if (times.isEmpty())
+			return -1;
+		if (condition.test(getValueFor(times.get(0), 1)))
+			return 0;
+		T end = times.get(times.size() - 1);
+		if (compare(times.get(0), end) >= 0)
+			return -1;
+		for (Map.Entry<T, V> entry : _map.subMap(times.get(0), false, end, true).entrySet()) {
+			if (!condition.test(entry.getValue()))
+				continue;
+			// first time not before the entry, if before the next entry
+			int lo = 0;
+			int hi = times.size() - 1;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (compare(times.get(mid), entry.getKey()) < 0)
+					lo = mid + 1;
+				else
+					hi = mid;
+			}
+			T next = _map.higherKey(entry.getKey());
+			if (next == null || compare(times.get(lo), next) < 0)
+				return lo;
+		}
+		return -1;
+	}
+
+	@SuppressWarnings("unchecked")
+	private int compare(T a, T b) {
+		Comparator<? super T> comparator = _map.comparator();
+		return (comparator == null) ? ((Comparable<? super T>) a).compareTo(b) : comparator.compare(a, b);
+	}
+
 	/**
 	 * returns dateTime at particular index
 	 * @param index